@@ -30,7 +30,6 @@ public enum TypeOfService {
   public static boolean isRecognizedTypeOfService(String name) {
     return name != null
         && Arrays.stream(values())
-            .parallel()
             .map(tos -> tos.name())
             .anyMatch(tosName -> tosName.equalsIgnoreCase(name));
   }
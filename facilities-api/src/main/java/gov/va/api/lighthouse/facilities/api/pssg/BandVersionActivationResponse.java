@@ -0,0 +1,22 @@
+package gov.va.api.lighthouse.facilities.api.pssg;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonInclude.Include;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(value = Include.NON_EMPTY, content = Include.NON_EMPTY)
+public class BandVersionActivationResponse {
+  String activatedVersion;
+  List<String> previousVersions;
+  int bandsCreated;
+  int bandsUpdated;
+  int bandsRemoved;
+}
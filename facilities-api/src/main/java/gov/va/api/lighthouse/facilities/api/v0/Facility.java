@@ -77,10 +77,7 @@ public final class Facility {
 
     /** Obtain service for unique service id. */
     public static Optional<BenefitsService> fromServiceId(String serviceId) {
-      return Arrays.stream(values())
-          .parallel()
-          .filter(bs -> bs.serviceId().equals(serviceId))
-          .findFirst();
+      return Arrays.stream(values()).filter(bs -> bs.serviceId().equals(serviceId)).findFirst();
     }
 
     /** Ensure that Jackson can create BenefitsService enum regardless of capitalization. */
@@ -93,14 +90,12 @@ public final class Facility {
 
     /** Determine whether specified service name represents benefits service. */
     public static boolean isRecognizedServiceEnum(String serviceName) {
-      return Arrays.stream(values())
-          .parallel()
-          .anyMatch(bs -> bs.name().equalsIgnoreCase(serviceName));
+      return Arrays.stream(values()).anyMatch(bs -> bs.name().equalsIgnoreCase(serviceName));
     }
 
     /** Determine whether specified service id represents benefits service. */
     public static boolean isRecognizedServiceId(String serviceId) {
-      return Arrays.stream(values()).parallel().anyMatch(bs -> bs.serviceId().equals(serviceId));
+      return Arrays.stream(values()).anyMatch(bs -> bs.serviceId().equals(serviceId));
     }
 
     public String serviceId() {
@@ -149,10 +144,7 @@ public final class Facility {
           ? Optional.of(MentalHealthCare)
           : "dental".equals(serviceId)
               ? Optional.of(DentalServices)
-              : Arrays.stream(values())
-                  .parallel()
-                  .filter(hs -> hs.serviceId().equals(serviceId))
-                  .findFirst();
+              : Arrays.stream(values()).filter(hs -> hs.serviceId().equals(serviceId)).findFirst();
     }
 
     /** Ensure that Jackson can create HealthService enum regardless of capitalization. */
@@ -183,16 +175,14 @@ public final class Facility {
     public static boolean isRecognizedServiceEnum(String serviceName) {
       return "dental".equalsIgnoreCase(serviceName)
           || "mentalHealth".equalsIgnoreCase(serviceName)
-          || Arrays.stream(values())
-              .parallel()
-              .anyMatch(hs -> hs.name().equalsIgnoreCase(serviceName));
+          || Arrays.stream(values()).anyMatch(hs -> hs.name().equalsIgnoreCase(serviceName));
     }
 
     /** Determine whether specified service id represents health service. */
     public static boolean isRecognizedServiceId(String serviceId) {
       return "mentalHealth".equals(serviceId)
           || "dental".equals(serviceId)
-          || Arrays.stream(values()).parallel().anyMatch(hs -> hs.serviceId().equals(serviceId));
+          || Arrays.stream(values()).anyMatch(hs -> hs.serviceId().equals(serviceId));
     }
 
     public String serviceId() {
@@ -211,10 +201,7 @@ public final class Facility {
 
     /** Obtain service for unique service id. */
     public static Optional<OtherService> fromServiceId(String serviceId) {
-      return Arrays.stream(values())
-          .parallel()
-          .filter(os -> os.serviceId().equals(serviceId))
-          .findFirst();
+      return Arrays.stream(values()).filter(os -> os.serviceId().equals(serviceId)).findFirst();
     }
 
     /** Ensure that Jackson can create OtherService enum regardless of capitalization. */
@@ -225,14 +212,12 @@ public final class Facility {
 
     /** Determine whether specified service name represents other service. */
     public static boolean isRecognizedServiceEnum(String serviceName) {
-      return Arrays.stream(values())
-          .parallel()
-          .anyMatch(os -> os.name().equalsIgnoreCase(serviceName));
+      return Arrays.stream(values()).anyMatch(os -> os.name().equalsIgnoreCase(serviceName));
     }
 
     /** Determine whether specified service id represents other service. */
     public static boolean isRecognizedServiceId(String serviceId) {
-      return Arrays.stream(values()).parallel().anyMatch(os -> os.serviceId().equals(serviceId));
+      return Arrays.stream(values()).anyMatch(os -> os.serviceId().equals(serviceId));
     }
 
     public String serviceId() {
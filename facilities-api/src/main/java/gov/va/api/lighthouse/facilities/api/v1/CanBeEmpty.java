@@ -3,6 +3,11 @@ package gov.va.api.lighthouse.facilities.api.v1;
 import com.fasterxml.jackson.annotation.JsonIgnore;
 
 public interface CanBeEmpty {
+  /** True if the nested element is null or empty. */
+  static boolean isEmpty(CanBeEmpty element) {
+    return element == null || element.isEmpty();
+  }
+
   /** Empty elements will be omitted from JSON serialization. */
   @JsonIgnore
   boolean isEmpty();
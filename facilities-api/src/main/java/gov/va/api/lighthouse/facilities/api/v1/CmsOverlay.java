@@ -37,9 +37,9 @@ public class CmsOverlay implements CanBeEmpty {
   @Override
   @JsonIgnore
   public boolean isEmpty() {
-    return (operatingStatus() == null || operatingStatus().isEmpty())
+    return CanBeEmpty.isEmpty(operatingStatus())
         && ObjectUtils.isEmpty(detailedServices())
-        && (healthCareSystem() == null || healthCareSystem().isEmpty());
+        && CanBeEmpty.isEmpty(healthCareSystem());
   }
 
   @Data
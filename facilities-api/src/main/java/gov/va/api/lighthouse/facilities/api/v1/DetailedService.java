@@ -135,7 +135,7 @@ public class DetailedService implements CanBeEmpty {
   @Override
   @JsonIgnore
   public boolean isEmpty() {
-    return (serviceInfo() == null || serviceInfo().isEmpty())
+    return CanBeEmpty.isEmpty(serviceInfo())
         && isBlank(changed())
         && isBlank(appointmentLeadIn())
         && isBlank(onlineSchedulingAvailable())
@@ -144,7 +144,7 @@ public class DetailedService implements CanBeEmpty {
         && isBlank(referralRequired())
         && ObjectUtils.isEmpty(serviceLocations())
         && isBlank(walkInsAccepted())
-        && (waitTime() == null || waitTime().isEmpty());
+        && CanBeEmpty.isEmpty(waitTime());
   }
 
   private boolean isRecognizedEnumOrCovidService(String serviceName) {
@@ -484,9 +484,9 @@ public class DetailedService implements CanBeEmpty {
     public boolean isEmpty() {
       return isBlank(additionalHoursInfo())
           && ObjectUtils.isEmpty(emailContacts())
-          && (facilityServiceHours() == null || facilityServiceHours().isEmpty())
+          && CanBeEmpty.isEmpty(facilityServiceHours())
           && ObjectUtils.isEmpty(appointmentPhoneNumbers())
-          && (serviceLocationAddress() == null || serviceLocationAddress().isEmpty());
+          && CanBeEmpty.isEmpty(serviceLocationAddress());
     }
   }
 
@@ -31,9 +31,7 @@ public class DetailedServicesResponse implements CanBeEmpty {
   @Override
   @JsonIgnore
   public boolean isEmpty() {
-    return ObjectUtils.isEmpty(data())
-        && (links() == null || links().isEmpty())
-        && (meta() == null || meta().isEmpty());
+    return ObjectUtils.isEmpty(data()) && CanBeEmpty.isEmpty(links()) && CanBeEmpty.isEmpty(meta());
   }
 
   @Value
@@ -37,9 +37,7 @@ public final class FacilitiesResponse implements CanBeEmpty {
   @Override
   @JsonIgnore
   public boolean isEmpty() {
-    return ObjectUtils.isEmpty(data())
-        && (links() == null || links().isEmpty())
-        && (meta() == null || meta().isEmpty());
+    return ObjectUtils.isEmpty(data()) && CanBeEmpty.isEmpty(links()) && CanBeEmpty.isEmpty(meta());
   }
 
   @Value
@@ -91,7 +89,7 @@ public final class FacilitiesResponse implements CanBeEmpty {
     @Override
     @JsonIgnore
     public boolean isEmpty() {
-      return (pagination() == null || pagination().isEmpty()) && ObjectUtils.isEmpty(distances());
+      return CanBeEmpty.isEmpty(pagination()) && ObjectUtils.isEmpty(distances());
     }
   }
 }
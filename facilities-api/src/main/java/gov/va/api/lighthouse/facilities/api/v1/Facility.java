@@ -66,9 +66,7 @@ public final class Facility implements CanBeEmpty {
   @Override
   @JsonIgnore
   public boolean isEmpty() {
-    return isBlank(id())
-        && ObjectUtils.isEmpty(type())
-        && (attributes() == null || attributes().isEmpty());
+    return isBlank(id()) && ObjectUtils.isEmpty(type()) && CanBeEmpty.isEmpty(attributes());
   }
 
   public enum ActiveStatus {
@@ -105,10 +103,7 @@ public final class Facility implements CanBeEmpty {
 
     /** Obtain service for unique service id. */
     public static Optional<BenefitsService> fromServiceId(String serviceId) {
-      return Arrays.stream(values())
-          .parallel()
-          .filter(bs -> bs.serviceId().equals(serviceId))
-          .findFirst();
+      return Arrays.stream(values()).filter(bs -> bs.serviceId().equals(serviceId)).findFirst();
     }
 
     /** Ensure that Jackson can create BenefitsService enum regardless of capitalization. */
@@ -121,14 +116,12 @@ public final class Facility implements CanBeEmpty {
 
     /** Determine whether specified service name represents benefits service. */
     public static boolean isRecognizedServiceEnum(String serviceName) {
-      return Arrays.stream(values())
-          .parallel()
-          .anyMatch(bs -> bs.name().equalsIgnoreCase(serviceName));
+      return Arrays.stream(values()).anyMatch(bs -> bs.name().equalsIgnoreCase(serviceName));
     }
 
     /** Determine whether specified service id represents benefits service. */
     public static boolean isRecognizedServiceId(String serviceId) {
-      return Arrays.stream(values()).parallel().anyMatch(bs -> bs.serviceId().equals(serviceId));
+      return Arrays.stream(values()).anyMatch(bs -> bs.serviceId().equals(serviceId));
     }
 
     @Override
@@ -365,10 +358,7 @@ public final class Facility implements CanBeEmpty {
           ? Optional.of(MentalHealth)
           : "dentalServices".equals(serviceId)
               ? Optional.of(Dental)
-              : Arrays.stream(values())
-                  .parallel()
-                  .filter(hs -> hs.serviceId().equals(serviceId))
-                  .findFirst();
+              : Arrays.stream(values()).filter(hs -> hs.serviceId().equals(serviceId)).findFirst();
     }
 
     /** Ensure that Jackson can create HealthService enum regardless of capitalization. */
@@ -399,16 +389,14 @@ public final class Facility implements CanBeEmpty {
     public static boolean isRecognizedServiceEnum(String serviceName) {
       return "DentalServices".equalsIgnoreCase(serviceName)
           || "MentalHealthCare".equalsIgnoreCase(serviceName)
-          || Arrays.stream(values())
-              .parallel()
-              .anyMatch(hs -> hs.name().equalsIgnoreCase(serviceName));
+          || Arrays.stream(values()).anyMatch(hs -> hs.name().equalsIgnoreCase(serviceName));
     }
 
     /** Determine whether specified service id represents health service. */
     public static boolean isRecognizedServiceId(String serviceId) {
       return "mentalHealthCare".equals(serviceId)
           || "dentalServices".equals(serviceId)
-          || Arrays.stream(values()).parallel().anyMatch(hs -> hs.serviceId().equals(serviceId));
+          || Arrays.stream(values()).anyMatch(hs -> hs.serviceId().equals(serviceId));
     }
 
     @Override
@@ -433,10 +421,7 @@ public final class Facility implements CanBeEmpty {
 
     /** Obtain service for unique service id. */
     public static Optional<OtherService> fromServiceId(String serviceId) {
-      return Arrays.stream(values())
-          .parallel()
-          .filter(os -> os.serviceId().equals(serviceId))
-          .findFirst();
+      return Arrays.stream(values()).filter(os -> os.serviceId().equals(serviceId)).findFirst();
     }
 
     /** Ensure that Jackson can create OtherService enum regardless of capitalization. */
@@ -447,14 +432,12 @@ public final class Facility implements CanBeEmpty {
 
     /** Determine whether specified service name represents other service. */
     public static boolean isRecognizedServiceEnum(String serviceName) {
-      return Arrays.stream(values())
-          .parallel()
-          .anyMatch(os -> os.name().equalsIgnoreCase(serviceName));
+      return Arrays.stream(values()).anyMatch(os -> os.name().equalsIgnoreCase(serviceName));
     }
 
     /** Determine whether specified service id represents other service. */
     public static boolean isRecognizedServiceId(String serviceId) {
-      return Arrays.stream(values()).parallel().anyMatch(os -> os.serviceId().equals(serviceId));
+      return Arrays.stream(values()).anyMatch(os -> os.serviceId().equals(serviceId));
     }
 
     @Override
@@ -545,8 +528,7 @@ public final class Facility implements CanBeEmpty {
     @Override
     @JsonIgnore
     public boolean isEmpty() {
-      return (mailing() == null || mailing().isEmpty())
-          && (physical() == null || physical().isEmpty());
+      return CanBeEmpty.isEmpty(mailing()) && CanBeEmpty.isEmpty(physical());
     }
   }
 
@@ -679,12 +661,12 @@ public final class Facility implements CanBeEmpty {
           && ObjectUtils.isEmpty(latitude())
           && ObjectUtils.isEmpty(longitude())
           && isBlank(timeZone())
-          && (address() == null || address().isEmpty())
-          && (phone() == null || phone().isEmpty())
-          && (hours() == null || hours().isEmpty())
+          && CanBeEmpty.isEmpty(address())
+          && CanBeEmpty.isEmpty(phone())
+          && CanBeEmpty.isEmpty(hours())
           && ObjectUtils.isEmpty(operationalHoursSpecialInstructions())
-          && (services() == null || services().isEmpty())
-          && (satisfaction() == null || satisfaction().isEmpty())
+          && CanBeEmpty.isEmpty(services())
+          && CanBeEmpty.isEmpty(satisfaction())
           && ObjectUtils.isEmpty(mobile())
           && ObjectUtils.isEmpty(activeStatus())
           && ObjectUtils.isEmpty(operatingStatus())
@@ -976,7 +958,7 @@ public final class Facility implements CanBeEmpty {
     @Override
     @JsonIgnore
     public boolean isEmpty() {
-      return (health() == null || health().isEmpty()) && ObjectUtils.isEmpty(effectiveDate());
+      return CanBeEmpty.isEmpty(health()) && ObjectUtils.isEmpty(effectiveDate());
     }
   }
 
@@ -0,0 +1,72 @@
+package gov.va.api.lighthouse.facilities.api.v1;
+
+import static org.apache.commons.lang3.StringUtils.isBlank;
+
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonInclude.Include;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import gov.va.api.lighthouse.facilities.api.v1.serializers.FacilityChangesMetadataSerializer;
+import gov.va.api.lighthouse.facilities.api.v1.serializers.FacilityChangesResponseSerializer;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.util.List;
+import javax.validation.Valid;
+import javax.validation.constraints.NotNull;
+import lombok.Builder;
+import lombok.Value;
+import org.apache.commons.lang3.ObjectUtils;
+
+@Value
+@Builder
+@JsonAutoDetect(fieldVisibility = JsonAutoDetect.Visibility.ANY)
+@JsonInclude(value = Include.NON_EMPTY, content = Include.NON_EMPTY)
+@JsonSerialize(using = FacilityChangesResponseSerializer.class)
+@Schema(description = "VA facilities created, updated, or removed since a change token.")
+public final class FacilityChangesResponse implements CanBeEmpty {
+  @ArraySchema(arraySchema = @Schema(description = "Current state of each changed facility."))
+  List<@Valid Facility> data;
+
+  @ArraySchema(arraySchema = @Schema(description = "IDs of facilities that were removed."))
+  List<String> deleted;
+
+  @Valid @NotNull ChangesMetadata meta;
+
+  /** Empty elements will be omitted from JSON serialization. */
+  @Override
+  @JsonIgnore
+  public boolean isEmpty() {
+    return ObjectUtils.isEmpty(data())
+        && ObjectUtils.isEmpty(deleted())
+        && CanBeEmpty.isEmpty(meta());
+  }
+
+  @Value
+  @Builder
+  @JsonAutoDetect(fieldVisibility = JsonAutoDetect.Visibility.ANY)
+  @JsonInclude(value = Include.NON_EMPTY, content = Include.NON_EMPTY)
+  @JsonSerialize(using = FacilityChangesMetadataSerializer.class)
+  @Schema(description = "Position of this response in the change feed.")
+  public static final class ChangesMetadata implements CanBeEmpty {
+    @Schema(
+        description = "Token to send as since in the next request for changes.",
+        example = "1234")
+    @NotNull
+    String nextToken;
+
+    @Schema(
+        description =
+            "Whether more changes are available now. "
+                + "If false, wait before asking again with the next token.",
+        example = "false")
+    Boolean more;
+
+    /** Empty elements will be omitted from JSON serialization. */
+    @Override
+    @JsonIgnore
+    public boolean isEmpty() {
+      return isBlank(nextToken()) && more() == null;
+    }
+  }
+}
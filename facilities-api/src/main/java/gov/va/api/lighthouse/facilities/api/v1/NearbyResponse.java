@@ -40,7 +40,7 @@ public final class NearbyResponse implements CanBeEmpty {
   @Override
   @JsonIgnore
   public boolean isEmpty() {
-    return ObjectUtils.isEmpty(data()) && (meta() == null || meta().isEmpty());
+    return ObjectUtils.isEmpty(data()) && CanBeEmpty.isEmpty(meta());
   }
 
   public enum Type {
@@ -120,7 +120,7 @@ public final class NearbyResponse implements CanBeEmpty {
     public boolean isEmpty() {
       return StringUtils.isBlank(id())
           && ObjectUtils.isEmpty(type())
-          && (attributes() == null || attributes().isEmpty());
+          && CanBeEmpty.isEmpty(attributes());
     }
   }
 }
@@ -69,7 +69,7 @@ public class ReloadResponse implements CanBeEmpty {
         && ObjectUtils.isEmpty(facilitiesMissing())
         && ObjectUtils.isEmpty(facilitiesRemoved())
         && ObjectUtils.isEmpty(problems())
-        && (timing() == null || timing().isEmpty())
+        && CanBeEmpty.isEmpty(timing())
         && ObjectUtils.isEmpty(totalFacilities());
   }
 
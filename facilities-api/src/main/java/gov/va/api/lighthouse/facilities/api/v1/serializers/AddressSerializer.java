@@ -29,15 +29,15 @@ public class AddressSerializer extends NonEmptySerializer<Address> {
   @SneakyThrows
   public void serialize(Address value, JsonGenerator jgen, SerializerProvider provider) {
     jgen.writeStartObject();
-    if (emptyExcludeAddr1(value) && idStartsWith(jgen, "nca_s")) {
-      writeNonEmpty(jgen, "address_1", value.address1());
+    if (emptyExcludeAddr1(value) && idStartsWith(provider, "nca_s")) {
+      writeNonEmpty(jgen, provider, "address1", value.address1());
     } else {
-      writeNonEmpty(jgen, "zip", value.zip());
-      writeNonEmpty(jgen, "city", value.city());
-      writeNonEmpty(jgen, "state", value.state());
-      writeNonEmpty(jgen, "address1", value.address1());
-      writeNonEmpty(jgen, "address2", value.address2());
-      writeNonEmpty(jgen, "address3", value.address3());
+      writeNonEmpty(jgen, provider, "zip", value.zip());
+      writeNonEmpty(jgen, provider, "city", value.city());
+      writeNonEmpty(jgen, provider, "state", value.state());
+      writeNonEmpty(jgen, provider, "address1", value.address1());
+      writeNonEmpty(jgen, provider, "address2", value.address2());
+      writeNonEmpty(jgen, provider, "address3", value.address3());
     }
     jgen.writeEndObject();
   }
@@ -24,8 +24,8 @@ public class AddressesSerializer extends NonEmptySerializer<Addresses> {
   public void serialize(Addresses value, JsonGenerator jgen, SerializerProvider provider) {
     jgen.writeStartObject();
     if (!empty(value)) {
-      writeNonEmpty(jgen, "mailing", value.mailing());
-      writeNonEmpty(jgen, "physical", value.physical());
+      writeNonEmpty(jgen, provider, "mailing", value.mailing());
+      writeNonEmpty(jgen, provider, "physical", value.physical());
     }
     jgen.writeEndObject();
   }
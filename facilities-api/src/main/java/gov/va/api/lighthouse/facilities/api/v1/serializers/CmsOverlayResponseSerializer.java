@@ -19,7 +19,7 @@ public class CmsOverlayResponseSerializer extends NonEmptySerializer<CmsOverlayR
   @SneakyThrows
   public void serialize(CmsOverlayResponse value, JsonGenerator jgen, SerializerProvider provider) {
     jgen.writeStartObject();
-    writeNonEmpty(jgen, "overlay", value.overlay());
+    writeNonEmpty(jgen, provider, "overlay", value.overlay());
     jgen.writeEndObject();
   }
 }
@@ -19,9 +19,9 @@ public class CmsOverlaySerializer extends NonEmptySerializer<CmsOverlay> {
   @SneakyThrows
   public void serialize(CmsOverlay value, JsonGenerator jgen, SerializerProvider provider) {
     jgen.writeStartObject();
-    writeNonEmpty(jgen, "operatingStatus", value.operatingStatus());
-    writeNonEmpty(jgen, "detailedServices", value.detailedServices());
-    writeNonEmpty(jgen, "system", value.healthCareSystem());
+    writeNonEmpty(jgen, provider, "operatingStatus", value.operatingStatus());
+    writeNonEmpty(jgen, provider, "detailedServices", value.detailedServices());
+    writeNonEmpty(jgen, provider, "system", value.healthCareSystem());
     jgen.writeEndObject();
   }
 }
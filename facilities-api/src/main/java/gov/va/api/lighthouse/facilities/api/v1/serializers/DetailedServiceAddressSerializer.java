@@ -20,15 +20,15 @@ public class DetailedServiceAddressSerializer extends NonEmptySerializer<Detaile
   public void serialize(
       DetailedServiceAddress value, JsonGenerator jgen, SerializerProvider provider) {
     jgen.writeStartObject();
-    writeNonEmpty(jgen, "buildingNameNumber", value.buildingNameNumber());
-    writeNonEmpty(jgen, "clinicName", value.clinicName());
-    writeNonEmpty(jgen, "wingFloorOrRoomNumber", value.wingFloorOrRoomNumber());
-    writeNonEmpty(jgen, "addressLine1", value.address1());
-    writeNonEmpty(jgen, "addressLine2", value.address2());
-    writeNonEmpty(jgen, "city", value.city());
-    writeNonEmpty(jgen, "state", value.state());
-    writeNonEmpty(jgen, "zipCode", value.zipCode());
-    writeNonEmpty(jgen, "countryCode", value.countryCode());
+    writeNonEmpty(jgen, provider, "buildingNameNumber", value.buildingNameNumber());
+    writeNonEmpty(jgen, provider, "clinicName", value.clinicName());
+    writeNonEmpty(jgen, provider, "wingFloorOrRoomNumber", value.wingFloorOrRoomNumber());
+    writeNonEmpty(jgen, provider, "addressLine1", value.address1());
+    writeNonEmpty(jgen, provider, "addressLine2", value.address2());
+    writeNonEmpty(jgen, provider, "city", value.city());
+    writeNonEmpty(jgen, provider, "state", value.state());
+    writeNonEmpty(jgen, provider, "zipCode", value.zipCode());
+    writeNonEmpty(jgen, provider, "countryCode", value.countryCode());
     jgen.writeEndObject();
   }
 }
@@ -21,10 +21,10 @@ public class DetailedServiceAppointmentPhoneNumberSerializer
   public void serialize(
       AppointmentPhoneNumber value, JsonGenerator jgen, SerializerProvider provider) {
     jgen.writeStartObject();
-    writeNonEmpty(jgen, "extension", value.extension());
-    writeNonEmpty(jgen, "label", value.label());
-    writeNonEmpty(jgen, "number", value.number());
-    writeNonEmpty(jgen, "type", value.type());
+    writeNonEmpty(jgen, provider, "extension", value.extension());
+    writeNonEmpty(jgen, provider, "label", value.label());
+    writeNonEmpty(jgen, provider, "number", value.number());
+    writeNonEmpty(jgen, provider, "type", value.type());
     jgen.writeEndObject();
   }
 }
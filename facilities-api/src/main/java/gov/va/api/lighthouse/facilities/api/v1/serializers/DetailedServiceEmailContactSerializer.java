@@ -21,8 +21,8 @@ public class DetailedServiceEmailContactSerializer
   public void serialize(
       DetailedServiceEmailContact value, JsonGenerator jgen, SerializerProvider provider) {
     jgen.writeStartObject();
-    writeNonEmpty(jgen, "emailAddress", value.emailAddress());
-    writeNonEmpty(jgen, "emailLabel", value.emailLabel());
+    writeNonEmpty(jgen, provider, "emailAddress", value.emailAddress());
+    writeNonEmpty(jgen, provider, "emailLabel", value.emailLabel());
     jgen.writeEndObject();
   }
 }
@@ -20,13 +20,13 @@ public class DetailedServiceHoursSerializer extends NonEmptySerializer<DetailedS
   public void serialize(
       DetailedServiceHours value, JsonGenerator jgen, SerializerProvider provider) {
     jgen.writeStartObject();
-    writeNonEmpty(jgen, "monday", value.monday());
-    writeNonEmpty(jgen, "tuesday", value.tuesday());
-    writeNonEmpty(jgen, "wednesday", value.wednesday());
-    writeNonEmpty(jgen, "thursday", value.thursday());
-    writeNonEmpty(jgen, "friday", value.friday());
-    writeNonEmpty(jgen, "saturday", value.saturday());
-    writeNonEmpty(jgen, "sunday", value.sunday());
+    writeNonEmpty(jgen, provider, "monday", value.monday());
+    writeNonEmpty(jgen, provider, "tuesday", value.tuesday());
+    writeNonEmpty(jgen, provider, "wednesday", value.wednesday());
+    writeNonEmpty(jgen, provider, "thursday", value.thursday());
+    writeNonEmpty(jgen, provider, "friday", value.friday());
+    writeNonEmpty(jgen, provider, "saturday", value.saturday());
+    writeNonEmpty(jgen, provider, "sunday", value.sunday());
     jgen.writeEndObject();
   }
 }
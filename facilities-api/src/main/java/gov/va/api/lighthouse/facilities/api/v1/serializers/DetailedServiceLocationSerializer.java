@@ -20,11 +20,11 @@ public class DetailedServiceLocationSerializer extends NonEmptySerializer<Detail
   public void serialize(
       DetailedServiceLocation value, JsonGenerator jgen, SerializerProvider provider) {
     jgen.writeStartObject();
-    writeNonEmpty(jgen, "serviceLocationAddress", value.serviceLocationAddress());
-    writeNonEmpty(jgen, "appointmentPhones", value.appointmentPhoneNumbers());
-    writeNonEmpty(jgen, "emailContacts", value.emailContacts());
-    writeNonEmpty(jgen, "facilityServiceHours", value.facilityServiceHours());
-    writeNonEmpty(jgen, "additionalHoursInfo", value.additionalHoursInfo());
+    writeNonEmpty(jgen, provider, "serviceLocationAddress", value.serviceLocationAddress());
+    writeNonEmpty(jgen, provider, "appointmentPhones", value.appointmentPhoneNumbers());
+    writeNonEmpty(jgen, provider, "emailContacts", value.emailContacts());
+    writeNonEmpty(jgen, provider, "facilityServiceHours", value.facilityServiceHours());
+    writeNonEmpty(jgen, provider, "additionalHoursInfo", value.additionalHoursInfo());
     jgen.writeEndObject();
   }
 }
@@ -20,7 +20,7 @@ public class DetailedServiceResponseSerializer extends NonEmptySerializer<Detail
   public void serialize(
       DetailedServiceResponse value, JsonGenerator jgen, SerializerProvider provider) {
     jgen.writeStartObject();
-    writeNonEmpty(jgen, "data", value.data());
+    writeNonEmpty(jgen, provider, "data", value.data());
     jgen.writeEndObject();
   }
 }
@@ -19,15 +19,15 @@ public class DetailedServiceSerializer extends NonEmptySerializer<DetailedServic
   @SneakyThrows
   public void serialize(DetailedService value, JsonGenerator jgen, SerializerProvider provider) {
     jgen.writeStartObject();
-    writeNonEmpty(jgen, "serviceInfo", value.serviceInfo());
-    writeNonEmpty(jgen, "waitTime", value.waitTime());
-    writeNonEmpty(jgen, "appointmentLeadIn", value.appointmentLeadIn());
-    writeNonEmpty(jgen, "appointmentPhones", value.phoneNumbers());
-    writeNonEmpty(jgen, "onlineSchedulingAvailable", value.onlineSchedulingAvailable());
-    writeNonEmpty(jgen, "referralRequired", value.referralRequired());
-    writeNonEmpty(jgen, "walkInsAccepted", value.walkInsAccepted());
-    writeNonEmpty(jgen, "serviceLocations", value.serviceLocations());
-    writeNonEmpty(jgen, "path", value.path());
+    writeNonEmpty(jgen, provider, "serviceInfo", value.serviceInfo());
+    writeNonEmpty(jgen, provider, "waitTime", value.waitTime());
+    writeNonEmpty(jgen, provider, "appointmentLeadIn", value.appointmentLeadIn());
+    writeNonEmpty(jgen, provider, "appointmentPhones", value.phoneNumbers());
+    writeNonEmpty(jgen, provider, "onlineSchedulingAvailable", value.onlineSchedulingAvailable());
+    writeNonEmpty(jgen, provider, "referralRequired", value.referralRequired());
+    writeNonEmpty(jgen, provider, "walkInsAccepted", value.walkInsAccepted());
+    writeNonEmpty(jgen, provider, "serviceLocations", value.serviceLocations());
+    writeNonEmpty(jgen, provider, "path", value.path());
     jgen.writeEndObject();
   }
 }
@@ -21,7 +21,7 @@ public class DetailedServicesMetadataSerializer
   public void serialize(
       DetailedServicesMetadata value, JsonGenerator jgen, SerializerProvider provider) {
     jgen.writeStartObject();
-    writeNonEmpty(jgen, "pagination", value.pagination());
+    writeNonEmpty(jgen, provider, "pagination", value.pagination());
     jgen.writeEndObject();
   }
 }
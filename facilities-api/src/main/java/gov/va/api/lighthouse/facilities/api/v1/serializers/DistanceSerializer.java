@@ -19,8 +19,8 @@ public class DistanceSerializer extends NonEmptySerializer<Distance> {
   @SneakyThrows
   public void serialize(Distance value, JsonGenerator jgen, SerializerProvider provider) {
     jgen.writeStartObject();
-    writeNonEmpty(jgen, "id", value.id());
-    writeNonEmpty(jgen, "distance", value.distance());
+    writeNonEmpty(jgen, provider, "id", value.id());
+    writeNonEmpty(jgen, provider, "distance", value.distance());
     jgen.writeEndObject();
   }
 }
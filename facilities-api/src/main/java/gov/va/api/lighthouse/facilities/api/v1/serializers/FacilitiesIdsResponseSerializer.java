@@ -20,7 +20,7 @@ public class FacilitiesIdsResponseSerializer extends NonEmptySerializer<Faciliti
   public void serialize(
       FacilitiesIdsResponse value, JsonGenerator jgen, SerializerProvider provider) {
     jgen.writeStartObject();
-    writeNonEmpty(jgen, "data", value.data());
+    writeNonEmpty(jgen, provider, "data", value.data());
     jgen.writeEndObject();
   }
 }
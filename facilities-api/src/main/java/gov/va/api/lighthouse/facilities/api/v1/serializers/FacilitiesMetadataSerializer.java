@@ -19,8 +19,8 @@ public class FacilitiesMetadataSerializer extends NonEmptySerializer<FacilitiesM
   @SneakyThrows
   public void serialize(FacilitiesMetadata value, JsonGenerator jgen, SerializerProvider provider) {
     jgen.writeStartObject();
-    writeNonEmpty(jgen, "pagination", value.pagination());
-    writeNonEmpty(jgen, "distances", value.distances());
+    writeNonEmpty(jgen, provider, "pagination", value.pagination());
+    writeNonEmpty(jgen, provider, "distances", value.distances());
     jgen.writeEndObject();
   }
 }
@@ -19,9 +19,9 @@ public class FacilitiesResponseSerializer extends NonEmptySerializer<FacilitiesR
   @SneakyThrows
   public void serialize(FacilitiesResponse value, JsonGenerator jgen, SerializerProvider provider) {
     jgen.writeStartObject();
-    writeNonEmpty(jgen, "data", value.data());
-    writeNonEmpty(jgen, "links", value.links());
-    writeNonEmpty(jgen, "meta", value.meta());
+    writeNonEmpty(jgen, provider, "data", value.data());
+    writeNonEmpty(jgen, provider, "links", value.links());
+    writeNonEmpty(jgen, provider, "meta", value.meta());
     jgen.writeEndObject();
   }
 }
@@ -1,5 +1,7 @@
 package gov.va.api.lighthouse.facilities.api.v1.serializers;
 
+import static gov.va.api.lighthouse.facilities.api.v1.serializers.FacilityFieldset.isRequested;
+
 import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.databind.SerializerProvider;
 import gov.va.api.lighthouse.facilities.api.v1.Facility.FacilityAttributes;
@@ -15,28 +17,39 @@ public class FacilityAttributesSerializer extends NonEmptySerializer<FacilityAtt
     super(t);
   }
 
+  /** Write an attribute only if the fieldset being written, if any, requests it. */
+  private static void writeRequested(
+      JsonGenerator jgen, SerializerProvider provider, String fieldName, Object value) {
+    if (isRequested(provider, fieldName)) {
+      writeNonEmpty(jgen, provider, fieldName, value);
+    }
+  }
+
   @Override
   @SneakyThrows
   public void serialize(FacilityAttributes value, JsonGenerator jgen, SerializerProvider provider) {
     jgen.writeStartObject();
-    writeNonEmpty(jgen, "name", value.name());
-    writeNonEmpty(jgen, "facilityType", value.facilityType());
-    writeNonEmpty(jgen, "classification", value.classification());
-    writeNonEmpty(jgen, "website", value.website());
-    writeNonEmpty(jgen, "lat", value.latitude());
-    writeNonEmpty(jgen, "long", value.longitude());
-    writeNonEmpty(jgen, "timeZone", value.timeZone());
-    writeNonEmpty(jgen, "address", value.address());
-    writeNonEmpty(jgen, "phone", value.phone());
-    writeNonEmpty(jgen, "hours", value.hours());
-    writeNonEmpty(
-        jgen, "operationalHoursSpecialInstructions", value.operationalHoursSpecialInstructions());
-    writeNonEmpty(jgen, "services", value.services());
-    writeNonEmpty(jgen, "satisfaction", value.satisfaction());
-    writeNonEmpty(jgen, "mobile", value.mobile());
-    writeNonEmpty(jgen, "activeStatus", value.activeStatus());
-    writeNonEmpty(jgen, "operatingStatus", value.operatingStatus());
-    writeNonEmpty(jgen, "visn", value.visn());
+    writeRequested(jgen, provider, "name", value.name());
+    writeRequested(jgen, provider, "facilityType", value.facilityType());
+    writeRequested(jgen, provider, "classification", value.classification());
+    writeRequested(jgen, provider, "website", value.website());
+    writeRequested(jgen, provider, "lat", value.latitude());
+    writeRequested(jgen, provider, "long", value.longitude());
+    writeRequested(jgen, provider, "timeZone", value.timeZone());
+    writeRequested(jgen, provider, "address", value.address());
+    writeRequested(jgen, provider, "phone", value.phone());
+    writeRequested(jgen, provider, "hours", value.hours());
+    writeRequested(
+        jgen,
+        provider,
+        "operationalHoursSpecialInstructions",
+        value.operationalHoursSpecialInstructions());
+    writeRequested(jgen, provider, "services", value.services());
+    writeRequested(jgen, provider, "satisfaction", value.satisfaction());
+    writeRequested(jgen, provider, "mobile", value.mobile());
+    writeRequested(jgen, provider, "activeStatus", value.activeStatus());
+    writeRequested(jgen, provider, "operatingStatus", value.operatingStatus());
+    writeRequested(jgen, provider, "visn", value.visn());
     jgen.writeEndObject();
   }
 }
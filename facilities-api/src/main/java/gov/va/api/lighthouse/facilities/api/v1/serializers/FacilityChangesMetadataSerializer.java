@@ -0,0 +1,26 @@
+package gov.va.api.lighthouse.facilities.api.v1.serializers;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import gov.va.api.lighthouse.facilities.api.v1.FacilityChangesResponse.ChangesMetadata;
+import lombok.SneakyThrows;
+
+public class FacilityChangesMetadataSerializer extends NonEmptySerializer<ChangesMetadata> {
+
+  public FacilityChangesMetadataSerializer() {
+    this(null);
+  }
+
+  public FacilityChangesMetadataSerializer(Class<ChangesMetadata> t) {
+    super(t);
+  }
+
+  @Override
+  @SneakyThrows
+  public void serialize(ChangesMetadata value, JsonGenerator jgen, SerializerProvider provider) {
+    jgen.writeStartObject();
+    writeNonEmpty(jgen, provider, "nextToken", value.nextToken());
+    writeNonEmpty(jgen, provider, "more", value.more());
+    jgen.writeEndObject();
+  }
+}
@@ -0,0 +1,28 @@
+package gov.va.api.lighthouse.facilities.api.v1.serializers;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import gov.va.api.lighthouse.facilities.api.v1.FacilityChangesResponse;
+import lombok.SneakyThrows;
+
+public class FacilityChangesResponseSerializer extends NonEmptySerializer<FacilityChangesResponse> {
+
+  public FacilityChangesResponseSerializer() {
+    this(null);
+  }
+
+  public FacilityChangesResponseSerializer(Class<FacilityChangesResponse> t) {
+    super(t);
+  }
+
+  @Override
+  @SneakyThrows
+  public void serialize(
+      FacilityChangesResponse value, JsonGenerator jgen, SerializerProvider provider) {
+    jgen.writeStartObject();
+    writeNonEmpty(jgen, provider, "data", value.data());
+    writeNonEmpty(jgen, provider, "deleted", value.deleted());
+    writeNonEmpty(jgen, provider, "meta", value.meta());
+    jgen.writeEndObject();
+  }
+}
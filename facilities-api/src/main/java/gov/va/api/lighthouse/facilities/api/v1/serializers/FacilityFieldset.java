@@ -0,0 +1,91 @@
+package gov.va.api.lighthouse.facilities.api.v1.serializers;
+
+import static org.apache.commons.lang3.StringUtils.isBlank;
+
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.BeanPropertyFilter;
+import com.fasterxml.jackson.databind.ser.FilterProvider;
+import com.fasterxml.jackson.databind.ser.PropertyFilter;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import lombok.Getter;
+import lombok.NonNull;
+
+/**
+ * Facility attributes requested with a JSON:API sparse fieldset, such as {@code
+ * fields[facility]=name,lat,long,address}. It is given to the writer as its filter provider, and
+ * {@link FacilityAttributesSerializer} skips attributes that were not requested before looking at
+ * them. The id and type of a facility are always written.
+ */
+public final class FacilityFieldset extends FilterProvider {
+  /** Name of the query parameter carrying the fieldset. */
+  public static final String PARAMETER = "fields[facility]";
+
+  /** Attributes that may be requested. */
+  public static final List<String> ATTRIBUTES =
+      List.of(
+          "name",
+          "facilityType",
+          "classification",
+          "website",
+          "lat",
+          "long",
+          "timeZone",
+          "address",
+          "phone",
+          "hours",
+          "operationalHoursSpecialInstructions",
+          "services",
+          "satisfaction",
+          "mobile",
+          "activeStatus",
+          "operatingStatus",
+          "visn");
+
+  /** The requested attributes. */
+  @Getter private final Set<String> fields;
+
+  private FacilityFieldset(Set<String> fields) {
+    this.fields = fields;
+  }
+
+  /** Determine whether an attribute is written by the serialization in progress. */
+  static boolean isRequested(SerializerProvider provider, String attribute) {
+    FilterProvider filters = provider.getFilterProvider();
+    return !(filters instanceof FacilityFieldset)
+        || ((FacilityFieldset) filters).fields.contains(attribute);
+  }
+
+  /**
+   * Parse a comma separated list of attributes. A blank list requests no attributes at all.
+   *
+   * @throws IllegalArgumentException if an attribute is not one of {@link #ATTRIBUTES}
+   */
+  public static FacilityFieldset parse(@NonNull String fieldset) {
+    if (isBlank(fieldset)) {
+      return new FacilityFieldset(Set.of());
+    }
+    Set<String> fields = new HashSet<>();
+    for (String field : fieldset.split(",", -1)) {
+      String attribute = field.trim();
+      if (!ATTRIBUTES.contains(attribute)) {
+        throw new IllegalArgumentException("Unknown facility attribute: " + attribute);
+      }
+      fields.add(attribute);
+    }
+    return new FacilityFieldset(Set.copyOf(fields));
+  }
+
+  /** No bean filters are defined, the fieldset is applied by the serializers themselves. */
+  @Override
+  @Deprecated
+  public BeanPropertyFilter findFilter(Object filterId) {
+    return null;
+  }
+
+  @Override
+  public PropertyFilter findPropertyFilter(Object filterId, Object valueToFilter) {
+    return null;
+  }
+}
@@ -20,7 +20,7 @@ public class FacilityReadResponseSerializer extends NonEmptySerializer<FacilityR
   public void serialize(
       FacilityReadResponse value, JsonGenerator jgen, SerializerProvider provider) {
     jgen.writeStartObject();
-    writeNonEmpty(jgen, "data", value.facility());
+    writeNonEmpty(jgen, provider, "data", value.facility());
     jgen.writeEndObject();
   }
 }
@@ -19,8 +19,8 @@ public class NearbyAttributesSerializer extends NonEmptySerializer<NearbyAttribu
   @SneakyThrows
   public void serialize(NearbyAttributes value, JsonGenerator jgen, SerializerProvider provider) {
     jgen.writeStartObject();
-    writeNonEmpty(jgen, "minTime", value.minTime());
-    writeNonEmpty(jgen, "maxTime", value.maxTime());
+    writeNonEmpty(jgen, provider, "minTime", value.minTime());
+    writeNonEmpty(jgen, provider, "maxTime", value.maxTime());
     jgen.writeEndObject();
   }
 }
@@ -1,5 +1,7 @@
 package gov.va.api.lighthouse.facilities.api.v1.serializers;
 
+import static gov.va.api.lighthouse.facilities.api.v1.serializers.SerializerHelper.writeParent;
+
 import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.databind.SerializerProvider;
 import gov.va.api.lighthouse.facilities.api.v1.NearbyResponse;
@@ -19,8 +21,13 @@ public class NearbyResponseSerializer extends NonEmptySerializer<NearbyResponse>
   @SneakyThrows
   public void serialize(NearbyResponse value, JsonGenerator jgen, SerializerProvider provider) {
     jgen.writeStartObject();
-    writeNonEmpty(jgen, "data", value.data());
-    writeNonEmpty(jgen, "meta", value.meta());
+    writeParent(
+        provider,
+        NearbyResponse.class,
+        () -> {
+          writeNonEmpty(jgen, provider, "data", value.data());
+          writeNonEmpty(jgen, provider, "meta", value.meta());
+        });
     jgen.writeEndObject();
   }
 }
@@ -1,5 +1,7 @@
 package gov.va.api.lighthouse.facilities.api.v1.serializers;
 
+import static gov.va.api.lighthouse.facilities.api.v1.serializers.SerializerHelper.writeFacility;
+
 import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.databind.SerializerProvider;
 import gov.va.api.lighthouse.facilities.api.v1.NearbyResponse.Nearby;
@@ -19,9 +21,15 @@ public class NearbySerializer extends NonEmptySerializer<Nearby> {
   @SneakyThrows
   public void serialize(Nearby value, JsonGenerator jgen, SerializerProvider provider) {
     jgen.writeStartObject();
-    writeNonEmpty(jgen, "id", value.id());
-    writeNonEmpty(jgen, "type", value.type());
-    writeNonEmpty(jgen, "attributes", value.attributes());
+    writeFacility(
+        provider,
+        value.id(),
+        null,
+        () -> {
+          writeNonEmpty(jgen, provider, "id", value.id());
+          writeNonEmpty(jgen, provider, "type", value.type());
+          writeNonEmpty(jgen, provider, "attributes", value.attributes());
+        });
     jgen.writeEndObject();
   }
 }
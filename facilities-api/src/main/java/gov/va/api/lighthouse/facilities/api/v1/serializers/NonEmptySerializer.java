@@ -6,21 +6,55 @@ import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.databind.SerializerProvider;
 import com.fasterxml.jackson.databind.ser.std.StdSerializer;
 import gov.va.api.lighthouse.facilities.api.v1.CanBeEmpty;
+import java.util.IdentityHashMap;
+import java.util.Map;
 import lombok.SneakyThrows;
 import org.apache.commons.lang3.ObjectUtils;
 
+/**
+ * Serializer that omits blank strings and empty elements. Nested elements are written with the
+ * provider of the enclosing call, so a facility is serialized in a single traversal rather than
+ * starting a new serialization for every field. The emptiness of each element is remembered for the
+ * rest of the call, so it is not determined again when the element itself is written.
+ */
 public abstract class NonEmptySerializer<T extends CanBeEmpty> extends StdSerializer<T> {
+  private static final String EMPTINESS = NonEmptySerializer.class.getName() + ".emptiness";
 
   public NonEmptySerializer(Class<T> t) {
     super(t);
   }
 
+  @SuppressWarnings("unchecked")
+  private static Map<CanBeEmpty, Boolean> emptiness(SerializerProvider provider) {
+    Map<CanBeEmpty, Boolean> emptiness =
+        (Map<CanBeEmpty, Boolean>) provider.getAttribute(EMPTINESS);
+    if (emptiness == null) {
+      emptiness = new IdentityHashMap<>();
+      provider.setAttribute(EMPTINESS, emptiness);
+    }
+    return emptiness;
+  }
+
+  /**
+   * Emptiness of the element, computed at most once per serialization call. The serializer of an
+   * element and the serializer of its parent both ask, so the second answer comes from the memo.
+   */
+  protected static boolean isEmptyElement(SerializerProvider provider, CanBeEmpty value) {
+    Map<CanBeEmpty, Boolean> emptiness = emptiness(provider);
+    Boolean empty = emptiness.get(value);
+    if (empty == null) {
+      empty = value.isEmpty();
+      emptiness.put(value, empty);
+    }
+    return empty;
+  }
+
   private static boolean isNotBlankString(Object value) {
     return value instanceof String && isNotBlank((String) value);
   }
 
-  private static boolean isNotEmptyObject(Object value) {
-    return (value instanceof CanBeEmpty && !((CanBeEmpty) value).isEmpty())
+  private static boolean isNotEmptyObject(SerializerProvider provider, Object value) {
+    return (value instanceof CanBeEmpty && !isEmptyElement(provider, (CanBeEmpty) value))
         || (!(value instanceof CanBeEmpty) && !(value instanceof String));
   }
 
@@ -32,16 +66,17 @@ public abstract class NonEmptySerializer<T extends CanBeEmpty> extends StdSerial
   }
 
   @SneakyThrows
-  protected static void writeNonEmpty(JsonGenerator jgen, String fieldName, Object value) {
+  protected static void writeNonEmpty(
+      JsonGenerator jgen, SerializerProvider provider, String fieldName, Object value) {
     if (ObjectUtils.isNotEmpty(value)) {
-      if (isNotBlankString(value) || isNotEmptyObject(value)) {
-        jgen.writeObjectField(fieldName, trim(value));
+      if (isNotBlankString(value) || isNotEmptyObject(provider, value)) {
+        provider.defaultSerializeField(fieldName, trim(value), jgen);
       }
     }
   }
 
   @Override
   public boolean isEmpty(SerializerProvider provider, T value) {
-    return value == null || value.isEmpty();
+    return value == null || isEmptyElement(provider, value);
   }
 }
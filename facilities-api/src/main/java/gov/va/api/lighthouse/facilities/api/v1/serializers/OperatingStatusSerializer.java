@@ -19,9 +19,9 @@ public class OperatingStatusSerializer extends NonEmptySerializer<OperatingStatu
   @SneakyThrows
   public void serialize(OperatingStatus value, JsonGenerator jgen, SerializerProvider provider) {
     jgen.writeStartObject();
-    writeNonEmpty(jgen, "code", value.code());
-    writeNonEmpty(jgen, "additionalInfo", value.additionalInfo());
-    writeNonEmpty(jgen, "supplementalStatus", value.supplementalStatuses());
+    writeNonEmpty(jgen, provider, "code", value.code());
+    writeNonEmpty(jgen, provider, "additionalInfo", value.additionalInfo());
+    writeNonEmpty(jgen, provider, "supplementalStatus", value.supplementalStatuses());
     jgen.writeEndObject();
   }
 }
@@ -22,14 +22,14 @@ public class PageLinksSerializer extends NonEmptySerializer<PageLinks> {
   @SneakyThrows
   public void serialize(PageLinks value, JsonGenerator jgen, SerializerProvider provider) {
     jgen.writeStartObject();
-    if (hasParent(jgen, NearbyResponse.class)) {
-      writeNonEmpty(jgen, "related", value.related());
+    if (hasParent(provider, NearbyResponse.class)) {
+      writeNonEmpty(jgen, provider, "related", value.related());
     }
-    writeNonEmpty(jgen, "self", value.self());
-    writeNonEmpty(jgen, "first", value.first());
-    writeNonEmpty(jgen, "prev", value.prev());
-    writeNonEmpty(jgen, "next", value.next());
-    writeNonEmpty(jgen, "last", value.last());
+    writeNonEmpty(jgen, provider, "self", value.self());
+    writeNonEmpty(jgen, provider, "first", value.first());
+    writeNonEmpty(jgen, provider, "prev", value.prev());
+    writeNonEmpty(jgen, provider, "next", value.next());
+    writeNonEmpty(jgen, provider, "last", value.last());
     jgen.writeEndObject();
   }
 }
@@ -19,10 +19,10 @@ public class PaginationSerializer extends NonEmptySerializer<Pagination> {
   @SneakyThrows
   public void serialize(Pagination value, JsonGenerator jgen, SerializerProvider provider) {
     jgen.writeStartObject();
-    writeNonEmpty(jgen, "currentPage", value.currentPage());
-    writeNonEmpty(jgen, "perPage", value.entriesPerPage());
-    writeNonEmpty(jgen, "totalPages", value.totalPages());
-    writeNonEmpty(jgen, "totalEntries", value.totalEntries());
+    writeNonEmpty(jgen, provider, "currentPage", value.currentPage());
+    writeNonEmpty(jgen, provider, "perPage", value.entriesPerPage());
+    writeNonEmpty(jgen, provider, "totalPages", value.totalPages());
+    writeNonEmpty(jgen, provider, "totalEntries", value.totalEntries());
     jgen.writeEndObject();
   }
 }
@@ -20,10 +20,10 @@ public class PatientSatisfactionSerializer extends NonEmptySerializer<PatientSat
   public void serialize(
       PatientSatisfaction value, JsonGenerator jgen, SerializerProvider provider) {
     jgen.writeStartObject();
-    writeNonEmpty(jgen, "primaryCareUrgent", value.primaryCareUrgent());
-    writeNonEmpty(jgen, "primaryCareRoutine", value.primaryCareRoutine());
-    writeNonEmpty(jgen, "specialtyCareUrgent", value.specialtyCareUrgent());
-    writeNonEmpty(jgen, "specialtyCareRoutine", value.specialtyCareRoutine());
+    writeNonEmpty(jgen, provider, "primaryCareUrgent", value.primaryCareUrgent());
+    writeNonEmpty(jgen, provider, "primaryCareRoutine", value.primaryCareRoutine());
+    writeNonEmpty(jgen, provider, "specialtyCareUrgent", value.specialtyCareUrgent());
+    writeNonEmpty(jgen, provider, "specialtyCareRoutine", value.specialtyCareRoutine());
     jgen.writeEndObject();
   }
 }
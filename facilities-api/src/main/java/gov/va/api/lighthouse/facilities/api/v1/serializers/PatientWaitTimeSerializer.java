@@ -19,9 +19,9 @@ public class PatientWaitTimeSerializer extends NonEmptySerializer<PatientWaitTim
   @SneakyThrows
   public void serialize(PatientWaitTime value, JsonGenerator jgen, SerializerProvider provider) {
     jgen.writeStartObject();
-    writeNonEmpty(jgen, "new", value.newPatientWaitTime());
-    writeNonEmpty(jgen, "established", value.establishedPatientWaitTime());
-    writeNonEmpty(jgen, "effectiveDate", value.effectiveDate());
+    writeNonEmpty(jgen, provider, "new", value.newPatientWaitTime());
+    writeNonEmpty(jgen, provider, "established", value.establishedPatientWaitTime());
+    writeNonEmpty(jgen, provider, "effectiveDate", value.effectiveDate());
     jgen.writeEndObject();
   }
 }
@@ -19,13 +19,13 @@ public class PhoneSerializer extends NonEmptySerializer<Phone> {
   @SneakyThrows
   public void serialize(Phone value, JsonGenerator jgen, SerializerProvider provider) {
     jgen.writeStartObject();
-    writeNonEmpty(jgen, "fax", value.fax());
-    writeNonEmpty(jgen, "main", value.main());
-    writeNonEmpty(jgen, "pharmacy", value.pharmacy());
-    writeNonEmpty(jgen, "afterHours", value.afterHours());
-    writeNonEmpty(jgen, "patientAdvocate", value.patientAdvocate());
-    writeNonEmpty(jgen, "mentalHealthClinic", value.mentalHealthClinic());
-    writeNonEmpty(jgen, "enrollmentCoordinator", value.enrollmentCoordinator());
+    writeNonEmpty(jgen, provider, "fax", value.fax());
+    writeNonEmpty(jgen, provider, "main", value.main());
+    writeNonEmpty(jgen, provider, "pharmacy", value.pharmacy());
+    writeNonEmpty(jgen, provider, "afterHours", value.afterHours());
+    writeNonEmpty(jgen, provider, "patientAdvocate", value.patientAdvocate());
+    writeNonEmpty(jgen, provider, "mentalHealthClinic", value.mentalHealthClinic());
+    writeNonEmpty(jgen, provider, "enrollmentCoordinator", value.enrollmentCoordinator());
     jgen.writeEndObject();
   }
 }
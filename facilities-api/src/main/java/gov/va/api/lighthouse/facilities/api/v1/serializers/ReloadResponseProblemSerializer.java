@@ -19,9 +19,9 @@ public class ReloadResponseProblemSerializer extends NonEmptySerializer<Problem>
   @SneakyThrows
   public void serialize(Problem value, JsonGenerator jgen, SerializerProvider provider) {
     jgen.writeStartObject();
-    writeNonEmpty(jgen, "facilityId", value.facilityId());
-    writeNonEmpty(jgen, "description", value.description());
-    writeNonEmpty(jgen, "data", value.data());
+    writeNonEmpty(jgen, provider, "facilityId", value.facilityId());
+    writeNonEmpty(jgen, provider, "description", value.description());
+    writeNonEmpty(jgen, provider, "data", value.data());
     jgen.writeEndObject();
   }
 }
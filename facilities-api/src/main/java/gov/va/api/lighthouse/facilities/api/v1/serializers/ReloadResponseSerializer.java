@@ -19,14 +19,14 @@ public class ReloadResponseSerializer extends NonEmptySerializer<ReloadResponse>
   @SneakyThrows
   public void serialize(ReloadResponse value, JsonGenerator jgen, SerializerProvider provider) {
     jgen.writeStartObject();
-    writeNonEmpty(jgen, "facilitiesUpdated", value.facilitiesUpdated());
-    writeNonEmpty(jgen, "facilitiesRevived", value.facilitiesRevived());
-    writeNonEmpty(jgen, "facilitiesCreated", value.facilitiesCreated());
-    writeNonEmpty(jgen, "facilitiesMissing", value.facilitiesMissing());
-    writeNonEmpty(jgen, "facilitiesRemoved", value.facilitiesRemoved());
-    writeNonEmpty(jgen, "problems", value.problems());
-    writeNonEmpty(jgen, "timing", value.timing());
-    writeNonEmpty(jgen, "totalFacilities", value.totalFacilities());
+    writeNonEmpty(jgen, provider, "facilitiesUpdated", value.facilitiesUpdated());
+    writeNonEmpty(jgen, provider, "facilitiesRevived", value.facilitiesRevived());
+    writeNonEmpty(jgen, provider, "facilitiesCreated", value.facilitiesCreated());
+    writeNonEmpty(jgen, provider, "facilitiesMissing", value.facilitiesMissing());
+    writeNonEmpty(jgen, provider, "facilitiesRemoved", value.facilitiesRemoved());
+    writeNonEmpty(jgen, provider, "problems", value.problems());
+    writeNonEmpty(jgen, provider, "timing", value.timing());
+    writeNonEmpty(jgen, provider, "totalFacilities", value.totalFacilities());
     jgen.writeEndObject();
   }
 }
@@ -19,10 +19,10 @@ public class ReloadResponseTimingSerializer extends NonEmptySerializer<Timing> {
   @SneakyThrows
   public void serialize(Timing value, JsonGenerator jgen, SerializerProvider provider) {
     jgen.writeStartObject();
-    writeNonEmpty(jgen, "start", value.start());
-    writeNonEmpty(jgen, "completeCollection", value.completeCollection());
-    writeNonEmpty(jgen, "complete", value.complete());
-    writeNonEmpty(jgen, "totalDuration", value.totalDuration());
+    writeNonEmpty(jgen, provider, "start", value.start());
+    writeNonEmpty(jgen, provider, "completeCollection", value.completeCollection());
+    writeNonEmpty(jgen, provider, "complete", value.complete());
+    writeNonEmpty(jgen, provider, "totalDuration", value.totalDuration());
     jgen.writeEndObject();
   }
 }
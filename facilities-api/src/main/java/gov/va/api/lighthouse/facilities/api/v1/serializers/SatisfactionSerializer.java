@@ -25,9 +25,9 @@ public class SatisfactionSerializer extends NonEmptySerializer<Satisfaction> {
   @SneakyThrows
   public void serialize(Satisfaction value, JsonGenerator jgen, SerializerProvider provider) {
     jgen.writeStartObject();
-    if (!empty(value) || idStartsWith(jgen, "vha_")) {
-      writeNonEmpty(jgen, "health", value.health());
-      writeNonEmpty(jgen, "effectiveDate", value.effectiveDate());
+    if (!empty(value) || idStartsWith(provider, "vha_")) {
+      writeNonEmpty(jgen, provider, "health", value.health());
+      writeNonEmpty(jgen, provider, "effectiveDate", value.effectiveDate());
     }
     jgen.writeEndObject();
   }
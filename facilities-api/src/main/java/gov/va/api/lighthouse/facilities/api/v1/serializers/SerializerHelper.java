@@ -2,55 +2,72 @@ package gov.va.api.lighthouse.facilities.api.v1.serializers;
 
 import static org.apache.commons.lang3.StringUtils.startsWithIgnoreCase;
 
-import com.fasterxml.jackson.core.JsonGenerator;
-import com.fasterxml.jackson.core.JsonStreamContext;
+import com.fasterxml.jackson.databind.SerializerProvider;
 import gov.va.api.lighthouse.facilities.api.v1.Facility;
-import gov.va.api.lighthouse.facilities.api.v1.FacilityReadResponse;
-import gov.va.api.lighthouse.facilities.api.v1.NearbyResponse;
-import java.util.ArrayList;
-import java.util.List;
 import java.util.Optional;
 import lombok.experimental.UtilityClass;
 
-/** Utility class for facilitating JSON serialization of FAPI V1 elements. */
+/**
+ * Utility class for facilitating JSON serialization of FAPI V1 elements.
+ *
+ * <p>Some rules depend on the facility being written or on the response it belongs to. Serializers
+ * for those enclosing elements record them as attributes of the current serialization, so nested
+ * serializers can look them up without walking the output context.
+ */
 @UtilityClass
 public class SerializerHelper {
+  private static final String FACILITY_ID = SerializerHelper.class.getName() + ".facilityId";
 
-  public static boolean hasParent(JsonGenerator jgen, Class<?> clazz) {
-    return parents(jgen).stream().anyMatch(p -> clazz.isInstance(p));
+  private static final String FACILITY_TYPE = SerializerHelper.class.getName() + ".facilityType";
+
+  /** The facility id of the element being written, if it belongs to a facility. */
+  public static Optional<String> facilityId(SerializerProvider provider) {
+    return Optional.ofNullable((String) provider.getAttribute(FACILITY_ID));
   }
 
-  private static Optional<String> id(Object obj) {
-    if (obj instanceof Facility) {
-      return Optional.ofNullable(((Facility) obj).id());
-    }
-    if (obj instanceof FacilityReadResponse) {
-      return Optional.ofNullable(((FacilityReadResponse) obj).facility()).map(x -> x.id());
-    }
-    if (obj instanceof NearbyResponse.Nearby) {
-      return Optional.ofNullable(((NearbyResponse.Nearby) obj).id());
-    }
-    return Optional.empty();
+  /** The facility type of the element being written, if it belongs to a facility. */
+  public static Optional<Facility.FacilityType> facilityType(SerializerProvider provider) {
+    return Optional.ofNullable((Facility.FacilityType) provider.getAttribute(FACILITY_TYPE));
+  }
+
+  public static boolean hasParent(SerializerProvider provider, Class<?> clazz) {
+    return provider.getAttribute(parentKey(clazz)) != null;
   }
 
-  /** Determine the facility id associated with the element. */
-  public static boolean idStartsWith(JsonGenerator jgen, String prefix) {
-    return parents(jgen).stream()
-        .map(p -> id(p))
-        .filter(Optional::isPresent)
-        .map(Optional::get)
-        .anyMatch(id -> startsWithIgnoreCase(id, prefix));
+  /** Determine whether the facility id associated with the element starts with the prefix. */
+  public static boolean idStartsWith(SerializerProvider provider, String prefix) {
+    return facilityId(provider).map(id -> startsWithIgnoreCase(id, prefix)).orElse(false);
+  }
+
+  private static String parentKey(Class<?> clazz) {
+    return SerializerHelper.class.getName() + ".parent." + clazz.getName();
+  }
+
+  /** Write the contents of a facility with its id and type available to nested serializers. */
+  public static void writeFacility(
+      SerializerProvider provider, String id, Facility.FacilityType type, Runnable write) {
+    Object previousId = provider.getAttribute(FACILITY_ID);
+    Object previousType = provider.getAttribute(FACILITY_TYPE);
+    provider.setAttribute(FACILITY_ID, id);
+    provider.setAttribute(FACILITY_TYPE, type);
+    try {
+      write.run();
+    } finally {
+      provider.setAttribute(FACILITY_ID, previousId);
+      provider.setAttribute(FACILITY_TYPE, previousType);
+    }
   }
 
-  private static List<Object> parents(JsonGenerator jgen) {
-    List<Object> parents = new ArrayList<>();
-    JsonStreamContext parent = jgen.getOutputContext().getParent();
-    while (parent != null) {
-      if (parent.getCurrentValue() != null) {
-        parents.add(parent.getCurrentValue());
-      }
-      parent = parent.getParent();
+  /** Write the contents of an element so nested serializers know they are within it. */
+  public static void writeParent(
+      SerializerProvider provider, Class<?> parentClass, Runnable write) {
+    String key = parentKey(parentClass);
+    Object previous = provider.getAttribute(key);
+    provider.setAttribute(key, Boolean.TRUE);
+    try {
+      write.run();
+    } finally {
+      provider.setAttribute(key, previous);
     }
-    return parents;
   }
 }
@@ -19,11 +19,11 @@ public class ServicesSerializer extends NonEmptySerializer<Services> {
   @SneakyThrows
   public void serialize(Services value, JsonGenerator jgen, SerializerProvider provider) {
     jgen.writeStartObject();
-    writeNonEmpty(jgen, "health", value.health());
-    writeNonEmpty(jgen, "benefits", value.benefits());
-    writeNonEmpty(jgen, "other", value.other());
-    writeNonEmpty(jgen, "link", value.link());
-    writeNonEmpty(jgen, "lastUpdated", value.lastUpdated());
+    writeNonEmpty(jgen, provider, "health", value.health());
+    writeNonEmpty(jgen, provider, "benefits", value.benefits());
+    writeNonEmpty(jgen, provider, "other", value.other());
+    writeNonEmpty(jgen, provider, "link", value.link());
+    writeNonEmpty(jgen, provider, "lastUpdated", value.lastUpdated());
     jgen.writeEndObject();
   }
 }
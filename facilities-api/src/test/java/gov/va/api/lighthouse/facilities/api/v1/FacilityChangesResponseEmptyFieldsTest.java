@@ -0,0 +1,74 @@
+package gov.va.api.lighthouse.facilities.api.v1;
+
+import static gov.va.api.lighthouse.facilities.api.TestUtils.getExpectedJson;
+import static gov.va.api.lighthouse.facilities.api.v1.SerializerUtil.createMapper;
+import static java.util.Collections.emptyList;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.Test;
+
+public class FacilityChangesResponseEmptyFieldsTest {
+
+  @Test
+  @SneakyThrows
+  void allFieldsEmpty() {
+    // Null out fields for response
+    String jsonEmptyResponse =
+        getExpectedJson("v1/FacilityChangesResponse/responseWithNullFields.json");
+    FacilityChangesResponse emptyResponse =
+        FacilityChangesResponse.builder().data(null).deleted(null).meta(null).build();
+    assertThat(createMapper().writerWithDefaultPrettyPrinter().writeValueAsString(emptyResponse))
+        .isEqualTo(jsonEmptyResponse);
+    // Empty fields for response
+    emptyResponse =
+        FacilityChangesResponse.builder()
+            .data(emptyList())
+            .deleted(emptyList())
+            .meta(FacilityChangesResponse.ChangesMetadata.builder().nextToken(" ").build())
+            .build();
+    assertThat(createMapper().writerWithDefaultPrettyPrinter().writeValueAsString(emptyResponse))
+        .isEqualTo(jsonEmptyResponse);
+  }
+
+  @Test
+  @SneakyThrows
+  void isEmpty() {
+    // Empty
+    assertThat(FacilityChangesResponse.builder().build().isEmpty()).isTrue();
+    assertThat(
+            FacilityChangesResponse.builder()
+                .data(emptyList())
+                .deleted(emptyList())
+                .meta(FacilityChangesResponse.ChangesMetadata.builder().build())
+                .build()
+                .isEmpty())
+        .isTrue();
+    // Not empty
+    assertThat(FacilityChangesResponse.builder().deleted(List.of("vha_688")).build().isEmpty())
+        .isFalse();
+    assertThat(
+            FacilityChangesResponse.builder()
+                .meta(FacilityChangesResponse.ChangesMetadata.builder().more(false).build())
+                .build()
+                .isEmpty())
+        .isFalse();
+  }
+
+  @Test
+  @SneakyThrows
+  void serializesTokenAndDeletedIds() {
+    FacilityChangesResponse response =
+        FacilityChangesResponse.builder()
+            .deleted(List.of("vha_688"))
+            .meta(
+                FacilityChangesResponse.ChangesMetadata.builder()
+                    .nextToken("42")
+                    .more(false)
+                    .build())
+            .build();
+    assertThat(createMapper().writeValueAsString(response))
+        .isEqualTo("{\"deleted\":[\"vha_688\"],\"meta\":{\"nextToken\":\"42\",\"more\":false}}");
+  }
+}
@@ -36,6 +36,8 @@ import gov.va.api.lighthouse.facilities.api.v1.serializers.FacilitiesIdsResponse
 import gov.va.api.lighthouse.facilities.api.v1.serializers.FacilitiesMetadataSerializer;
 import gov.va.api.lighthouse.facilities.api.v1.serializers.FacilitiesResponseSerializer;
 import gov.va.api.lighthouse.facilities.api.v1.serializers.FacilityAttributesSerializer;
+import gov.va.api.lighthouse.facilities.api.v1.serializers.FacilityChangesMetadataSerializer;
+import gov.va.api.lighthouse.facilities.api.v1.serializers.FacilityChangesResponseSerializer;
 import gov.va.api.lighthouse.facilities.api.v1.serializers.FacilityReadResponseSerializer;
 import gov.va.api.lighthouse.facilities.api.v1.serializers.FacilitySerializer;
 import gov.va.api.lighthouse.facilities.api.v1.serializers.HoursSerializer;
@@ -94,6 +96,9 @@ public final class SerializerUtil {
         new DetailedServicesMetadataSerializer());
     mod.addSerializer(FacilitiesResponse.class, new FacilitiesResponseSerializer());
     mod.addSerializer(FacilitiesIdsResponse.class, new FacilitiesIdsResponseSerializer());
+    mod.addSerializer(FacilityChangesResponse.class, new FacilityChangesResponseSerializer());
+    mod.addSerializer(
+        FacilityChangesResponse.ChangesMetadata.class, new FacilityChangesMetadataSerializer());
     mod.addSerializer(FacilityReadResponse.class, new FacilityReadResponseSerializer());
     mod.addSerializer(NearbyResponse.class, new NearbyResponseSerializer());
     mod.addSerializer(NearbyResponse.NearbyAttributes.class, new NearbyAttributesSerializer());
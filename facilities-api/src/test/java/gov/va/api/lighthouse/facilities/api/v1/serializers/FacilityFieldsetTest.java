@@ -0,0 +1,54 @@
+package gov.va.api.lighthouse.facilities.api.v1.serializers;
+
+import static gov.va.api.lighthouse.facilities.api.v1.SerializerUtil.createMapper;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import gov.va.api.lighthouse.facilities.api.v1.Facility;
+import java.math.BigDecimal;
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.Test;
+
+public class FacilityFieldsetTest {
+  private static Facility facility() {
+    return Facility.builder()
+        .id("vha_402")
+        .type(Facility.Type.va_facilities)
+        .attributes(
+            Facility.FacilityAttributes.builder()
+                .name("Togus VA Medical Center")
+                .latitude(BigDecimal.valueOf(44.2))
+                .longitude(BigDecimal.valueOf(-69.7))
+                .website("https://www.maine.va.gov/")
+                .hours(Facility.Hours.builder().monday("24/7").build())
+                .visn("1")
+                .build())
+        .build();
+  }
+
+  @Test
+  void parse() {
+    assertThat(FacilityFieldset.parse(" name, lat ,long").fields())
+        .containsExactlyInAnyOrder("name", "lat", "long");
+    assertThat(FacilityFieldset.parse("").fields()).isEmpty();
+    assertThatThrownBy(() -> FacilityFieldset.parse("name,latitude"))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("Unknown facility attribute: latitude");
+  }
+
+  @Test
+  @SneakyThrows
+  void unrequestedAttributesAreNotWritten() {
+    assertThat(
+            createMapper()
+                .writer(FacilityFieldset.parse("lat,name"))
+                .writeValueAsString(facility()))
+        .isEqualTo(
+            "{\"id\":\"vha_402\",\"type\":\"va_facilities\","
+                + "\"attributes\":{\"name\":\"Togus VA Medical Center\",\"lat\":44.2}}");
+    assertThat(createMapper().writer(FacilityFieldset.parse("")).writeValueAsString(facility()))
+        .isEqualTo("{\"id\":\"vha_402\",\"type\":\"va_facilities\",\"attributes\":{}}");
+    assertThat(createMapper().writeValueAsString(facility()))
+        .contains("\"website\"", "\"hours\"", "\"visn\"");
+  }
+}
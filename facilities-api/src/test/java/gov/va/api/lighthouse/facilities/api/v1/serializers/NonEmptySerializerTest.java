@@ -0,0 +1,73 @@
+package gov.va.api.lighthouse.facilities.api.v1.serializers;
+
+import static gov.va.api.lighthouse.facilities.api.v1.SerializerUtil.createMapper;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import gov.va.api.lighthouse.facilities.api.v1.CanBeEmpty;
+import gov.va.api.lighthouse.facilities.api.v1.Facility;
+import lombok.Builder;
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.Test;
+
+public class NonEmptySerializerTest {
+  @Test
+  @SneakyThrows
+  void emptinessIsCheckedOncePerCallBySerializers() {
+    Facility.Address mailing = Facility.Address.builder().address1("50 Irving St").build();
+    Facility.Addresses addresses = Facility.Addresses.builder().mailing(mailing).build();
+    Facility.FacilityAttributes attributes =
+        spy(Facility.FacilityAttributes.builder().address(addresses).build());
+    Facility facility = Facility.builder().attributes(attributes).build();
+    String json = "{\"attributes\":{\"address\":{\"mailing\":{\"address1\":\"50 Irving St\"}}}}";
+    assertThat(createMapper().writeValueAsString(facility)).isEqualTo(json);
+    verify(attributes, times(1)).isEmpty();
+    assertThat(createMapper().writeValueAsString(facility)).isEqualTo(json);
+    verify(attributes, times(2)).isEmpty();
+  }
+
+  @Test
+  @SneakyThrows
+  void emptyElementsAreOmitted() {
+    Node root = Node.builder().name(" root ").left(Node.builder().name("  ").build()).build();
+    assertThat(createMapper().writeValueAsString(root)).isEqualTo("{\"name\":\"root\"}");
+  }
+
+  @Builder
+  @JsonSerialize(using = NodeSerializer.class)
+  static final class Node implements CanBeEmpty {
+    String name;
+
+    Node left;
+
+    Node right;
+
+    @Override
+    public boolean isEmpty() {
+      return (name == null || name.isBlank())
+          && CanBeEmpty.isEmpty(left)
+          && CanBeEmpty.isEmpty(right);
+    }
+  }
+
+  static final class NodeSerializer extends NonEmptySerializer<Node> {
+    NodeSerializer() {
+      super(Node.class);
+    }
+
+    @Override
+    @SneakyThrows
+    public void serialize(Node value, JsonGenerator jgen, SerializerProvider provider) {
+      jgen.writeStartObject();
+      writeNonEmpty(jgen, provider, "name", value.name);
+      writeNonEmpty(jgen, provider, "left", value.left);
+      writeNonEmpty(jgen, provider, "right", value.right);
+      jgen.writeEndObject();
+    }
+  }
+}
@@ -2,10 +2,8 @@ package gov.va.api.lighthouse.facilities.api.v1.serializers;
 
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.Mockito.mock;
-import static org.mockito.Mockito.when;
 
 import com.fasterxml.jackson.core.JsonGenerator;
-import com.fasterxml.jackson.core.JsonStreamContext;
 import com.fasterxml.jackson.databind.SerializerProvider;
 import com.fasterxml.jackson.databind.ser.std.StdSerializer;
 import lombok.SneakyThrows;
@@ -309,13 +307,10 @@ public class SerializerExceptionsTest {
   @Test
   @SneakyThrows
   void pageLinksExceptions() {
-    JsonStreamContext mockStreamContext = mock(JsonStreamContext.class);
-    var mockGenerator = mock(JsonGenerator.class);
-    when(mockGenerator.getOutputContext()).thenReturn(mockStreamContext);
     assertNpeThrown(
         null,
         new PageLinksSerializer(),
-        mockGenerator,
+        mock(JsonGenerator.class),
         mock(SerializerProvider.class),
         "Cannot invoke \"gov.va.api.lighthouse.facilities.api.v1.PageLinks.self()\" because \"value\" is null");
   }
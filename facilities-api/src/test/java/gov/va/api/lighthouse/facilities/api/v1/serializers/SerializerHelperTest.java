@@ -0,0 +1,51 @@
+package gov.va.api.lighthouse.facilities.api.v1.serializers;
+
+import static gov.va.api.lighthouse.facilities.api.v1.SerializerUtil.createMapper;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.SerializerProvider;
+import gov.va.api.lighthouse.facilities.api.v1.Facility;
+import gov.va.api.lighthouse.facilities.api.v1.NearbyResponse;
+import org.junit.jupiter.api.Test;
+
+public class SerializerHelperTest {
+  @Test
+  void facilityIsVisibleWhileWritingAndRestoredAfter() {
+    SerializerProvider provider = createMapper().getSerializerProviderInstance();
+    SerializerHelper.writeFacility(
+        provider,
+        "nca_s402",
+        Facility.FacilityType.va_cemetery,
+        () -> {
+          assertThat(SerializerHelper.idStartsWith(provider, "NCA_S")).isTrue();
+          assertThat(SerializerHelper.idStartsWith(provider, "vha_")).isFalse();
+          assertThat(SerializerHelper.facilityType(provider))
+              .contains(Facility.FacilityType.va_cemetery);
+          SerializerHelper.writeFacility(
+              provider,
+              "vha_402",
+              null,
+              () -> {
+                assertThat(SerializerHelper.idStartsWith(provider, "vha_")).isTrue();
+                assertThat(SerializerHelper.facilityType(provider)).isEmpty();
+              });
+          assertThat(SerializerHelper.facilityId(provider)).contains("nca_s402");
+        });
+    assertThat(SerializerHelper.facilityId(provider)).isEmpty();
+    assertThat(SerializerHelper.idStartsWith(provider, "nca_s")).isFalse();
+  }
+
+  @Test
+  void parentIsVisibleWhileWritingAndRestoredAfter() {
+    SerializerProvider provider = createMapper().getSerializerProviderInstance();
+    assertThat(SerializerHelper.hasParent(provider, NearbyResponse.class)).isFalse();
+    SerializerHelper.writeParent(
+        provider,
+        NearbyResponse.class,
+        () -> {
+          assertThat(SerializerHelper.hasParent(provider, NearbyResponse.class)).isTrue();
+          assertThat(SerializerHelper.hasParent(provider, Facility.class)).isFalse();
+        });
+    assertThat(SerializerHelper.hasParent(provider, NearbyResponse.class)).isFalse();
+  }
+}
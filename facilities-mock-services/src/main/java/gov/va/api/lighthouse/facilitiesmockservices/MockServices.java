@@ -5,6 +5,7 @@ import static java.util.stream.Collectors.joining;
 import static org.mockserver.model.HttpRequest.request;
 import static org.mockserver.model.HttpResponse.response;
 
+import com.google.common.hash.Hashing;
 import com.google.common.io.Resources;
 import java.net.URL;
 import java.net.URLDecoder;
@@ -55,20 +56,25 @@ public class MockServices {
   }
 
   private void addAccessToCareSatisfactionScores(MockServerClient mock) {
+    addNotModified(
+        mock, "/Shep/getRawData?location=*", atpStatusCode, "/access-to-care-satisfaction.json");
     mock.when(addQuery("/Shep/getRawData?location=*"))
         .respond(
             response()
                 .withStatusCode(atpStatusCode)
                 .withHeader(contentApplicationJson())
+                .withHeader("ETag", etag("/access-to-care-satisfaction.json"))
                 .withBody(contentOf("/access-to-care-satisfaction.json")));
   }
 
   private void addAccessToCareWaitTimes(MockServerClient mock) {
+    addNotModified(mock, "/api/v1.0/pwt/all", atcStatusCode, "/access-to-care-wait-times.json");
     mock.when(addQuery("/api/v1.0/pwt/all"))
         .respond(
             response()
                 .withStatusCode(atcStatusCode)
                 .withHeader(contentApplicationJson())
+                .withHeader("ETag", etag("/access-to-care-wait-times.json"))
                 .withBody(contentOf("/access-to-care-wait-times.json")));
   }
 
@@ -92,14 +98,29 @@ public class MockServices {
   }
 
   private void addNationalCemeteries(MockServerClient mock) {
+    addNotModified(mock, "/cems/national.xml", cemsStatusCode, "/national.xml");
     mock.when(addQuery("/cems/national.xml"))
         .respond(
             response()
                 .withStatusCode(cemsStatusCode)
                 .withHeader(contentTextXml())
+                .withHeader("ETag", etag("/national.xml"))
                 .withBody(contentOf("/national.xml")));
   }
 
+  /**
+   * Upstream feeds answer 304 when the client already has the current content. Expectations are
+   * matched in the order they are added, so this must be added before the full response.
+   */
+  private void addNotModified(MockServerClient mock, String path, int statusCode, String resource) {
+    if (statusCode != 200) {
+      return;
+    }
+    String etag = etag(resource);
+    mock.when(query(path).withHeader("If-None-Match", etag))
+        .respond(response().withStatusCode(304).withHeader("ETag", etag));
+  }
+
   private void addPssgDriveTimeBands(MockServerClient mock) {
     /* Add a few pages of results. The last page should be empty []. */
     int pageSize = 30;
@@ -121,35 +142,20 @@ public class MockServices {
     }
   }
 
-  @SneakyThrows
   private HttpRequest addQuery(String path) {
     log.info("http://localhost:{}{}", options.getPort(), path);
     supportedQueries.add("http://localhost:" + options.getPort() + path);
-    URL url = new URL("http://localhost" + path);
-    HttpRequest request = request().withPath(url.getPath());
-    if (url.getQuery() == null) {
-      return request;
-    }
-    /*
-     * Split the query portion of the path and each of the parameters individually. Also note that
-     * sometimes the parameter value includes an '=' ... looking at you 'where=1=1'
-     */
-    Stream.of(url.getQuery().split("&"))
-        .forEach(
-            q -> {
-              var pv = q.split("=", 2);
-              request.withQueryStringParameter(
-                  pv[0], URLDecoder.decode(pv[1], StandardCharsets.UTF_8));
-            });
-    return request;
+    return query(path);
   }
 
   private void addStateCemeteries(MockServerClient mock) {
+    addNotModified(mock, "/cems/cems.xml", cemsStatusCode, "/cems.xml");
     mock.when(addQuery("/cems/cems.xml"))
         .respond(
             response()
                 .withStatusCode(cemsStatusCode)
                 .withHeader(contentTextXml())
+                .withHeader("ETag", etag("/cems.xml"))
                 .withBody(contentOf("/cems.xml")));
   }
 
@@ -171,6 +177,31 @@ public class MockServices {
     return new Header("Content-Type", "text/xml");
   }
 
+  private String etag(String resource) {
+    return "\"" + Hashing.sha256().hashString(contentOf(resource), StandardCharsets.UTF_8) + "\"";
+  }
+
+  @SneakyThrows
+  private HttpRequest query(String path) {
+    URL url = new URL("http://localhost" + path);
+    HttpRequest request = request().withPath(url.getPath());
+    if (url.getQuery() == null) {
+      return request;
+    }
+    /*
+     * Split the query portion of the path and each of the parameters individually. Also note that
+     * sometimes the parameter value includes an '=' ... looking at you 'where=1=1'
+     */
+    Stream.of(url.getQuery().split("&"))
+        .forEach(
+            q -> {
+              var pv = q.split("=", 2);
+              request.withQueryStringParameter(
+                  pv[0], URLDecoder.decode(pv[1], StandardCharsets.UTF_8));
+            });
+    return request;
+  }
+
   /** Start the server and configure it to support requests. */
   public void start() {
     checkState(ms == null, "Mock Services have already been started");
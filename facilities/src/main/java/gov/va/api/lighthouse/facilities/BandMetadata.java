@@ -0,0 +1,51 @@
+package gov.va.api.lighthouse.facilities;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.NonNull;
+import lombok.Value;
+
+/**
+ * Everything about a drive time band except its geometry, as held by {@link
+ * DriveTimeBandMetadata}. The band metadata queries build it with a constructor expression.
+ */
+@Value
+@Builder
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class BandMetadata {
+  @NonNull DriveTimeBandEntity.Pk id;
+
+  double minLatitude;
+
+  double minLongitude;
+
+  double maxLatitude;
+
+  double maxLongitude;
+
+  String monthYear;
+
+  Integer version;
+
+  /** Constructor for the {@code select new} expressions of the band metadata queries. */
+  public BandMetadata(
+      String stationNumber,
+      int fromMinutes,
+      int toMinutes,
+      double minLatitude,
+      double minLongitude,
+      double maxLatitude,
+      double maxLongitude,
+      String monthYear,
+      Integer version) {
+    this(
+        DriveTimeBandEntity.Pk.of(stationNumber, fromMinutes, toMinutes),
+        minLatitude,
+        minLongitude,
+        maxLatitude,
+        maxLongitude,
+        monthYear,
+        version);
+  }
+}
@@ -1,6 +1,5 @@
 package gov.va.api.lighthouse.facilities;
 
-import static gov.va.api.lighthouse.facilities.DatamartFacilitiesJacksonConfig.createMapper;
 import static gov.va.api.lighthouse.facilities.collector.CovidServiceUpdater.updateServiceUrlPaths;
 import static org.apache.commons.lang3.StringUtils.capitalize;
 
@@ -23,17 +22,30 @@ import lombok.SneakyThrows;
 import org.apache.commons.lang3.ObjectUtils;
 
 public abstract class BaseCmsOverlayController {
-  protected static final ObjectMapper DATAMART_MAPPER = createMapper();
+  protected static final ObjectMapper DATAMART_MAPPER =
+      JacksonCodecs.mapper(JacksonCodecs.Flavor.DATAMART);
 
   protected final FacilityRepository facilityRepository;
 
   private final CmsOverlayRepository cmsOverlayRepository;
 
+  private final FacilityChanges facilityChanges;
+
+  protected final OverlayEvents overlayEvents;
+
+  private final CoordinateResultCache resultCache;
+
   public BaseCmsOverlayController(
       @NonNull FacilityRepository facilityRepository,
-      @NonNull CmsOverlayRepository cmsOverlayRepository) {
+      @NonNull CmsOverlayRepository cmsOverlayRepository,
+      @NonNull FacilityChanges facilityChanges,
+      @NonNull OverlayEvents overlayEvents,
+      @NonNull CoordinateResultCache resultCache) {
     this.facilityRepository = facilityRepository;
     this.cmsOverlayRepository = cmsOverlayRepository;
+    this.facilityChanges = facilityChanges;
+    this.overlayEvents = overlayEvents;
+    this.resultCache = resultCache;
   }
 
   private void applyAtcWaitTimeToCmsService(
@@ -86,7 +98,7 @@ public abstract class BaseCmsOverlayController {
       @NonNull DatamartCmsOverlay overlay) {
     if (ObjectUtils.isNotEmpty(overlay.detailedServices())) {
       overlay.detailedServices(
-          overlay.detailedServices().parallelStream()
+          overlay.detailedServices().stream()
               // Filter out services with unrecognized service ids
               .filter(ds -> isRecognizedServiceId(ds.serviceInfo().serviceId()))
               // Filter out services with invalid service types
@@ -107,7 +119,7 @@ public abstract class BaseCmsOverlayController {
             ? Collections.emptyList()
             : Collections.synchronizedList(detailedServices);
     final List<String> overlayServiceIds =
-        ds.parallelStream().map(dds -> dds.serviceInfo().serviceId()).collect(Collectors.toList());
+        ds.stream().map(dds -> dds.serviceInfo().serviceId()).collect(Collectors.toList());
     // Detailed services represented in pre-serviceInfo block format that have unrecognized service
     // names will have null serviceInfo block when deserialized.
     final List<DatamartDetailedService> currentDetailedServices =
@@ -116,19 +128,19 @@ public abstract class BaseCmsOverlayController {
             : List.of(
                     mapper.readValue(
                         cmsOverlayEntity.cmsServices(), DatamartDetailedService[].class))
-                .parallelStream()
+                .stream()
                 .filter(dds -> dds.serviceInfo() != null)
                 .collect(Collectors.toList());
     final List<DatamartDetailedService> finalDetailedServices =
         Collections.synchronizedList(new ArrayList<>());
     finalDetailedServices.addAll(
-        currentDetailedServices.parallelStream()
+        currentDetailedServices.stream()
             .filter(
                 currentDetailedService ->
                     !overlayServiceIds.contains(currentDetailedService.serviceInfo().serviceId()))
             .collect(Collectors.toList()));
     finalDetailedServices.addAll(
-        ds.parallelStream().filter(d -> d.active()).collect(Collectors.toList()));
+        ds.stream().filter(d -> d.active()).collect(Collectors.toList()));
     updateServiceUrlPaths(id, finalDetailedServices);
     finalDetailedServices.sort(Comparator.comparing(dds -> dds.serviceInfo().serviceId()));
     return finalDetailedServices;
@@ -140,7 +152,7 @@ public abstract class BaseCmsOverlayController {
         Collections.synchronizedList(new ArrayList<>());
     if (detailedServices != null) {
       activeServices.addAll(
-          detailedServices.parallelStream().filter(d -> d.active()).collect(Collectors.toList()));
+          detailedServices.stream().filter(d -> d.active()).collect(Collectors.toList()));
     }
     updateServiceUrlPaths(id, activeServices);
     activeServices.sort(Comparator.comparing(dds -> dds.serviceInfo().serviceId()));
@@ -156,7 +168,7 @@ public abstract class BaseCmsOverlayController {
   protected DatamartDetailedService getOverlayDetailedService(
       @NonNull String facilityId, @NonNull String serviceId) {
     Optional<DatamartDetailedService> detailedService =
-        getOverlayDetailedServices(facilityId).parallelStream()
+        getOverlayDetailedServices(facilityId).stream()
             .filter(ds -> ds.serviceInfo().serviceId().equals(serviceId))
             .findFirst();
     if (detailedService.isPresent()) {
@@ -195,6 +207,16 @@ public abstract class BaseCmsOverlayController {
         || Facility.OtherService.isRecognizedServiceId(serviceId);
   }
 
+  /**
+   * Save the facility, discarding any cached search results that may have included it, and record
+   * the change for the change feed.
+   */
+  protected void saveFacility(@NonNull FacilityEntity facilityEntity) {
+    facilityRepository.save(facilityEntity);
+    facilityChanges.changed(facilityEntity.id());
+    resultCache.invalidateAll("cms overlay applied to facility");
+  }
+
   @SneakyThrows
   protected void updateCmsOverlayData(
       @NonNull Optional<CmsOverlayEntity> existingCmsOverlayEntity,
@@ -213,7 +235,7 @@ public abstract class BaseCmsOverlayController {
                   CmsOverlayHelper.serializeOperatingStatus(overlay.operatingStatus()))
               .cmsServices(CmsOverlayHelper.serializeDetailedServices(activeServices))
               .overlayServices(
-                  activeServices.parallelStream()
+                  activeServices.stream()
                       .map(dds -> capitalize(dds.serviceInfo().serviceId()))
                       .collect(Collectors.toSet()))
               .healthCareSystem(
@@ -232,7 +254,7 @@ public abstract class BaseCmsOverlayController {
         cmsOverlayEntity.cmsServices(
             CmsOverlayHelper.serializeDetailedServices(toSaveDetailedServices));
         cmsOverlayEntity.overlayServices(
-            toSaveDetailedServices.parallelStream()
+            toSaveDetailedServices.stream()
                 .map(dds -> capitalize(dds.serviceInfo().serviceId()))
                 .collect(Collectors.toSet()));
       }
@@ -242,5 +264,6 @@ public abstract class BaseCmsOverlayController {
       }
     }
     cmsOverlayRepository.save(cmsOverlayEntity);
+    resultCache.invalidateAll("cms overlay updated");
   }
 }
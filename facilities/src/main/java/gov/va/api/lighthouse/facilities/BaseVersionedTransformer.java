@@ -32,6 +32,6 @@ abstract class BaseVersionedTransformer {
   }
 
   protected static boolean containsValueOfName(@NonNull Enum<?>[] values, @NonNull String name) {
-    return Arrays.stream(values).parallel().anyMatch(e -> e.name().equals(name));
+    return Arrays.stream(values).anyMatch(e -> e.name().equals(name));
   }
 }
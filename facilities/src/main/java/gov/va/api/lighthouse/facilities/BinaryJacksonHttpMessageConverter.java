@@ -0,0 +1,76 @@
+package gov.va.api.lighthouse.facilities;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ser.FilterProvider;
+import gov.va.api.lighthouse.facilities.api.v1.Facility;
+import java.io.IOException;
+import lombok.Builder;
+import lombok.NonNull;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractHttpMessageConverter;
+import org.springframework.http.converter.json.MappingJacksonValue;
+
+/**
+ * Reads and writes a binary Jackson encoding (Smile or CBOR) with the same mappers used for JSON,
+ * so the fields are identical and only the encoding differs. Version 1 types use the V1 mapper and
+ * everything else uses the V0 mapper. Strings are left to the other converters, since they hold
+ * responses that were already serialized. Filters on a {@link MappingJacksonValue} are applied as
+ * they are for JSON.
+ */
+final class BinaryJacksonHttpMessageConverter extends AbstractHttpMessageConverter<Object> {
+  private static final String V1_PACKAGE = Facility.class.getPackageName();
+
+  private final JsonFactory factory;
+
+  private final ObjectMapper mapperV0;
+
+  private final ObjectMapper mapperV1;
+
+  @Builder
+  BinaryJacksonHttpMessageConverter(
+      @NonNull MediaType mediaType,
+      @NonNull JsonFactory factory,
+      @NonNull ObjectMapper mapperV0,
+      @NonNull ObjectMapper mapperV1) {
+    super(mediaType);
+    this.factory = factory;
+    this.mapperV0 = mapperV0;
+    this.mapperV1 = mapperV1;
+  }
+
+  private ObjectMapper mapper(Class<?> type) {
+    return type.getPackageName().startsWith(V1_PACKAGE) ? mapperV1 : mapperV0;
+  }
+
+  @Override
+  protected Object readInternal(Class<?> clazz, HttpInputMessage inputMessage)
+      throws IOException {
+    JsonParser parser = factory.createParser(inputMessage.getBody());
+    return mapper(clazz).readValue(parser, clazz);
+  }
+
+  @Override
+  protected boolean supports(Class<?> clazz) {
+    return !CharSequence.class.isAssignableFrom(clazz);
+  }
+
+  @Override
+  protected void writeInternal(Object body, HttpOutputMessage outputMessage) throws IOException {
+    Object value = body;
+    FilterProvider filters = null;
+    if (body instanceof MappingJacksonValue) {
+      value = ((MappingJacksonValue) body).getValue();
+      filters = ((MappingJacksonValue) body).getFilters();
+    }
+    ObjectMapper mapper = mapper(value.getClass());
+    JsonGenerator generator = factory.createGenerator(outputMessage.getBody());
+    generator.setCodec(mapper);
+    mapper.writer(filters).writeValue(generator, value);
+    generator.flush();
+  }
+}
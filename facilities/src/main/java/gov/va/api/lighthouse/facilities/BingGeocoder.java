@@ -0,0 +1,94 @@
+package gov.va.api.lighthouse.facilities;
+
+import static org.apache.commons.lang3.StringUtils.isBlank;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import gov.va.api.lighthouse.facilities.NearbyUtils.Coordinates;
+import gov.va.api.lighthouse.facilities.collector.InsecureRestTemplateProvider;
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import lombok.Builder;
+import lombok.NonNull;
+import lombok.SneakyThrows;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestTemplate;
+import org.springframework.web.util.UriComponentsBuilder;
+
+/** Street level geocoding using the Bing Locations API. */
+@Order(2)
+@Component
+public class BingGeocoder implements Geocoder.Provider {
+  private static final ObjectMapper MAPPER = JacksonCodecs.mapper(JacksonCodecs.Flavor.PLAIN);
+
+  private final RestTemplate restTemplate;
+
+  private final String bingKey;
+
+  private final String bingUrl;
+
+  @Builder
+  BingGeocoder(
+      @Autowired InsecureRestTemplateProvider restTemplateProvider,
+      @Value("${bing.key}") String bingKey,
+      @Value("${bing.url}") String bingUrl) {
+    this.restTemplate = restTemplateProvider.restTemplate();
+    this.bingKey = bingKey;
+    this.bingUrl = bingUrl.endsWith("/") ? bingUrl : bingUrl + "/";
+  }
+
+  @Override
+  @SneakyThrows
+  public Optional<Coordinates> geocode(@NonNull Geocoder.Address address) {
+    String query =
+        address.street() + " " + address.city() + " " + address.state() + " " + address.zip();
+    String bingUriString =
+        UriComponentsBuilder.fromHttpUrl(bingUrl + "REST/v1/Locations")
+            .queryParam("q", query)
+            .queryParam("key", bingKey)
+            .build()
+            .toUriString();
+
+    String body;
+    try {
+      body =
+          restTemplate
+              .exchange(
+                  bingUriString, HttpMethod.GET, new HttpEntity<>(new HttpHeaders()), String.class)
+              .getBody();
+    } catch (Exception ex) {
+      throw new ExceptionsUtilsV0.BingException(ex);
+    }
+    if (isBlank(body)) {
+      throw new ExceptionsUtilsV0.BingException("Empty response");
+    }
+    BingResponse response = MAPPER.readValue(body, BingResponse.class);
+    Optional<List<BigDecimal>> coordinates =
+        response.resourceSets().stream()
+            .flatMap(rs -> rs.resources().stream())
+            .map(BingResponse.Resource::resourcePoint)
+            .filter(Objects::nonNull)
+            .map(BingResponse.Point::coordinates)
+            .filter(c -> c.size() >= 2)
+            .findFirst();
+
+    if (coordinates.isEmpty()) {
+      throw new ExceptionsUtilsV0.BingException(
+          String.format(
+              "Failed to geocode street_address '%s', city '%s', state '%s', zip '%s'",
+              address.street(), address.city(), address.state(), address.zip()));
+    }
+    return Optional.of(
+        Coordinates.builder()
+            .latitude(coordinates.get().get(0))
+            .longitude(coordinates.get().get(1))
+            .build());
+  }
+}
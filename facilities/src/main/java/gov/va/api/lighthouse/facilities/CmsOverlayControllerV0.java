@@ -45,8 +45,12 @@ public class CmsOverlayControllerV0 extends BaseCmsOverlayController {
   @Builder
   CmsOverlayControllerV0(
       @Autowired FacilityRepository facilityRepository,
-      @Autowired CmsOverlayRepository cmsOverlayRepository) {
-    super(facilityRepository, cmsOverlayRepository);
+      @Autowired CmsOverlayRepository cmsOverlayRepository,
+      @Autowired FacilityChanges facilityChanges,
+      @Autowired OverlayEvents overlayEvents,
+      @Autowired CoordinateResultCache resultCache) {
+    super(
+        facilityRepository, cmsOverlayRepository, facilityChanges, overlayEvents, resultCache);
   }
 
   /** Obtain service id for specified service name. */
@@ -81,7 +85,7 @@ public class CmsOverlayControllerV0 extends BaseCmsOverlayController {
                                 cmsOverlayEntity.cmsOperatingStatus()))
                         .detailedServices(
                             CmsOverlayHelper.getDetailedServices(cmsOverlayEntity.cmsServices())
-                                .parallelStream()
+                                .stream()
                                 .filter(ds -> isRecognizedServiceId(ds.serviceInfo().serviceId()))
                                 .collect(Collectors.toList()))
                         .healthCareSystem(
@@ -112,7 +116,7 @@ public class CmsOverlayControllerV0 extends BaseCmsOverlayController {
   private void populateServiceIdAndFilterOutInvalid(@NonNull DatamartCmsOverlay overlay) {
     if (ObjectUtils.isNotEmpty(overlay.detailedServices())) {
       overlay.detailedServices(
-          overlay.detailedServices().parallelStream()
+          overlay.detailedServices().stream()
               // Filter out services with invalid service info blocks
               .filter(dds -> dds.serviceInfo() != null)
               .map(
@@ -149,6 +153,7 @@ public class CmsOverlayControllerV0 extends BaseCmsOverlayController {
     populateServiceIdAndFilterOutInvalid(overlay);
     Optional<CmsOverlayEntity> existingCmsOverlayEntity =
         getExistingOverlayEntity(FacilityEntity.Pk.fromIdString(id));
+    OverlayEvents.Previous previous = OverlayEvents.Previous.of(existingCmsOverlayEntity);
     updateCmsOverlayData(existingCmsOverlayEntity, id, overlay);
     Optional<FacilityEntity> existingFacilityEntity =
         facilityRepository.findById(FacilityEntity.Pk.fromIdString(id));
@@ -157,6 +162,7 @@ public class CmsOverlayControllerV0 extends BaseCmsOverlayController {
       return ResponseEntity.accepted().build();
     } else {
       updateFacilityData(existingFacilityEntity.get(), existingCmsOverlayEntity, id, overlay);
+      overlayEvents.overlaySaved(existingFacilityEntity.get(), previous, overlay);
       return ResponseEntity.ok().build();
     }
   }
@@ -241,7 +247,7 @@ public class CmsOverlayControllerV0 extends BaseCmsOverlayController {
             .detailedServices(
                 toSaveDetailedServices.isEmpty()
                     ? null
-                    : toSaveDetailedServices.parallelStream()
+                    : toSaveDetailedServices.stream()
                         .filter(dds -> dds.active())
                         .filter(
                             dds ->
@@ -291,6 +297,6 @@ public class CmsOverlayControllerV0 extends BaseCmsOverlayController {
       facilityEntity.facility(DATAMART_MAPPER.writeValueAsString(facility));
     }
 
-    facilityRepository.save(facilityEntity);
+    saveFacility(facilityEntity);
   }
 }
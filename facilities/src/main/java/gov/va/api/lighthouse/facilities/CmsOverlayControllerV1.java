@@ -59,9 +59,13 @@ public class CmsOverlayControllerV1 extends BaseCmsOverlayController {
   CmsOverlayControllerV1(
       @Autowired FacilityRepository facilityRepository,
       @Autowired CmsOverlayRepository cmsOverlayRepository,
+      @Autowired FacilityChanges facilityChanges,
+      @Autowired OverlayEvents overlayEvents,
+      @Autowired CoordinateResultCache resultCache,
       @Value("${facilities.url}") String baseUrl,
       @Value("${facilities.base-path}") String basePath) {
-    super(facilityRepository, cmsOverlayRepository);
+    super(
+        facilityRepository, cmsOverlayRepository, facilityChanges, overlayEvents, resultCache);
     linkerUrl = buildLinkerUrlV1(baseUrl, basePath);
   }
 
@@ -141,7 +145,7 @@ public class CmsOverlayControllerV1 extends BaseCmsOverlayController {
                                 cmsOverlayEntity.cmsOperatingStatus()))
                         .detailedServices(
                             CmsOverlayHelper.getDetailedServices(cmsOverlayEntity.cmsServices())
-                                .parallelStream()
+                                .stream()
                                 .filter(ds -> isRecognizedServiceId(ds.serviceInfo().serviceId()))
                                 .collect(Collectors.toList()))
                         .healthCareSystem(
@@ -164,7 +168,7 @@ public class CmsOverlayControllerV1 extends BaseCmsOverlayController {
   private void populateServiceInfoAndFilterOutInvalid(@NonNull CmsOverlay overlay) {
     if (ObjectUtils.isNotEmpty(overlay.detailedServices())) {
       overlay.detailedServices(
-          overlay.detailedServices().parallelStream()
+          overlay.detailedServices().stream()
               // Filter out services with invalid service info blocks
               .filter(ds -> ds.serviceInfo() != null)
               .map(
@@ -204,6 +208,7 @@ public class CmsOverlayControllerV1 extends BaseCmsOverlayController {
             CmsOverlayTransformerV1.toVersionAgnostic(overlay));
     Optional<CmsOverlayEntity> existingCmsOverlayEntity =
         getExistingOverlayEntity(FacilityEntity.Pk.fromIdString(id));
+    OverlayEvents.Previous previous = OverlayEvents.Previous.of(existingCmsOverlayEntity);
     updateCmsOverlayData(existingCmsOverlayEntity, id, datamartCmsOverlay);
     overlay.detailedServices(
         DetailedServiceTransformerV1.toDetailedServices(datamartCmsOverlay.detailedServices()));
@@ -215,6 +220,7 @@ public class CmsOverlayControllerV1 extends BaseCmsOverlayController {
     } else {
       updateFacilityData(
           existingFacilityEntity.get(), existingCmsOverlayEntity, id, datamartCmsOverlay);
+      overlayEvents.overlaySaved(existingFacilityEntity.get(), previous, datamartCmsOverlay);
       return ResponseEntity.ok().build();
     }
   }
@@ -340,7 +346,7 @@ public class CmsOverlayControllerV1 extends BaseCmsOverlayController {
             .detailedServices(
                 toSaveDetailedServices.isEmpty()
                     ? null
-                    : toSaveDetailedServices.parallelStream()
+                    : toSaveDetailedServices.stream()
                         .filter(ds -> ds.active())
                         .filter(
                             ds ->
@@ -418,6 +424,6 @@ public class CmsOverlayControllerV1 extends BaseCmsOverlayController {
       facilityEntity.facility(DATAMART_MAPPER.writeValueAsString(facility));
     }
 
-    facilityRepository.save(facilityEntity);
+    saveFacility(facilityEntity);
   }
 }
@@ -1,7 +1,6 @@
 package gov.va.api.lighthouse.facilities;
 
 import static gov.va.api.lighthouse.facilities.DatamartCmsOverlay.HealthCareSystem;
-import static gov.va.api.lighthouse.facilities.DatamartFacilitiesJacksonConfig.createMapper;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import gov.va.api.lighthouse.facilities.DatamartFacility.OperatingStatus;
@@ -14,7 +13,8 @@ import lombok.experimental.UtilityClass;
 @UtilityClass
 public final class CmsOverlayHelper {
 
-  private static final ObjectMapper DATAMART_MAPPER = createMapper();
+  private static final ObjectMapper DATAMART_MAPPER =
+      JacksonCodecs.mapper(JacksonCodecs.Flavor.DATAMART);
 
   /** Obtain list of detailed services from JSON string. */
   @SneakyThrows
@@ -22,7 +22,7 @@ public final class CmsOverlayHelper {
     return (detailedServices == null)
         ? List.of()
         : List.of(DATAMART_MAPPER.readValue(detailedServices, DatamartDetailedService[].class))
-            .parallelStream()
+            .stream()
             .filter(ds -> ds.serviceInfo() != null)
             .collect(Collectors.toList());
   }
@@ -20,6 +20,7 @@ import gov.va.api.lighthouse.facilities.api.v1.Facility;
 import gov.va.api.lighthouse.facilities.api.v1.Facility.BenefitsService;
 import gov.va.api.lighthouse.facilities.api.v1.Facility.HealthService;
 import gov.va.api.lighthouse.facilities.api.v1.Facility.OtherService;
+import gov.va.api.lighthouse.facilities.api.v1.serializers.FacilityFieldset;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
@@ -96,6 +97,18 @@ final class ControllersV1 {
     return objects.subList(fromIndex, Math.min(fromIndex + perPage, objects.size()));
   }
 
+  /** The requested facility attributes, or null when every attribute is requested. */
+  static FacilityFieldset validateFacilityFieldset(String fields) {
+    if (fields == null) {
+      return null;
+    }
+    try {
+      return FacilityFieldset.parse(fields);
+    } catch (IllegalArgumentException e) {
+      throw new ExceptionsUtils.InvalidParameter(FacilityFieldset.PARAMETER, fields);
+    }
+  }
+
   static FacilityEntity.Type validateFacilityType(String type) {
     FacilityEntity.Type mapped = ENTITY_TYPE_LOOKUP.get(trimToEmpty(type));
     if (mapped == null && isNotBlank(type)) {
@@ -0,0 +1,127 @@
+package gov.va.api.lighthouse.facilities;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import gov.va.api.lighthouse.facilities.api.ServiceType;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.GuavaCacheMetrics;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import lombok.Builder;
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Bounded cache of nearby and lat/long search results. Mobile clients send many requests from
+ * nearly identical coordinates, so coordinates are quantized to a configurable number of decimal
+ * places before becoming part of the key. Results are computed from the exact coordinates of the
+ * request that populated the entry.
+ *
+ * <p>Anything that changes drive time bands, facilities, or CMS overlays must invalidate the cache.
+ * A result loaded while the cache was being invalidated is returned but not kept, since it may
+ * have been computed from the data as it was before the change.
+ */
+@Slf4j
+@Component
+public class CoordinateResultCache implements MeterBinder {
+  private final int coordinatePrecision;
+
+  private final Cache<Key, List<?>> cache;
+
+  /** Incremented by every invalidation, so loads that overlap one can be discarded. */
+  private final AtomicLong generation = new AtomicLong();
+
+  @Builder
+  CoordinateResultCache(
+      @Value("${coordinate-cache.precision:4}") int coordinatePrecision,
+      @Value("${coordinate-cache.maximum-weight:250000}") long maximumWeight,
+      @Value("${coordinate-cache.ttl-minutes:15}") long ttlMinutes) {
+    this.coordinatePrecision = coordinatePrecision;
+    /* Lat/long searches hold every candidate id, so entries are weighed by result size. */
+    this.cache =
+        CacheBuilder.newBuilder()
+            .maximumWeight(maximumWeight)
+            .weigher((Key k, List<?> v) -> v.size() + 1)
+            .expireAfterWrite(ttlMinutes, TimeUnit.MINUTES)
+            .recordStats()
+            .build();
+  }
+
+  @Override
+  public void bindTo(@NonNull MeterRegistry registry) {
+    GuavaCacheMetrics.monitor(registry, cache, "coordinate-results");
+  }
+
+  /**
+   * Return the cached results for the key, or compute, cache, and return them. Exceptions thrown by
+   * the loader are not cached and propagate unwrapped.
+   */
+  @SuppressWarnings("unchecked")
+  <T> List<T> get(@NonNull Key key, @NonNull Supplier<List<T>> loader) {
+    List<T> cached = (List<T>) cache.getIfPresent(key);
+    if (cached != null) {
+      return cached;
+    }
+    long started = generation.get();
+    List<T> loaded = List.copyOf(loader.get());
+    cache.put(key, loaded);
+    if (generation.get() != started) {
+      cache.invalidate(key);
+    }
+    return loaded;
+  }
+
+  /** Discard every cached result. */
+  public void invalidateAll(@NonNull String reason) {
+    log.info("Invalidating {} coordinate results: {}", cache.size(), reason);
+    generation.incrementAndGet();
+    cache.invalidateAll();
+  }
+
+  /** Start a key for the given query with coordinates quantized to the configured precision. */
+  Key.KeyBuilder key(
+      @NonNull String query, @NonNull BigDecimal latitude, @NonNull BigDecimal longitude) {
+    return Key.builder()
+        .query(query)
+        .latitude(quantize(latitude))
+        .longitude(quantize(longitude));
+  }
+
+  private BigDecimal quantize(BigDecimal coordinate) {
+    return coordinate.setScale(coordinatePrecision, RoundingMode.HALF_EVEN);
+  }
+
+  long size() {
+    return cache.size();
+  }
+
+  @lombok.Value
+  @Builder
+  static final class Key {
+    @NonNull String query;
+
+    @NonNull BigDecimal latitude;
+
+    @NonNull BigDecimal longitude;
+
+    Integer driveTime;
+
+    Set<ServiceType> services;
+
+    FacilityEntity.Type type;
+
+    Boolean mobile;
+
+    BigDecimal radius;
+
+    String ids;
+  }
+}
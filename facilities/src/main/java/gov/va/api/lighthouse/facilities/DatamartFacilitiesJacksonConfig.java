@@ -3,7 +3,9 @@ package gov.va.api.lighthouse.facilities;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.module.SimpleModule;
 import gov.va.api.health.autoconfig.configuration.JacksonConfig;
+import gov.va.api.lighthouse.facilities.deserializers.CanonicalStrings;
 import gov.va.api.lighthouse.facilities.deserializers.DatamartServicesDeserializer;
+import io.micrometer.core.instrument.binder.MeterBinder;
 import java.io.InputStream;
 import lombok.SneakyThrows;
 import org.springframework.context.annotation.Bean;
@@ -11,22 +13,11 @@ import org.springframework.context.annotation.Configuration;
 
 @Configuration
 public class DatamartFacilitiesJacksonConfig {
-  public static ObjectMapper createMapper() {
-    return new DatamartFacilitiesJacksonConfig().datamartMapper();
-  }
-
-  /** Mask away checked exception so this Jackson can be used in streams. */
-  @SneakyThrows
-  static <T> T quietlyMap(ObjectMapper mapper, InputStream json, Class<T> type) {
-    return mapper.readValue(json, type);
-  }
-
   /**
-   * Method used to obtain datamart object mapper with registered modules for custom serializers and
-   * deserializers.
+   * Build a new datamart mapper with registered modules for custom serializers and deserializers.
+   * Most code should use the shared one from {@link JacksonCodecs}.
    */
-  @Bean
-  public ObjectMapper datamartMapper() {
+  public static ObjectMapper createMapper() {
     final ObjectMapper mapper = JacksonConfig.createMapper();
     // Register module for serializers
     mapper.registerModule(DatamartJacksonSerializers.datamartSerializers());
@@ -34,7 +25,26 @@ public class DatamartFacilitiesJacksonConfig {
     final SimpleModule deserializerModule = new SimpleModule();
     deserializerModule.addDeserializer(
         DatamartFacility.Services.class, new DatamartServicesDeserializer());
+    deserializerModule.addDeserializer(String.class, CanonicalStrings.deserializer());
     mapper.registerModule(deserializerModule);
     return mapper;
   }
+
+  /** Mask away checked exception so this Jackson can be used in streams. */
+  @SneakyThrows
+  static <T> T quietlyMap(ObjectMapper mapper, InputStream json, Class<T> type) {
+    return mapper.readValue(json, type);
+  }
+
+  /** Memory saved by sharing canonical strings among the facility payloads that were read. */
+  @Bean
+  MeterBinder canonicalStringMetrics() {
+    return CanonicalStrings::bindTo;
+  }
+
+  /** The shared datamart object mapper. */
+  @Bean
+  public ObjectMapper datamartMapper() {
+    return JacksonCodecs.mapper(JacksonCodecs.Flavor.DATAMART);
+  }
 }
@@ -17,9 +17,13 @@ import gov.va.api.lighthouse.facilities.api.TypedService;
 import gov.va.api.lighthouse.facilities.deserializers.DatamartServicesDeserializer;
 import java.math.BigDecimal;
 import java.time.LocalDate;
-import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Function;
 import javax.validation.Valid;
 import javax.validation.constraints.NotNull;
 import javax.validation.constraints.Size;
@@ -43,6 +47,19 @@ public class DatamartFacility {
 
   @Valid @NotNull FacilityAttributes attributes;
 
+  /**
+   * Index services by key, together with any alternate keys they are known by, so that services can
+   * be looked up without scanning every value.
+   */
+  private static <T extends TypedService> Map<String, T> catalog(
+      T[] services, Function<T, String> key, Map<String, T> aliases) {
+    Map<String, T> catalog = new HashMap<>(aliases);
+    for (T service : services) {
+      catalog.put(key.apply(service), service);
+    }
+    return Collections.unmodifiableMap(catalog);
+  }
+
   public enum ActiveStatus {
     A,
     T
@@ -69,18 +86,28 @@ public class DatamartFacility {
     VocationalRehabilitationAndEmploymentAssistance(
         "vocationalRehabilitationAndEmploymentAssistance");
 
+    private static final Map<String, BenefitsService> BY_NAME =
+        catalog(values(), bs -> bs.name().toLowerCase(Locale.ENGLISH), Map.of());
+
+    private static final Map<String, BenefitsService> BY_SERVICE_ID =
+        catalog(values(), BenefitsService::serviceId, Map.of());
+
     private final String serviceId;
 
     BenefitsService(@NotNull String serviceId) {
       this.serviceId = serviceId;
     }
 
+    /** Obtain service for name regardless of capitalization. */
+    public static Optional<BenefitsService> fromName(String name) {
+      return name == null
+          ? Optional.empty()
+          : Optional.ofNullable(BY_NAME.get(name.toLowerCase(Locale.ENGLISH)));
+    }
+
     /** Obtain service for unique service id. */
     public static Optional<BenefitsService> fromServiceId(String serviceId) {
-      return Arrays.stream(values())
-          .parallel()
-          .filter(bs -> bs.serviceId().equals(serviceId))
-          .findFirst();
+      return Optional.ofNullable(BY_SERVICE_ID.get(serviceId));
     }
 
     /** Ensure that Jackson can create BenefitsService enum regardless of capitalization. */
@@ -93,14 +120,12 @@ public class DatamartFacility {
 
     /** Determine whether specified service name represents benefits service. */
     public static boolean isRecognizedServiceEnum(String serviceName) {
-      return Arrays.stream(values())
-          .parallel()
-          .anyMatch(bs -> bs.name().equalsIgnoreCase(serviceName));
+      return serviceName != null && BY_NAME.containsKey(serviceName.toLowerCase(Locale.ENGLISH));
     }
 
     /** Determine whether specified service id represents benefits service. */
     public static boolean isRecognizedServiceId(String serviceId) {
-      return Arrays.stream(values()).parallel().anyMatch(bs -> bs.serviceId().equals(serviceId));
+      return BY_SERVICE_ID.containsKey(serviceId);
     }
 
     @Override
@@ -325,22 +350,37 @@ public class DatamartFacility {
     @JsonProperty("wound")
     Wound("wound");
 
+    private static final Map<String, HealthService> BY_NAME =
+        catalog(
+            values(),
+            hs -> hs.name().toLowerCase(Locale.ENGLISH),
+            Map.of("dentalservices", Dental, "mentalhealthcare", MentalHealth));
+
+    private static final Map<String, HealthService> BY_SERVICE_ID =
+        catalog(
+            values(),
+            HealthService::serviceId,
+            Map.of("dentalServices", Dental, "mentalHealthCare", MentalHealth));
+
     private final String serviceId;
 
     HealthService(@NotNull String serviceId) {
       this.serviceId = serviceId;
     }
 
+    /** Obtain service for name regardless of capitalization. */
+    public static Optional<HealthService> fromName(String name) {
+      if (CMS_OVERLAY_SERVICE_NAME_COVID_19.equalsIgnoreCase(name)) {
+        return Optional.of(Covid19Vaccine);
+      }
+      return name == null
+          ? Optional.empty()
+          : Optional.ofNullable(BY_NAME.get(name.toLowerCase(Locale.ENGLISH)));
+    }
+
     /** Obtain service for unique service id. */
     public static Optional<HealthService> fromServiceId(String serviceId) {
-      return "dentalServices".equals(serviceId)
-          ? Optional.of(Dental)
-          : "mentalHealthCare".equals(serviceId)
-              ? Optional.of(MentalHealth)
-              : Arrays.stream(values())
-                  .parallel()
-                  .filter(hs -> hs.serviceId().equals(serviceId))
-                  .findFirst();
+      return Optional.ofNullable(BY_SERVICE_ID.get(serviceId));
     }
 
     /** Ensure that Jackson can create HealthService enum regardless of capitalization. */
@@ -369,18 +409,12 @@ public class DatamartFacility {
 
     /** Determine whether specified service name represents health service. */
     public static boolean isRecognizedServiceEnum(String serviceName) {
-      return "DentalServices".equalsIgnoreCase(serviceName)
-          || "MentalHealthCare".equalsIgnoreCase(serviceName)
-          || Arrays.stream(values())
-              .parallel()
-              .anyMatch(hs -> hs.name().equalsIgnoreCase(serviceName));
+      return serviceName != null && BY_NAME.containsKey(serviceName.toLowerCase(Locale.ENGLISH));
     }
 
     /** Determine whether specified service id represents health service. */
     public static boolean isRecognizedServiceId(String serviceId) {
-      return "dentalServices".equals(serviceId)
-          || "mentalHealthCare".equals(serviceId)
-          || Arrays.stream(values()).parallel().anyMatch(hs -> hs.serviceId().equals(serviceId));
+      return BY_SERVICE_ID.containsKey(serviceId);
     }
 
     @Override
@@ -397,18 +431,28 @@ public class DatamartFacility {
   public enum OtherService implements TypedService {
     OnlineScheduling("onlineScheduling");
 
+    private static final Map<String, OtherService> BY_NAME =
+        catalog(values(), os -> os.name().toLowerCase(Locale.ENGLISH), Map.of());
+
+    private static final Map<String, OtherService> BY_SERVICE_ID =
+        catalog(values(), OtherService::serviceId, Map.of());
+
     private final String serviceId;
 
     OtherService(@NotNull String serviceId) {
       this.serviceId = serviceId;
     }
 
+    /** Obtain service for name regardless of capitalization. */
+    public static Optional<OtherService> fromName(String name) {
+      return name == null
+          ? Optional.empty()
+          : Optional.ofNullable(BY_NAME.get(name.toLowerCase(Locale.ENGLISH)));
+    }
+
     /** Obtain service for unique service id. */
     public static Optional<OtherService> fromServiceId(String serviceId) {
-      return Arrays.stream(values())
-          .parallel()
-          .filter(os -> os.serviceId().equals(serviceId))
-          .findFirst();
+      return Optional.ofNullable(BY_SERVICE_ID.get(serviceId));
     }
 
     /** Ensure that Jackson can create OtherService enum regardless of capitalization. */
@@ -419,14 +463,12 @@ public class DatamartFacility {
 
     /** Determine whether specified service name represents other service. */
     public static boolean isRecognizedServiceEnum(String serviceName) {
-      return Arrays.stream(values())
-          .parallel()
-          .anyMatch(os -> os.name().equalsIgnoreCase(serviceName));
+      return serviceName != null && BY_NAME.containsKey(serviceName.toLowerCase(Locale.ENGLISH));
     }
 
     /** Determine whether specified service id represents other service. */
     public static boolean isRecognizedServiceId(String serviceId) {
-      return Arrays.stream(values()).parallel().anyMatch(os -> os.serviceId().equals(serviceId));
+      return BY_SERVICE_ID.containsKey(serviceId);
     }
 
     @Override
@@ -0,0 +1,162 @@
+package gov.va.api.lighthouse.facilities;
+
+import static java.util.stream.Collectors.toList;
+
+import com.google.common.base.Stopwatch;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import lombok.Builder;
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * In-memory registry of drive time band metadata (everything except the band geometry) for the
+ * active band version. Nearby responses report their band version from here instead of querying
+ * for it. The registry is loaded at startup, reloaded when a band version is activated, and
+ * periodically reloaded. Activations on other instances are picked up by polling the
+ * active-version pointer row, so they are seen within the version check interval. When a reload
+ * finds different bands, cached nearby results are discarded.
+ */
+@Slf4j
+@Component
+public class DriveTimeBandMetadata {
+  private final DriveTimeBandRepository repository;
+
+  private final StagedDriveTimeBandRepository stagedRepository;
+
+  private final DriveTimeBandVersionRepository versionRepository;
+
+  private final CoordinateResultCache resultCache;
+
+  private final AtomicReference<Snapshot> snapshot = new AtomicReference<>();
+
+  @Builder
+  DriveTimeBandMetadata(
+      @Autowired DriveTimeBandRepository repository,
+      @Autowired StagedDriveTimeBandRepository stagedRepository,
+      @Autowired DriveTimeBandVersionRepository versionRepository,
+      @Autowired CoordinateResultCache resultCache) {
+    this.repository = repository;
+    this.stagedRepository = stagedRepository;
+    this.versionRepository = versionRepository;
+    this.resultCache = resultCache;
+  }
+
+  /**
+   * The version to report for a nearby response: the month_year of the first band, or the oldest
+   * version if there are no bands.
+   */
+  String bandVersion(@NonNull List<DriveTimeBandEntity.Pk> bandIds) {
+    Snapshot current = snapshot();
+    String monthYear;
+    if (!bandIds.isEmpty() && current.bands().containsKey(bandIds.get(0))) {
+      monthYear = current.bands().get(bandIds.get(0)).monthYear();
+    } else {
+      monthYear = current.versions().isEmpty() ? null : current.versions().get(0);
+    }
+    return monthYear == null ? "Unknown" : monthYear;
+  }
+
+  /** Distinct month_year values of the active bands, in order. */
+  List<String> bandVersions() {
+    return snapshot().versions();
+  }
+
+  /** Reload if the active-version pointer moved since the metadata was loaded. */
+  @Scheduled(fixedDelayString = "${drive-time-band-metadata.version-check-millis:10000}")
+  public void checkVersion() {
+    Integer pointer =
+        versionRepository
+            .findById(DriveTimeBandVersionEntity.ACTIVE)
+            .map(DriveTimeBandVersionEntity::version)
+            .orElse(null);
+    if (!Objects.equals(pointer, snapshot().pointer())) {
+      log.info("Drive time band version pointer moved, reloading metadata");
+      refresh();
+    }
+  }
+
+  Optional<BandMetadata> find(@NonNull DriveTimeBandEntity.Pk id) {
+    return Optional.ofNullable(snapshot().bands().get(id));
+  }
+
+  List<DriveTimeBandEntity.Pk> ids() {
+    return List.copyOf(snapshot().bands().keySet());
+  }
+
+  private Snapshot load() {
+    Stopwatch timer = Stopwatch.createStarted();
+    Map<DriveTimeBandEntity.Pk, BandMetadata> bands = new LinkedHashMap<>();
+    Optional<DriveTimeBandVersionEntity> active =
+        versionRepository.findById(DriveTimeBandVersionEntity.ACTIVE);
+    if (active.isPresent()) {
+      for (BandMetadata band : stagedRepository.findMetadataByMonthYear(active.get().monthYear())) {
+        bands.put(band.id(), band);
+      }
+    } else {
+      for (BandMetadata band : repository.findAllMetadata()) {
+        bands.put(band.id(), band);
+      }
+    }
+    List<String> versions =
+        bands.values().stream()
+            .map(BandMetadata::monthYear)
+            .filter(Objects::nonNull)
+            .distinct()
+            .sorted()
+            .collect(toList());
+    log.info(
+        "Loaded metadata for {} drive time bands ({}) in {} ms",
+        bands.size(),
+        versions,
+        timer.elapsed(TimeUnit.MILLISECONDS));
+    return new Snapshot(
+        Map.copyOf(bands),
+        List.copyOf(versions),
+        active.map(DriveTimeBandVersionEntity::version).orElse(null));
+  }
+
+  @EventListener(ApplicationReadyEvent.class)
+  void onApplicationReady() {
+    refresh();
+  }
+
+  /** Reload metadata for all bands. */
+  @Scheduled(cron = "${drive-time-band-metadata.refresh-cron:0 */5 * * * *}")
+  public void refresh() {
+    Snapshot fresh = load();
+    Snapshot previous = snapshot.getAndSet(fresh);
+    if (previous != null && !previous.equals(fresh)) {
+      resultCache.invalidateAll("drive time band metadata changed");
+    }
+  }
+
+  private Snapshot snapshot() {
+    Snapshot current = snapshot.get();
+    if (current == null) {
+      snapshot.compareAndSet(null, load());
+      current = snapshot.get();
+    }
+    return current;
+  }
+
+  @lombok.Value
+  private static final class Snapshot {
+    Map<DriveTimeBandEntity.Pk, BandMetadata> bands;
+
+    List<String> versions;
+
+    /** Version of the active-version pointer row, null if no version has been activated. */
+    Integer pointer;
+  }
+}
@@ -6,6 +6,7 @@ import java.util.ArrayList;
 import java.util.List;
 import javax.persistence.criteria.CriteriaBuilder;
 import javax.persistence.criteria.CriteriaQuery;
+import javax.persistence.criteria.Path;
 import javax.persistence.criteria.Predicate;
 import javax.persistence.criteria.Root;
 import lombok.Builder;
@@ -26,6 +27,13 @@ public interface DriveTimeBandRepository
   @Query("select e.id from #{#entityName} e")
   List<DriveTimeBandEntity.Pk> findAllIds();
 
+  @Query(
+      "select new gov.va.api.lighthouse.facilities.BandMetadata(e.id.stationNumber,"
+          + " e.id.fromMinutes, e.id.toMinutes, e.minLatitude, e.minLongitude, e.maxLatitude,"
+          + " e.maxLongitude, e.monthYear, e.version) from #{#entityName} e")
+  List<BandMetadata> findAllMetadata();
+
+
   @Query("select min(e.monthYear) from #{#entityName} e")
   String getDefaultBandVersion();
 
@@ -38,11 +46,8 @@ public interface DriveTimeBandRepository
 
     Integer maxDriveTime;
 
-    @Override
-    public Predicate toPredicate(
-        Root<DriveTimeBandEntity> root,
-        CriteriaQuery<?> criteriaQuery,
-        CriteriaBuilder criteriaBuilder) {
+    /** Bounds predicates for a band entity, live or staged. */
+    Predicate toPredicate(Path<?> root, CriteriaBuilder criteriaBuilder) {
       List<Predicate> predicates = new ArrayList<>(5);
       predicates.add(criteriaBuilder.lessThanOrEqualTo(root.get("minLongitude"), longitude));
       predicates.add(criteriaBuilder.greaterThanOrEqualTo(root.get("maxLongitude"), longitude));
@@ -54,5 +59,13 @@ public interface DriveTimeBandRepository
       }
       return criteriaBuilder.and(predicates.toArray(new Predicate[0]));
     }
+
+    @Override
+    public Predicate toPredicate(
+        Root<DriveTimeBandEntity> root,
+        CriteriaQuery<?> criteriaQuery,
+        CriteriaBuilder criteriaBuilder) {
+      return toPredicate(root, criteriaBuilder);
+    }
   }
 }
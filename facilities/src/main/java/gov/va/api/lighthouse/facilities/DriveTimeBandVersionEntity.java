@@ -0,0 +1,39 @@
+package gov.va.api.lighthouse.facilities;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Table;
+import javax.persistence.Version;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
+
+/**
+ * Points at the staged drive time band version used by nearby queries. Activating a version, or
+ * rolling back to a previous one, only moves this pointer; the staged bands are never copied.
+ */
+@Data
+@Entity
+@Builder
+@Table(name = "drive_time_band_version", schema = "app")
+@NoArgsConstructor(access = AccessLevel.PUBLIC)
+@EqualsAndHashCode(onlyExplicitlyIncluded = true)
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class DriveTimeBandVersionEntity {
+  /** The name of the pointer row for the active version. */
+  static final String ACTIVE = "active";
+
+  @Id @EqualsAndHashCode.Include private String name;
+
+  @Column(name = "month_year", nullable = false)
+  private String monthYear;
+
+  @Column(name = "activated", nullable = false)
+  private long activated;
+
+  @Version private Integer version;
+}
@@ -0,0 +1,8 @@
+package gov.va.api.lighthouse.facilities;
+
+import gov.va.api.health.autoconfig.logging.Loggable;
+import org.springframework.data.repository.CrudRepository;
+
+@Loggable
+public interface DriveTimeBandVersionRepository
+    extends CrudRepository<DriveTimeBandVersionEntity, String> {}
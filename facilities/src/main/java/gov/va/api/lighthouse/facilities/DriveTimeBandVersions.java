@@ -0,0 +1,198 @@
+package gov.va.api.lighthouse.facilities;
+
+import static java.util.stream.Collectors.toList;
+import static java.util.stream.Collectors.toSet;
+
+import gov.va.api.lighthouse.facilities.api.pssg.BandVersionActivationResponse;
+import gov.va.api.lighthouse.facilities.api.pssg.PathEncoder;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import lombok.Builder;
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Activates staged drive time band versions. Activation validates the staged version and then moves
+ * the active-version pointer to it, so nearby queries see either the old version or the new one,
+ * never a mix, and rolling back is the same pointer update. Until a version is first activated,
+ * nearby queries use the legacy live band table. The legacy bands are staged under their own
+ * month_year by the first activation so that they can be rolled back to. If the live table mixes
+ * bands from several months, each month is staged separately, so rolling back to one of them
+ * restores only the bands of that month rather than the mixed set that was being served.
+ *
+ * <p>Other instances see an activation when {@link DriveTimeBandMetadata#checkVersion()} next
+ * polls the pointer row.
+ */
+@Slf4j
+@Component
+public class DriveTimeBandVersions {
+  private final DriveTimeBandRepository liveRepository;
+
+  private final StagedDriveTimeBandRepository stagedRepository;
+
+  private final DriveTimeBandVersionRepository versionRepository;
+
+  /** The pointer row is never deleted, so once it has been seen it need not be checked again. */
+  private volatile boolean activated;
+
+  @Builder
+  DriveTimeBandVersions(
+      @Autowired DriveTimeBandRepository liveRepository,
+      @Autowired StagedDriveTimeBandRepository stagedRepository,
+      @Autowired DriveTimeBandVersionRepository versionRepository) {
+    this.liveRepository = liveRepository;
+    this.stagedRepository = stagedRepository;
+    this.versionRepository = versionRepository;
+  }
+
+  private static boolean isValid(StagedDriveTimeBandEntity band) {
+    if (band.minLatitude() > band.maxLatitude() || band.minLongitude() > band.maxLongitude()) {
+      return false;
+    }
+    try {
+      PathEncoder.create().decodeFromBase64(band.band());
+      return true;
+    } catch (RuntimeException e) {
+      return false;
+    }
+  }
+
+  /**
+   * Point nearby queries at the given staged version. Neither the staged nor the live bands are
+   * rewritten.
+   */
+  @Transactional
+  public BandVersionActivationResponse activate(@NonNull String monthYear) {
+    List<StagedDriveTimeBandEntity> staged = stagedRepository.findByIdMonthYear(monthYear);
+    if (staged.isEmpty()) {
+      throw new ExceptionsUtils.NotFound(monthYear);
+    }
+    validate(monthYear, staged);
+    Optional<DriveTimeBandVersionEntity> pointer =
+        versionRepository.findById(DriveTimeBandVersionEntity.ACTIVE);
+    List<String> previousVersions;
+    Set<DriveTimeBandEntity.Pk> previousIds;
+    if (pointer.isPresent()) {
+      previousVersions = List.of(pointer.get().monthYear());
+      previousIds = stagedBandIds(pointer.get().monthYear());
+    } else {
+      previousVersions = liveRepository.findAllBandVersions();
+      previousIds = Set.copyOf(liveRepository.findAllIds());
+      stageLiveBands(monthYear);
+    }
+    DriveTimeBandVersionEntity active =
+        pointer.orElse(
+            DriveTimeBandVersionEntity.builder().name(DriveTimeBandVersionEntity.ACTIVE).build());
+    active.monthYear(monthYear);
+    active.activated(System.currentTimeMillis());
+    versionRepository.save(active);
+    Set<DriveTimeBandEntity.Pk> ids = staged.stream().map(s -> s.id().bandId()).collect(toSet());
+    int updated = (int) ids.stream().filter(previousIds::contains).count();
+    int removed = (int) previousIds.stream().filter(id -> !ids.contains(id)).count();
+    log.info(
+        "Activated drive time band version {} ({} created, {} updated, {} removed)",
+        monthYear,
+        ids.size() - updated,
+        updated,
+        removed);
+    return BandVersionActivationResponse.builder()
+        .activatedVersion(monthYear)
+        .previousVersions(
+            previousVersions.stream()
+                .filter(Objects::nonNull)
+                .filter(v -> !v.equals(monthYear))
+                .collect(toList()))
+        .bandsCreated(ids.size() - updated)
+        .bandsUpdated(updated)
+        .bandsRemoved(removed)
+        .build();
+  }
+
+  /** The month_year nearby queries are using, if a version has been activated. */
+  Optional<String> active() {
+    return versionRepository
+        .findById(DriveTimeBandVersionEntity.ACTIVE)
+        .map(DriveTimeBandVersionEntity::monthYear);
+  }
+
+  /** Discard a staged version. The version currently being served cannot be discarded. */
+  @Transactional
+  public long discard(@NonNull String monthYear) {
+    List<String> served = active().map(List::of).orElseGet(liveRepository::findAllBandVersions);
+    if (served.contains(monthYear)) {
+      throw new ExceptionsUtils.InvalidParameter("month_year", monthYear);
+    }
+    return stagedRepository.deleteByIdMonthYear(monthYear);
+  }
+
+  /** Bands of the active version that contain the coordinate. */
+  List<DriveTimeBandEntity> findAll(@NonNull DriveTimeBandRepository.MinMaxSpecification bounds) {
+    if (!isActivated()) {
+      return liveRepository.findAll(bounds);
+    }
+    var spec = StagedDriveTimeBandRepository.ActiveVersionSpecification.builder().bounds(bounds);
+    return stagedRepository.findAll(spec.build()).stream()
+        .map(StagedDriveTimeBandEntity::asBand)
+        .collect(toList());
+  }
+
+  /** A band of the active version. */
+  Optional<DriveTimeBandEntity> findById(@NonNull DriveTimeBandEntity.Pk id) {
+    Optional<String> monthYear = active();
+    if (monthYear.isEmpty()) {
+      return liveRepository.findById(id);
+    }
+    return stagedRepository
+        .findById(StagedDriveTimeBandEntity.Pk.of(id, monthYear.get()))
+        .map(StagedDriveTimeBandEntity::asBand);
+  }
+
+  private boolean isActivated() {
+    if (!activated) {
+      activated = versionRepository.existsById(DriveTimeBandVersionEntity.ACTIVE);
+    }
+    return activated;
+  }
+
+  /**
+   * Stage the legacy live bands under their own month_year, if they are not already. A mixed set of
+   * months is split by month; see the class comment.
+   */
+  private void stageLiveBands(String monthYear) {
+    Set<String> alreadyStaged = Set.copyOf(stagedRepository.findAllStagedVersions());
+    List<StagedDriveTimeBandEntity> archive = new ArrayList<>();
+    for (DriveTimeBandEntity e : liveRepository.findAll()) {
+      if (e.monthYear() != null && !alreadyStaged.contains(e.monthYear())) {
+        archive.add(StagedDriveTimeBandEntity.copyOf(e));
+      }
+    }
+    if (!archive.isEmpty()) {
+      log.info("Staging {} live bands before activating {}", archive.size(), monthYear);
+      stagedRepository.saveAll(archive);
+    }
+  }
+
+  private Set<DriveTimeBandEntity.Pk> stagedBandIds(String monthYear) {
+    return stagedRepository.findIdsByMonthYear(monthYear).stream()
+        .map(StagedDriveTimeBandEntity.Pk::bandId)
+        .collect(toSet());
+  }
+
+  private void validate(String monthYear, List<StagedDriveTimeBandEntity> staged) {
+    List<String> invalid =
+        staged.stream()
+            .filter(b -> !isValid(b))
+            .map(b -> b.id().bandId().name())
+            .collect(toList());
+    if (!invalid.isEmpty()) {
+      log.error("Refusing to activate {}, invalid bands: {}", monthYear, invalid);
+      throw new ExceptionsUtils.InvalidParameter("month_year", monthYear);
+    }
+  }
+}
@@ -1,9 +1,19 @@
 package gov.va.api.lighthouse.facilities;
 
+import java.time.Instant;
 import lombok.experimental.UtilityClass;
 
 @UtilityClass
 final class ExceptionsUtils {
+  static final class ChangeTokenExpired extends RuntimeException {
+    ChangeTokenExpired(String token) {
+      super(
+          String.format(
+              "Changes since %s are no longer available, start again from the bulk download",
+              token));
+    }
+  }
+
   static final class InvalidParameter extends RuntimeException {
     InvalidParameter(String name, Object value) {
       super(String.format("'%s' is not a valid value for '%s'", value, name));
@@ -26,4 +36,13 @@ final class ExceptionsUtils {
       super(String.format("The record identified by %s could not be found", id), cause);
     }
   }
+
+  static final class ReloadInProgress extends RuntimeException {
+    ReloadInProgress(String owner, Instant expires) {
+      super(
+          expires == null
+              ? String.format("Reload already running on %s", owner)
+              : String.format("Reload already running on %s until at least %s", owner, expires));
+    }
+  }
 }
@@ -5,7 +5,6 @@ import static gov.va.api.lighthouse.facilities.ControllersV0.convertToDatamartSe
 import static gov.va.api.lighthouse.facilities.ControllersV0.page;
 import static gov.va.api.lighthouse.facilities.ControllersV0.validateFacilityType;
 import static gov.va.api.lighthouse.facilities.ControllersV0.validateServices;
-import static gov.va.api.lighthouse.facilities.FacilitiesJacksonConfigV0.createMapper;
 import static gov.va.api.lighthouse.facilities.FacilityUtils.distance;
 import static gov.va.api.lighthouse.facilities.FacilityUtils.entityIds;
 import static gov.va.api.lighthouse.facilities.FacilityUtils.haversine;
@@ -39,6 +38,7 @@ import lombok.SneakyThrows;
 import org.apache.commons.csv.CSVFormat;
 import org.apache.commons.csv.CSVPrinter;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
@@ -53,20 +53,28 @@ import org.springframework.web.bind.annotation.RestController;
 @RestController
 @RequestMapping(value = "/v0")
 public class FacilitiesControllerV0 {
-  private static final ObjectMapper MAPPER_V0 = createMapper();
+  private static final ObjectMapper MAPPER_V0 = JacksonCodecs.mapper(JacksonCodecs.Flavor.V0);
 
   private static final FacilityOverlayV0 FACILITY_OVERLAY = FacilityOverlayV0.builder().build();
 
   private final FacilityRepository facilityRepository;
 
+  private final CoordinateResultCache resultCache;
+
+  private final RequestExecutor bulkSerializationExecutor;
+
   private final String linkerUrl;
 
   @Builder
   FacilitiesControllerV0(
       @Autowired FacilityRepository facilityRepository,
+      @Autowired CoordinateResultCache resultCache,
+      @Autowired @Qualifier("bulkSerializationExecutor") RequestExecutor bulkSerializationExecutor,
       @Value("${facilities.url}") String baseUrl,
       @Value("${facilities.base-path}") String basePath) {
     this.facilityRepository = facilityRepository;
+    this.resultCache = resultCache;
+    this.bulkSerializationExecutor = bulkSerializationExecutor;
     linkerUrl = buildLinkerUrlV0(baseUrl, basePath);
   }
 
@@ -89,27 +97,40 @@ public class FacilitiesControllerV0 {
     sb.append("{\"type\":\"FeatureCollection\",\"features\":[");
     List<HasFacilityPayload> all = facilityRepository.findAllProjectedBy();
     if (!all.isEmpty()) {
-      all.parallelStream()
+      bulkSerializationExecutor
           .map(
+              all,
               e ->
                   FacilitiesJacksonConfigV0.quietlyWriteValueAsString(
                       MAPPER_V0, geoFacility(facility(e))))
-          .forEachOrdered(g -> sb.append(g).append(","));
+          .forEach(g -> sb.append(g).append(","));
       sb.deleteCharAt(sb.length() - 1);
     }
     sb.append("]}");
     return sb.toString();
   }
 
+  /** Get all facilities in a binary encoding. */
+  @GetMapping(
+      value = "/facilities/all",
+      produces = {"application/x-jackson-smile", "application/cbor"})
+  GeoFacilitiesResponse allBinary() {
+    return GeoFacilitiesResponse.builder()
+        .type(GeoFacilitiesResponse.Type.FeatureCollection)
+        .features(
+            bulkSerializationExecutor.map(
+                facilityRepository.findAllProjectedBy(), e -> geoFacility(facility(e))))
+        .build();
+  }
+
   /** Get all facilities as CSV. */
   @SneakyThrows
   @GetMapping(value = "/facilities/all", produces = "text/csv")
   String allCsv() {
     List<List<String>> rows =
-        facilityRepository.findAllProjectedBy().stream()
-            .parallel()
-            .map(e -> CsvTransformerV0.builder().facility(facility(e)).build().toRow())
-            .collect(toList());
+        bulkSerializationExecutor.map(
+            facilityRepository.findAllProjectedBy(),
+            e -> CsvTransformerV0.builder().facility(facility(e)).build().toRow());
     StringBuilder sb = new StringBuilder();
     try (CSVPrinter printer =
         CSVFormat.DEFAULT
@@ -122,78 +143,44 @@ public class FacilitiesControllerV0 {
     }
   }
 
-  private List<FacilityEntity> entitiesByBoundingBox(
-      List<BigDecimal> bbox, String rawType, List<String> rawServices, Boolean rawMobile) {
-    if (bbox.size() != 4) {
-      throw new ExceptionsUtils.InvalidParameter("bbox", bbox);
-    }
-    FacilityEntity.Type facilityType = validateFacilityType(rawType);
-    Set<ServiceType> datamartServices = convertToDatamartServices(validateServices(rawServices));
-
-    // lng lat lng lat
-    List<FacilityEntity> allEntities =
-        facilityRepository.findAll(
-            FacilityRepository.BoundingBoxSpecification.builder()
-                .minLongitude(bbox.get(0).min(bbox.get(2)))
-                .maxLongitude(bbox.get(0).max(bbox.get(2)))
-                .minLatitude(bbox.get(1).min(bbox.get(3)))
-                .maxLatitude(bbox.get(1).max(bbox.get(3)))
-                .facilityType(facilityType)
-                .services(datamartServices)
-                .mobile(rawMobile)
-                .build());
-    double centerLng = (bbox.get(0).doubleValue() + bbox.get(2).doubleValue()) / 2;
-    double centerLat = (bbox.get(1).doubleValue() + bbox.get(3).doubleValue()) / 2;
-    return allEntities.stream()
-        .sorted(
-            (left, right) ->
-                Double.compare(
-                    distance(left, centerLng, centerLat), distance(right, centerLng, centerLat)))
+  /**
+   * Load the page of facilities identified by the given IDs, preserving order. Distances are
+   * calculated from the exact requested coordinates.
+   */
+  private List<DistanceEntity> distanceEntities(
+      List<FacilityEntity.Pk> pks, BigDecimal longitude, BigDecimal latitude) {
+    double lng = longitude.doubleValue();
+    double lat = latitude.doubleValue();
+    return entitiesInOrder(pks).stream()
+        .map(
+            e ->
+                DistanceEntity.builder()
+                    .entity(e)
+                    .distance(BigDecimal.valueOf(haversine(e, lng, lat)))
+                    .build())
         .collect(toList());
   }
 
   private List<FacilityEntity> entitiesByIds(String ids) {
-    List<FacilityEntity.Pk> pks = entityIds(ids);
+    return entitiesInOrder(entityIds(ids));
+  }
+
+  /** Load the facilities identified by the given IDs, preserving order. */
+  private List<FacilityEntity> entitiesInOrder(List<FacilityEntity.Pk> pks) {
+    if (pks.isEmpty()) {
+      return emptyList();
+    }
     Map<FacilityEntity.Pk, FacilityEntity> entities =
         facilityRepository.findByIdIn(pks).stream()
             .collect(toMap(e -> e.id(), Function.identity()));
     return pks.stream().map(pk -> entities.get(pk)).filter(Objects::nonNull).collect(toList());
   }
 
-  @SneakyThrows
-  private List<DistanceEntity> entitiesByLatLong(
-      BigDecimal longitude,
-      BigDecimal latitude,
-      Optional<BigDecimal> radius,
-      String ids,
-      String rawType,
-      List<String> rawServices,
-      Boolean rawMobile) {
-    FacilityEntity.Type facilityType = validateFacilityType(rawType);
-    Set<ServiceType> datamartServices = convertToDatamartServices(validateServices(rawServices));
-    List<FacilityEntity> entities =
-        facilityRepository.findAll(
-            FacilityRepository.TypeServicesIdsSpecification.builder()
-                .ids(entityIds(ids))
-                .facilityType(facilityType)
-                .services(datamartServices)
-                .mobile(rawMobile)
-                .build());
-    double lng = longitude.doubleValue();
-    double lat = latitude.doubleValue();
-    return entities.stream()
-        .map(
-            e ->
-                DistanceEntity.builder()
-                    .entity(e)
-                    .distance(BigDecimal.valueOf(haversine(e, lng, lat)))
-                    .build())
-        .filter(
-            radius.isPresent()
-                ? de -> radius.get().compareTo(de.distance().abs()) >= 0
-                : de -> true)
-        .sorted((left, right) -> left.distance().compareTo(right.distance()))
-        .collect(toList());
+  /** Load the page of facilities at the given locations, preserving order. */
+  private List<FacilityEntity> entitiesPage(
+      List<HasFacilityLocation> locations, int page, int perPage) {
+    return entitiesInOrder(
+        page(locations, page, perPage).stream().map(l -> l.id()).collect(toList()));
   }
 
   private Page<FacilityEntity> entitiesPageByState(
@@ -257,7 +244,7 @@ public class FacilitiesControllerV0 {
   /** Get all facility IDs as a list by Type. */
   @GetMapping(
       value = "/ids",
-      produces = {"application/json"})
+      produces = {"application/json", "application/x-jackson-smile", "application/cbor"})
   FacilitiesIdsResponse facilityIdsByType(
       @RequestParam(value = "type", required = false) String type) {
     FacilityEntity.Type facilityType = validateFacilityType(type);
@@ -270,6 +257,36 @@ public class FacilitiesControllerV0 {
         .build();
   }
 
+  @SneakyThrows
+  private List<FacilityEntity.Pk> findIdsByLatLong(
+      BigDecimal longitude,
+      BigDecimal latitude,
+      Optional<BigDecimal> radius,
+      String ids,
+      FacilityEntity.Type facilityType,
+      Set<ServiceType> datamartServices,
+      Boolean rawMobile) {
+    List<HasFacilityLocation> locations =
+        facilityRepository.findLocations(
+            FacilityRepository.TypeServicesIdsSpecification.builder()
+                .ids(entityIds(ids))
+                .facilityType(facilityType)
+                .services(datamartServices)
+                .mobile(rawMobile)
+                .build());
+    double lng = longitude.doubleValue();
+    double lat = latitude.doubleValue();
+    return locations.stream()
+        .map(l -> Map.entry(l.id(), BigDecimal.valueOf(haversine(l, lng, lat))))
+        .filter(
+            radius.isPresent()
+                ? d -> radius.get().compareTo(d.getValue().abs()) >= 0
+                : d -> true)
+        .sorted(Map.Entry.comparingByValue())
+        .map(Map.Entry::getKey)
+        .collect(toList());
+  }
+
   /** Get facilities by bounding box. */
   @GetMapping(
       value = "/facilities",
@@ -285,7 +302,8 @@ public class FacilitiesControllerV0 {
     return GeoFacilitiesResponse.builder()
         .type(GeoFacilitiesResponse.Type.FeatureCollection)
         .features(
-            page(entitiesByBoundingBox(bbox, type, services, mobile), page, perPage).stream()
+            entitiesPage(locationsByBoundingBox(bbox, type, services, mobile), page, perPage)
+                .stream()
                 .map(e -> geoFacility(facility(e)))
                 .collect(toList()))
         .build();
@@ -330,17 +348,20 @@ public class FacilitiesControllerV0 {
     return GeoFacilitiesResponse.builder()
         .type(GeoFacilitiesResponse.Type.FeatureCollection)
         .features(
-            page(
-                    entitiesByLatLong(
-                        longitude,
-                        latitude,
-                        Optional.ofNullable(radius),
-                        ids,
-                        type,
-                        services,
-                        mobile),
-                    page,
-                    perPage)
+            distanceEntities(
+                    page(
+                        idsByLatLong(
+                            longitude,
+                            latitude,
+                            Optional.ofNullable(radius),
+                            ids,
+                            type,
+                            services,
+                            mobile),
+                        page,
+                        perPage),
+                    longitude,
+                    latitude)
                 .stream()
                 .map(e -> geoFacility(e.facility()))
                 .collect(toList()))
@@ -379,10 +400,13 @@ public class FacilitiesControllerV0 {
       @RequestParam(value = "visn") String visn,
       @RequestParam(value = "page", defaultValue = "1") @Min(1) int page,
       @RequestParam(value = "per_page", defaultValue = "10") @Min(0) int perPage) {
+    List<HasFacilityLocation> locations =
+        facilityRepository.findLocations(
+            FacilityRepository.VisnSpecification.builder().visn(visn).build());
     return GeoFacilitiesResponse.builder()
         .type(GeoFacilitiesResponse.Type.FeatureCollection)
         .features(
-            page(facilityRepository.findByVisn(visn), page, perPage).stream()
+            entitiesPage(locations, page, perPage).stream()
                 .map(e -> geoFacility(facility(e)))
                 .collect(toList()))
         .build();
@@ -411,10 +435,34 @@ public class FacilitiesControllerV0 {
         .build();
   }
 
+  private List<FacilityEntity.Pk> idsByLatLong(
+      BigDecimal longitude,
+      BigDecimal latitude,
+      Optional<BigDecimal> radius,
+      String ids,
+      String rawType,
+      List<String> rawServices,
+      Boolean rawMobile) {
+    FacilityEntity.Type facilityType = validateFacilityType(rawType);
+    Set<ServiceType> datamartServices = convertToDatamartServices(validateServices(rawServices));
+    return resultCache.get(
+        resultCache
+            .key("v0/facilities", latitude, longitude)
+            .radius(radius.orElse(null))
+            .ids(ids)
+            .type(facilityType)
+            .services(datamartServices)
+            .mobile(rawMobile)
+            .build(),
+        () ->
+            findIdsByLatLong(
+                longitude, latitude, radius, ids, facilityType, datamartServices, rawMobile));
+  }
+
   /** Get facilities by bounding box. */
   @GetMapping(
       value = "/facilities",
-      produces = "application/json",
+      produces = {"application/json", "application/x-jackson-smile", "application/cbor"},
       params = {"bbox[]", "!lat", "!long", "!radius", "!state", "!visn", "!zip"})
   FacilitiesResponse jsonFacilitiesByBoundingBox(
       @RequestParam(value = "bbox[]") List<BigDecimal> bbox,
@@ -423,7 +471,7 @@ public class FacilitiesControllerV0 {
       @RequestParam(value = "mobile", required = false) Boolean mobile,
       @RequestParam(value = "page", defaultValue = "1") @Min(1) int page,
       @RequestParam(value = "per_page", defaultValue = "10") @Min(0) int perPage) {
-    List<FacilityEntity> entities = entitiesByBoundingBox(bbox, type, services, mobile);
+    List<HasFacilityLocation> locations = locationsByBoundingBox(bbox, type, services, mobile);
     PageLinkerV0 linker =
         PageLinkerV0.builder()
             .url(linkerUrl + "facilities")
@@ -436,10 +484,13 @@ public class FacilitiesControllerV0 {
                     .add("page", page)
                     .add("per_page", perPage)
                     .build())
-            .totalEntries(entities.size())
+            .totalEntries(locations.size())
             .build();
     return FacilitiesResponse.builder()
-        .data(page(entities, page, perPage).stream().map(e -> facility(e)).collect(toList()))
+        .data(
+            entitiesPage(locations, page, perPage).stream()
+                .map(e -> facility(e))
+                .collect(toList()))
         .links(linker.links())
         .meta(
             FacilitiesResponse.FacilitiesMetadata.builder().pagination(linker.pagination()).build())
@@ -449,7 +500,7 @@ public class FacilitiesControllerV0 {
   /** Get facilities by IDs. */
   @GetMapping(
       value = "/facilities",
-      produces = "application/json",
+      produces = {"application/json", "application/x-jackson-smile", "application/cbor"},
       params = {"!bbox[]", "ids", "!lat", "!long", "!radius", "!state", "!visn", "!zip"})
   FacilitiesResponse jsonFacilitiesByIds(
       @RequestParam(value = "ids") String ids,
@@ -478,7 +529,7 @@ public class FacilitiesControllerV0 {
   /** Get facilities by coordinates. */
   @GetMapping(
       value = "/facilities",
-      produces = "application/json",
+      produces = {"application/json", "application/x-jackson-smile", "application/cbor"},
       params = {"!bbox[]", "lat", "long", "!state", "!visn", "!zip"})
   FacilitiesResponse jsonFacilitiesByLatLong(
       @RequestParam(value = "lat") BigDecimal latitude,
@@ -493,8 +544,8 @@ public class FacilitiesControllerV0 {
     if (radius != null && radius.compareTo(BigDecimal.ZERO) < 0) {
       throw new ExceptionsUtils.InvalidParameter("radius", radius);
     }
-    List<DistanceEntity> entities =
-        entitiesByLatLong(
+    List<FacilityEntity.Pk> facilityIds =
+        idsByLatLong(
             longitude, latitude, Optional.ofNullable(radius), ids, type, services, mobile);
     PageLinkerV0 linker =
         PageLinkerV0.builder()
@@ -510,9 +561,10 @@ public class FacilitiesControllerV0 {
                     .add("page", page)
                     .add("per_page", perPage)
                     .build())
-            .totalEntries(entities.size())
+            .totalEntries(facilityIds.size())
             .build();
-    List<DistanceEntity> entitiesPage = page(entities, page, perPage);
+    List<DistanceEntity> entitiesPage =
+        distanceEntities(page(facilityIds, page, perPage), longitude, latitude);
     List<FacilitiesResponse.Distance> distances =
         entitiesPage.stream()
             .map(
@@ -536,7 +588,7 @@ public class FacilitiesControllerV0 {
   /** Get facilities by state. */
   @GetMapping(
       value = "/facilities",
-      produces = "application/json",
+      produces = {"application/json", "application/x-jackson-smile", "application/cbor"},
       params = {"!bbox[]", "!lat", "!long", "!radius", "state", "!visn", "!zip"})
   FacilitiesResponse jsonFacilitiesByState(
       @RequestParam(value = "state") String state,
@@ -575,13 +627,15 @@ public class FacilitiesControllerV0 {
   /** Get facilities by VISN. */
   @GetMapping(
       value = "/facilities",
-      produces = "application/json",
+      produces = {"application/json", "application/x-jackson-smile", "application/cbor"},
       params = {"!bbox[]", "!lat", "!long", "!radius", "!state", "!type", "visn", "!zip"})
   FacilitiesResponse jsonFacilitiesByVisn(
       @RequestParam(value = "visn") String visn,
       @RequestParam(value = "page", defaultValue = "1") @Min(1) int page,
       @RequestParam(value = "per_page", defaultValue = "10") @Min(0) int perPage) {
-    List<FacilityEntity> entities = facilityRepository.findByVisn(visn);
+    List<HasFacilityLocation> locations =
+        facilityRepository.findLocations(
+            FacilityRepository.VisnSpecification.builder().visn(visn).build());
     PageLinkerV0 linker =
         PageLinkerV0.builder()
             .url(linkerUrl + "facilities")
@@ -591,10 +645,13 @@ public class FacilitiesControllerV0 {
                     .add("page", page)
                     .add("per_page", perPage)
                     .build())
-            .totalEntries(entities.size())
+            .totalEntries(locations.size())
             .build();
     return FacilitiesResponse.builder()
-        .data(page(entities, page, perPage).stream().map(e -> facility(e)).collect(toList()))
+        .data(
+            entitiesPage(locations, page, perPage).stream()
+                .map(e -> facility(e))
+                .collect(toList()))
         .links(linker.links())
         .meta(
             FacilitiesResponse.FacilitiesMetadata.builder().pagination(linker.pagination()).build())
@@ -604,7 +661,7 @@ public class FacilitiesControllerV0 {
   /** Get facilities by zip. */
   @GetMapping(
       value = "/facilities",
-      produces = "application/json",
+      produces = {"application/json", "application/x-jackson-smile", "application/cbor"},
       params = {"!bbox[]", "!lat", "!long", "!radius", "!state", "!visn", "zip"})
   FacilitiesResponse jsonFacilitiesByZip(
       @RequestParam(value = "zip") String zip,
@@ -640,6 +697,36 @@ public class FacilitiesControllerV0 {
         .build();
   }
 
+  private List<HasFacilityLocation> locationsByBoundingBox(
+      List<BigDecimal> bbox, String rawType, List<String> rawServices, Boolean rawMobile) {
+    if (bbox.size() != 4) {
+      throw new ExceptionsUtils.InvalidParameter("bbox", bbox);
+    }
+    FacilityEntity.Type facilityType = validateFacilityType(rawType);
+    Set<ServiceType> datamartServices = convertToDatamartServices(validateServices(rawServices));
+
+    // lng lat lng lat
+    List<HasFacilityLocation> allLocations =
+        facilityRepository.findLocations(
+            FacilityRepository.BoundingBoxSpecification.builder()
+                .minLongitude(bbox.get(0).min(bbox.get(2)))
+                .maxLongitude(bbox.get(0).max(bbox.get(2)))
+                .minLatitude(bbox.get(1).min(bbox.get(3)))
+                .maxLatitude(bbox.get(1).max(bbox.get(3)))
+                .facilityType(facilityType)
+                .services(datamartServices)
+                .mobile(rawMobile)
+                .build());
+    double centerLng = (bbox.get(0).doubleValue() + bbox.get(2).doubleValue()) / 2;
+    double centerLat = (bbox.get(1).doubleValue() + bbox.get(3).doubleValue()) / 2;
+    return allLocations.stream()
+        .sorted(
+            (left, right) ->
+                Double.compare(
+                    distance(left, centerLng, centerLat), distance(right, centerLng, centerLat)))
+        .collect(toList());
+  }
+
   /** Read geo facility. */
   @GetMapping(
       value = "/facilities/{id}",
@@ -649,7 +736,9 @@ public class FacilitiesControllerV0 {
   }
 
   /** Read facility. */
-  @GetMapping(value = "/facilities/{id}", produces = "application/json")
+  @GetMapping(
+      value = "/facilities/{id}",
+      produces = {"application/json", "application/x-jackson-smile", "application/cbor"})
   FacilityReadResponse readJson(@PathVariable("id") String id) {
     return FacilityReadResponse.builder().facility(facility(entityById(id))).build();
   }
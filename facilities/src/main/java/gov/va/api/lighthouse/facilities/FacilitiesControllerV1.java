@@ -3,9 +3,9 @@ package gov.va.api.lighthouse.facilities;
 import static com.google.common.base.Preconditions.checkArgument;
 import static gov.va.api.lighthouse.facilities.ControllersV1.convertToDatamartServices;
 import static gov.va.api.lighthouse.facilities.ControllersV1.page;
+import static gov.va.api.lighthouse.facilities.ControllersV1.validateFacilityFieldset;
 import static gov.va.api.lighthouse.facilities.ControllersV1.validateFacilityType;
 import static gov.va.api.lighthouse.facilities.ControllersV1.validateServices;
-import static gov.va.api.lighthouse.facilities.FacilitiesJacksonConfigV1.createMapper;
 import static gov.va.api.lighthouse.facilities.FacilityUtils.distance;
 import static gov.va.api.lighthouse.facilities.FacilityUtils.entityIds;
 import static gov.va.api.lighthouse.facilities.FacilityUtils.haversine;
@@ -13,13 +13,18 @@ import static gov.va.api.lighthouse.facilities.api.ServiceLinkBuilder.buildLinke
 import static java.util.Collections.emptyList;
 import static java.util.stream.Collectors.toList;
 import static java.util.stream.Collectors.toMap;
+import static java.util.stream.Collectors.toSet;
+import static org.apache.commons.lang3.StringUtils.isNotBlank;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.base.Splitter;
 import gov.va.api.lighthouse.facilities.api.ServiceType;
 import gov.va.api.lighthouse.facilities.api.v1.FacilitiesIdsResponse;
 import gov.va.api.lighthouse.facilities.api.v1.FacilitiesResponse;
 import gov.va.api.lighthouse.facilities.api.v1.Facility;
+import gov.va.api.lighthouse.facilities.api.v1.FacilityChangesResponse;
 import gov.va.api.lighthouse.facilities.api.v1.FacilityReadResponse;
+import gov.va.api.lighthouse.facilities.api.v1.serializers.FacilityFieldset;
 import java.math.BigDecimal;
 import java.math.RoundingMode;
 import java.util.List;
@@ -29,6 +34,8 @@ import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.function.Function;
+import java.util.stream.Stream;
+import javax.validation.constraints.Max;
 import javax.validation.constraints.Min;
 import lombok.Builder;
 import lombok.Data;
@@ -37,35 +44,54 @@ import lombok.SneakyThrows;
 import org.apache.commons.csv.CSVFormat;
 import org.apache.commons.csv.CSVPrinter;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 @Validated
 @RestController
 @RequestMapping(value = "/v1")
 public class FacilitiesControllerV1 {
 
-  private static final ObjectMapper MAPPER_V1 = createMapper();
+  private static final ObjectMapper MAPPER_V1 = JacksonCodecs.mapper(JacksonCodecs.Flavor.V1);
 
   private static final FacilityOverlayV1 FACILITY_OVERLAY = FacilityOverlayV1.builder().build();
 
   private final FacilityRepository facilityRepository;
 
+  private final FacilityChanges facilityChanges;
+
+  private final OverlayEvents overlayEvents;
+
+  private final CoordinateResultCache resultCache;
+
+  private final RequestExecutor bulkSerializationExecutor;
+
   private final String linkerUrl;
 
   @Builder
   FacilitiesControllerV1(
       @Autowired FacilityRepository facilityRepository,
+      @Autowired FacilityChanges facilityChanges,
+      @Autowired OverlayEvents overlayEvents,
+      @Autowired CoordinateResultCache resultCache,
+      @Autowired @Qualifier("bulkSerializationExecutor") RequestExecutor bulkSerializationExecutor,
       @Value("${facilities.url}") String baseUrl,
       @Value("${facilities.base-path}") String basePath) {
     this.facilityRepository = facilityRepository;
+    this.facilityChanges = facilityChanges;
+    this.overlayEvents = overlayEvents;
+    this.resultCache = resultCache;
+    this.bulkSerializationExecutor = bulkSerializationExecutor;
     linkerUrl = buildLinkerUrlV1(baseUrl, basePath);
   }
 
@@ -80,6 +106,19 @@ public class FacilitiesControllerV1 {
       value = "/facilities",
       produces = {"application/json"})
   String all(
+      @RequestParam(value = "page", defaultValue = "1") @Min(1) int page,
+      @RequestParam(value = "per_page", defaultValue = "10") @Min(0) int perPage,
+      @RequestParam(value = FacilityFieldset.PARAMETER, required = false) String fields) {
+    return MAPPER_V1
+        .writer(validateFacilityFieldset(fields))
+        .writeValueAsString(allBinary(page, perPage));
+  }
+
+  /** Get all facilities in a binary encoding. */
+  @GetMapping(
+      value = "/facilities",
+      produces = {"application/x-jackson-smile", "application/cbor"})
+  FacilitiesResponse allBinary(
       @RequestParam(value = "page", defaultValue = "1") @Min(1) int page,
       @RequestParam(value = "per_page", defaultValue = "10") @Min(0) int perPage) {
     List<HasFacilityPayload> allFacilities = facilityRepository.findAllProjectedBy();
@@ -89,18 +128,17 @@ public class FacilitiesControllerV1 {
             .params(Parameters.builder().add("page", page).add("per_page", perPage).build())
             .totalEntries(allFacilities.size())
             .build();
-    return MAPPER_V1.writeValueAsString(
-        FacilitiesResponse.builder()
-            .data(
-                page(allFacilities, page, perPage).stream()
-                    .map(e -> facility(e, linkerUrl))
-                    .collect(toList()))
-            .links(linker.links())
-            .meta(
-                FacilitiesResponse.FacilitiesMetadata.builder()
-                    .pagination(linker.pagination())
-                    .build())
-            .build());
+    return FacilitiesResponse.builder()
+        .data(
+            page(allFacilities, page, perPage).stream()
+                .map(e -> facility(e, linkerUrl))
+                .collect(toList()))
+        .links(linker.links())
+        .meta(
+            FacilitiesResponse.FacilitiesMetadata.builder()
+                .pagination(linker.pagination())
+                .build())
+        .build();
   }
 
   /** Get all facilities as CSV. */
@@ -108,10 +146,9 @@ public class FacilitiesControllerV1 {
   @GetMapping(value = "/facilities", produces = "text/csv")
   String allCsv() {
     List<List<String>> rows =
-        facilityRepository.findAllProjectedBy().stream()
-            .parallel()
-            .map(e -> CsvTransformerV1.builder().facility(facility(e, linkerUrl)).build().toRow())
-            .collect(toList());
+        bulkSerializationExecutor.map(
+            facilityRepository.findAllProjectedBy(),
+            e -> CsvTransformerV1.builder().facility(facility(e, linkerUrl)).build().toRow());
     StringBuilder sb = new StringBuilder();
     try (CSVPrinter printer =
         CSVFormat.DEFAULT
@@ -124,66 +161,65 @@ public class FacilitiesControllerV1 {
     }
   }
 
-  private List<FacilityEntity> entitiesByBoundingBox(
-      List<BigDecimal> bbox, String rawType, List<String> rawServices, Boolean rawMobile) {
-    if (bbox.size() != 4) {
-      throw new ExceptionsUtils.InvalidParameter("bbox", bbox);
+  /**
+   * Get facilities created, updated, or removed since a change token. Without a token, only the
+   * token to start from after a bulk download is returned. Facilities are returned as they are now,
+   * once each, and removed facilities are listed by ID.
+   */
+  @GetMapping(
+      value = "/facilities/changes",
+      produces = {"application/json", "application/x-jackson-smile", "application/cbor"})
+  FacilityChangesResponse changes(
+      @RequestParam(value = "since", required = false) String since,
+      @RequestParam(value = "limit", defaultValue = "500") @Min(1) @Max(1000) int limit) {
+    if (since == null) {
+      return FacilityChangesResponse.builder()
+          .meta(
+              FacilityChangesResponse.ChangesMetadata.builder()
+                  .nextToken(facilityChanges.latestToken())
+                  .more(false)
+                  .build())
+          .build();
     }
-    FacilityEntity.Type facilityType = validateFacilityType(rawType);
-    Set<ServiceType> datamartServices = convertToDatamartServices(validateServices(rawServices));
-
-    // lng lat lng lat
-    List<FacilityEntity> allEntities =
-        facilityRepository.findAll(
-            FacilityRepository.BoundingBoxSpecification.builder()
-                .minLongitude(bbox.get(0).min(bbox.get(2)))
-                .maxLongitude(bbox.get(0).max(bbox.get(2)))
-                .minLatitude(bbox.get(1).min(bbox.get(3)))
-                .maxLatitude(bbox.get(1).max(bbox.get(3)))
-                .facilityType(facilityType)
-                .services(datamartServices)
-                .mobile(rawMobile)
-                .build());
-    double centerLng = (bbox.get(0).doubleValue() + bbox.get(2).doubleValue()) / 2;
-    double centerLat = (bbox.get(1).doubleValue() + bbox.get(3).doubleValue()) / 2;
-    return allEntities.stream()
-        .sorted(
-            (left, right) ->
-                Double.compare(
-                    distance(left, centerLng, centerLat), distance(right, centerLng, centerLat)))
-        .collect(toList());
-  }
-
-  private List<FacilityEntity> entitiesByIds(String ids) {
-    List<FacilityEntity.Pk> pks = entityIds(ids);
-    Map<FacilityEntity.Pk, FacilityEntity> entities =
-        facilityRepository.findByIdIn(pks).stream()
-            .collect(toMap(e -> e.id(), Function.identity()));
-    return pks.stream().map(pk -> entities.get(pk)).filter(Objects::nonNull).collect(toList());
+    long token;
+    try {
+      token = Long.parseLong(since.trim());
+    } catch (NumberFormatException e) {
+      throw new ExceptionsUtils.InvalidParameter("since", since);
+    }
+    if (token < 0) {
+      throw new ExceptionsUtils.InvalidParameter("since", since);
+    }
+    FacilityChanges.Batch batch = facilityChanges.after(token, limit);
+    List<FacilityEntity> changed = entitiesInOrder(batch.changed());
+    // A facility removed after its entry was recorded is reported as removed now
+    Set<FacilityEntity.Pk> found = changed.stream().map(e -> e.id()).collect(toSet());
+    List<String> deleted =
+        Stream.concat(
+                batch.deleted().stream(),
+                batch.changed().stream().filter(id -> !found.contains(id)))
+            .map(FacilityEntity.Pk::toIdString)
+            .collect(toList());
+    return FacilityChangesResponse.builder()
+        .data(changed.stream().map(e -> facility(e, linkerUrl)).collect(toList()))
+        .deleted(deleted)
+        .meta(
+            FacilityChangesResponse.ChangesMetadata.builder()
+                .nextToken(batch.nextToken())
+                .more(batch.more())
+                .build())
+        .build();
   }
 
-  @SneakyThrows
-  private List<DistanceEntity> entitiesByLatLong(
-      BigDecimal longitude,
-      BigDecimal latitude,
-      Optional<BigDecimal> radius,
-      String ids,
-      String rawType,
-      List<String> rawServices,
-      Boolean rawMobile) {
-    FacilityEntity.Type facilityType = validateFacilityType(rawType);
-    Set<ServiceType> datamartServices = convertToDatamartServices(validateServices(rawServices));
-    List<FacilityEntity> entities =
-        facilityRepository.findAll(
-            FacilityRepository.TypeServicesIdsSpecification.builder()
-                .ids(entityIds(ids))
-                .facilityType(facilityType)
-                .services(datamartServices)
-                .mobile(rawMobile)
-                .build());
+  /**
+   * Load the page of facilities identified by the given IDs, preserving order. Distances are
+   * calculated from the exact requested coordinates.
+   */
+  private List<DistanceEntity> distanceEntities(
+      List<FacilityEntity.Pk> pks, BigDecimal longitude, BigDecimal latitude) {
     double lng = longitude.doubleValue();
     double lat = latitude.doubleValue();
-    return entities.stream()
+    return entitiesInOrder(pks).stream()
         .map(
             e ->
                 DistanceEntity.builder()
@@ -191,14 +227,31 @@ public class FacilitiesControllerV1 {
                     .distance(BigDecimal.valueOf(haversine(e, lng, lat)))
                     .linkerUrl(linkerUrl)
                     .build())
-        .filter(
-            radius.isPresent()
-                ? de -> radius.get().compareTo(de.distance().abs()) >= 0
-                : de -> true)
-        .sorted((left, right) -> left.distance().compareTo(right.distance()))
         .collect(toList());
   }
 
+  private List<FacilityEntity> entitiesByIds(String ids) {
+    return entitiesInOrder(entityIds(ids));
+  }
+
+  /** Load the facilities identified by the given IDs, preserving order. */
+  private List<FacilityEntity> entitiesInOrder(List<FacilityEntity.Pk> pks) {
+    if (pks.isEmpty()) {
+      return emptyList();
+    }
+    Map<FacilityEntity.Pk, FacilityEntity> entities =
+        facilityRepository.findByIdIn(pks).stream()
+            .collect(toMap(e -> e.id(), Function.identity()));
+    return pks.stream().map(pk -> entities.get(pk)).filter(Objects::nonNull).collect(toList());
+  }
+
+  /** Load the page of facilities at the given locations, preserving order. */
+  private List<FacilityEntity> entitiesPage(
+      List<HasFacilityLocation> locations, int page, int perPage) {
+    return entitiesInOrder(
+        page(locations, page, perPage).stream().map(l -> l.id()).collect(toList()));
+  }
+
   private Page<FacilityEntity> entitiesPageByState(
       String rawState,
       String rawType,
@@ -257,10 +310,31 @@ public class FacilitiesControllerV1 {
     return opt.get();
   }
 
+  /**
+   * Stream operating status and detailed service changes as server-sent events, for the given
+   * facilities and VISNs, or for all facilities if neither is given. A client reconnecting with
+   * Last-Event-ID receives the events it missed.
+   */
+  @GetMapping(value = "/facilities/events", produces = "text/event-stream")
+  SseEmitter events(
+      @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId,
+      @RequestParam(value = "ids", required = false) String ids,
+      @RequestParam(value = "visn", required = false) String visn) {
+    List<FacilityEntity.Pk> pks = entityIds(ids);
+    if (isNotBlank(ids) && pks.isEmpty()) {
+      throw new ExceptionsUtils.InvalidParameter("ids", ids);
+    }
+    List<String> visns =
+        visn == null
+            ? emptyList()
+            : Splitter.on(",").trimResults().omitEmptyStrings().splitToList(visn);
+    return overlayEvents.subscribe(lastEventId, pks, visns);
+  }
+
   /** Get all facility IDs as a list by Type. */
   @GetMapping(
       value = "/ids",
-      produces = {"application/json"})
+      produces = {"application/json", "application/x-jackson-smile", "application/cbor"})
   FacilitiesIdsResponse facilityIdsByType(
       @RequestParam(value = "type", required = false) String type) {
     FacilityEntity.Type facilityType = validateFacilityType(type);
@@ -273,10 +347,64 @@ public class FacilitiesControllerV1 {
         .build();
   }
 
+  @SneakyThrows
+  private List<FacilityEntity.Pk> findIdsByLatLong(
+      BigDecimal longitude,
+      BigDecimal latitude,
+      Optional<BigDecimal> radius,
+      String ids,
+      FacilityEntity.Type facilityType,
+      Set<ServiceType> datamartServices,
+      Boolean rawMobile) {
+    List<HasFacilityLocation> locations =
+        facilityRepository.findLocations(
+            FacilityRepository.TypeServicesIdsSpecification.builder()
+                .ids(entityIds(ids))
+                .facilityType(facilityType)
+                .services(datamartServices)
+                .mobile(rawMobile)
+                .build());
+    double lng = longitude.doubleValue();
+    double lat = latitude.doubleValue();
+    return locations.stream()
+        .map(l -> Map.entry(l.id(), BigDecimal.valueOf(haversine(l, lng, lat))))
+        .filter(
+            radius.isPresent()
+                ? d -> radius.get().compareTo(d.getValue().abs()) >= 0
+                : d -> true)
+        .sorted(Map.Entry.comparingByValue())
+        .map(Map.Entry::getKey)
+        .collect(toList());
+  }
+
+  private List<FacilityEntity.Pk> idsByLatLong(
+      BigDecimal longitude,
+      BigDecimal latitude,
+      Optional<BigDecimal> radius,
+      String ids,
+      String rawType,
+      List<String> rawServices,
+      Boolean rawMobile) {
+    FacilityEntity.Type facilityType = validateFacilityType(rawType);
+    Set<ServiceType> datamartServices = convertToDatamartServices(validateServices(rawServices));
+    return resultCache.get(
+        resultCache
+            .key("v1/facilities", latitude, longitude)
+            .radius(radius.orElse(null))
+            .ids(ids)
+            .type(facilityType)
+            .services(datamartServices)
+            .mobile(rawMobile)
+            .build(),
+        () ->
+            findIdsByLatLong(
+                longitude, latitude, radius, ids, facilityType, datamartServices, rawMobile));
+  }
+
   /** Get facilities by bounding box. */
   @GetMapping(
       value = "/facilities",
-      produces = "application/json",
+      produces = {"application/json", "application/x-jackson-smile", "application/cbor"},
       params = {"bbox[]", "!lat", "!long", "!radius", "!state", "!visn", "!zip"})
   FacilitiesResponse jsonFacilitiesByBoundingBox(
       @RequestParam(value = "bbox[]") List<BigDecimal> bbox,
@@ -285,7 +413,7 @@ public class FacilitiesControllerV1 {
       @RequestParam(value = "mobile", required = false) Boolean mobile,
       @RequestParam(value = "page", defaultValue = "1") @Min(1) int page,
       @RequestParam(value = "per_page", defaultValue = "10") @Min(0) int perPage) {
-    List<FacilityEntity> entities = entitiesByBoundingBox(bbox, type, services, mobile);
+    List<HasFacilityLocation> locations = locationsByBoundingBox(bbox, type, services, mobile);
     PageLinkerV1 linker =
         PageLinkerV1.builder()
             .url(linkerUrl + "facilities")
@@ -298,11 +426,11 @@ public class FacilitiesControllerV1 {
                     .add("page", page)
                     .add("per_page", perPage)
                     .build())
-            .totalEntries(entities.size())
+            .totalEntries(locations.size())
             .build();
     return FacilitiesResponse.builder()
         .data(
-            page(entities, page, perPage).stream()
+            entitiesPage(locations, page, perPage).stream()
                 .map(e -> facility(e, linkerUrl))
                 .collect(toList()))
         .links(linker.links())
@@ -314,7 +442,7 @@ public class FacilitiesControllerV1 {
   /** Get facilities by IDs. */
   @GetMapping(
       value = "/facilities",
-      produces = "application/json",
+      produces = {"application/json", "application/x-jackson-smile", "application/cbor"},
       params = {"!bbox[]", "ids", "!lat", "!long", "!radius", "!state", "!visn", "!zip"})
   FacilitiesResponse jsonFacilitiesByIds(
       @RequestParam(value = "ids") String ids,
@@ -346,7 +474,7 @@ public class FacilitiesControllerV1 {
   /** Get facilities by coordinates. */
   @GetMapping(
       value = "/facilities",
-      produces = "application/json",
+      produces = {"application/json", "application/x-jackson-smile", "application/cbor"},
       params = {"!bbox[]", "lat", "long", "!state", "!visn", "!zip"})
   FacilitiesResponse jsonFacilitiesByLatLong(
       @RequestParam(value = "lat") BigDecimal latitude,
@@ -361,8 +489,8 @@ public class FacilitiesControllerV1 {
     if (radius != null && radius.compareTo(BigDecimal.ZERO) < 0) {
       throw new ExceptionsUtils.InvalidParameter("radius", radius);
     }
-    List<DistanceEntity> entities =
-        entitiesByLatLong(
+    List<FacilityEntity.Pk> facilityIds =
+        idsByLatLong(
             longitude, latitude, Optional.ofNullable(radius), ids, type, services, mobile);
     PageLinkerV1 linker =
         PageLinkerV1.builder()
@@ -378,9 +506,10 @@ public class FacilitiesControllerV1 {
                     .add("page", page)
                     .add("per_page", perPage)
                     .build())
-            .totalEntries(entities.size())
+            .totalEntries(facilityIds.size())
             .build();
-    List<DistanceEntity> entitiesPage = page(entities, page, perPage);
+    List<DistanceEntity> entitiesPage =
+        distanceEntities(page(facilityIds, page, perPage), longitude, latitude);
     List<FacilitiesResponse.Distance> distances =
         entitiesPage.stream()
             .map(
@@ -404,7 +533,7 @@ public class FacilitiesControllerV1 {
   /** Get facilities by state. */
   @GetMapping(
       value = "/facilities",
-      produces = "application/json",
+      produces = {"application/json", "application/x-jackson-smile", "application/cbor"},
       params = {"!bbox[]", "!lat", "!long", "!radius", "state", "!visn", "!zip"})
   FacilitiesResponse jsonFacilitiesByState(
       @RequestParam(value = "state") String state,
@@ -443,13 +572,15 @@ public class FacilitiesControllerV1 {
   /** Get facilities by VISN. */
   @GetMapping(
       value = "/facilities",
-      produces = "application/json",
+      produces = {"application/json", "application/x-jackson-smile", "application/cbor"},
       params = {"!bbox[]", "!lat", "!long", "!radius", "!state", "!type", "visn", "!zip"})
   FacilitiesResponse jsonFacilitiesByVisn(
       @RequestParam(value = "visn") String visn,
       @RequestParam(value = "page", defaultValue = "1") @Min(1) int page,
       @RequestParam(value = "per_page", defaultValue = "10") @Min(0) int perPage) {
-    List<FacilityEntity> entities = facilityRepository.findByVisn(visn);
+    List<HasFacilityLocation> locations =
+        facilityRepository.findLocations(
+            FacilityRepository.VisnSpecification.builder().visn(visn).build());
     PageLinkerV1 linker =
         PageLinkerV1.builder()
             .url(linkerUrl + "facilities")
@@ -459,11 +590,11 @@ public class FacilitiesControllerV1 {
                     .add("page", page)
                     .add("per_page", perPage)
                     .build())
-            .totalEntries(entities.size())
+            .totalEntries(locations.size())
             .build();
     return FacilitiesResponse.builder()
         .data(
-            page(entities, page, perPage).stream()
+            entitiesPage(locations, page, perPage).stream()
                 .map(e -> facility(e, linkerUrl))
                 .collect(toList()))
         .links(linker.links())
@@ -475,7 +606,7 @@ public class FacilitiesControllerV1 {
   /** Get facilities by zip. */
   @GetMapping(
       value = "/facilities",
-      produces = "application/json",
+      produces = {"application/json", "application/x-jackson-smile", "application/cbor"},
       params = {"!bbox[]", "!lat", "!long", "!radius", "!state", "!visn", "zip"})
   FacilitiesResponse jsonFacilitiesByZip(
       @RequestParam(value = "zip") String zip,
@@ -511,8 +642,40 @@ public class FacilitiesControllerV1 {
         .build();
   }
 
+  private List<HasFacilityLocation> locationsByBoundingBox(
+      List<BigDecimal> bbox, String rawType, List<String> rawServices, Boolean rawMobile) {
+    if (bbox.size() != 4) {
+      throw new ExceptionsUtils.InvalidParameter("bbox", bbox);
+    }
+    FacilityEntity.Type facilityType = validateFacilityType(rawType);
+    Set<ServiceType> datamartServices = convertToDatamartServices(validateServices(rawServices));
+
+    // lng lat lng lat
+    List<HasFacilityLocation> allLocations =
+        facilityRepository.findLocations(
+            FacilityRepository.BoundingBoxSpecification.builder()
+                .minLongitude(bbox.get(0).min(bbox.get(2)))
+                .maxLongitude(bbox.get(0).max(bbox.get(2)))
+                .minLatitude(bbox.get(1).min(bbox.get(3)))
+                .maxLatitude(bbox.get(1).max(bbox.get(3)))
+                .facilityType(facilityType)
+                .services(datamartServices)
+                .mobile(rawMobile)
+                .build());
+    double centerLng = (bbox.get(0).doubleValue() + bbox.get(2).doubleValue()) / 2;
+    double centerLat = (bbox.get(1).doubleValue() + bbox.get(3).doubleValue()) / 2;
+    return allLocations.stream()
+        .sorted(
+            (left, right) ->
+                Double.compare(
+                    distance(left, centerLng, centerLat), distance(right, centerLng, centerLat)))
+        .collect(toList());
+  }
+
   /** Read facility. */
-  @GetMapping(value = "/facilities/{id}", produces = "application/json")
+  @GetMapping(
+      value = "/facilities/{id}",
+      produces = {"application/json", "application/x-jackson-smile", "application/cbor"})
   FacilityReadResponse readJson(@PathVariable("id") String id) {
     return FacilityReadResponse.builder().facility(facility(entityById(id), linkerUrl)).build();
   }
@@ -9,8 +9,9 @@ import org.springframework.context.annotation.Configuration;
 
 @Configuration
 public class FacilitiesJacksonConfigV0 {
+  /** Build a new mapper. Most code should use the shared one from {@link JacksonCodecs}. */
   public static ObjectMapper createMapper() {
-    return new FacilitiesJacksonConfigV0().objectMapper();
+    return JacksonConfig.createMapper().registerModule(JacksonSerializersV0.serializersV0());
   }
 
   /** Mask away checked exception so this Jackson can be used in streams. */
@@ -33,6 +34,6 @@ public class FacilitiesJacksonConfigV0 {
 
   @Bean
   public ObjectMapper objectMapper() {
-    return JacksonConfig.createMapper().registerModule(JacksonSerializersV0.serializersV0());
+    return JacksonCodecs.mapper(JacksonCodecs.Flavor.V0);
   }
 }
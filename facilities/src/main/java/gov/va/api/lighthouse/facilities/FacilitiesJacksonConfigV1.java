@@ -9,8 +9,9 @@ import org.springframework.context.annotation.Configuration;
 
 @Configuration
 public class FacilitiesJacksonConfigV1 {
+  /** Build a new mapper. Most code should use the shared one from {@link JacksonCodecs}. */
   public static ObjectMapper createMapper() {
-    return new FacilitiesJacksonConfigV1().objectMapperV1();
+    return JacksonConfig.createMapper().registerModule(JacksonSerializersV1.serializersV1());
   }
 
   /** Mask away checked exception so this Jackson can be used in streams. */
@@ -33,6 +34,6 @@ public class FacilitiesJacksonConfigV1 {
 
   @Bean
   public ObjectMapper objectMapperV1() {
-    return JacksonConfig.createMapper().registerModule(JacksonSerializersV1.serializersV1());
+    return JacksonCodecs.mapper(JacksonCodecs.Flavor.V1);
   }
 }
@@ -0,0 +1,42 @@
+package gov.va.api.lighthouse.facilities;
+
+import javax.persistence.Column;
+import javax.persistence.Embedded;
+import javax.persistence.Entity;
+import javax.persistence.GeneratedValue;
+import javax.persistence.GenerationType;
+import javax.persistence.Id;
+import javax.persistence.Table;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
+
+/**
+ * One entry of the facility change journal: a facility was written, or removed if deleted is set.
+ * Entries are numbered in the order they were recorded, and the number is the change token given
+ * to consumers of the change feed. The changed time is epoch millis.
+ */
+@Data
+@Entity
+@Builder
+@Table(name = "facility_change", schema = "app")
+@NoArgsConstructor(access = AccessLevel.PUBLIC)
+@EqualsAndHashCode(onlyExplicitlyIncluded = true)
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class FacilityChangeEntity {
+  @Id
+  @EqualsAndHashCode.Include
+  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  private Long id;
+
+  @Embedded private FacilityEntity.Pk facilityId;
+
+  @Column(name = "deleted", nullable = false)
+  private boolean deleted;
+
+  @Column(name = "changed", nullable = false)
+  private long changed;
+}
@@ -0,0 +1,30 @@
+package gov.va.api.lighthouse.facilities;
+
+import gov.va.api.health.autoconfig.logging.Loggable;
+import java.util.List;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.CrudRepository;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+@Loggable
+public interface FacilityChangeRepository extends CrudRepository<FacilityChangeEntity, Long> {
+  /** Remove journal entries older than the given entry. */
+  @Modifying
+  @Transactional
+  @Query("delete from #{#entityName} e where e.id < :id")
+  int deleteByIdBefore(@Param("id") long id);
+
+  List<FacilityChangeEntity> findByIdGreaterThanOrderByIdAsc(long id, Pageable page);
+
+  @Query("select min(e.id) from #{#entityName} e")
+  Long findFirstId();
+
+  @Query("select max(e.id) from #{#entityName} e")
+  Long findLastId();
+
+  @Query("select max(e.id) from #{#entityName} e where e.changed < :changed")
+  Long findLastIdChangedBefore(@Param("changed") long changed);
+}
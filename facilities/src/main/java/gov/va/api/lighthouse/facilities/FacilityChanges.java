@@ -0,0 +1,132 @@
+package gov.va.api.lighthouse.facilities;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.Builder;
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Journal of facility writes and removals behind the change feed. Every write path that changes
+ * what the API returns for a facility records an entry, and consumers page through the entries
+ * with the number of the last one they have seen as their change token.
+ *
+ * <p>Entries are numbered when they are inserted, but a write may commit after a later one has
+ * already been read. Entries younger than the settle time are not returned yet, so that slower
+ * writes are not skipped. Entries older than the retention period are pruned, except for the
+ * newest of them, which marks how far the journal has been pruned. A token from before that
+ * entry can no longer be followed, and the consumer must start again from the bulk export.
+ */
+@Slf4j
+@Component
+public class FacilityChanges {
+  private final FacilityChangeRepository repository;
+
+  private final Duration settle;
+
+  private final Duration retention;
+
+  @Builder
+  FacilityChanges(
+      @Autowired FacilityChangeRepository repository,
+      @Value("${facility-changes.settle-seconds:10}") long settleSeconds,
+      @Value("${facility-changes.retention-days:30}") long retentionDays) {
+    this.repository = repository;
+    this.settle = Duration.ofSeconds(Math.max(0, settleSeconds));
+    this.retention = Duration.ofDays(Math.max(1, retentionDays));
+  }
+
+  /**
+   * Changes after the given token, oldest first and at most limit journal entries. A facility
+   * changed more than once is reported once, by its latest entry.
+   */
+  Batch after(long since, int limit) {
+    Long first = repository.findFirstId();
+    if (first != null && since < first - 1) {
+      throw new ExceptionsUtils.ChangeTokenExpired(Long.toString(since));
+    }
+    List<FacilityChangeEntity> entries =
+        repository.findByIdGreaterThanOrderByIdAsc(since, PageRequest.of(0, limit + 1));
+    long settled = Instant.now().minus(settle).toEpochMilli();
+    Map<FacilityEntity.Pk, Boolean> latest = new LinkedHashMap<>();
+    long token = since;
+    int taken = 0;
+    boolean more = false;
+    for (FacilityChangeEntity entry : entries) {
+      if (entry.changed() > settled) {
+        break;
+      }
+      if (taken == limit) {
+        more = true;
+        break;
+      }
+      latest.remove(entry.facilityId());
+      latest.put(entry.facilityId(), entry.deleted());
+      token = entry.id();
+      taken++;
+    }
+    List<FacilityEntity.Pk> changed = new ArrayList<>();
+    List<FacilityEntity.Pk> deleted = new ArrayList<>();
+    latest.forEach((id, removed) -> (removed ? deleted : changed).add(id));
+    return new Batch(changed, deleted, Long.toString(token), more);
+  }
+
+  /** Record that the facility was written. */
+  void changed(@NonNull FacilityEntity.Pk id) {
+    record(id, false);
+  }
+
+  /** Record that the facility was removed. */
+  void deleted(@NonNull FacilityEntity.Pk id) {
+    record(id, true);
+  }
+
+  /** The token of the newest entry, where a consumer starting from the bulk export begins. */
+  String latestToken() {
+    Long last = repository.findLastId();
+    return Long.toString(last == null ? 0 : last);
+  }
+
+  /** Remove entries older than the retention period, keeping the newest of them. */
+  @Scheduled(cron = "${facility-changes.prune-cron:0 17 * * * *}")
+  public void prune() {
+    Long watermark =
+        repository.findLastIdChangedBefore(Instant.now().minus(retention).toEpochMilli());
+    if (watermark == null) {
+      return;
+    }
+    int removed = repository.deleteByIdBefore(watermark);
+    if (removed > 0) {
+      log.info("Pruned {} facility change entries before {}", removed, watermark);
+    }
+  }
+
+  private void record(FacilityEntity.Pk id, boolean deleted) {
+    repository.save(
+        FacilityChangeEntity.builder()
+            .facilityId(FacilityEntity.Pk.of(id.type(), id.stationNumber()))
+            .deleted(deleted)
+            .changed(Instant.now().toEpochMilli())
+            .build());
+  }
+
+  @lombok.Value
+  static class Batch {
+    List<FacilityEntity.Pk> changed;
+
+    List<FacilityEntity.Pk> deleted;
+
+    String nextToken;
+
+    boolean more;
+  }
+}
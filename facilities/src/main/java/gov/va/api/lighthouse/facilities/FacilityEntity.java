@@ -1,7 +1,6 @@
 package gov.va.api.lighthouse.facilities;
 
 import static com.google.common.base.Preconditions.checkArgument;
-import static gov.va.api.lighthouse.facilities.DatamartFacilitiesJacksonConfig.createMapper;
 import static java.util.stream.Collectors.toSet;
 import static org.apache.commons.lang3.StringUtils.capitalize;
 
@@ -18,6 +17,7 @@ import java.util.Set;
 import javax.persistence.Basic;
 import javax.persistence.CollectionTable;
 import javax.persistence.Column;
+import javax.persistence.Convert;
 import javax.persistence.ElementCollection;
 import javax.persistence.Embeddable;
 import javax.persistence.EmbeddedId;
@@ -47,8 +47,9 @@ import org.springframework.data.domain.Sort;
 @NoArgsConstructor(access = AccessLevel.PUBLIC)
 @EqualsAndHashCode(onlyExplicitlyIncluded = true)
 @AllArgsConstructor(access = AccessLevel.PRIVATE)
-public class FacilityEntity implements HasFacilityPayload {
-  private static final ObjectMapper DATAMART_MAPPER = createMapper();
+public class FacilityEntity implements HasFacilityLocation, HasFacilityPayload {
+  private static final ObjectMapper DATAMART_MAPPER =
+      JacksonCodecs.mapper(JacksonCodecs.Flavor.DATAMART);
 
   /**
    * API V0 searches by {type}_{facilityId}. We might want to change that in the future, so we are
@@ -78,16 +79,19 @@ public class FacilityEntity implements HasFacilityPayload {
 
   @Lob
   @Basic(fetch = FetchType.EAGER)
+  @Convert(converter = FacilityPayloadCodec.class)
   @Column
   private String facility;
 
   @Lob
   @Basic(fetch = FetchType.EAGER)
+  @Convert(converter = FacilityPayloadCodec.class)
   @Column(name = "cms_operating_status")
   private String cmsOperatingStatus;
 
   @Lob
   @Basic(fetch = FetchType.EAGER)
+  @Convert(converter = FacilityPayloadCodec.class)
   @Column(name = "cms_services")
   private String cmsServices;
 
@@ -114,6 +118,10 @@ public class FacilityEntity implements HasFacilityPayload {
   @Column(name = "mobile")
   private Boolean mobile;
 
+  /** Fingerprint of the collected facility this record was last written from. */
+  @Column(name = "fingerprint", length = 64)
+  private String fingerprint;
+
   /** Builder alternative that allows enums to be specified instead of strings. */
   @Builder(
       builderMethodName = "typeSafeBuilder",
@@ -133,7 +141,8 @@ public class FacilityEntity implements HasFacilityPayload {
       Long missingTimestamp,
       Instant lastUpdated,
       String visn,
-      Boolean mobile) {
+      Boolean mobile,
+      String fingerprint) {
     this(
         id,
         zip,
@@ -160,7 +169,8 @@ public class FacilityEntity implements HasFacilityPayload {
         missingTimestamp,
         lastUpdated,
         visn,
-        mobile);
+        mobile,
+        fingerprint);
   }
 
   static Sort naturalOrder() {
@@ -0,0 +1,57 @@
+package gov.va.api.lighthouse.facilities;
+
+import static gov.va.api.lighthouse.facilities.ControllersV1.validateFacilityFieldset;
+
+import gov.va.api.lighthouse.facilities.api.v1.FacilitiesResponse;
+import gov.va.api.lighthouse.facilities.api.v1.FacilityReadResponse;
+import gov.va.api.lighthouse.facilities.api.v1.serializers.FacilityFieldset;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.json.AbstractJackson2HttpMessageConverter;
+import org.springframework.http.converter.json.MappingJacksonValue;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+/**
+ * Applies the {@code fields[facility]} sparse fieldset of a V1 search, read or bulk request to the
+ * facilities in its response. The fieldset is given to the writer, so attributes that were not
+ * requested are never serialized, in JSON or in the binary encodings.
+ */
+@ControllerAdvice(assignableTypes = FacilitiesControllerV1.class)
+class FacilityFieldsetAdvice implements ResponseBodyAdvice<Object> {
+  @Override
+  public Object beforeBodyWrite(
+      Object body,
+      MethodParameter returnType,
+      MediaType selectedContentType,
+      Class<? extends HttpMessageConverter<?>> selectedConverterType,
+      ServerHttpRequest request,
+      ServerHttpResponse response) {
+    if (!(body instanceof FacilitiesResponse || body instanceof FacilityReadResponse)
+        || !(request instanceof ServletServerHttpRequest)) {
+      return body;
+    }
+    FacilityFieldset fieldset =
+        validateFacilityFieldset(
+            ((ServletServerHttpRequest) request)
+                .getServletRequest()
+                .getParameter(FacilityFieldset.PARAMETER));
+    if (fieldset == null) {
+      return body;
+    }
+    MappingJacksonValue value = new MappingJacksonValue(body);
+    value.setFilters(fieldset);
+    return value;
+  }
+
+  @Override
+  public boolean supports(
+      MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+    return AbstractJackson2HttpMessageConverter.class.isAssignableFrom(converterType)
+        || BinaryJacksonHttpMessageConverter.class.isAssignableFrom(converterType);
+  }
+}
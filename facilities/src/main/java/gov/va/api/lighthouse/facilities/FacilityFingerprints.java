@@ -0,0 +1,89 @@
+package gov.va.api.lighthouse.facilities;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.hash.Hashing;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Map;
+import lombok.Builder;
+import lombok.NonNull;
+import lombok.SneakyThrows;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Decides which collected facilities an incremental reload can skip. Every write records a
+ * fingerprint of the collected facility it was made from. A facility is skipped when its
+ * fingerprint matches the stored one, it is not marked missing, and it was written recently. Every
+ * facility is still rewritten at least once per reconciliation period, as a safety net for changes
+ * the fingerprint cannot see.
+ */
+@Slf4j
+@Component
+public class FacilityFingerprints {
+  private static final ObjectMapper DATAMART_MAPPER =
+      JacksonCodecs.mapper(JacksonCodecs.Flavor.DATAMART);
+
+  private final FacilityRepository facilityRepository;
+
+  private final Duration reconcileAfter;
+
+  @Builder
+  FacilityFingerprints(
+      @Autowired FacilityRepository facilityRepository,
+      @Value("${facility-fingerprints.reconcile-after-hours:24}") long reconcileAfterHours) {
+    this.facilityRepository = facilityRepository;
+    reconcileAfter = Duration.ofHours(Math.max(0, reconcileAfterHours));
+  }
+
+  /** SHA-256 of the facility in its datamart JSON form. */
+  @SneakyThrows
+  static String fingerprint(@NonNull DatamartFacility datamartFacility) {
+    return Hashing.sha256()
+        .hashBytes(DATAMART_MAPPER.writeValueAsBytes(datamartFacility))
+        .toString();
+  }
+
+  /** Read the stored fingerprints once, before the update phase of a reload starts. */
+  Snapshot snapshot(@NonNull Instant now) {
+    Instant writtenAfter = now.minus(reconcileAfter);
+    Map<FacilityEntity.Pk, String> current = new HashMap<>();
+    for (StoredFingerprint stored : facilityRepository.findFingerprints()) {
+      if (stored.fingerprint() != null
+          && stored.missingTimestamp() == null
+          && stored.lastUpdated() != null
+          && stored.lastUpdated().isAfter(writtenAfter)) {
+        current.put(stored.id(), stored.fingerprint());
+      }
+    }
+    log.info("{} stored facilities are eligible to be skipped", current.size());
+    return new Snapshot(current);
+  }
+
+  /** Fingerprints of the stored facilities that do not need reconciling. */
+  static final class Snapshot {
+    private static final Snapshot NONE = new Snapshot(Map.of());
+
+    private final Map<FacilityEntity.Pk, String> current;
+
+    private Snapshot(Map<FacilityEntity.Pk, String> current) {
+      this.current = current;
+    }
+
+    /** A snapshot that skips nothing, for full reloads. */
+    static Snapshot none() {
+      return NONE;
+    }
+
+    /** True if the facility was stored from a collected facility with the same fingerprint. */
+    boolean isUnchanged(@NonNull String id, @NonNull String fingerprint) {
+      return FacilityEntity.Pk.optionalFromIdString(id)
+          .map(current::get)
+          .map(fingerprint::equals)
+          .orElse(false);
+    }
+  }
+}
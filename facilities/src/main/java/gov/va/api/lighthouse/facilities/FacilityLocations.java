@@ -0,0 +1,13 @@
+package gov.va.api.lighthouse.facilities;
+
+import java.util.List;
+import org.springframework.data.jpa.domain.Specification;
+
+/** Searches that return facility locations rather than entities. */
+public interface FacilityLocations {
+  /**
+   * Locations of the facilities matching the specification in natural order. Only the id and
+   * coordinate columns are selected.
+   */
+  List<HasFacilityLocation> findLocations(Specification<FacilityEntity> specification);
+}
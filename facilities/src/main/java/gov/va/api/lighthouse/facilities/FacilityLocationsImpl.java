@@ -0,0 +1,56 @@
+package gov.va.api.lighthouse.facilities;
+
+import static java.util.stream.Collectors.toList;
+
+import java.util.List;
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import javax.persistence.Tuple;
+import javax.persistence.criteria.CriteriaBuilder;
+import javax.persistence.criteria.CriteriaQuery;
+import javax.persistence.criteria.Predicate;
+import javax.persistence.criteria.Root;
+import lombok.NonNull;
+import lombok.Value;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+
+/** Criteria implementation of the FacilityRepository location searches. */
+class FacilityLocationsImpl implements FacilityLocations {
+  @PersistenceContext private EntityManager entityManager;
+
+  @Override
+  public List<HasFacilityLocation> findLocations(
+      @NonNull Specification<FacilityEntity> specification) {
+    CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+    CriteriaQuery<Tuple> criteriaQuery = criteriaBuilder.createTupleQuery();
+    Root<FacilityEntity> root = criteriaQuery.from(FacilityEntity.class);
+    criteriaQuery.multiselect(
+        root.get("id").alias("id"),
+        root.get("latitude").alias("latitude"),
+        root.get("longitude").alias("longitude"));
+    Predicate predicate = specification.toPredicate(root, criteriaQuery, criteriaBuilder);
+    if (predicate != null) {
+      criteriaQuery.where(predicate);
+    }
+    criteriaQuery.orderBy(
+        QueryUtils.toOrders(FacilityEntity.naturalOrder(), root, criteriaBuilder));
+    return entityManager.createQuery(criteriaQuery).getResultList().stream()
+        .map(
+            t ->
+                new Location(
+                    t.get("id", FacilityEntity.Pk.class),
+                    t.get("latitude", Double.class),
+                    t.get("longitude", Double.class)))
+        .collect(toList());
+  }
+
+  @Value
+  private static class Location implements HasFacilityLocation {
+    FacilityEntity.Pk id;
+
+    double latitude;
+
+    double longitude;
+  }
+}
@@ -18,7 +18,7 @@ public class FacilityOverlayHelper {
       datamartFacility
           .attributes()
           .detailedServices(
-              datamartFacility.attributes().detailedServices().parallelStream()
+              datamartFacility.attributes().detailedServices().stream()
                   .filter(dds -> dds.serviceInfo() != null)
                   .collect(Collectors.toList()));
     }
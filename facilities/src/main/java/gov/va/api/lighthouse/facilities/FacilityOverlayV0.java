@@ -1,9 +1,8 @@
 package gov.va.api.lighthouse.facilities;
 
-import static gov.va.api.lighthouse.facilities.DatamartFacilitiesJacksonConfig.createMapper;
 import static gov.va.api.lighthouse.facilities.FacilityOverlayHelper.filterOutInvalidDetailedServices;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
 import gov.va.api.lighthouse.facilities.api.v0.Facility;
 import java.util.function.Function;
 import lombok.Builder;
@@ -14,15 +13,15 @@ import lombok.Value;
 @Value
 public class FacilityOverlayV0 implements Function<HasFacilityPayload, Facility> {
 
-  private static final ObjectMapper DATAMART_MAPPER = createMapper();
+  private static final ObjectReader DATAMART_FACILITY =
+      JacksonCodecs.reader(JacksonCodecs.Flavor.DATAMART, DatamartFacility.class);
 
   @Override
   @SneakyThrows
   public Facility apply(HasFacilityPayload entity) {
     Facility facility =
         FacilityTransformerV0.toFacility(
-            filterOutInvalidDetailedServices(
-                DATAMART_MAPPER.readValue(entity.facility(), DatamartFacility.class)));
+            filterOutInvalidDetailedServices(DATAMART_FACILITY.readValue(entity.facility())));
     return facility;
   }
 }
@@ -1,9 +1,9 @@
 package gov.va.api.lighthouse.facilities;
 
 import static gov.va.api.lighthouse.facilities.DatamartFacilitiesJacksonConfig.createMapper;
-import static gov.va.api.lighthouse.facilities.FacilityOverlayHelper.filterOutInvalidDetailedServices;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.databind.ObjectReader;
 import gov.va.api.lighthouse.facilities.api.v1.Facility;
 import java.util.function.BiFunction;
 import lombok.Builder;
@@ -14,16 +14,25 @@ import lombok.Value;
 @Builder
 @Value
 public class FacilityOverlayV1 implements BiFunction<HasFacilityPayload, String, Facility> {
-  private static final ObjectMapper DATAMART_MAPPER = createMapper();
+  /**
+   * Version 1 facilities do not include detailed services, which are usually the largest part of
+   * the stored facility. They are skipped while parsing instead of being deserialized, filtered,
+   * and then dropped by the transformer. The mix-in needs a mapper of its own, so this is not one
+   * of the shared {@link JacksonCodecs}.
+   */
+  private static final ObjectReader DATAMART_FACILITY =
+      createMapper()
+          .addMixIn(DatamartFacility.FacilityAttributes.class, WithoutDetailedServices.class)
+          .readerFor(DatamartFacility.class);
 
   @Override
   @SneakyThrows
   public Facility apply(HasFacilityPayload entity, @NonNull String linkerUrl) {
     Facility facility =
-        FacilityTransformerV1.toFacility(
-            filterOutInvalidDetailedServices(
-                DATAMART_MAPPER.readValue(entity.facility(), DatamartFacility.class)),
-            linkerUrl);
+        FacilityTransformerV1.toFacility(DATAMART_FACILITY.readValue(entity.facility()), linkerUrl);
     return facility;
   }
+
+  @JsonIgnoreProperties({"detailed_services", "detailedServices"})
+  private interface WithoutDetailedServices {}
 }
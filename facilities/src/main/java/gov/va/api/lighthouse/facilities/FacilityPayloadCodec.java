@@ -0,0 +1,84 @@
+package gov.va.api.lighthouse.facilities;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Base64;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
+import javax.persistence.AttributeConverter;
+import javax.persistence.Converter;
+import lombok.Builder;
+import lombok.SneakyThrows;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Storage format for the facility payload columns. Payloads may be stored as a format header
+ * followed by deflated, Base64 encoded JSON. Values without a header are legacy JSON and are read
+ * as is, so both formats are always readable.
+ *
+ * <p>Writing the compressed format is off until {@code facility-payload.write-compressed} is
+ * enabled. That property must only be enabled once every running instance can read the compressed
+ * format, and rolling back past this reader requires disabling it and restoring legacy JSON first.
+ * The same property enables {@link FacilityPayloadMigration}.
+ *
+ * <p>Callers always see plain JSON, so the overlays, the CMS overlay paths and {@code
+ * InternalFacilitiesController.populate} are unaware of the storage format.
+ */
+@Component
+@Converter
+public class FacilityPayloadCodec implements AttributeConverter<String, String> {
+  /** Header of the current format. A new format gets a new header; old ones must stay readable. */
+  static final String DEFLATE_V1 = "fp1:";
+
+  private final boolean writeCompressed;
+
+  @Builder
+  FacilityPayloadCodec(
+      @Value("${facility-payload.write-compressed:false}") boolean writeCompressed) {
+    this.writeCompressed = writeCompressed;
+  }
+
+  /** Decode a stored value, returning legacy JSON unchanged. */
+  @SneakyThrows
+  static String decode(String stored) {
+    if (!isEncoded(stored)) {
+      return stored;
+    }
+    byte[] deflated = Base64.getDecoder().decode(stored.substring(DEFLATE_V1.length()));
+    try (InputStream in = new InflaterInputStream(new ByteArrayInputStream(deflated))) {
+      return new String(in.readAllBytes(), UTF_8);
+    }
+  }
+
+  /** Encode JSON in the current format. Values that are already encoded are left alone. */
+  @SneakyThrows
+  static String encode(String json) {
+    if (json == null || isEncoded(json)) {
+      return json;
+    }
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream(json.length() / 4);
+    try (OutputStream out = new DeflaterOutputStream(bytes)) {
+      out.write(json.getBytes(UTF_8));
+    }
+    return DEFLATE_V1 + Base64.getEncoder().encodeToString(bytes.toByteArray());
+  }
+
+  static boolean isEncoded(String stored) {
+    return stored != null && stored.startsWith(DEFLATE_V1);
+  }
+
+  @Override
+  public String convertToDatabaseColumn(String json) {
+    return writeCompressed ? encode(json) : json;
+  }
+
+  @Override
+  public String convertToEntityAttribute(String stored) {
+    return decode(stored);
+  }
+}
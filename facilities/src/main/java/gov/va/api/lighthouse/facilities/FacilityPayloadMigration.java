@@ -0,0 +1,80 @@
+package gov.va.api.lighthouse.facilities;
+
+import static java.util.stream.Collectors.toList;
+
+import com.google.common.base.Stopwatch;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import lombok.Builder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Background job that rewrites facility payloads still stored as legacy JSON in the {@link
+ * FacilityPayloadCodec} format, one batch per run. Rows are rewritten without changing their
+ * version or last updated time, and a row that changes while being migrated is left to the next
+ * run. Once every row is migrated, each run is a single query that finds nothing. The job does
+ * nothing unless {@code facility-payload.write-compressed} is enabled, see {@link
+ * FacilityPayloadCodec}.
+ */
+@Slf4j
+@Component
+public class FacilityPayloadMigration {
+  private final FacilityRepository facilityRepository;
+
+  private final int batchSize;
+
+  private final boolean enabled;
+
+  @Builder
+  FacilityPayloadMigration(
+      @Autowired FacilityRepository facilityRepository,
+      @Value("${facility-payload-migration.batch-size:250}") int batchSize,
+      @Value("${facility-payload.write-compressed:false}") boolean enabled) {
+    this.facilityRepository = facilityRepository;
+    this.batchSize = Math.max(1, batchSize);
+    this.enabled = enabled;
+  }
+
+  /** Rewrite one batch of legacy rows, returning the number of rows rewritten. */
+  int migrateBatch() {
+    if (!enabled) {
+      return 0;
+    }
+    List<FacilityEntity.Pk> ids =
+        facilityRepository.findIdsWithLegacyPayload(PageRequest.of(0, batchSize)).stream()
+            .map(FacilityEntity.Pk::fromIdString)
+            .collect(toList());
+    if (ids.isEmpty()) {
+      return 0;
+    }
+    Stopwatch timer = Stopwatch.createStarted();
+    int rewritten = 0;
+    for (FacilityEntity entity : facilityRepository.findByIdIn(ids)) {
+      rewritten +=
+          facilityRepository.rewritePayload(
+              entity.id(),
+              entity.version(),
+              FacilityPayloadCodec.encode(entity.facility()),
+              FacilityPayloadCodec.encode(entity.cmsOperatingStatus()),
+              FacilityPayloadCodec.encode(entity.cmsServices()));
+    }
+    log.info(
+        "Rewrote {} of {} legacy facility payloads in {} ms",
+        rewritten,
+        ids.size(),
+        timer.elapsed(TimeUnit.MILLISECONDS));
+    return rewritten;
+  }
+
+  @Scheduled(
+      initialDelayString = "${facility-payload-migration.initial-delay-millis:300000}",
+      fixedDelayString = "${facility-payload-migration.delay-millis:60000}")
+  void onSchedule() {
+    migrateBatch();
+  }
+}
@@ -1,6 +1,5 @@
 package gov.va.api.lighthouse.facilities;
 
-import static gov.va.api.lighthouse.facilities.DatamartFacilitiesJacksonConfig.createMapper;
 import static java.util.Collections.emptySet;
 import static org.apache.commons.lang3.StringUtils.capitalize;
 import static org.springframework.util.CollectionUtils.isEmpty;
@@ -25,15 +24,20 @@ import lombok.EqualsAndHashCode;
 import lombok.NonNull;
 import lombok.SneakyThrows;
 import lombok.Value;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.CrudRepository;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 @Loggable
 public interface FacilityRepository
     extends CrudRepository<FacilityEntity, FacilityEntity.Pk>,
-        JpaSpecificationExecutor<FacilityEntity> {
+        JpaSpecificationExecutor<FacilityEntity>,
+        FacilityLocations {
 
   @Query("select e.id from #{#entityName} e")
   List<FacilityEntity.Pk> findAllIds();
@@ -42,13 +46,52 @@ public interface FacilityRepository
 
   List<FacilityEntity> findByIdIn(Collection<FacilityEntity.Pk> ids);
 
-  List<FacilityEntity> findByVisn(String visn);
+  @Query(
+      "select new gov.va.api.lighthouse.facilities.StoredFingerprint(e.id.type,"
+          + " e.id.stationNumber, e.fingerprint, e.lastUpdated, e.missingTimestamp)"
+          + " from #{#entityName} e")
+  List<StoredFingerprint> findFingerprints();
+
+  @Query("select e.id from #{#entityName} e")
+  List<FacilityEntity.Pk> findIds(Pageable page);
+
+  /** IDs of facilities with a payload column still stored as legacy JSON. */
+  @Query(
+      value =
+          "select concat(type, '_', station_number) from app.facility"
+              + " where facility not like '"
+              + FacilityPayloadCodec.DEFLATE_V1
+              + "%' or cms_operating_status not like '"
+              + FacilityPayloadCodec.DEFLATE_V1
+              + "%' or cms_services not like '"
+              + FacilityPayloadCodec.DEFLATE_V1
+              + "%'",
+      nativeQuery = true)
+  List<String> findIdsWithLegacyPayload(Pageable page);
 
   @Query("select max(e.lastUpdated) from #{#entityName} e")
   Instant findLastUpdated();
 
+  /**
+   * Rewrite the payload columns in the current storage format without touching the version or
+   * last updated time. Nothing is written if the facility changed since it was read.
+   */
+  @Modifying
+  @Transactional
+  @Query(
+      "update #{#entityName} e set e.facility = :facility,"
+          + " e.cmsOperatingStatus = :cmsOperatingStatus, e.cmsServices = :cmsServices"
+          + " where e.id = :id and e.version = :version")
+  int rewritePayload(
+      @Param("id") FacilityEntity.Pk id,
+      @Param("version") Integer version,
+      @Param("facility") String facility,
+      @Param("cmsOperatingStatus") String cmsOperatingStatus,
+      @Param("cmsServices") String cmsServices);
+
   abstract class ServicesSpecificationHelper implements Specification<FacilityEntity> {
-    private static final ObjectMapper DATAMART_MAPPER = createMapper();
+    private static final ObjectMapper DATAMART_MAPPER =
+        JacksonCodecs.mapper(JacksonCodecs.Flavor.DATAMART);
 
     @SneakyThrows
     protected Predicate buildServicesPredicate(
@@ -258,6 +301,20 @@ public interface FacilityRepository
     }
   }
 
+  @Value
+  @Builder
+  final class VisnSpecification implements Specification<FacilityEntity> {
+    @NonNull String visn;
+
+    @Override
+    public Predicate toPredicate(
+        Root<FacilityEntity> root,
+        CriteriaQuery<?> criteriaQuery,
+        CriteriaBuilder criteriaBuilder) {
+      return criteriaBuilder.equal(root.get("visn"), visn);
+    }
+  }
+
   @Value
   @Builder
   @EqualsAndHashCode(callSuper = false)
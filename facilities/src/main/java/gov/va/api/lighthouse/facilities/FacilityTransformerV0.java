@@ -203,7 +203,7 @@ public final class FacilityTransformerV0 extends BaseVersionedTransformer {
         ? Facility.Services.builder()
             .health(
                 (datamartFacilityServices.health() != null)
-                    ? datamartFacilityServices.health().parallelStream()
+                    ? datamartFacilityServices.health().stream()
                         .filter(
                             e ->
                                 containsValueOfName(Facility.HealthService.values(), e.name())
@@ -214,14 +214,14 @@ public final class FacilityTransformerV0 extends BaseVersionedTransformer {
                     : null)
             .benefits(
                 (datamartFacilityServices.benefits() != null)
-                    ? datamartFacilityServices.benefits().parallelStream()
+                    ? datamartFacilityServices.benefits().stream()
                         .map(FacilityTransformerV0::toFacilityBenefitsService)
                         .filter(Objects::nonNull)
                         .collect(Collectors.toList())
                     : null)
             .other(
                 (datamartFacilityServices.other() != null)
-                    ? datamartFacilityServices.other().parallelStream()
+                    ? datamartFacilityServices.other().stream()
                         .map(FacilityTransformerV0::toFacilityOtherService)
                         .filter(Objects::nonNull)
                         .collect(Collectors.toList())
@@ -247,7 +247,7 @@ public final class FacilityTransformerV0 extends BaseVersionedTransformer {
   public static List<Facility.SupplementalStatus> toFacilitySupplementalStatuses(
       List<DatamartFacility.SupplementalStatus> datamartFacilitySupplementalStatuses) {
     if (datamartFacilitySupplementalStatuses != null) {
-      return datamartFacilitySupplementalStatuses.parallelStream()
+      return datamartFacilitySupplementalStatuses.stream()
           .map(FacilityTransformerV0::toFacilitySupplementalStatus)
           .collect(Collectors.toList());
     }
@@ -269,7 +269,7 @@ public final class FacilityTransformerV0 extends BaseVersionedTransformer {
         ? Facility.WaitTimes.builder()
             .health(
                 (datamartFacilityWaitTimes.health() != null)
-                    ? datamartFacilityWaitTimes.health().parallelStream()
+                    ? datamartFacilityWaitTimes.health().stream()
                         .map(FacilityTransformerV0::toFacilityPatientWaitTime)
                         .collect(Collectors.toList())
                     : null)
@@ -493,7 +493,7 @@ public final class FacilityTransformerV0 extends BaseVersionedTransformer {
         ? DatamartFacility.Services.builder()
             .health(
                 (facilityServices.health() != null)
-                    ? facilityServices.health().parallelStream()
+                    ? facilityServices.health().stream()
                         .filter(
                             e ->
                                 containsValueOfName(
@@ -505,14 +505,14 @@ public final class FacilityTransformerV0 extends BaseVersionedTransformer {
                     : null)
             .benefits(
                 (facilityServices.benefits() != null)
-                    ? facilityServices.benefits().parallelStream()
+                    ? facilityServices.benefits().stream()
                         .map(FacilityTransformerV0::toVersionAgnosticFacilityBenefitsService)
                         .filter(Objects::nonNull)
                         .collect(Collectors.toList())
                     : null)
             .other(
                 (facilityServices.other() != null)
-                    ? facilityServices.other().parallelStream()
+                    ? facilityServices.other().stream()
                         .map(FacilityTransformerV0::toVersionAgnosticFacilityOtherService)
                         .filter(Objects::nonNull)
                         .collect(Collectors.toList())
@@ -537,7 +537,7 @@ public final class FacilityTransformerV0 extends BaseVersionedTransformer {
         ? DatamartFacility.WaitTimes.builder()
             .health(
                 (facilityWaitTimes.health() != null)
-                    ? facilityWaitTimes.health().parallelStream()
+                    ? facilityWaitTimes.health().stream()
                         .map(FacilityTransformerV0::toVersionAgnosticFacilityPatientWaitTime)
                         .collect(Collectors.toList())
                     : null)
@@ -562,7 +562,7 @@ public final class FacilityTransformerV0 extends BaseVersionedTransformer {
   public static List<DatamartFacility.SupplementalStatus> toVersionAgnosticSupplementalStatuses(
       List<Facility.SupplementalStatus> facilitySupplementalStatuses) {
     if (facilitySupplementalStatuses != null) {
-      return facilitySupplementalStatuses.parallelStream()
+      return facilitySupplementalStatuses.stream()
           .map(FacilityTransformerV0::toVersionAgnosticSupplementalStatus)
           .collect(Collectors.toList());
     }
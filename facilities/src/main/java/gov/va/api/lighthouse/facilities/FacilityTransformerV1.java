@@ -251,7 +251,7 @@ public final class FacilityTransformerV1 extends BaseVersionedTransformer {
         ? Facility.Services.builder()
             .health(
                 (datamartFacilityServices.health() != null)
-                    ? datamartFacilityServices.health().parallelStream()
+                    ? datamartFacilityServices.health().stream()
                         .filter(
                             e ->
                                 checkHealthServiceNameChange(e)
@@ -263,14 +263,14 @@ public final class FacilityTransformerV1 extends BaseVersionedTransformer {
                     : null)
             .benefits(
                 (datamartFacilityServices.benefits() != null)
-                    ? datamartFacilityServices.benefits().parallelStream()
+                    ? datamartFacilityServices.benefits().stream()
                         .map(e -> toFacilityBenefitsService(e, linkUrl, facilityId))
                         .filter(Objects::nonNull)
                         .collect(Collectors.toList())
                     : null)
             .other(
                 (datamartFacilityServices.other() != null)
-                    ? datamartFacilityServices.other().parallelStream()
+                    ? datamartFacilityServices.other().stream()
                         .map(e -> toFacilityOtherService(e, linkUrl, facilityId))
                         .filter(Objects::nonNull)
                         .collect(Collectors.toList())
@@ -297,7 +297,7 @@ public final class FacilityTransformerV1 extends BaseVersionedTransformer {
   public static List<Facility.SupplementalStatus> toFacilitySupplementalStatuses(
       List<DatamartFacility.SupplementalStatus> datamartFacilitySupplementalStatuses) {
     if (datamartFacilitySupplementalStatuses != null) {
-      return datamartFacilitySupplementalStatuses.parallelStream()
+      return datamartFacilitySupplementalStatuses.stream()
           .map(FacilityTransformerV1::toFacilitySupplementalStatus)
           .collect(Collectors.toList());
     }
@@ -539,7 +539,7 @@ public final class FacilityTransformerV1 extends BaseVersionedTransformer {
         ? DatamartFacility.Services.builder()
             .health(
                 (facilityServices.health() != null)
-                    ? facilityServices.health().parallelStream()
+                    ? facilityServices.health().stream()
                         .filter(
                             e ->
                                 checkHealthServiceNameChange(e)
@@ -551,14 +551,14 @@ public final class FacilityTransformerV1 extends BaseVersionedTransformer {
                     : null)
             .benefits(
                 (facilityServices.benefits() != null)
-                    ? facilityServices.benefits().parallelStream()
+                    ? facilityServices.benefits().stream()
                         .map(FacilityTransformerV1::toVersionAgnosticFacilityBenefitsService)
                         .filter(Objects::nonNull)
                         .collect(Collectors.toList())
                     : null)
             .other(
                 (facilityServices.other() != null)
-                    ? facilityServices.other().parallelStream()
+                    ? facilityServices.other().stream()
                         .map(FacilityTransformerV1::toVersionAgnosticFacilityOtherService)
                         .filter(Objects::nonNull)
                         .collect(Collectors.toList())
@@ -592,7 +592,7 @@ public final class FacilityTransformerV1 extends BaseVersionedTransformer {
   public static List<DatamartFacility.SupplementalStatus> toVersionAgnosticSupplementalStatuses(
       List<Facility.SupplementalStatus> facilitySupplementalStatuses) {
     if (facilitySupplementalStatuses != null) {
-      return facilitySupplementalStatuses.parallelStream()
+      return facilitySupplementalStatuses.stream()
           .map(FacilityTransformerV1::toVersionAgnosticSupplementalStatus)
           .collect(Collectors.toList());
     }
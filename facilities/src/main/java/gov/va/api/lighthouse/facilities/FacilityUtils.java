@@ -15,9 +15,9 @@ import lombok.experimental.UtilityClass;
 @UtilityClass
 public class FacilityUtils {
   /** Unitless distance approximation based on geometric distance formula. For sorting only. */
-  static double distance(@NonNull FacilityEntity entity, double lng, double lat) {
-    double lngDiff = entity.longitude() - lng;
-    double latDiff = entity.latitude() - lat;
+  static double distance(@NonNull HasFacilityLocation location, double lng, double lat) {
+    double lngDiff = location.longitude() - lng;
+    double latDiff = location.latitude() - lat;
     return Math.sqrt(lngDiff * lngDiff + latDiff * latDiff);
   }
 
@@ -36,9 +36,9 @@ public class FacilityUtils {
   }
 
   /** Distance in miles using Haversine algorithm. */
-  static double haversine(@NonNull FacilityEntity entity, double lng, double lat) {
-    double lon1 = Math.toRadians(entity.longitude());
-    double lat1 = Math.toRadians(entity.latitude());
+  static double haversine(@NonNull HasFacilityLocation location, double lng, double lat) {
+    double lon1 = Math.toRadians(location.longitude());
+    double lat1 = Math.toRadians(location.latitude());
     double lon2 = Math.toRadians(lng);
     double lat2 = Math.toRadians(lat);
     double lonDiff = lon2 - lon1;
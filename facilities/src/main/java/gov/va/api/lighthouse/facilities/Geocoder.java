@@ -0,0 +1,161 @@
+package gov.va.api.lighthouse.facilities;
+
+import static gov.va.api.health.autoconfig.logging.LogSanitizer.sanitize;
+import static org.apache.commons.lang3.StringUtils.trimToEmpty;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import gov.va.api.lighthouse.facilities.NearbyUtils.Coordinates;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.GuavaCacheMetrics;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import lombok.Builder;
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Geocodes addresses for nearby searches. Providers are consulted in order until one can place the
+ * address precisely enough for drive time bands, e.g. the offline ZIP+4 centroid table before Bing.
+ * If every provider fails, the first approximate location offered (such as a 5-digit ZIP centroid)
+ * is used instead, so nearby searches still work while Bing is unavailable.
+ *
+ * <p>Results are cached by normalized address. Failures and approximate locations are not cached,
+ * so the address is geocoded precisely once a provider is available again.
+ */
+@Slf4j
+@Component
+public class Geocoder implements MeterBinder {
+  private final List<Provider> providers;
+
+  private final Cache<String, Coordinates> cache;
+
+  @Builder
+  Geocoder(
+      @Autowired List<Provider> providers,
+      @Value("${geocoder.cache.maximum-size:10000}") long maximumSize,
+      @Value("${geocoder.cache.ttl-minutes:1440}") long ttlMinutes) {
+    this.providers = List.copyOf(providers);
+    this.cache =
+        CacheBuilder.newBuilder()
+            .maximumSize(maximumSize)
+            .expireAfterWrite(ttlMinutes, TimeUnit.MINUTES)
+            .recordStats()
+            .build();
+  }
+
+  @Override
+  public void bindTo(@NonNull MeterRegistry registry) {
+    GuavaCacheMetrics.monitor(registry, cache, "geocoder");
+  }
+
+  /** Geocode the address, throwing the first provider failure if it cannot be located. */
+  public Coordinates geocode(
+      @NonNull String street, @NonNull String city, @NonNull String state, @NonNull String zip) {
+    Address address = Address.builder().street(street).city(city).state(state).zip(zip).build();
+    String key = address.normalized();
+    Coordinates cached = cache.getIfPresent(key);
+    if (cached != null) {
+      return cached;
+    }
+    RuntimeException failure = null;
+    for (Provider provider : providers) {
+      try {
+        Optional<Coordinates> coordinates = provider.geocode(address);
+        if (coordinates.isPresent()) {
+          cache.put(key, coordinates.get());
+          return coordinates.get();
+        }
+      } catch (RuntimeException e) {
+        log.warn("{} failed: {}", provider.getClass().getSimpleName(), e.getMessage());
+        if (failure == null) {
+          failure = e;
+        }
+      }
+    }
+    /* Approximations are not cached so the address is geocoded precisely once Bing recovers. */
+    for (Provider provider : providers) {
+      Optional<Coordinates> coordinates = provider.approximate(address);
+      if (coordinates.isPresent()) {
+        log.warn("Using approximate location for zip {}", sanitize(address.zip()));
+        return coordinates.get();
+      }
+    }
+    if (failure != null) {
+      throw failure;
+    }
+    throw new ExceptionsUtilsV0.BingException(
+        String.format(
+            "Failed to geocode street_address '%s', city '%s', state '%s', zip '%s'",
+            address.street(), address.city(), address.state(), address.zip()));
+  }
+
+  /** A source of coordinates for addresses. */
+  interface Provider {
+    /**
+     * Approximate location to fall back on when no provider could geocode the address. Empty if
+     * this provider cannot offer one.
+     */
+    default Optional<Coordinates> approximate(Address address) {
+      return Optional.empty();
+    }
+
+    /**
+     * Coordinates precise enough for nearby searches. Empty to defer to the next provider. Throws
+     * if the provider could not be reached.
+     */
+    Optional<Coordinates> geocode(Address address);
+  }
+
+  @lombok.Value
+  @Builder
+  static final class Address {
+    @NonNull String street;
+
+    @NonNull String city;
+
+    @NonNull String state;
+
+    @NonNull String zip;
+
+    private static String normalize(String value) {
+      return trimToEmpty(value)
+          .replaceAll("[.,#]", " ")
+          .replaceAll("\\s+", " ")
+          .trim()
+          .toUpperCase(Locale.ENGLISH);
+    }
+
+    /** Single line form used for cache keys. */
+    String normalized() {
+      return String.join(
+          "|",
+          normalize(street),
+          normalize(city),
+          normalize(state),
+          zipPlus4().orElse(zip5().orElse(normalize(zip))));
+    }
+
+    /** The 5-digit ZIP, if the zip is well formed. */
+    Optional<String> zip5() {
+      String digits = zip.replaceAll("[^0-9]", "");
+      return digits.length() == 5 || digits.length() == 9
+          ? Optional.of(digits.substring(0, 5))
+          : Optional.empty();
+    }
+
+    /** The ZIP+4 formatted as 12345-6789, if the zip includes the extension. */
+    Optional<String> zipPlus4() {
+      String digits = zip.replaceAll("[^0-9]", "");
+      return digits.length() == 9
+          ? Optional.of(digits.substring(0, 5) + "-" + digits.substring(5))
+          : Optional.empty();
+    }
+  }
+}
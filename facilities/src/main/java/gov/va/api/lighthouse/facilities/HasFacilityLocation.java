@@ -0,0 +1,13 @@
+package gov.va.api.lighthouse.facilities;
+
+/**
+ * A DTO projection of the FacilityEntity with only its identity and coordinates, enough to filter
+ * and sort searches by distance without reading payloads or service collections.
+ */
+public interface HasFacilityLocation {
+  FacilityEntity.Pk id();
+
+  double latitude();
+
+  double longitude();
+}
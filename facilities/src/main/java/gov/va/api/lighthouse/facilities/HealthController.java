@@ -5,8 +5,8 @@ import static com.google.common.base.Preconditions.checkState;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.node.ArrayNode;
-import gov.va.api.health.autoconfig.configuration.JacksonConfig;
 import gov.va.api.lighthouse.facilities.collector.InsecureRestTemplateProvider;
+import gov.va.api.lighthouse.facilities.collector.UpstreamFeeds;
 import java.sql.Timestamp;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
@@ -23,9 +23,6 @@ import org.springframework.boot.actuate.health.Health;
 import org.springframework.boot.actuate.health.Status;
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
-import org.springframework.http.HttpEntity;
-import org.springframework.http.HttpHeaders;
-import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.jdbc.core.JdbcTemplate;
@@ -46,6 +43,8 @@ public class HealthController {
 
   private final InsecureRestTemplateProvider insecureRestTemplateProvider;
 
+  private final UpstreamFeeds upstreamFeeds;
+
   private final JdbcTemplate jdbcTemplate;
 
   private final String atcBaseUrl;
@@ -61,34 +60,38 @@ public class HealthController {
   HealthController(
       @Autowired FacilityRepository repository,
       @Autowired InsecureRestTemplateProvider insecureRestTemplateProvider,
+      @Autowired UpstreamFeeds upstreamFeeds,
       @Autowired JdbcTemplate jdbcTemplate,
       @Value("${access-to-care.url}") String atcBaseUrl,
       @Value("${access-to-pwt.url}") String atpBaseUrl,
       @Value("${cemeteries.url}") String cemeteriesBaseUrl) {
     this.repository = repository;
     this.insecureRestTemplateProvider = insecureRestTemplateProvider;
+    this.upstreamFeeds = upstreamFeeds;
     this.jdbcTemplate = jdbcTemplate;
     this.atcBaseUrl = withTrailingSlash(atcBaseUrl);
     this.atpBaseUrl = withTrailingSlash(atpBaseUrl);
     this.cemeteriesBaseUrl = withTrailingSlash(cemeteriesBaseUrl);
   }
 
+  private static boolean isUp(HttpStatus statusCode) {
+    return statusCode.is2xxSuccessful() || statusCode == HttpStatus.NOT_MODIFIED;
+  }
+
   private static Health testHealth(
       @NonNull Instant now,
+      @NonNull UpstreamFeeds upstreamFeeds,
       @NonNull RestTemplate restTemplate,
       @NonNull String name,
       @NonNull String url) {
     HttpStatus statusCode;
     try {
-      statusCode =
-          restTemplate
-              .exchange(url, HttpMethod.GET, new HttpEntity<>(new HttpHeaders()), String.class)
-              .getStatusCode();
+      statusCode = upstreamFeeds.probe(restTemplate, url).getStatusCode();
     } catch (ResourceAccessException e) {
       log.info("Exception occurred. GET {} message: {}", url, e.getMessage());
       statusCode = HttpStatus.SERVICE_UNAVAILABLE;
     }
-    return Health.status(new Status(statusCode.is2xxSuccessful() ? "UP" : "DOWN", name))
+    return Health.status(new Status(isUp(statusCode) ? "UP" : "DOWN", name))
         .withDetail("name", name)
         .withDetail("statusCode", statusCode.value())
         .withDetail("status", statusCode)
@@ -98,16 +101,16 @@ public class HealthController {
 
   private static Health testHealthJsonList(
       @NonNull Instant now,
+      @NonNull UpstreamFeeds upstreamFeeds,
       @NonNull RestTemplate restTemplate,
       @NonNull String name,
       @NonNull String url) {
     HttpStatus statusCode;
     try {
-      ResponseEntity<String> response =
-          restTemplate.exchange(
-              url, HttpMethod.GET, new HttpEntity<>(new HttpHeaders()), String.class);
+      ResponseEntity<String> response = upstreamFeeds.probe(restTemplate, url);
       statusCode = response.getStatusCode();
-      JsonNode root = JacksonConfig.createMapper().readTree(response.getBody());
+      JsonNode root =
+          JacksonCodecs.mapper(JacksonCodecs.Flavor.PLAIN).readTree(response.getBody());
       if (StringUtils.endsWithIgnoreCase(url, "api/v1.0/pwt/all")) {
         // ATC health check
         checkState(!((ArrayNode) root.get("Data")).isEmpty(), "No %s entries", name);
@@ -120,7 +123,7 @@ public class HealthController {
           "{} occurred. GET {} message: {}", e.getClass().getSimpleName(), url, e.getMessage());
       statusCode = HttpStatus.SERVICE_UNAVAILABLE;
     }
-    return Health.status(new Status(statusCode.is2xxSuccessful() ? "UP" : "DOWN", name))
+    return Health.status(new Status(isUp(statusCode) ? "UP" : "DOWN", name))
         .withDetail("name", name)
         .withDetail("statusCode", statusCode.value())
         .withDetail("status", statusCode)
@@ -174,6 +177,9 @@ public class HealthController {
    * limiting interactions to once every five minutes.
    *
    * <p>Spring Cacheable is used to record the result. Periodically we invalidate the cache.
+   *
+   * <p>Feeds the collector has stored are requested with their validators, so an unchanged feed
+   * answers 304 rather than sending its body again.
    */
   @Cacheable("collector-backend-health")
   @GetMapping(value = "/collector/health")
@@ -186,12 +192,14 @@ public class HealthController {
     healths.add(
         testHealthJsonList(
             now,
+            upstreamFeeds,
             insecureTemplate,
             "Access to Care",
             UriComponentsBuilder.fromHttpUrl(atcBaseUrl + "api/v1.0/pwt/all").toUriString()));
     healths.add(
         testHealthJsonList(
             now,
+            upstreamFeeds,
             insecureTemplate,
             "Access to PWT",
             UriComponentsBuilder.fromHttpUrl(atpBaseUrl + "Shep/getRawData")
@@ -201,6 +209,7 @@ public class HealthController {
     healths.add(
         testHealth(
             now,
+            upstreamFeeds,
             insecureTemplate,
             "State Cemeteries",
             UriComponentsBuilder.fromHttpUrl(cemeteriesBaseUrl + "cems/cems.xml").toUriString()));
@@ -2,7 +2,6 @@ package gov.va.api.lighthouse.facilities;
 
 import static com.google.common.base.Preconditions.checkState;
 
-import gov.va.api.health.autoconfig.configuration.JacksonConfig;
 import gov.va.api.lighthouse.facilities.api.v0.ApiError;
 import java.util.List;
 import javax.servlet.FilterChain;
@@ -47,7 +46,7 @@ class InternalClientKeyFilterConfiguration {
       response.setHeader("Content-Type", "application/json");
 
       String body =
-          JacksonConfig.createMapper()
+          JacksonCodecs.mapper(JacksonCodecs.Flavor.PLAIN)
               .writeValueAsString(
                   ApiError.builder()
                       .errors(
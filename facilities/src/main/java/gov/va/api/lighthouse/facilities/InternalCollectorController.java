@@ -2,6 +2,7 @@ package gov.va.api.lighthouse.facilities;
 
 import gov.va.api.health.autoconfig.logging.Loggable;
 import gov.va.api.lighthouse.facilities.collector.FacilitiesCollector;
+import gov.va.api.lighthouse.facilities.collector.ReferenceData;
 import java.sql.ResultSetMetaData;
 import java.util.ArrayList;
 import java.util.LinkedHashMap;
@@ -72,6 +73,18 @@ public class InternalCollectorController {
     }
   }
 
+  /** Version, checksum, and origin of the reference files collections are using. */
+  @GetMapping(value = "/reference-data")
+  Map<String, String> referenceData() {
+    ReferenceData.Snapshot current = ReferenceData.current();
+    Map<String, String> result = new LinkedHashMap<>();
+    result.put("version", Integer.toString(current.version()));
+    result.put("checksum", current.checksum());
+    result.put("source", current.source());
+    result.put("loaded", current.loaded().toString());
+    return result;
+  }
+
   @GetMapping(value = "/stop-code")
   List<Map<String, String>> stopCodes() {
     try {
@@ -1,11 +1,13 @@
 package gov.va.api.lighthouse.facilities;
 
+import static gov.va.api.health.autoconfig.logging.LogSanitizer.sanitize;
 import static java.util.Collections.emptyList;
 import static java.util.stream.Collectors.toList;
 
 import gov.va.api.health.autoconfig.logging.Loggable;
 import gov.va.api.lighthouse.facilities.api.pssg.BandResult;
 import gov.va.api.lighthouse.facilities.api.pssg.BandUpdateResponse;
+import gov.va.api.lighthouse.facilities.api.pssg.BandVersionActivationResponse;
 import gov.va.api.lighthouse.facilities.api.pssg.PathEncoder;
 import gov.va.api.lighthouse.facilities.api.pssg.PssgDriveTimeBand;
 import gov.va.api.lighthouse.facilities.api.pssg.PssgResponse;
@@ -20,7 +22,9 @@ import lombok.NonNull;
 import lombok.SneakyThrows;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
@@ -35,11 +39,30 @@ import org.springframework.web.bind.annotation.RestController;
 @RequestMapping(value = "/internal/management/bands", produces = "application/json")
 @AllArgsConstructor(onConstructor = @__(@Autowired))
 public class InternalDriveTimeBandController {
-  private final DriveTimeBandRepository repository;
+  private final StagedDriveTimeBandRepository stagedRepository;
+
+  private final DriveTimeBandVersions versions;
+
+  private final DriveTimeBandMetadata bandMetadata;
+
+  private final CoordinateResultCache resultCache;
+
+  /**
+   * Activate a staged band version, replacing the bands used by nearby queries. Re-activating the
+   * previous version rolls back.
+   */
+  @Loggable(arguments = false)
+  @PostMapping("/versions/{monthYear}/activate")
+  BandVersionActivationResponse activateVersion(@PathVariable("monthYear") String monthYear) {
+    BandVersionActivationResponse response = versions.activate(monthYear);
+    bandMetadata.refresh();
+    resultCache.invalidateAll("drive time band version " + monthYear + " activated");
+    return response;
+  }
 
   @GetMapping("/{name}")
   BandResult band(@PathVariable("name") String name) {
-    return repository
+    return versions
         .findById(DriveTimeBandEntity.Pk.fromName(name))
         .map(
             result ->
@@ -60,7 +83,7 @@ public class InternalDriveTimeBandController {
 
   @GetMapping("/versions")
   List<String> bandVersions() {
-    return repository.findAllBandVersions();
+    return bandMetadata.bandVersions();
   }
 
   private Rectangle2D boundsOf(PssgDriveTimeBand band) {
@@ -86,9 +109,22 @@ public class InternalDriveTimeBandController {
     return rect.get();
   }
 
+  /** Discard a staged band version that is not currently active. */
+  @DeleteMapping("/versions/{monthYear}")
+  ResponseEntity<Void> discardVersion(@PathVariable("monthYear") String monthYear) {
+    long discarded = versions.discard(monthYear);
+    log.info("Discarded {} staged bands for {}", discarded, sanitize(monthYear));
+    return discarded == 0 ? ResponseEntity.accepted().build() : ResponseEntity.ok().build();
+  }
+
   @GetMapping
   List<String> driveTimeBandIds() {
-    return repository.findAllIds().stream().map(DriveTimeBandEntity.Pk::name).collect(toList());
+    return bandMetadata.ids().stream().map(DriveTimeBandEntity.Pk::name).collect(toList());
+  }
+
+  @GetMapping("/versions/staged")
+  List<String> stagedBandVersions() {
+    return stagedRepository.findAllStagedVersions();
   }
 
   @Loggable(arguments = false)
@@ -105,19 +141,27 @@ public class InternalDriveTimeBandController {
     return response;
   }
 
+  /**
+   * Stage the band under its month_year. Staged bands are not used by nearby queries until their
+   * version is activated.
+   */
   @SneakyThrows
   private void updateBand(@NonNull PssgDriveTimeBand band, @NonNull BandUpdateResponse response) {
+    if (band.attributes().monthYear() == null) {
+      throw new ExceptionsUtils.InvalidParameter("month_year", null);
+    }
     var pk =
-        DriveTimeBandEntity.Pk.of(
+        StagedDriveTimeBandEntity.Pk.of(
             band.attributes().stationNumber(),
             band.attributes().fromBreak(),
-            band.attributes().toBreak());
-    var entity = repository.findById(pk).orElse(null);
+            band.attributes().toBreak(),
+            band.attributes().monthYear());
+    var entity = stagedRepository.findById(pk).orElse(null);
     if (entity == null) {
-      entity = DriveTimeBandEntity.builder().id(pk).build();
-      response.bandsCreated().add(pk.name());
+      entity = StagedDriveTimeBandEntity.builder().id(pk).build();
+      response.bandsCreated().add(pk.bandId().name());
     } else {
-      response.bandsUpdated().add(pk.name());
+      response.bandsUpdated().add(pk.bandId().name());
     }
 
     var bounds = boundsOf(band);
@@ -125,8 +169,7 @@ public class InternalDriveTimeBandController {
     entity.minLatitude(bounds.getMinY());
     entity.maxLongitude(bounds.getMaxX());
     entity.maxLatitude(bounds.getMaxY());
-    entity.monthYear(band.attributes().monthYear());
     entity.band(PathEncoder.create().encodeToBase64(band));
-    repository.save(entity);
+    stagedRepository.save(entity);
   }
 }
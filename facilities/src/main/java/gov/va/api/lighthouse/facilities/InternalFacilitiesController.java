@@ -3,7 +3,6 @@ package gov.va.api.lighthouse.facilities;
 import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.base.Preconditions.checkState;
 import static gov.va.api.health.autoconfig.logging.LogSanitizer.sanitize;
-import static gov.va.api.lighthouse.facilities.DatamartFacilitiesJacksonConfig.createMapper;
 import static gov.va.api.lighthouse.facilities.DatamartFacility.FacilityType.va_benefits_facility;
 import static gov.va.api.lighthouse.facilities.DatamartFacility.FacilityType.va_cemetery;
 import static gov.va.api.lighthouse.facilities.DatamartFacility.FacilityType.va_health_facility;
@@ -27,12 +26,15 @@ import gov.va.api.lighthouse.facilities.DatamartFacility.Services;
 import gov.va.api.lighthouse.facilities.api.TypedService;
 import gov.va.api.lighthouse.facilities.api.v0.ReloadResponse;
 import gov.va.api.lighthouse.facilities.collector.FacilitiesCollector;
+import gov.va.api.lighthouse.facilities.collector.FacilitiesCollector.Source;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.EnumSet;
 import java.util.HashSet;
 import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Locale;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
@@ -54,6 +56,7 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 @Slf4j
@@ -85,18 +88,31 @@ public class InternalFacilitiesController {
   static final String SPECIAL_INSTRUCTION_UPDATED_3 =
       "Normal business hours are Monday through Friday, 8:00 a.m. to 4:30 p.m.";
 
+  private static final String RELOAD_LEASE_LOST = "reload lease lost";
+
   private static final String ZIP_REGEX = "^[0-9]{5}(-[0-9]{4})?$";
 
   private static final Pattern ZIP_PATTERN = Pattern.compile(ZIP_REGEX);
 
-  private static final ObjectMapper DATAMART_MAPPER = createMapper();
+  private static final ObjectMapper DATAMART_MAPPER =
+      JacksonCodecs.mapper(JacksonCodecs.Flavor.DATAMART);
 
   private final FacilitiesCollector collector;
 
   private final CmsOverlayRepository cmsOverlayRepository;
 
+  private final FacilityChanges facilityChanges;
+
+  private final FacilityFingerprints facilityFingerprints;
+
   private final FacilityRepository facilityRepository;
 
+  private final ReloadJobs reloadJobs;
+
+  private final ReloadLease reloadLease;
+
+  private final CoordinateResultCache resultCache;
+
   // Max distance in miles where two facilities are considered to be duplicates
   private final Double duplicateFacilityOverlapRange = 0.02;
 
@@ -167,6 +183,40 @@ public class InternalFacilitiesController {
     return attributes(datamartFacility).map(a -> a.services());
   }
 
+  /**
+   * The collector sources selected by facility type and source name. Either narrows the selection,
+   * and all sources are selected if neither is given.
+   */
+  static Set<Source> sourcesOf(List<String> types, List<String> sources) {
+    Set<Source> selected = EnumSet.allOf(Source.class);
+    if (types != null && !types.isEmpty()) {
+      List<FacilityEntity.Type> facilityTypes = new ArrayList<>();
+      for (String type : types) {
+        try {
+          facilityTypes.add(FacilityEntity.Type.valueOf(type.trim().toLowerCase(Locale.ENGLISH)));
+        } catch (IllegalArgumentException e) {
+          throw new ExceptionsUtils.InvalidParameter("types", type);
+        }
+      }
+      selected.retainAll(Source.forTypes(facilityTypes));
+    }
+    if (sources != null && !sources.isEmpty()) {
+      Set<Source> named = EnumSet.noneOf(Source.class);
+      for (String source : sources) {
+        try {
+          named.add(Source.valueOf(source.trim().toUpperCase(Locale.ENGLISH).replace('-', '_')));
+        } catch (IllegalArgumentException e) {
+          throw new ExceptionsUtils.InvalidParameter("sources", source);
+        }
+      }
+      selected.retainAll(named);
+    }
+    if (selected.isEmpty()) {
+      throw new ExceptionsUtils.InvalidParameter("sources", sources);
+    }
+    return selected;
+  }
+
   /** Determine the state if available in a physical address, otherwise return null. */
   static String stateOf(DatamartFacility datamartFacility) {
     if (datamartFacility.attributes().address() != null
@@ -204,6 +254,28 @@ public class InternalFacilitiesController {
     return cmsOverlayRepository.findById(pk);
   }
 
+  private List<DatamartFacility> collectFacilities(Set<Source> sources) {
+    return collector.collectFacilities(sources).stream()
+        .map(
+            df -> {
+              if (ObjectUtils.isNotEmpty(df.attributes().detailedServices())) {
+                // Filter out non-Covid services
+                df.attributes()
+                    .detailedServices(
+                        df.attributes().detailedServices().stream()
+                            .filter(
+                                dds ->
+                                    dds.serviceInfo() != null
+                                        && dds.serviceInfo()
+                                            .serviceId()
+                                            .equals(HealthService.Covid19Vaccine.serviceId()))
+                            .collect(Collectors.toList()));
+              }
+              return df;
+            })
+        .collect(Collectors.toList());
+  }
+
   /**
    * Delete an overlay if thisNodeOnly is not specified or partial overlay identified by
    * thisNodeOnly.
@@ -270,7 +342,7 @@ public class InternalFacilitiesController {
             DATAMART_MAPPER.readValue(facilityEntity.facility(), DatamartFacility.class);
         if (df.attributes().services().health() != null) {
           List<Service<HealthService>> healthServicesWithoutCovid19Vaccine =
-              df.attributes().services().health().parallelStream()
+              df.attributes().services().health().stream()
                   .filter(hs -> !hs.serviceId().equals(HealthService.Covid19Vaccine.serviceId()))
                   .collect(Collectors.toList());
           Collections.sort(healthServicesWithoutCovid19Vaccine);
@@ -292,7 +364,9 @@ public class InternalFacilitiesController {
         }
       }
       facilityRepository.save(facilityEntity);
+      facilityChanges.changed(facilityEntity.id());
     }
+    resultCache.invalidateAll("cms overlay deleted");
     return ResponseEntity.ok().build();
   }
 
@@ -306,6 +380,8 @@ public class InternalFacilitiesController {
     }
     log.info("Deleting facility {}", sanitize(id));
     facilityRepository.delete(entity.get());
+    facilityChanges.deleted(entity.get().id());
+    resultCache.invalidateAll("facility deleted");
     return ResponseEntity.ok().build();
   }
 
@@ -363,13 +439,18 @@ public class InternalFacilitiesController {
     return facilityEntities;
   }
 
-  private Set<FacilityEntity.Pk> missingIds(List<DatamartFacility> collectedFacilities) {
+  /** IDs of facilities from the given sources that were not collected. */
+  private Set<FacilityEntity.Pk> missingIds(
+      List<DatamartFacility> collectedFacilities, Set<Source> sources) {
     Set<FacilityEntity.Pk> newIds =
         collectedFacilities.stream()
             .map(df -> FacilityEntity.Pk.optionalFromIdString(df.id()).orElse(null))
             .filter(Objects::nonNull)
             .collect(toCollection(LinkedHashSet::new));
-    Set<FacilityEntity.Pk> oldIds = new LinkedHashSet<>(facilityRepository.findAllIds());
+    Set<FacilityEntity.Pk> oldIds =
+        facilityRepository.findAllIds().stream()
+            .filter(id -> sources.stream().anyMatch(source -> source.produces(id)))
+            .collect(toCollection(LinkedHashSet::new));
     return ImmutableSet.copyOf(Sets.difference(oldIds, newIds));
   }
 
@@ -405,19 +486,18 @@ public class InternalFacilitiesController {
   }
 
   private ResponseEntity<ReloadResponse> process(
-      ReloadResponse response, List<DatamartFacility> collectedFacilities) {
-    response.timing().markCompleteCollection();
-    log.info("Facilities collected: {}", collectedFacilities.size());
+      ReloadLease.Held lease,
+      ReloadResponse response,
+      List<DatamartFacility> collectedFacilities,
+      Set<Source> sources,
+      boolean incremental) {
+    ReloadJob job = ReloadJob.untracked(response);
+    lease.onLost(() -> job.cancel(RELOAD_LEASE_LOST));
     try {
-      collectedFacilities.parallelStream().forEach(f -> updateFacility(response, f));
-      for (FacilityEntity.Pk missingId : missingIds(collectedFacilities)) {
-        processMissingFacility(response, missingId);
-      }
+      update(job, collectedFacilities, sources, incremental);
     } catch (Exception e) {
       log.error("Failed to process facilities: {}", e.getMessage());
       return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(response);
-    } finally {
-      response.timing().markComplete();
     }
     return ResponseEntity.ok(response);
   }
@@ -437,34 +517,73 @@ public class InternalFacilitiesController {
     }
 
     facilityRepository.delete(entity);
+    facilityChanges.deleted(id);
   }
 
-  /** Reload all facility information. */
+  /**
+   * Reload facility information. Facility types (vha, vba, nca, vc) or collector sources may be
+   * given to reload only part of it, in which case only facilities from those sources can be
+   * marked missing. An incremental reload only writes facilities that changed since they were
+   * last written, see {@link FacilityFingerprints}. Responds with a conflict if a reload is
+   * already running on any node.
+   */
   @GetMapping(value = "/reload")
-  ResponseEntity<ReloadResponse> reload() {
-    var response = ReloadResponse.start();
-    var collectedFacilities =
-        collector.collectFacilities().stream()
-            .map(
-                df -> {
-                  if (ObjectUtils.isNotEmpty(df.attributes().detailedServices())) {
-                    // Filter out non-Covid services
-                    df.attributes()
-                        .detailedServices(
-                            df.attributes().detailedServices().parallelStream()
-                                .filter(
-                                    dds ->
-                                        dds.serviceInfo() != null
-                                            && dds.serviceInfo()
-                                                .serviceId()
-                                                .equals(HealthService.Covid19Vaccine.serviceId()))
-                                .collect(Collectors.toList()));
-                  }
-                  return df;
-                })
-            .collect(Collectors.toList());
-    response.totalFacilities(collectedFacilities.size());
-    return process(response, collectedFacilities);
+  ResponseEntity<ReloadResponse> reload(
+      @RequestParam(value = "types", required = false) List<String> types,
+      @RequestParam(value = "sources", required = false) List<String> sources,
+      @RequestParam(value = "incremental", defaultValue = "false") boolean incremental) {
+    Set<Source> selected = sourcesOf(types, sources);
+    try (ReloadLease.Held lease = reloadLease.acquire()) {
+      var response = ReloadResponse.start();
+      var collectedFacilities = collectFacilities(selected);
+      response.totalFacilities(collectedFacilities.size());
+      return process(lease, response, collectedFacilities, selected, incremental);
+    }
+  }
+
+  private void reload(ReloadJob job, Set<Source> sources, boolean incremental) {
+    try (ReloadLease.Held lease = reloadLease.acquire()) {
+      lease.onLost(() -> job.cancel(RELOAD_LEASE_LOST));
+      job.phase(ReloadJob.Phase.COLLECTING);
+      var collectedFacilities = collectFacilities(sources);
+      job.response().totalFacilities(collectedFacilities.size());
+      job.checkNotCancelled();
+      update(job, collectedFacilities, sources, incremental);
+    }
+  }
+
+  /** Request cancellation of a reload job. */
+  @DeleteMapping(value = "/reload/jobs/{id}")
+  ResponseEntity<ReloadJob.Report> reloadJobCancel(@PathVariable("id") String id) {
+    return ResponseEntity.accepted()
+        .body(reloadJobs.cancel(id).orElseThrow(() -> new ExceptionsUtils.NotFound(id)).report());
+  }
+
+  /** Progress of a reload job. */
+  @GetMapping(value = "/reload/jobs/{id}")
+  ReloadJob.Report reloadJobStatus(@PathVariable("id") String id) {
+    return reloadJobs.find(id).orElseThrow(() -> new ExceptionsUtils.NotFound(id)).report();
+  }
+
+  /**
+   * Reload facility information in the background, with the same options as {@link
+   * #reload(List, List, boolean)}. If a reload is already queued or running, that job is returned
+   * instead of starting another. The job fails if a reload is running on another node.
+   */
+  @PostMapping(value = "/reload/jobs")
+  ResponseEntity<ReloadJob.Report> reloadJobSubmit(
+      @RequestParam(value = "types", required = false) List<String> types,
+      @RequestParam(value = "sources", required = false) List<String> sources,
+      @RequestParam(value = "incremental", defaultValue = "false") boolean incremental) {
+    Set<Source> selected = sourcesOf(types, sources);
+    return ResponseEntity.accepted()
+        .body(reloadJobs.submit(job -> reload(job, selected, incremental)).report());
+  }
+
+  /** Progress of the retained reload jobs, newest first. */
+  @GetMapping(value = "/reload/jobs")
+  List<ReloadJob.Report> reloadJobs() {
+    return reloadJobs.all().stream().map(ReloadJob::report).collect(Collectors.toList());
   }
 
   @SneakyThrows
@@ -486,6 +605,47 @@ public class InternalFacilitiesController {
     }
   }
 
+  /**
+   * Write the collected facilities and mark those from the given sources that are no longer
+   * collected as missing. An incremental update skips facilities that have not changed.
+   */
+  private void update(
+      ReloadJob job,
+      List<DatamartFacility> collectedFacilities,
+      Set<Source> sources,
+      boolean incremental) {
+    ReloadResponse response = job.response();
+    response.timing().markCompleteCollection();
+    log.info("Facilities collected: {}", collectedFacilities.size());
+    try {
+      FacilityFingerprints.Snapshot stored =
+          incremental
+              ? facilityFingerprints.snapshot(response.timing().completeCollection())
+              : FacilityFingerprints.Snapshot.none();
+      job.phase(ReloadJob.Phase.UPDATING);
+      collectedFacilities.parallelStream()
+          .forEach(
+              f -> {
+                job.checkNotCancelled();
+                String fingerprint = FacilityFingerprints.fingerprint(f);
+                if (stored.isUnchanged(f.id(), fingerprint)) {
+                  job.unchanged();
+                } else {
+                  updateFacility(response, f, fingerprint);
+                }
+                job.processed();
+              });
+      job.phase(ReloadJob.Phase.MARKING_MISSING);
+      for (FacilityEntity.Pk missingId : missingIds(collectedFacilities, sources)) {
+        job.checkNotCancelled();
+        processMissingFacility(response, missingId);
+      }
+    } finally {
+      resultCache.invalidateAll("facilities reloaded");
+      response.timing().markComplete();
+    }
+  }
+
   @SneakyThrows
   void updateAndSave(
       ReloadResponse response, FacilityEntity record, DatamartFacility datamartFacility) {
@@ -663,7 +823,8 @@ public class InternalFacilitiesController {
     }
   }
 
-  private void updateFacility(ReloadResponse response, DatamartFacility datamartFacility) {
+  private void updateFacility(
+      ReloadResponse response, DatamartFacility datamartFacility, String fingerprint) {
     FacilityEntity.Pk pk;
     try {
       pk = FacilityEntity.Pk.fromIdString(datamartFacility.id());
@@ -685,18 +846,32 @@ public class InternalFacilitiesController {
     if (existing.isPresent()) {
       response.facilitiesUpdated().add(datamartFacility.id());
       log.warn("Updating facility {}", datamartFacility.id());
-      updateAndSave(response, existing.get(), datamartFacility);
+      String previousFingerprint = existing.get().fingerprint();
+      updateAndSave(response, existing.get().fingerprint(fingerprint), datamartFacility);
+      if (!fingerprint.equals(previousFingerprint)) {
+        facilityChanges.changed(pk);
+      }
       return;
     }
     response.facilitiesCreated().add(datamartFacility.id());
     log.warn("Creating new facility {}", datamartFacility.id());
-    updateAndSave(response, FacilityEntity.builder().id(pk).build(), datamartFacility);
+    updateAndSave(
+        response,
+        FacilityEntity.builder().id(pk).fingerprint(fingerprint).build(),
+        datamartFacility);
+    facilityChanges.changed(pk);
   }
 
+  /**
+   * Reload the given facility information. Responds with a conflict if a reload is already running
+   * on any node.
+   */
   @PostMapping(value = "/reload")
   @Loggable(arguments = false)
   ResponseEntity<ReloadResponse> upload(@RequestBody List<DatamartFacility> collectedFacilities) {
-    var response = ReloadResponse.start();
-    return process(response, collectedFacilities);
+    try (ReloadLease.Held lease = reloadLease.acquire()) {
+      var response = ReloadResponse.start();
+      return process(lease, response, collectedFacilities, EnumSet.allOf(Source.class), false);
+    }
   }
 }
@@ -0,0 +1,139 @@
+package gov.va.api.lighthouse.facilities;
+
+import com.google.common.base.Stopwatch;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+import lombok.Builder;
+import lombok.NonNull;
+import lombok.SneakyThrows;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+/**
+ * Fills the caches of the shared {@link JacksonCodecs} at startup by round-tripping a few stored
+ * facilities through each codec, so the first requests after a deploy do not pay for building
+ * serializers and deserializers. The time spent per codec is logged and reported as the {@code
+ * jackson.codec.warmup} timer, tagged by codec.
+ */
+@Slf4j
+@Component
+public class JacksonCodecWarmup implements MeterBinder {
+  /** Links are not checked during warm up, they only need to be well formed. */
+  private static final String LINKER_URL = "http://localhost/v1/";
+
+  private final FacilityRepository facilityRepository;
+
+  private final int sampleSize;
+
+  private volatile MeterRegistry registry;
+
+  @Builder
+  JacksonCodecWarmup(
+      @Autowired FacilityRepository facilityRepository,
+      @Value("${jackson-codec-warmup.sample-size:5}") int sampleSize) {
+    this.facilityRepository = facilityRepository;
+    this.sampleSize = Math.max(0, sampleSize);
+  }
+
+  private static String codec(JacksonCodecs.Flavor flavor, Class<?> type) {
+    return flavor.name().toLowerCase(Locale.ENGLISH) + "." + type.getName();
+  }
+
+  @SneakyThrows
+  private static <T> T roundTrip(
+      Map<String, Long> nanos, JacksonCodecs.Flavor flavor, Class<T> type, T value) {
+    long start = System.nanoTime();
+    T copy =
+        JacksonCodecs.reader(flavor, type)
+            .readValue(JacksonCodecs.writer(flavor, type).writeValueAsBytes(value));
+    nanos.merge(codec(flavor, type), System.nanoTime() - start, Long::sum);
+    return copy;
+  }
+
+  @Override
+  public void bindTo(@NonNull MeterRegistry meterRegistry) {
+    registry = meterRegistry;
+  }
+
+  @EventListener(ApplicationReadyEvent.class)
+  void onApplicationReady() {
+    warmUp();
+  }
+
+  @SneakyThrows
+  private void warmUp(FacilityEntity entity, Map<String, Long> nanos) {
+    long start = System.nanoTime();
+    DatamartFacility datamart =
+        JacksonCodecs.reader(JacksonCodecs.Flavor.DATAMART, DatamartFacility.class)
+            .readValue(entity.facility());
+    nanos.merge(
+        codec(JacksonCodecs.Flavor.DATAMART, DatamartFacility.class),
+        System.nanoTime() - start,
+        Long::sum);
+    datamart = roundTrip(nanos, JacksonCodecs.Flavor.DATAMART, DatamartFacility.class, datamart);
+    var facilityV0 = FacilityTransformerV0.toFacility(datamart);
+    roundTrip(
+        nanos,
+        JacksonCodecs.Flavor.V0,
+        gov.va.api.lighthouse.facilities.api.v0.FacilityReadResponse.class,
+        gov.va.api.lighthouse.facilities.api.v0.FacilityReadResponse.builder()
+            .facility(facilityV0)
+            .build());
+    roundTrip(
+        nanos,
+        JacksonCodecs.Flavor.V0,
+        gov.va.api.lighthouse.facilities.api.v0.GeoFacilityReadResponse.class,
+        gov.va.api.lighthouse.facilities.api.v0.GeoFacilityReadResponse.of(
+            GeoFacilityTransformerV0.builder().facility(facilityV0).build().toGeoFacility()));
+    roundTrip(
+        nanos,
+        JacksonCodecs.Flavor.V1,
+        gov.va.api.lighthouse.facilities.api.v1.FacilityReadResponse.class,
+        gov.va.api.lighthouse.facilities.api.v1.FacilityReadResponse.builder()
+            .facility(FacilityTransformerV1.toFacility(datamart, LINKER_URL))
+            .build());
+  }
+
+  /** Round trip up to the sample size of stored facilities, returning nanoseconds per codec. */
+  Map<String, Long> warmUp() {
+    Stopwatch timer = Stopwatch.createStarted();
+    List<FacilityEntity.Pk> ids =
+        sampleSize == 0 ? List.of() : facilityRepository.findIds(PageRequest.of(0, sampleSize));
+    Map<String, Long> nanos = new TreeMap<>();
+    for (FacilityEntity entity : facilityRepository.findByIdIn(ids)) {
+      try {
+        warmUp(entity, nanos);
+      } catch (Exception e) {
+        log.warn("Failed to warm up codecs with {}: {}", entity.id().toIdString(), e.getMessage());
+      }
+    }
+    MeterRegistry meterRegistry = registry;
+    nanos.forEach(
+        (codec, elapsed) -> {
+          log.info("Warmed up {} in {} ms", codec, TimeUnit.NANOSECONDS.toMillis(elapsed));
+          if (meterRegistry != null) {
+            Timer.builder("jackson.codec.warmup")
+                .tag("codec", codec)
+                .register(meterRegistry)
+                .record(elapsed, TimeUnit.NANOSECONDS);
+          }
+        });
+    log.info(
+        "Warmed up {} codecs with {} facilities in {} ms",
+        nanos.size(),
+        ids.size(),
+        timer.elapsed(TimeUnit.MILLISECONDS));
+    return nanos;
+  }
+}
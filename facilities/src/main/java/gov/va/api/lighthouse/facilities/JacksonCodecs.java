@@ -0,0 +1,66 @@
+package gov.va.api.lighthouse.facilities;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.google.common.base.Suppliers;
+import gov.va.api.health.autoconfig.configuration.JacksonConfig;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import lombok.NonNull;
+import lombok.Value;
+import lombok.experimental.UtilityClass;
+
+/**
+ * Shared Jackson mappers, readers and writers. A mapper keeps its own serializer and deserializer
+ * caches, so code should read and write through the instances here rather than building mappers of
+ * its own. Readers and writers are immutable and are built once per flavor and type. {@link
+ * JacksonCodecWarmup} fills the caches at startup.
+ */
+@UtilityClass
+public class JacksonCodecs {
+  private static final Map<Key, ObjectReader> READERS = new ConcurrentHashMap<>();
+
+  private static final Map<Key, ObjectWriter> WRITERS = new ConcurrentHashMap<>();
+
+  /** The shared mapper of a flavor. Callers must not reconfigure it. */
+  public static ObjectMapper mapper(@NonNull Flavor flavor) {
+    return flavor.mapper.get();
+  }
+
+  /** The shared reader for a type. */
+  public static ObjectReader reader(@NonNull Flavor flavor, @NonNull Class<?> type) {
+    return READERS.computeIfAbsent(new Key(flavor, type), k -> mapper(flavor).readerFor(type));
+  }
+
+  /** The shared writer for a type. */
+  public static ObjectWriter writer(@NonNull Flavor flavor, @NonNull Class<?> type) {
+    return WRITERS.computeIfAbsent(new Key(flavor, type), k -> mapper(flavor).writerFor(type));
+  }
+
+  /** The kinds of JSON the application reads and writes. */
+  public enum Flavor {
+    /** Upstream feeds and error responses, with no custom serializers. */
+    PLAIN(JacksonConfig::createMapper),
+    /** Facility payloads as persisted. */
+    DATAMART(DatamartFacilitiesJacksonConfig::createMapper),
+    /** Version 0 API responses. */
+    V0(FacilitiesJacksonConfigV0::createMapper),
+    /** Version 1 API responses. */
+    V1(FacilitiesJacksonConfigV1::createMapper);
+
+    private final Supplier<ObjectMapper> mapper;
+
+    Flavor(Supplier<ObjectMapper> factory) {
+      mapper = Suppliers.memoize(factory::get);
+    }
+  }
+
+  @Value
+  private static class Key {
+    Flavor flavor;
+
+    Class<?> type;
+  }
+}
@@ -25,6 +25,7 @@ import gov.va.api.lighthouse.facilities.api.v1.Facility.PatientSatisfaction;
 import gov.va.api.lighthouse.facilities.api.v1.Facility.Phone;
 import gov.va.api.lighthouse.facilities.api.v1.Facility.Satisfaction;
 import gov.va.api.lighthouse.facilities.api.v1.Facility.Services;
+import gov.va.api.lighthouse.facilities.api.v1.FacilityChangesResponse;
 import gov.va.api.lighthouse.facilities.api.v1.FacilityReadResponse;
 import gov.va.api.lighthouse.facilities.api.v1.NearbyResponse;
 import gov.va.api.lighthouse.facilities.api.v1.NearbyResponse.Meta;
@@ -52,6 +53,8 @@ import gov.va.api.lighthouse.facilities.api.v1.serializers.FacilitiesIdsResponse
 import gov.va.api.lighthouse.facilities.api.v1.serializers.FacilitiesMetadataSerializer;
 import gov.va.api.lighthouse.facilities.api.v1.serializers.FacilitiesResponseSerializer;
 import gov.va.api.lighthouse.facilities.api.v1.serializers.FacilityAttributesSerializer;
+import gov.va.api.lighthouse.facilities.api.v1.serializers.FacilityChangesMetadataSerializer;
+import gov.va.api.lighthouse.facilities.api.v1.serializers.FacilityChangesResponseSerializer;
 import gov.va.api.lighthouse.facilities.api.v1.serializers.FacilityReadResponseSerializer;
 import gov.va.api.lighthouse.facilities.api.v1.serializers.FacilitySerializer;
 import gov.va.api.lighthouse.facilities.api.v1.serializers.HoursSerializer;
@@ -106,6 +109,9 @@ final class JacksonSerializersV1 {
         new DetailedServicesMetadataSerializer());
     mod.addSerializer(FacilitiesResponse.class, new FacilitiesResponseSerializer());
     mod.addSerializer(FacilitiesIdsResponse.class, new FacilitiesIdsResponseSerializer());
+    mod.addSerializer(FacilityChangesResponse.class, new FacilityChangesResponseSerializer());
+    mod.addSerializer(
+        FacilityChangesResponse.ChangesMetadata.class, new FacilityChangesMetadataSerializer());
     mod.addSerializer(FacilityReadResponse.class, new FacilityReadResponseSerializer());
     mod.addSerializer(NearbyResponse.class, new NearbyResponseSerializer());
     mod.addSerializer(NearbyAttributes.class, new NearbyAttributesSerializer());
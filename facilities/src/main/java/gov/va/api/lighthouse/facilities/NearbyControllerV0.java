@@ -6,19 +6,14 @@ import static gov.va.api.lighthouse.facilities.NearbyUtils.NearbyId;
 import static gov.va.api.lighthouse.facilities.NearbyUtils.intersections;
 import static gov.va.api.lighthouse.facilities.NearbyUtils.validateDriveTime;
 import static java.util.stream.Collectors.toList;
-import static org.apache.commons.lang3.StringUtils.isBlank;
 
 import com.google.common.base.Stopwatch;
-import gov.va.api.health.autoconfig.configuration.JacksonConfig;
 import gov.va.api.lighthouse.facilities.api.ServiceType;
 import gov.va.api.lighthouse.facilities.api.v0.NearbyResponse;
-import gov.va.api.lighthouse.facilities.collector.InsecureRestTemplateProvider;
 import java.math.BigDecimal;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
-import java.util.Objects;
-import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.TimeUnit;
 import lombok.Builder;
@@ -26,17 +21,12 @@ import lombok.NonNull;
 import lombok.SneakyThrows;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.beans.factory.annotation.Value;
-import org.springframework.http.HttpEntity;
-import org.springframework.http.HttpHeaders;
-import org.springframework.http.HttpMethod;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
-import org.springframework.web.client.RestTemplate;
-import org.springframework.web.util.UriComponentsBuilder;
 
 @Validated
 @RestController
@@ -45,93 +35,80 @@ import org.springframework.web.util.UriComponentsBuilder;
 public class NearbyControllerV0 {
   private final FacilityRepository facilityRepository;
 
-  private final DriveTimeBandRepository driveTimeBandRepository;
+  private final DriveTimeBandVersions bandVersions;
 
-  private final RestTemplate restTemplate;
+  private final DriveTimeBandMetadata bandMetadata;
 
-  private final String bingKey;
+  private final CoordinateResultCache resultCache;
 
-  private final String bingUrl;
+  private final RequestExecutor intersectionExecutor;
+
+  private final Geocoder geocoder;
 
   @Builder
   NearbyControllerV0(
       @Autowired FacilityRepository facilityRepository,
-      @Autowired DriveTimeBandRepository driveTimeBandRepository,
-      @Autowired InsecureRestTemplateProvider restTemplateProvider,
-      @Value("${bing.key}") String bingKey,
-      @Value("${bing.url}") String bingUrl) {
+      @Autowired DriveTimeBandVersions bandVersions,
+      @Autowired DriveTimeBandMetadata bandMetadata,
+      @Autowired CoordinateResultCache resultCache,
+      @Autowired @Qualifier("intersectionExecutor") RequestExecutor intersectionExecutor,
+      @Autowired Geocoder geocoder) {
     this.facilityRepository = facilityRepository;
-    this.driveTimeBandRepository = driveTimeBandRepository;
-    this.restTemplate = restTemplateProvider.restTemplate();
-    this.bingKey = bingKey;
-    this.bingUrl = bingUrl.endsWith("/") ? bingUrl : bingUrl + "/";
+    this.bandVersions = bandVersions;
+    this.bandMetadata = bandMetadata;
+    this.resultCache = resultCache;
+    this.intersectionExecutor = intersectionExecutor;
+    this.geocoder = geocoder;
   }
 
-  @SneakyThrows
-  private Coordinates geocodeAddress(
-      @NonNull String street, @NonNull String city, @NonNull String state, @NonNull String zip) {
-    String address = street + " " + city + " " + state + " " + zip;
-    String bingUriString =
-        UriComponentsBuilder.fromHttpUrl(bingUrl + "REST/v1/Locations")
-            .queryParam("q", address)
-            .queryParam("key", bingKey)
-            .build()
-            .toUriString();
-
-    String body;
-    try {
-      body =
-          restTemplate
-              .exchange(
-                  bingUriString, HttpMethod.GET, new HttpEntity<>(new HttpHeaders()), String.class)
-              .getBody();
-    } catch (Exception ex) {
-      throw new ExceptionsUtilsV0.BingException(ex);
-    }
-    if (isBlank(body)) {
-      throw new ExceptionsUtilsV0.BingException("Empty response");
-    }
-    BingResponse response = JacksonConfig.createMapper().readValue(body, BingResponse.class);
-    Optional<List<BigDecimal>> coordinates =
-        response.resourceSets().stream()
-            .flatMap(rs -> rs.resources().stream())
-            .map(BingResponse.Resource::resourcePoint)
-            .filter(Objects::nonNull)
-            .map(BingResponse.Point::coordinates)
-            .filter(c -> c.size() >= 2)
-            .findFirst();
-
-    if (coordinates.isEmpty()) {
-      throw new ExceptionsUtilsV0.BingException(
-          String.format(
-              "Failed to geocode street_address '%s', city '%s', state '%s', zip '%s'",
-              street, city, state, zip));
-    }
-    return Coordinates.builder()
-        .latitude(coordinates.get().get(0))
-        .longitude(coordinates.get().get(1))
-        .build();
+  private String bandVersion(List<NearbyId> ids) {
+    return bandMetadata.bandVersion(ids.stream().map(NearbyId::bandId).collect(toList()));
   }
 
-  private String getMonthYearFromBandIds(List<NearbyId> ids) {
-    String monthYear;
-
-    if (!ids.isEmpty() && driveTimeBandRepository.findById(ids.get(0).bandId).isPresent()) {
-      monthYear = driveTimeBandRepository.findById(ids.get(0).bandId).get().monthYear();
-    } else {
-      monthYear = driveTimeBandRepository.getDefaultBandVersion();
-    }
-
-    if (monthYear == null) {
-      monthYear = "Unknown";
-    }
-
-    return monthYear;
+  @SneakyThrows
+  private List<NearbyId> findNearbyIds(
+      @NonNull BigDecimal longitude,
+      @NonNull BigDecimal latitude,
+      @NonNull Set<ServiceType> services,
+      Integer maxDriveTime) {
+    log.info(
+        "Searching near {},{} within {} minutes with {} services",
+        longitude.doubleValue(),
+        latitude.doubleValue(),
+        maxDriveTime,
+        services.size());
+    var timer = Stopwatch.createStarted();
+    List<DriveTimeBandEntity> maybeBands =
+        bandVersions.findAll(
+            DriveTimeBandRepository.MinMaxSpecification.builder()
+                .longitude(longitude)
+                .latitude(latitude)
+                .maxDriveTime(maxDriveTime)
+                .build());
+    log.info("{} bands found in {} ms", maybeBands.size(), timer.elapsed(TimeUnit.MILLISECONDS));
+    Map<String, DriveTimeBandEntity> bandsByStation =
+        intersections(longitude, latitude, maybeBands, intersectionExecutor);
+    List<HasFacilityLocation> facilityLocations =
+        facilityRepository.findLocations(
+            FacilityRepository.StationNumbersSpecification.builder()
+                .stationNumbers(bandsByStation.keySet())
+                .facilityType(FacilityEntity.Type.vha)
+                .services(services)
+                .build());
+    return facilityLocations.stream()
+        .map(
+            e ->
+                NearbyId.builder()
+                    .bandId(bandsByStation.get(e.id().stationNumber()).id())
+                    .facilityId(e.id().toIdString())
+                    .build())
+        .sorted(Comparator.comparingInt(left -> left.bandId().toMinutes()))
+        .collect(toList());
   }
 
   /** Nearby facilities by address. */
   @GetMapping(
-      produces = "application/json",
+      produces = {"application/json", "application/x-jackson-smile", "application/cbor"},
       params = {"street_address", "city", "state", "zip"})
   NearbyResponse nearbyAddress(
       @RequestParam(value = "street_address") String street,
@@ -140,12 +117,12 @@ public class NearbyControllerV0 {
       @RequestParam(value = "zip") String zip,
       @RequestParam(value = "services[]", required = false) List<String> services,
       @RequestParam(value = "drive_time", required = false) Integer maxDriveTime) {
-    Coordinates coor = geocodeAddress(street, city, state, zip);
+    Coordinates coor = geocoder.geocode(street, city, state, zip);
     List<NearbyId> ids = nearbyIds(coor.longitude(), coor.latitude(), services, maxDriveTime);
 
     return NearbyResponse.builder()
         .data(ids.stream().map(this::nearbyFacility).collect(toList()))
-        .meta(NearbyResponse.Meta.builder().bandVersion(getMonthYearFromBandIds(ids)).build())
+        .meta(NearbyResponse.Meta.builder().bandVersion(bandVersion(ids)).build())
         .build();
   }
 
@@ -161,7 +138,6 @@ public class NearbyControllerV0 {
         .build();
   }
 
-  @SneakyThrows
   private List<NearbyId> nearbyIds(
       @NonNull BigDecimal longitude,
       @NonNull BigDecimal latitude,
@@ -169,44 +145,18 @@ public class NearbyControllerV0 {
       Integer rawMaxDriveTime) {
     Set<ServiceType> services = validateServices(rawServices);
     Integer maxDriveTime = validateDriveTime(rawMaxDriveTime);
-    log.info(
-        "Searching near {},{} within {} minutes with {} services",
-        longitude.doubleValue(),
-        latitude.doubleValue(),
-        maxDriveTime,
-        services.size());
-    var timer = Stopwatch.createStarted();
-    List<DriveTimeBandEntity> maybeBands =
-        driveTimeBandRepository.findAll(
-            DriveTimeBandRepository.MinMaxSpecification.builder()
-                .longitude(longitude)
-                .latitude(latitude)
-                .maxDriveTime(maxDriveTime)
-                .build());
-    log.info("{} bands found in {} ms", maybeBands.size(), timer.elapsed(TimeUnit.MILLISECONDS));
-    Map<String, DriveTimeBandEntity> bandsByStation =
-        intersections(longitude, latitude, maybeBands);
-    List<FacilityEntity> facilityEntities =
-        facilityRepository.findAll(
-            FacilityRepository.StationNumbersSpecification.builder()
-                .stationNumbers(bandsByStation.keySet())
-                .facilityType(FacilityEntity.Type.vha)
-                .services(services)
-                .build());
-    return facilityEntities.stream()
-        .map(
-            e ->
-                NearbyId.builder()
-                    .bandId(bandsByStation.get(e.id().stationNumber()).id())
-                    .facilityId(e.id().toIdString())
-                    .build())
-        .sorted(Comparator.comparingInt(left -> left.bandId().toMinutes()))
-        .collect(toList());
+    return resultCache.get(
+        resultCache
+            .key("v0/nearby", latitude, longitude)
+            .driveTime(maxDriveTime)
+            .services(services)
+            .build(),
+        () -> findNearbyIds(longitude, latitude, services, maxDriveTime));
   }
 
   /** Nearby facilities by coordinates. */
   @GetMapping(
-      produces = "application/json",
+      produces = {"application/json", "application/x-jackson-smile", "application/cbor"},
       params = {"lat", "lng"})
   NearbyResponse nearbyLatLong(
       @RequestParam(value = "lat") BigDecimal latitude,
@@ -217,7 +167,7 @@ public class NearbyControllerV0 {
 
     return NearbyResponse.builder()
         .data(ids.stream().map(this::nearbyFacility).collect(toList()))
-        .meta(NearbyResponse.Meta.builder().bandVersion(getMonthYearFromBandIds(ids)).build())
+        .meta(NearbyResponse.Meta.builder().bandVersion(bandVersion(ids)).build())
         .build();
   }
 }
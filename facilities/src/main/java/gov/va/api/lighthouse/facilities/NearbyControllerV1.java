@@ -21,6 +21,7 @@ import lombok.NonNull;
 import lombok.SneakyThrows;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
@@ -34,53 +35,39 @@ import org.springframework.web.bind.annotation.RestController;
 public class NearbyControllerV1 {
   private final FacilityRepository facilityRepository;
 
-  private final DriveTimeBandRepository driveTimeBandRepository;
+  private final DriveTimeBandVersions bandVersions;
+
+  private final DriveTimeBandMetadata bandMetadata;
+
+  private final CoordinateResultCache resultCache;
+
+  private final RequestExecutor intersectionExecutor;
 
   @Builder
   NearbyControllerV1(
       @Autowired FacilityRepository facilityRepository,
-      @Autowired DriveTimeBandRepository driveTimeBandRepository,
+      @Autowired DriveTimeBandVersions bandVersions,
+      @Autowired DriveTimeBandMetadata bandMetadata,
+      @Autowired CoordinateResultCache resultCache,
+      @Autowired @Qualifier("intersectionExecutor") RequestExecutor intersectionExecutor,
       @Autowired InsecureRestTemplateProvider restTemplateProvider) {
     this.facilityRepository = facilityRepository;
-    this.driveTimeBandRepository = driveTimeBandRepository;
+    this.bandVersions = bandVersions;
+    this.bandMetadata = bandMetadata;
+    this.resultCache = resultCache;
+    this.intersectionExecutor = intersectionExecutor;
   }
 
-  private String getMonthYearFromBandIds(List<NearbyId> ids) {
-    String monthYear;
-
-    if (!ids.isEmpty() && driveTimeBandRepository.findById(ids.get(0).bandId).isPresent()) {
-      monthYear = driveTimeBandRepository.findById(ids.get(0).bandId).get().monthYear();
-    } else {
-      monthYear = driveTimeBandRepository.getDefaultBandVersion();
-    }
-
-    if (monthYear == null) {
-      monthYear = "Unknown";
-    }
-
-    return monthYear;
-  }
-
-  private NearbyResponse.Nearby nearbyFacility(@NonNull NearbyId entity) {
-    return NearbyResponse.Nearby.builder()
-        .id(entity.facilityId())
-        .type(NearbyResponse.Type.NearbyFacility)
-        .attributes(
-            NearbyResponse.NearbyAttributes.builder()
-                .minTime(entity.bandId().fromMinutes())
-                .maxTime(entity.bandId().toMinutes())
-                .build())
-        .build();
+  private String bandVersion(List<NearbyId> ids) {
+    return bandMetadata.bandVersion(ids.stream().map(NearbyId::bandId).collect(toList()));
   }
 
   @SneakyThrows
-  private List<NearbyId> nearbyIds(
+  private List<NearbyId> findNearbyIds(
       @NonNull BigDecimal longitude,
       @NonNull BigDecimal latitude,
-      List<String> rawServices,
-      Integer rawMaxDriveTime) {
-    Set<ServiceType> services = validateServices(rawServices);
-    Integer maxDriveTime = validateDriveTime(rawMaxDriveTime);
+      @NonNull Set<ServiceType> services,
+      Integer maxDriveTime) {
     log.info(
         "Searching near {},{} within {} minutes with {} services",
         longitude.doubleValue(),
@@ -89,7 +76,7 @@ public class NearbyControllerV1 {
         services.size());
     var timer = Stopwatch.createStarted();
     List<DriveTimeBandEntity> maybeBands =
-        driveTimeBandRepository.findAll(
+        bandVersions.findAll(
             DriveTimeBandRepository.MinMaxSpecification.builder()
                 .longitude(longitude)
                 .latitude(latitude)
@@ -97,15 +84,15 @@ public class NearbyControllerV1 {
                 .build());
     log.info("{} bands found in {} ms", maybeBands.size(), timer.elapsed(TimeUnit.MILLISECONDS));
     Map<String, DriveTimeBandEntity> bandsByStation =
-        intersections(longitude, latitude, maybeBands);
-    List<FacilityEntity> facilityEntities =
-        facilityRepository.findAll(
+        intersections(longitude, latitude, maybeBands, intersectionExecutor);
+    List<HasFacilityLocation> facilityLocations =
+        facilityRepository.findLocations(
             FacilityRepository.StationNumbersSpecification.builder()
                 .stationNumbers(bandsByStation.keySet())
                 .facilityType(FacilityEntity.Type.vha)
                 .services(services)
                 .build());
-    return facilityEntities.stream()
+    return facilityLocations.stream()
         .map(
             e ->
                 NearbyId.builder()
@@ -116,9 +103,37 @@ public class NearbyControllerV1 {
         .collect(toList());
   }
 
+  private NearbyResponse.Nearby nearbyFacility(@NonNull NearbyId entity) {
+    return NearbyResponse.Nearby.builder()
+        .id(entity.facilityId())
+        .type(NearbyResponse.Type.NearbyFacility)
+        .attributes(
+            NearbyResponse.NearbyAttributes.builder()
+                .minTime(entity.bandId().fromMinutes())
+                .maxTime(entity.bandId().toMinutes())
+                .build())
+        .build();
+  }
+
+  private List<NearbyId> nearbyIds(
+      @NonNull BigDecimal longitude,
+      @NonNull BigDecimal latitude,
+      List<String> rawServices,
+      Integer rawMaxDriveTime) {
+    Set<ServiceType> services = validateServices(rawServices);
+    Integer maxDriveTime = validateDriveTime(rawMaxDriveTime);
+    return resultCache.get(
+        resultCache
+            .key("v1/nearby", latitude, longitude)
+            .driveTime(maxDriveTime)
+            .services(services)
+            .build(),
+        () -> findNearbyIds(longitude, latitude, services, maxDriveTime));
+  }
+
   /** Nearby facilities by coordinates. */
   @GetMapping(
-      produces = "application/json",
+      produces = {"application/json", "application/x-jackson-smile", "application/cbor"},
       params = {"lat", "lng"})
   NearbyResponse nearbyLatLong(
       @RequestParam(value = "lat") BigDecimal latitude,
@@ -129,7 +144,7 @@ public class NearbyControllerV1 {
 
     return NearbyResponse.builder()
         .data(ids.stream().map(this::nearbyFacility).collect(toList()))
-        .meta(NearbyResponse.Meta.builder().bandVersion(getMonthYearFromBandIds(ids)).build())
+        .meta(NearbyResponse.Meta.builder().bandVersion(bandVersion(ids)).build())
         .build();
   }
 }
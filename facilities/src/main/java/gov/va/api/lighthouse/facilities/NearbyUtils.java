@@ -9,7 +9,6 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.google.common.base.Stopwatch;
 import com.google.common.collect.ArrayListMultimap;
 import com.google.common.collect.ListMultimap;
-import gov.va.api.health.autoconfig.configuration.JacksonConfig;
 import gov.va.api.lighthouse.facilities.api.pssg.PathEncoder;
 import gov.va.api.lighthouse.facilities.api.pssg.PssgDriveTimeBand;
 import java.awt.geom.Path2D;
@@ -58,24 +57,31 @@ public class NearbyUtils {
     return Optional.empty();
   }
 
+  /**
+   * The closest band of each station that contains the point. Decoding and testing polygons is the
+   * expensive part of a nearby search, so stations are spread across the executor.
+   */
   static Map<String, DriveTimeBandEntity> intersections(
       @NonNull BigDecimal longitude,
       @NonNull BigDecimal latitude,
-      List<DriveTimeBandEntity> entities) {
+      List<DriveTimeBandEntity> entities,
+      @NonNull RequestExecutor executor) {
     ListMultimap<String, DriveTimeBandEntity> bandsForStation = ArrayListMultimap.create();
     for (DriveTimeBandEntity e : entities) {
       bandsForStation.put(e.id().stationNumber(), e);
     }
     Point2D point = new Point2D.Double(longitude.doubleValue(), latitude.doubleValue());
-    return bandsForStation.asMap().entrySet().parallelStream()
+    return executor
         .map(
-            entry -> {
+            List.copyOf(bandsForStation.asMap().values()),
+            bands -> {
               List<DriveTimeBandEntity> sortedEntities =
-                  entry.getValue().stream()
+                  bands.stream()
                       .sorted(Comparator.comparingInt(left -> left.id().fromMinutes()))
                       .collect(toList());
               return firstIntersection(point, sortedEntities).orElse(null);
             })
+        .stream()
         .filter(Objects::nonNull)
         .collect(toMap(b -> b.id().stationNumber(), Function.identity()));
   }
@@ -107,7 +113,7 @@ public class NearbyUtils {
    * deleted once all databases have been upgraded.
    */
   static final class DeprecatedPssgDriveTimeBandSupport {
-    final ObjectMapper mapper = JacksonConfig.createMapper();
+    final ObjectMapper mapper = JacksonCodecs.mapper(JacksonCodecs.Flavor.PLAIN);
 
     boolean isPssgDriveTimeBand(DriveTimeBandEntity entity) {
       return entity.band().startsWith("{\"attributes");
@@ -0,0 +1,53 @@
+package gov.va.api.lighthouse.facilities;
+
+import javax.persistence.Basic;
+import javax.persistence.Column;
+import javax.persistence.Embedded;
+import javax.persistence.Entity;
+import javax.persistence.FetchType;
+import javax.persistence.GeneratedValue;
+import javax.persistence.GenerationType;
+import javax.persistence.Id;
+import javax.persistence.Lob;
+import javax.persistence.Table;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
+
+/**
+ * One entry of the overlay event log: CMS changed the operating status or detailed services of a
+ * facility. The payload is the version 1 JSON sent to subscribers, and the number is the event ID
+ * they resume from. The created time is epoch millis.
+ */
+@Data
+@Entity
+@Builder
+@Table(name = "overlay_event", schema = "app")
+@NoArgsConstructor(access = AccessLevel.PUBLIC)
+@EqualsAndHashCode(onlyExplicitlyIncluded = true)
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class OverlayEventEntity {
+  @Id
+  @EqualsAndHashCode.Include
+  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  private Long id;
+
+  @Embedded private FacilityEntity.Pk facilityId;
+
+  @Column(name = "visn", length = 8)
+  private String visn;
+
+  @Column(name = "event", nullable = false, length = 32)
+  private String event;
+
+  @Lob
+  @Basic(fetch = FetchType.EAGER)
+  @Column(name = "payload", nullable = false)
+  private String payload;
+
+  @Column(name = "created", nullable = false)
+  private long created;
+}
@@ -0,0 +1,30 @@
+package gov.va.api.lighthouse.facilities;
+
+import gov.va.api.health.autoconfig.logging.Loggable;
+import java.util.List;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.CrudRepository;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+@Loggable
+public interface OverlayEventRepository extends CrudRepository<OverlayEventEntity, Long> {
+  /** Remove events older than the given event. */
+  @Modifying
+  @Transactional
+  @Query("delete from #{#entityName} e where e.id < :id")
+  int deleteByIdBefore(@Param("id") long id);
+
+  List<OverlayEventEntity> findByIdGreaterThanOrderByIdAsc(long id, Pageable page);
+
+  @Query("select min(e.id) from #{#entityName} e")
+  Long findFirstId();
+
+  @Query("select max(e.id) from #{#entityName} e")
+  Long findLastId();
+
+  @Query("select max(e.id) from #{#entityName} e where e.created < :created")
+  Long findLastIdCreatedBefore(@Param("created") long created);
+}
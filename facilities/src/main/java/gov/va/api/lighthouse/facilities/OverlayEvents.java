@@ -0,0 +1,484 @@
+package gov.va.api.lighthouse.facilities;
+
+import static gov.va.api.lighthouse.facilities.DetailedServiceTransformerV1.toDetailedServices;
+import static gov.va.api.lighthouse.facilities.FacilityTransformerV1.toFacilityOperatingStatus;
+
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.google.common.primitives.Longs;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.io.IOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.Builder;
+import lombok.NonNull;
+import lombok.SneakyThrows;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * Log of operating status and detailed service changes made by CMS, streamed to subscribers as
+ * server-sent events. Events are written to the database when an overlay is saved, and every node
+ * polls the log and hands new events to its own subscribers, so a subscriber hears about changes
+ * saved on any node.
+ *
+ * <p>A subscriber is an open response and a queue; no thread is held while it is idle. Delivery
+ * runs on a small pool, one task per subscriber with queued events, so a slow client only delays
+ * itself. A client that falls more than the pending limit behind is disconnected and resumes from
+ * its Last-Event-ID. Events older than the retention period are pruned, and a client resuming from
+ * before them receives a reset event and should reload what it shows.
+ *
+ * <p>Events are numbered when they are inserted, but an event may commit after a later one has
+ * already been read. Events younger than the settle time are not handed out yet, so that slower
+ * writes are not skipped by subscribers that have already seen a later event.
+ *
+ * <p>Polling and heartbeats run on a thread of their own rather than Spring's shared scheduler, so
+ * a long migration batch, refresh or health probe does not hold back delivery.
+ */
+@Slf4j
+@Component
+public class OverlayEvents implements MeterBinder, DisposableBean {
+  static final String DETAILED_SERVICES = "detailed-services";
+
+  static final String OPERATING_STATUS = "operating-status";
+
+  static final String RESET = "reset";
+
+  private static final ObjectWriter DATAMART_SERVICE_WRITER =
+      JacksonCodecs.writer(JacksonCodecs.Flavor.DATAMART, DatamartDetailedService.class);
+
+  private static final ObjectWriter PAYLOAD_WRITER =
+      JacksonCodecs.writer(JacksonCodecs.Flavor.V1, Map.class);
+
+  private static final int BATCH_SIZE = 500;
+
+  private final OverlayEventRepository repository;
+
+  private final Duration retention;
+
+  private final Duration settle;
+
+  private final Duration timeout;
+
+  private final int maxPending;
+
+  private final Duration pollInterval;
+
+  private final Duration heartbeatInterval;
+
+  private final ThreadPoolExecutor pool;
+
+  private final ScheduledExecutorService poller;
+
+  private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+
+  /** The last settled event handed to subscribers, set when the log is first read. */
+  private volatile Long published;
+
+  @Builder
+  OverlayEvents(
+      @Autowired OverlayEventRepository repository,
+      @Value("${overlay-events.retention-hours:24}") long retentionHours,
+      @Value("${overlay-events.settle-millis:2000}") long settleMillis,
+      @Value("${overlay-events.timeout-minutes:30}") long timeoutMinutes,
+      @Value("${overlay-events.max-pending:500}") int maxPending,
+      @Value("${overlay-events.poll-millis:1000}") long pollMillis,
+      @Value("${overlay-events.heartbeat-millis:30000}") long heartbeatMillis,
+      @Value("${overlay-events.threads:2}") int threads) {
+    this.repository = repository;
+    this.retention = Duration.ofHours(Math.max(1, retentionHours));
+    this.settle = Duration.ofMillis(Math.max(0, settleMillis));
+    this.timeout = Duration.ofMinutes(Math.max(1, timeoutMinutes));
+    this.maxPending = Math.max(1, maxPending);
+    this.pollInterval = Duration.ofMillis(Math.max(1, pollMillis));
+    this.heartbeatInterval = Duration.ofMillis(Math.max(1, heartbeatMillis));
+    pool =
+        new ThreadPoolExecutor(
+            Math.max(1, threads),
+            Math.max(1, threads),
+            60,
+            TimeUnit.SECONDS,
+            new LinkedBlockingQueue<>(),
+            new ThreadFactoryBuilder().setNameFormat("overlay-events-%d").setDaemon(true).build());
+    pool.allowCoreThreadTimeOut(true);
+    poller =
+        Executors.newSingleThreadScheduledExecutor(
+            new ThreadFactoryBuilder()
+                .setNameFormat("overlay-events-poller-%d")
+                .setDaemon(true)
+                .build());
+  }
+
+  /** A periodic task that logs failures rather than cancelling later runs. */
+  private static Runnable periodic(String name, Runnable task) {
+    return () -> {
+      try {
+        task.run();
+      } catch (RuntimeException e) {
+        log.warn("Overlay events {} failed: {}", name, e.getMessage());
+      }
+    };
+  }
+
+  @SneakyThrows
+  private static String serialize(DatamartDetailedService service) {
+    return DATAMART_SERVICE_WRITER.writeValueAsString(service);
+  }
+
+  @Override
+  public void bindTo(@NonNull MeterRegistry registry) {
+    Gauge.builder("overlay.events.subscribers", subscribers, Set::size).register(registry);
+  }
+
+  @Override
+  public void destroy() {
+    poller.shutdownNow();
+    pool.shutdownNow();
+    subscribers.forEach(Subscriber::close);
+  }
+
+  /** Hand new events to subscribers, stopping at the first event that has not settled. */
+  void dispatch() {
+    start();
+    long settled = settled();
+    List<OverlayEventEntity> events;
+    do {
+      events = repository.findByIdGreaterThanOrderByIdAsc(published, PageRequest.of(0, BATCH_SIZE));
+      for (OverlayEventEntity event : events) {
+        if (event.created() > settled) {
+          return;
+        }
+        subscribers.forEach(s -> s.offer(event));
+        published = event.id();
+      }
+    } while (events.size() == BATCH_SIZE);
+  }
+
+  /** Send a comment to every subscriber, so that closed connections are noticed. */
+  void heartbeat() {
+    subscribers.forEach(Subscriber::ping);
+  }
+
+  /**
+   * Record events for what the overlay changed, compared with the overlay as it was before it was
+   * saved. Detailed services are reported only when they differ from the saved ones, and services
+   * made inactive are reported by ID.
+   */
+  void overlaySaved(
+      @NonNull FacilityEntity facility,
+      @NonNull Previous previous,
+      @NonNull DatamartCmsOverlay overlay) {
+    String operatingStatus = CmsOverlayHelper.serializeOperatingStatus(overlay.operatingStatus());
+    if (operatingStatus != null && !operatingStatus.equals(previous.operatingStatus())) {
+      Map<String, Object> payload = new LinkedHashMap<>();
+      payload.put("id", facility.id().toIdString());
+      payload.put("operatingStatus", toFacilityOperatingStatus(overlay.operatingStatus()));
+      record(facility, OPERATING_STATUS, payload);
+    }
+    if (overlay.detailedServices() == null) {
+      return;
+    }
+    List<DatamartDetailedService> changed = new ArrayList<>();
+    List<String> removed = new ArrayList<>();
+    for (DatamartDetailedService service : overlay.detailedServices()) {
+      String serviceId = service.serviceInfo().serviceId();
+      String saved = previous.detailedServices().get(serviceId);
+      if (!service.active()) {
+        // Inactive services are removed from the overlay rather than saved
+        if (saved != null) {
+          removed.add(serviceId);
+        }
+      } else if (!serialize(service).equals(saved)) {
+        changed.add(service);
+      }
+    }
+    if (!changed.isEmpty() || !removed.isEmpty()) {
+      Map<String, Object> payload = new LinkedHashMap<>();
+      payload.put("id", facility.id().toIdString());
+      if (!changed.isEmpty()) {
+        payload.put("detailedServices", toDetailedServices(changed));
+      }
+      if (!removed.isEmpty()) {
+        payload.put("removedServices", removed);
+      }
+      record(facility, DETAILED_SERVICES, payload);
+    }
+  }
+
+  /** Remove events older than the retention period, keeping the newest of them. */
+  @Scheduled(cron = "${overlay-events.prune-cron:0 47 * * * *}")
+  public void prune() {
+    Long watermark =
+        repository.findLastIdCreatedBefore(Instant.now().minus(retention).toEpochMilli());
+    if (watermark == null) {
+      return;
+    }
+    int removed = repository.deleteByIdBefore(watermark);
+    if (removed > 0) {
+      log.info("Pruned {} overlay events before {}", removed, watermark);
+    }
+  }
+
+  @SneakyThrows
+  private void record(FacilityEntity facility, String event, Map<String, Object> payload) {
+    repository.save(
+        OverlayEventEntity.builder()
+            .facilityId(FacilityEntity.Pk.of(facility.id().type(), facility.id().stationNumber()))
+            .visn(facility.visn())
+            .event(event)
+            .payload(PAYLOAD_WRITER.writeValueAsString(payload))
+            .created(Instant.now().toEpochMilli())
+            .build());
+  }
+
+  /** Events created at or before this time are assumed to have committed. */
+  private long settled() {
+    return Instant.now().minus(settle).toEpochMilli();
+  }
+
+  private synchronized void start() {
+    if (published == null) {
+      Long last = repository.findLastIdCreatedBefore(settled() + 1);
+      published = last == null ? 0 : last;
+    }
+  }
+
+  /**
+   * Open a stream of events for the given facilities and VISNs, or for all facilities if neither
+   * is given. Events after lastEventId are replayed first. Without lastEventId, the stream starts
+   * with the next event handed to subscribers.
+   */
+  /** Start polling the log and sending heartbeats once the application is ready. */
+  @EventListener(ApplicationReadyEvent.class)
+  public void startPolling() {
+    poller.scheduleWithFixedDelay(
+        periodic("dispatch", this::dispatch),
+        pollInterval.toMillis(),
+        pollInterval.toMillis(),
+        TimeUnit.MILLISECONDS);
+    poller.scheduleWithFixedDelay(
+        periodic("heartbeat", this::heartbeat),
+        heartbeatInterval.toMillis(),
+        heartbeatInterval.toMillis(),
+        TimeUnit.MILLISECONDS);
+  }
+
+  SseEmitter subscribe(
+      String lastEventId,
+      @NonNull Collection<FacilityEntity.Pk> ids,
+      @NonNull Collection<String> visns) {
+    start();
+    Long since = lastEventId == null ? null : Longs.tryParse(lastEventId.trim());
+    Long first = repository.findFirstId();
+    boolean resumable = since != null && since >= 0 && (first == null || since >= first - 1);
+    Subscriber subscriber =
+        new Subscriber(
+            new SseEmitter(timeout.toMillis()),
+            Set.copyOf(ids),
+            Set.copyOf(visns),
+            resumable ? since : published);
+    subscribers.add(subscriber);
+    subscriber.emitter.onCompletion(() -> subscribers.remove(subscriber));
+    subscriber.emitter.onTimeout(subscriber::close);
+    subscriber.emitter.onError(e -> subscriber.close());
+    try {
+      if (!resumable && lastEventId != null) {
+        subscriber.emitter.send(
+            SseEmitter.event()
+                .id(Long.toString(subscriber.last))
+                .name(RESET)
+                .data("Events after the given Last-Event-ID are no longer available"));
+      }
+      subscriber.replay();
+    } catch (IOException | IllegalStateException e) {
+      subscriber.close();
+    } finally {
+      subscriber.release();
+    }
+    return subscriber.emitter;
+  }
+
+  int subscribers() {
+    return subscribers.size();
+  }
+
+  /** The operating status and detailed services of an overlay before it is updated. */
+  @lombok.Value
+  static class Previous {
+    String operatingStatus;
+
+    Map<String, String> detailedServices;
+
+    static Previous of(@NonNull Optional<CmsOverlayEntity> entity) {
+      if (entity.isEmpty()) {
+        return new Previous(null, Map.of());
+      }
+      Map<String, String> services = new LinkedHashMap<>();
+      for (DatamartDetailedService service :
+          CmsOverlayHelper.getDetailedServices(entity.get().cmsServices())) {
+        services.put(service.serviceInfo().serviceId(), serialize(service));
+      }
+      return new Previous(
+          CmsOverlayHelper.serializeOperatingStatus(
+              CmsOverlayHelper.getOperatingStatus(entity.get().cmsOperatingStatus())),
+          services);
+    }
+  }
+
+  private final class Subscriber {
+    private final SseEmitter emitter;
+
+    private final Set<FacilityEntity.Pk> ids;
+
+    private final Set<String> visns;
+
+    private final Queue<OverlayEventEntity> pending = new ConcurrentLinkedQueue<>();
+
+    private final AtomicInteger queued = new AtomicInteger();
+
+    /** Set while a delivery task or the initial replay owns the emitter. */
+    private final AtomicBoolean draining = new AtomicBoolean(true);
+
+    private final AtomicBoolean ping = new AtomicBoolean();
+
+    /** The last event sent, only touched by the owner of the emitter. */
+    private long last;
+
+    Subscriber(SseEmitter emitter, Set<FacilityEntity.Pk> ids, Set<String> visns, long last) {
+      this.emitter = emitter;
+      this.ids = ids;
+      this.visns = visns;
+      this.last = last;
+    }
+
+    void close() {
+      subscribers.remove(this);
+      pending.clear();
+      emitter.complete();
+    }
+
+    private void drain() {
+      try {
+        if (ping.getAndSet(false)) {
+          emitter.send(SseEmitter.event().comment("keep-alive"));
+        }
+        OverlayEventEntity event;
+        while ((event = pending.poll()) != null) {
+          queued.decrementAndGet();
+          send(event);
+        }
+      } catch (IOException | IllegalStateException e) {
+        close();
+        return;
+      }
+      release();
+    }
+
+    private boolean matches(OverlayEventEntity event) {
+      if (ids.isEmpty() && visns.isEmpty()) {
+        return true;
+      }
+      return ids.contains(event.facilityId())
+          || (event.visn() != null && visns.contains(event.visn()));
+    }
+
+    void offer(OverlayEventEntity event) {
+      if (!matches(event)) {
+        return;
+      }
+      if (queued.incrementAndGet() > maxPending) {
+        log.info("Closing overlay event subscriber more than {} events behind", maxPending);
+        close();
+        return;
+      }
+      pending.add(event);
+      schedule();
+    }
+
+    void ping() {
+      ping.set(true);
+      schedule();
+    }
+
+    /** Give up ownership of the emitter, and deliver anything queued meanwhile. */
+    void release() {
+      draining.set(false);
+      if (!pending.isEmpty() || ping.get()) {
+        schedule();
+      }
+    }
+
+    /**
+     * Send the logged events after the last one sent, up to the first event that neither has been
+     * handed to subscribers nor has settled. Later events reach the subscriber through dispatch.
+     */
+    void replay() throws IOException {
+      long through = published;
+      long settled = settled();
+      List<OverlayEventEntity> events;
+      do {
+        events = repository.findByIdGreaterThanOrderByIdAsc(last, PageRequest.of(0, BATCH_SIZE));
+        for (OverlayEventEntity event : events) {
+          if (event.id() > through && event.created() > settled) {
+            return;
+          }
+          if (matches(event)) {
+            send(event);
+          }
+          last = Math.max(last, event.id());
+        }
+      } while (events.size() == BATCH_SIZE);
+    }
+
+    private void schedule() {
+      if (!draining.compareAndSet(false, true)) {
+        return;
+      }
+      try {
+        pool.execute(this::drain);
+      } catch (RejectedExecutionException e) {
+        close();
+      }
+    }
+
+    private void send(OverlayEventEntity event) throws IOException {
+      if (event.id() <= last) {
+        return;
+      }
+      emitter.send(
+          SseEmitter.event()
+              .id(Long.toString(event.id()))
+              .name(event.event())
+              .data(event.payload()));
+      last = event.id();
+    }
+  }
+}
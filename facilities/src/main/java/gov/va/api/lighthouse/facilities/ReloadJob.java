@@ -0,0 +1,242 @@
+package gov.va.api.lighthouse.facilities;
+
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonInclude.Include;
+import gov.va.api.lighthouse.facilities.api.v0.ReloadResponse;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.UUID;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.SneakyThrows;
+import lombok.Value;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * A facility reload tracked by {@link ReloadJobs}. The work reports the phase it is in and each
+ * facility it processes, and checks for cancellation between facilities. The reload response is
+ * filled in as the work proceeds, so progress can be reported while the job is running.
+ */
+@Slf4j
+public final class ReloadJob {
+  @Getter private final String id;
+
+  @Getter private final ReloadResponse response;
+
+  private final Instant submitted;
+
+  private final AtomicInteger processed = new AtomicInteger();
+
+  private final AtomicInteger unchanged = new AtomicInteger();
+
+  private final CountDownLatch finishedLatch = new CountDownLatch(1);
+
+  private volatile Status status = Status.QUEUED;
+
+  private volatile Phase phase;
+
+  private volatile Instant started;
+
+  private volatile Instant updateStarted;
+
+  private volatile Instant finished;
+
+  private volatile boolean cancelRequested;
+
+  private volatile String cancelReason;
+
+  private volatile String error;
+
+  private ReloadJob(String id, ReloadResponse response) {
+    this.id = id;
+    this.response = response;
+    submitted = Instant.now();
+  }
+
+  /** A job that will be run by {@link ReloadJobs}. */
+  static ReloadJob queued() {
+    return new ReloadJob(UUID.randomUUID().toString(), ReloadResponse.start());
+  }
+
+  /**
+   * A job for a reload run directly on the calling thread. It is only cancelled if the reload lease
+   * is lost.
+   */
+  static ReloadJob untracked(@NonNull ReloadResponse response) {
+    ReloadJob job = new ReloadJob("untracked", response);
+    job.status = Status.RUNNING;
+    job.started = job.submitted;
+    return job;
+  }
+
+  @SneakyThrows
+  boolean await(long timeout, @NonNull TimeUnit unit) {
+    return finishedLatch.await(timeout, unit);
+  }
+
+  /**
+   * Request cancellation. A queued job will not start, a running job stops at the next facility.
+   * Facilities already written are kept.
+   */
+  void cancel() {
+    cancelRequested = true;
+  }
+
+  /** Request cancellation for a reason other than a user request, reported as the job error. */
+  void cancel(@NonNull String reason) {
+    cancelReason = reason;
+    cancelRequested = true;
+  }
+
+  /** Throw a CancellationException if cancellation was requested. */
+  void checkNotCancelled() {
+    if (cancelRequested) {
+      throw new CancellationException(
+          "Reload " + id + " cancelled" + (cancelReason == null ? "" : ": " + cancelReason));
+    }
+  }
+
+  private void finish(Status finalStatus, String message) {
+    finished = Instant.now();
+    error = message;
+    status = finalStatus;
+    finishedLatch.countDown();
+  }
+
+  boolean isActive() {
+    return status == Status.QUEUED || status == Status.RUNNING;
+  }
+
+  /** Enter the next phase of the reload. */
+  void phase(@NonNull Phase next) {
+    if (next == Phase.UPDATING) {
+      updateStarted = Instant.now();
+    }
+    phase = next;
+  }
+
+  /** Count one facility as processed. */
+  void processed() {
+    processed.incrementAndGet();
+  }
+
+  /** A snapshot of the progress of the job. */
+  public Report report() {
+    Instant end = finished == null ? Instant.now() : finished;
+    double seconds =
+        updateStarted == null ? 0 : Duration.between(updateStarted, end).toMillis() / 1000.0;
+    return Report.builder()
+        .id(id)
+        .status(status)
+        .phase(phase)
+        .submitted(submitted)
+        .started(started)
+        .finished(finished)
+        .collected(response.totalFacilities())
+        .processed(processed.get())
+        .unchanged(unchanged.get())
+        .created(response.facilitiesCreated().size())
+        .updated(response.facilitiesUpdated().size())
+        .missing(response.facilitiesMissing().size())
+        .problems(response.problems().size())
+        .rowsPerSecond(seconds > 0 ? Math.round(processed.get() / seconds * 10) / 10.0 : 0)
+        .cancelRequested(cancelRequested && isActive())
+        .error(error)
+        .response(isActive() ? null : response)
+        .build();
+  }
+
+  /** Run the work on the calling thread and record how it ended. */
+  void run(@NonNull Consumer<ReloadJob> work) {
+    if (cancelRequested) {
+      finish(Status.CANCELLED, cancelReason);
+      return;
+    }
+    started = Instant.now();
+    response.timing().start(started);
+    status = Status.RUNNING;
+    try {
+      work.accept(this);
+      finish(Status.COMPLETED, null);
+    } catch (CancellationException e) {
+      log.warn("{} after {} facilities", e.getMessage(), processed.get());
+      finish(Status.CANCELLED, cancelReason);
+    } catch (Exception e) {
+      log.error("Reload {} failed: {}", id, e.getMessage());
+      finish(Status.FAILED, e.getMessage());
+    }
+  }
+
+  /** Count one facility as skipped because it has not changed since it was last written. */
+  void unchanged() {
+    unchanged.incrementAndGet();
+  }
+
+  /** The parts of a reload, in the order they run. */
+  public enum Phase {
+    COLLECTING,
+    UPDATING,
+    MARKING_MISSING
+  }
+
+  public enum Status {
+    QUEUED,
+    RUNNING,
+    COMPLETED,
+    FAILED,
+    CANCELLED
+  }
+
+  /**
+   * Progress of a reload job. Counts are updated as the job runs. The full reload response is
+   * included once the job has finished.
+   */
+  @Value
+  @Builder
+  @JsonAutoDetect(fieldVisibility = JsonAutoDetect.Visibility.ANY)
+  @JsonInclude(value = Include.NON_NULL)
+  public static class Report {
+    String id;
+
+    Status status;
+
+    Phase phase;
+
+    Instant submitted;
+
+    Instant started;
+
+    Instant finished;
+
+    int collected;
+
+    int processed;
+
+    /** Facilities skipped by an incremental reload because they have not changed. */
+    int unchanged;
+
+    int created;
+
+    int updated;
+
+    int missing;
+
+    int problems;
+
+    /** Facilities processed per second since the update phase started. */
+    double rowsPerSecond;
+
+    boolean cancelRequested;
+
+    String error;
+
+    ReloadResponse response;
+  }
+}
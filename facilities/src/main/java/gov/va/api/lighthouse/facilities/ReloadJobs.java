@@ -0,0 +1,87 @@
+package gov.va.api.lighthouse.facilities;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
+import lombok.Builder;
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Runs facility reloads in the background, one at a time, so the request that starts a reload
+ * returns immediately with a job id that can be polled for progress. Submitting while a reload is
+ * queued or running returns that job instead of starting another, so retries cannot overlap. The
+ * most recent jobs are retained for reporting.
+ */
+@Slf4j
+@Component
+public class ReloadJobs implements DisposableBean {
+  private final int retained;
+
+  private final ExecutorService executor;
+
+  /** Newest first. */
+  private final Deque<ReloadJob> jobs = new ArrayDeque<>();
+
+  @Builder
+  ReloadJobs(@Value("${reload-jobs.retained:10}") int retained) {
+    this.retained = Math.max(1, retained);
+    executor =
+        Executors.newSingleThreadExecutor(
+            new ThreadFactoryBuilder().setNameFormat("reload-job-%d").setDaemon(true).build());
+  }
+
+  /** Jobs newest first. */
+  synchronized List<ReloadJob> all() {
+    return List.copyOf(jobs);
+  }
+
+  /** Request cancellation of the job, if it is known. */
+  Optional<ReloadJob> cancel(@NonNull String id) {
+    Optional<ReloadJob> job = find(id);
+    job.ifPresent(ReloadJob::cancel);
+    return job;
+  }
+
+  @Override
+  public void destroy() {
+    jobs.forEach(ReloadJob::cancel);
+    executor.shutdownNow();
+  }
+
+  synchronized Optional<ReloadJob> find(@NonNull String id) {
+    return jobs.stream().filter(j -> j.id().equals(id)).findFirst();
+  }
+
+  /**
+   * Queue the work as a new job, or return the job that is already queued or running. Finished
+   * jobs beyond the retention limit are forgotten.
+   */
+  synchronized ReloadJob submit(@NonNull Consumer<ReloadJob> work) {
+    Optional<ReloadJob> active = jobs.stream().filter(ReloadJob::isActive).findFirst();
+    if (active.isPresent()) {
+      log.info("Reload {} is already in progress", active.get().id());
+      return active.get();
+    }
+    ReloadJob job = ReloadJob.queued();
+    jobs.addFirst(job);
+    Iterator<ReloadJob> oldest = jobs.descendingIterator();
+    while (jobs.size() > retained && oldest.hasNext()) {
+      if (!oldest.next().isActive()) {
+        oldest.remove();
+      }
+    }
+    log.info("Reload {} submitted", job.id());
+    executor.execute(() -> job.run(work));
+    return job;
+  }
+}
@@ -0,0 +1,192 @@
+package gov.va.api.lighthouse.facilities;
+
+import static org.apache.commons.lang3.StringUtils.isBlank;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+
+/**
+ * Keeps facility reloads from running on more than one node at a time. A reload acquires the lease
+ * before it starts collecting and releases it when it finishes. While it is held, a heartbeat
+ * pushes the expiry forward, so a node that dies mid-reload only blocks other nodes until the
+ * lease expires.
+ *
+ * <p>A heartbeat that finds the lease taken over, or that cannot renew it before it expires, marks
+ * the lease as lost and runs the actions registered with {@link Held#onLost(Runnable)}, so that the
+ * reload stops instead of racing the node that now holds the lease. The holder measures its own
+ * expiry with the monotonic clock from when it last renewed, rather than comparing wall clocks.
+ */
+@Slf4j
+@Component
+public class ReloadLease implements DisposableBean {
+  static final String NAME = "facilities-reload";
+
+  private final ReloadLeaseRepository repository;
+
+  private final String node;
+
+  private final Duration ttl;
+
+  private final ScheduledExecutorService heartbeats;
+
+  @Builder
+  ReloadLease(
+      @Autowired ReloadLeaseRepository repository,
+      @Value("${reload-lease.node:}") String node,
+      @Value("${reload-lease.ttl-seconds:300}") long ttlSeconds) {
+    this.repository = repository;
+    this.node = isBlank(node) ? hostName() : node;
+    ttl = Duration.ofSeconds(Math.max(1, ttlSeconds));
+    heartbeats =
+        Executors.newSingleThreadScheduledExecutor(
+            new ThreadFactoryBuilder()
+                .setNameFormat("reload-lease-heartbeat-%d")
+                .setDaemon(true)
+                .build());
+  }
+
+  private static String hostName() {
+    try {
+      return InetAddress.getLocalHost().getHostName();
+    } catch (UnknownHostException e) {
+      return "unknown";
+    }
+  }
+
+  /**
+   * Acquire the lease or throw a ReloadInProgress naming the node that holds it. Closing the
+   * returned lease releases it.
+   */
+  Held acquire() {
+    String owner = node + "/" + UUID.randomUUID().toString().substring(0, 8);
+    long started = System.nanoTime();
+    long now = System.currentTimeMillis();
+    long expires = now + ttl.toMillis();
+    if (repository.claim(NAME, owner, now, expires) == 0 && !create(owner, now, expires)) {
+      ReloadLeaseEntity holder = repository.findById(NAME).orElse(null);
+      throw new ExceptionsUtils.ReloadInProgress(
+          holder == null ? "another node" : holder.owner(),
+          holder == null ? null : Instant.ofEpochMilli(holder.expires()));
+    }
+    log.info("Reload lease acquired by {}", owner);
+    Held held = new Held(owner, started + ttl.toNanos());
+    long heartbeatMillis = Math.max(1, ttl.toMillis() / 3);
+    held.heartbeat =
+        heartbeats.scheduleAtFixedRate(
+            held::renew, heartbeatMillis, heartbeatMillis, TimeUnit.MILLISECONDS);
+    return held;
+  }
+
+  private boolean create(String owner, long now, long expires) {
+    if (repository.existsById(NAME)) {
+      return false;
+    }
+    try {
+      return repository.create(NAME, owner, now, expires) == 1;
+    } catch (DataIntegrityViolationException e) {
+      log.info("Reload lease was created by another node");
+      return false;
+    }
+  }
+
+  @Override
+  public void destroy() {
+    heartbeats.shutdownNow();
+  }
+
+  /** The lease while it is held by this node. */
+  class Held implements AutoCloseable {
+    @Getter private final String owner;
+
+    private final List<Runnable> lostActions = new ArrayList<>();
+
+    private volatile ScheduledFuture<?> heartbeat;
+
+    /** When the lease expires unless renewed, in {@link System#nanoTime()}. */
+    private volatile long deadline;
+
+    private volatile boolean lost;
+
+    private Held(@NonNull String owner, long deadline) {
+      this.owner = owner;
+      this.deadline = deadline;
+    }
+
+    /** Stop the heartbeat and let other nodes acquire the lease. */
+    @Override
+    public void close() {
+      if (heartbeat != null) {
+        heartbeat.cancel(false);
+      }
+      try {
+        repository.release(NAME, owner, System.currentTimeMillis());
+        log.info("Reload lease released by {}", owner);
+      } catch (Exception e) {
+        log.error("Failed to release reload lease held by {}: {}", owner, e.getMessage());
+      }
+    }
+
+    /** True once a heartbeat found the lease taken over or the lease expired without renewal. */
+    boolean isLost() {
+      return lost || System.nanoTime() - deadline >= 0;
+    }
+
+    private synchronized void lose(String reason) {
+      if (lost) {
+        return;
+      }
+      lost = true;
+      log.error("Reload lease held by {} was lost: {}", owner, reason);
+      if (heartbeat != null) {
+        heartbeat.cancel(false);
+      }
+      lostActions.forEach(Runnable::run);
+    }
+
+    /** Run the action if the lease is lost, immediately if it already has been. */
+    synchronized void onLost(@NonNull Runnable action) {
+      if (isLost()) {
+        action.run();
+        return;
+      }
+      lostActions.add(action);
+    }
+
+    /** Push the expiry forward, or mark the lease as lost if that is no longer possible. */
+    void renew() {
+      long started = System.nanoTime();
+      try {
+        long now = System.currentTimeMillis();
+        if (repository.renew(NAME, owner, now, now + ttl.toMillis()) == 0) {
+          lose("it expired or was taken over");
+          return;
+        }
+        deadline = started + ttl.toNanos();
+      } catch (Exception e) {
+        log.error("Failed to renew reload lease held by {}: {}", owner, e.getMessage());
+        if (isLost()) {
+          lose("it could not be renewed before it expired");
+        }
+      }
+    }
+  }
+}
@@ -0,0 +1,39 @@
+package gov.va.api.lighthouse.facilities;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Table;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
+
+/**
+ * A named lease shared by every node using the database. The lease is held by its owner until it
+ * expires, and the owner pushes the expiry forward with each heartbeat. Times are epoch millis.
+ */
+@Data
+@Entity
+@Builder
+@Table(name = "reload_lease", schema = "app")
+@NoArgsConstructor(access = AccessLevel.PUBLIC)
+@EqualsAndHashCode(onlyExplicitlyIncluded = true)
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class ReloadLeaseEntity {
+  @Id @EqualsAndHashCode.Include private String name;
+
+  @Column(name = "owner", nullable = false)
+  private String owner;
+
+  @Column(name = "acquired", nullable = false)
+  private long acquired;
+
+  @Column(name = "heartbeat", nullable = false)
+  private long heartbeat;
+
+  @Column(name = "expires", nullable = false)
+  private long expires;
+}
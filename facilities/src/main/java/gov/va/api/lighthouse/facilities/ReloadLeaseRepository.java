@@ -0,0 +1,62 @@
+package gov.va.api.lighthouse.facilities;
+
+import gov.va.api.health.autoconfig.logging.Loggable;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.CrudRepository;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Each write is a single conditional statement, so two nodes racing for the same lease cannot both
+ * win.
+ */
+@Loggable
+public interface ReloadLeaseRepository extends CrudRepository<ReloadLeaseEntity, String> {
+  /** Take the lease if it has expired. Returns the number of rows updated. */
+  @Modifying
+  @Transactional
+  @Query(
+      "update #{#entityName} e set e.owner = :owner, e.acquired = :now, e.heartbeat = :now,"
+          + " e.expires = :expires where e.name = :name and e.expires <= :now")
+  int claim(
+      @Param("name") String name,
+      @Param("owner") String owner,
+      @Param("now") long now,
+      @Param("expires") long expires);
+
+  /** Create the lease, held by the owner. Fails if the lease already exists. */
+  @Modifying
+  @Transactional
+  @Query(
+      value =
+          "insert into app.reload_lease (name, owner, acquired, heartbeat, expires)"
+              + " values (:name, :owner, :now, :now, :expires)",
+      nativeQuery = true)
+  int create(
+      @Param("name") String name,
+      @Param("owner") String owner,
+      @Param("now") long now,
+      @Param("expires") long expires);
+
+  /** Expire the lease now if the owner still holds it. */
+  @Modifying
+  @Transactional
+  @Query(
+      "update #{#entityName} e set e.expires = :now"
+          + " where e.name = :name and e.owner = :owner and e.expires > :now")
+  int release(
+      @Param("name") String name, @Param("owner") String owner, @Param("now") long now);
+
+  /** Push the expiry forward if the owner still holds the lease. */
+  @Modifying
+  @Transactional
+  @Query(
+      "update #{#entityName} e set e.heartbeat = :now, e.expires = :expires"
+          + " where e.name = :name and e.owner = :owner and e.expires > :now")
+  int renew(
+      @Param("name") String name,
+      @Param("owner") String owner,
+      @Param("now") long now,
+      @Param("expires") long expires);
+}
@@ -0,0 +1,122 @@
+package gov.va.api.lighthouse.facilities;
+
+import static java.util.stream.Collectors.toList;
+
+import com.google.common.collect.Lists;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.SneakyThrows;
+import org.springframework.beans.factory.DisposableBean;
+
+/**
+ * Named, bounded pool for CPU work done while serving a request. Work smaller than the sequential
+ * threshold runs on the calling thread, since handing it off costs more than it saves. Larger work
+ * is split into roughly one chunk per thread. When the queue is full, chunks run on the calling
+ * thread instead of being rejected, so a busy pool slows requests down rather than failing them.
+ *
+ * <p>Unlike parallel streams, which share the JVM-wide common pool, each executor is sized on its
+ * own and reports its queue depth and how long chunks wait and run.
+ */
+public final class RequestExecutor implements MeterBinder, DisposableBean {
+  @Getter private final String name;
+
+  private final int threads;
+
+  private final int sequentialThreshold;
+
+  private final ThreadPoolExecutor pool;
+
+  private volatile Timer waitTimer;
+
+  private volatile Timer runTimer;
+
+  @Builder
+  RequestExecutor(@NonNull String name, int threads, int queueCapacity, int sequentialThreshold) {
+    this.name = name;
+    this.threads = Math.max(1, threads);
+    this.sequentialThreshold = Math.max(1, sequentialThreshold);
+    pool =
+        new ThreadPoolExecutor(
+            this.threads,
+            this.threads,
+            60,
+            TimeUnit.SECONDS,
+            new ArrayBlockingQueue<>(Math.max(1, queueCapacity)),
+            new ThreadFactoryBuilder().setNameFormat(name + "-%d").setDaemon(true).build(),
+            new ThreadPoolExecutor.CallerRunsPolicy());
+    pool.allowCoreThreadTimeOut(true);
+  }
+
+  @SneakyThrows
+  private static <R> List<R> join(Future<List<R>> future) {
+    try {
+      return future.get();
+    } catch (ExecutionException e) {
+      throw e.getCause();
+    }
+  }
+
+  @Override
+  public void bindTo(@NonNull MeterRegistry registry) {
+    Gauge.builder("request.executor.queue", pool, p -> p.getQueue().size())
+        .tag("executor", name)
+        .register(registry);
+    Gauge.builder("request.executor.active", pool, ThreadPoolExecutor::getActiveCount)
+        .tag("executor", name)
+        .register(registry);
+    waitTimer = Timer.builder("request.executor.wait").tag("executor", name).register(registry);
+    runTimer = Timer.builder("request.executor.run").tag("executor", name).register(registry);
+  }
+
+  @Override
+  public void destroy() {
+    pool.shutdownNow();
+  }
+
+  /**
+   * Apply the task to every item and return the results in the same order. Exceptions thrown by
+   * the task are rethrown to the caller.
+   */
+  <T, R> List<R> map(@NonNull List<T> items, @NonNull Function<? super T, R> task) {
+    if (items.size() < sequentialThreshold) {
+      return items.stream().map(task).collect(toList());
+    }
+    int chunkSize = Math.max(sequentialThreshold / 2, (items.size() + threads - 1) / threads);
+    List<Future<List<R>>> futures = new ArrayList<>();
+    for (List<T> chunk : Lists.partition(items, Math.max(1, chunkSize))) {
+      long queuedAt = System.nanoTime();
+      futures.add(pool.submit(() -> run(queuedAt, chunk, task)));
+    }
+    List<R> results = new ArrayList<>(items.size());
+    for (Future<List<R>> future : futures) {
+      results.addAll(join(future));
+    }
+    return results;
+  }
+
+  private <T, R> List<R> run(long queuedAt, List<T> chunk, Function<? super T, R> task) {
+    long startedAt = System.nanoTime();
+    try {
+      return chunk.stream().map(task).collect(toList());
+    } finally {
+      if (waitTimer != null) {
+        waitTimer.record(startedAt - queuedAt, TimeUnit.NANOSECONDS);
+        runTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+      }
+    }
+  }
+}
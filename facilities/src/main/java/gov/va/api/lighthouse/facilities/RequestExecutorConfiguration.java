@@ -0,0 +1,39 @@
+package gov.va.api.lighthouse.facilities;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/** Bounded executors for parallel work on the request path. */
+@Configuration
+class RequestExecutorConfiguration {
+  /** Serializes facilities for the bulk download endpoints. */
+  @Bean
+  RequestExecutor bulkSerializationExecutor(
+      @Value("${request-executor.bulk-serialization.threads:4}") int threads,
+      @Value("${request-executor.bulk-serialization.queue-capacity:64}") int queueCapacity,
+      @Value("${request-executor.bulk-serialization.sequential-threshold:500}")
+          int sequentialThreshold) {
+    return RequestExecutor.builder()
+        .name("bulk-serialization")
+        .threads(threads)
+        .queueCapacity(queueCapacity)
+        .sequentialThreshold(sequentialThreshold)
+        .build();
+  }
+
+  /** Tests drive time band polygons for nearby searches. */
+  @Bean
+  RequestExecutor intersectionExecutor(
+      @Value("${request-executor.intersections.threads:4}") int threads,
+      @Value("${request-executor.intersections.queue-capacity:256}") int queueCapacity,
+      @Value("${request-executor.intersections.sequential-threshold:16}")
+          int sequentialThreshold) {
+    return RequestExecutor.builder()
+        .name("intersections")
+        .threads(threads)
+        .queueCapacity(queueCapacity)
+        .sequentialThreshold(sequentialThreshold)
+        .build();
+  }
+}
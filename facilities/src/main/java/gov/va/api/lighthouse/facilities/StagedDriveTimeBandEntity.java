@@ -0,0 +1,110 @@
+package gov.va.api.lighthouse.facilities;
+
+import java.io.Serializable;
+import javax.persistence.Basic;
+import javax.persistence.Column;
+import javax.persistence.Embeddable;
+import javax.persistence.EmbeddedId;
+import javax.persistence.Entity;
+import javax.persistence.FetchType;
+import javax.persistence.Lob;
+import javax.persistence.Table;
+import javax.persistence.Version;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
+import lombok.NonNull;
+
+/**
+ * A drive time band uploaded for a specific month_year. Nearby queries only use the bands of the
+ * version named by the {@link DriveTimeBandVersionEntity} pointer, so they never see a partially
+ * uploaded month. Every version stays here after activation to allow rollback.
+ */
+@Data
+@Entity
+@Builder
+@Table(name = "drive_time_band_staged", schema = "app")
+@NoArgsConstructor(access = AccessLevel.PUBLIC)
+@EqualsAndHashCode(onlyExplicitlyIncluded = true)
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class StagedDriveTimeBandEntity {
+  @EqualsAndHashCode.Include @EmbeddedId private Pk id;
+
+  @Column(name = "min_latitude")
+  private double minLatitude;
+
+  @Column(name = "min_longitude")
+  private double minLongitude;
+
+  @Column(name = "max_latitude")
+  private double maxLatitude;
+
+  @Column(name = "max_longitude")
+  private double maxLongitude;
+
+  @Lob
+  @Basic(fetch = FetchType.LAZY)
+  @Column
+  private String band;
+
+  @Version private Integer version;
+
+  /** Stage a copy of a live band under its own month_year. */
+  static StagedDriveTimeBandEntity copyOf(@NonNull DriveTimeBandEntity live) {
+    return StagedDriveTimeBandEntity.builder()
+        .id(Pk.of(live.id(), live.monthYear()))
+        .minLatitude(live.minLatitude())
+        .minLongitude(live.minLongitude())
+        .maxLatitude(live.maxLatitude())
+        .maxLongitude(live.maxLongitude())
+        .band(live.band())
+        .build();
+  }
+
+  /**
+   * This band as nearby queries use it. The result is not persisted; once a version has been
+   * activated, the staged bands are the bands being served.
+   */
+  DriveTimeBandEntity asBand() {
+    return DriveTimeBandEntity.builder()
+        .id(id.bandId())
+        .minLatitude(minLatitude)
+        .minLongitude(minLongitude)
+        .maxLatitude(maxLatitude)
+        .maxLongitude(maxLongitude)
+        .monthYear(id.monthYear())
+        .band(band)
+        .version(version)
+        .build();
+  }
+
+  @Data
+  @NoArgsConstructor(access = AccessLevel.PUBLIC)
+  @AllArgsConstructor(staticName = "of")
+  @Embeddable
+  static final class Pk implements Serializable {
+    @Column(name = "station_number", nullable = false)
+    private String stationNumber;
+
+    @Column(name = "from_minutes", nullable = false)
+    private int fromMinutes;
+
+    @Column(name = "to_minutes", nullable = false)
+    private int toMinutes;
+
+    @Column(name = "month_year", nullable = false)
+    private String monthYear;
+
+    static Pk of(@NonNull DriveTimeBandEntity.Pk bandId, @NonNull String monthYear) {
+      return of(bandId.stationNumber(), bandId.fromMinutes(), bandId.toMinutes(), monthYear);
+    }
+
+    /** The ID of this band in the live table. */
+    DriveTimeBandEntity.Pk bandId() {
+      return DriveTimeBandEntity.Pk.of(stationNumber, fromMinutes, toMinutes);
+    }
+  }
+}
@@ -0,0 +1,67 @@
+package gov.va.api.lighthouse.facilities;
+
+import gov.va.api.health.autoconfig.logging.Loggable;
+import java.util.List;
+import javax.persistence.criteria.CriteriaBuilder;
+import javax.persistence.criteria.CriteriaQuery;
+import javax.persistence.criteria.Predicate;
+import javax.persistence.criteria.Root;
+import javax.persistence.criteria.Subquery;
+import lombok.Builder;
+import lombok.NonNull;
+import lombok.Value;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.CrudRepository;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+@Loggable
+public interface StagedDriveTimeBandRepository
+    extends CrudRepository<StagedDriveTimeBandEntity, StagedDriveTimeBandEntity.Pk>,
+        JpaSpecificationExecutor<StagedDriveTimeBandEntity> {
+  @Transactional
+  long deleteByIdMonthYear(String monthYear);
+
+  /** Metadata of the bands of a staged version, without loading the bands themselves. */
+  @Query(
+      "select new gov.va.api.lighthouse.facilities.BandMetadata(e.id.stationNumber,"
+          + " e.id.fromMinutes, e.id.toMinutes, e.minLatitude, e.minLongitude, e.maxLatitude,"
+          + " e.maxLongitude, e.id.monthYear, e.version)"
+          + " from #{#entityName} e where e.id.monthYear = :monthYear")
+  List<BandMetadata> findMetadataByMonthYear(@Param("monthYear") String monthYear);
+
+  @Query("select distinct e.id.monthYear from #{#entityName} e")
+  List<String> findAllStagedVersions();
+
+  List<StagedDriveTimeBandEntity> findByIdMonthYear(String monthYear);
+
+  @Query("select e.id from #{#entityName} e where e.id.monthYear = :monthYear")
+  List<StagedDriveTimeBandEntity.Pk> findIdsByMonthYear(@Param("monthYear") String monthYear);
+
+  /**
+   * Staged bands of the active version that contain a coordinate. The active version is read from
+   * its pointer row in the same statement, so a query never mixes bands from two versions.
+   */
+  @Value
+  @Builder
+  class ActiveVersionSpecification implements Specification<StagedDriveTimeBandEntity> {
+    @NonNull DriveTimeBandRepository.MinMaxSpecification bounds;
+
+    @Override
+    public Predicate toPredicate(
+        Root<StagedDriveTimeBandEntity> root,
+        CriteriaQuery<?> criteriaQuery,
+        CriteriaBuilder criteriaBuilder) {
+      Subquery<String> active = criteriaQuery.subquery(String.class);
+      Root<DriveTimeBandVersionEntity> pointer = active.from(DriveTimeBandVersionEntity.class);
+      active
+          .select(pointer.get("monthYear"))
+          .where(criteriaBuilder.equal(pointer.get("name"), DriveTimeBandVersionEntity.ACTIVE));
+      return criteriaBuilder.and(
+          bounds.toPredicate(root, criteriaBuilder),
+          criteriaBuilder.equal(root.get("id").get("monthYear"), active));
+    }
+  }
+}
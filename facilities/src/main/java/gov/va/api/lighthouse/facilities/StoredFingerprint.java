@@ -0,0 +1,36 @@
+package gov.va.api.lighthouse.facilities;
+
+import java.time.Instant;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.NonNull;
+import lombok.Value;
+
+/**
+ * What an incremental reload needs to decide whether a collected facility must be written, read
+ * without payloads or service collections. The fingerprint query builds it with a constructor
+ * expression.
+ */
+@Value
+@Builder
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class StoredFingerprint {
+  @NonNull FacilityEntity.Pk id;
+
+  String fingerprint;
+
+  Instant lastUpdated;
+
+  Long missingTimestamp;
+
+  /** Constructor for the {@code select new} expression of the fingerprint query. */
+  public StoredFingerprint(
+      FacilityEntity.Type type,
+      String stationNumber,
+      String fingerprint,
+      Instant lastUpdated,
+      Long missingTimestamp) {
+    this(FacilityEntity.Pk.of(type, stationNumber), fingerprint, lastUpdated, missingTimestamp);
+  }
+}
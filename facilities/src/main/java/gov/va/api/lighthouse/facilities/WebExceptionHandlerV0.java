@@ -3,7 +3,6 @@ package gov.va.api.lighthouse.facilities;
 import static java.util.stream.Collectors.joining;
 
 import com.google.common.collect.Iterables;
-import gov.va.api.health.autoconfig.configuration.JacksonConfig;
 import gov.va.api.lighthouse.facilities.api.v0.ApiError;
 import java.util.List;
 import javax.validation.ConstraintViolationException;
@@ -26,7 +25,10 @@ public final class WebExceptionHandlerV0 {
   @SneakyThrows
   private static ResponseEntity<ApiError> response(
       HttpStatus status, Throwable tr, ApiError error) {
-    log.error("Response {}", JacksonConfig.createMapper().writeValueAsString(error), tr);
+    log.error(
+        "Response {}",
+        JacksonCodecs.mapper(JacksonCodecs.Flavor.PLAIN).writeValueAsString(error),
+        tr);
     HttpHeaders headers = new HttpHeaders();
     headers.setContentType(MediaType.APPLICATION_JSON);
     return ResponseEntity.status(status).headers(headers).body(error);
@@ -48,6 +50,22 @@ public final class WebExceptionHandlerV0 {
     return response(HttpStatus.SERVICE_UNAVAILABLE, ex, response);
   }
 
+  @ExceptionHandler(ExceptionsUtils.ChangeTokenExpired.class)
+  ResponseEntity<ApiError> handleChangeTokenExpired(ExceptionsUtils.ChangeTokenExpired ex) {
+    ApiError error =
+        ApiError.builder()
+            .errors(
+                List.of(
+                    ApiError.ErrorMessage.builder()
+                        .title("Change token expired")
+                        .detail(ex.getMessage())
+                        .code("410")
+                        .status("410")
+                        .build()))
+            .build();
+    return response(HttpStatus.GONE, ex, error);
+  }
+
   @ExceptionHandler(ExceptionsUtils.InvalidParameter.class)
   ResponseEntity<ApiError> handleInvalidParameter(ExceptionsUtils.InvalidParameter ex) {
     ApiError response =
@@ -132,6 +150,22 @@ public final class WebExceptionHandlerV0 {
     return response(HttpStatus.NOT_FOUND, ex, error);
   }
 
+  @ExceptionHandler(ExceptionsUtils.ReloadInProgress.class)
+  ResponseEntity<ApiError> handleReloadInProgress(ExceptionsUtils.ReloadInProgress ex) {
+    ApiError error =
+        ApiError.builder()
+            .errors(
+                List.of(
+                    ApiError.ErrorMessage.builder()
+                        .title("Reload in progress")
+                        .detail(ex.getMessage())
+                        .code("409")
+                        .status("409")
+                        .build()))
+            .build();
+    return response(HttpStatus.CONFLICT, ex, error);
+  }
+
   @ExceptionHandler(Exception.class)
   ResponseEntity<ApiError> handleSnafu(Exception ex) {
     ApiError response =
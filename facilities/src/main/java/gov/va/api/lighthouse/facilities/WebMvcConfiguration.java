@@ -1,14 +1,88 @@
 package gov.va.api.lighthouse.facilities;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import java.util.List;
+import java.util.Set;
+import javax.servlet.http.HttpServletRequest;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import org.springframework.web.accept.ContentNegotiationStrategy;
+import org.springframework.web.context.request.NativeWebRequest;
 import org.springframework.web.servlet.config.annotation.ContentNegotiationConfigurer;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+import org.springframework.web.util.UrlPathHelper;
 
 @Configuration
 class WebMvcConfiguration implements WebMvcConfigurer {
+  static final MediaType APPLICATION_CBOR = MediaType.valueOf("application/cbor");
+
+  static final MediaType APPLICATION_SMILE = MediaType.valueOf("application/x-jackson-smile");
+
+  /** Bulk endpoints that have separate JSON, binary and CSV handlers for the same path. */
+  private static final Set<String> BULK_PATHS = Set.of("/v0/facilities/all", "/v1/facilities");
+
+  private static final UrlPathHelper URL_PATH_HELPER = new UrlPathHelper();
+
+  private final ObjectMapper mapperV0;
+
+  private final ObjectMapper mapperV1;
+
+  WebMvcConfiguration(
+      @Autowired @Qualifier("objectMapper") ObjectMapper mapperV0,
+      @Autowired @Qualifier("objectMapperV1") ObjectMapper mapperV1) {
+    this.mapperV0 = mapperV0;
+    this.mapperV1 = mapperV1;
+  }
+
+  /**
+   * Requests to the bulk endpoints without a specific Accept header are answered with JSON, rather
+   * than leaving Spring to choose between the JSON, binary and CSV handlers. Every other endpoint
+   * keeps accepting any media type its handler produces.
+   */
+  static List<MediaType> bulkDefaultContentType(NativeWebRequest request) {
+    HttpServletRequest servletRequest = request.getNativeRequest(HttpServletRequest.class);
+    if (servletRequest != null
+        && BULK_PATHS.contains(URL_PATH_HELPER.getPathWithinApplication(servletRequest))) {
+      return List.of(MediaType.APPLICATION_JSON);
+    }
+    return ContentNegotiationStrategy.MEDIA_TYPE_ALL_LIST;
+  }
+
   @Override
   public void configureContentNegotiation(ContentNegotiationConfigurer configurer) {
-    configurer.defaultContentType(MediaType.APPLICATION_JSON);
+    configurer.defaultContentTypeStrategy(WebMvcConfiguration::bulkDefaultContentType);
+  }
+
+  /**
+   * Replace Spring's default Smile and CBOR converters, which know nothing about our serializers,
+   * with ones that reuse the V0 and V1 mappers.
+   */
+  @Override
+  public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+    converters.removeIf(
+        c ->
+            c instanceof MappingJackson2SmileHttpMessageConverter
+                || c instanceof MappingJackson2CborHttpMessageConverter);
+    converters.add(
+        BinaryJacksonHttpMessageConverter.builder()
+            .mediaType(APPLICATION_SMILE)
+            .factory(new SmileFactory())
+            .mapperV0(mapperV0)
+            .mapperV1(mapperV1)
+            .build());
+    converters.add(
+        BinaryJacksonHttpMessageConverter.builder()
+            .mediaType(APPLICATION_CBOR)
+            .factory(new CBORFactory())
+            .mapperV0(mapperV0)
+            .mapperV1(mapperV1)
+            .build());
   }
 }
@@ -0,0 +1,90 @@
+package gov.va.api.lighthouse.facilities;
+
+import static org.apache.commons.lang3.StringUtils.isBlank;
+import static org.apache.commons.lang3.StringUtils.trimToNull;
+
+import com.google.common.base.Stopwatch;
+import gov.va.api.lighthouse.facilities.NearbyUtils.Coordinates;
+import java.io.Reader;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import lombok.Builder;
+import lombok.SneakyThrows;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.csv.CSVFormat;
+import org.apache.commons.csv.CSVRecord;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+/**
+ * Offline geocoding from a table of ZIP and ZIP+4 centroids, read from the CSV file named by
+ * {@code geocoder.zip-centroids.file} with zip, latitude and longitude columns. The table is
+ * licensed data that is not bundled with the application; without the file this provider answers
+ * nothing. A ZIP+4 covers roughly a block face, which is precise enough for drive time bands, so
+ * those are answered without calling out. A 5-digit ZIP can span many miles, so it is only offered
+ * as an approximation when more precise providers fail.
+ */
+@Slf4j
+@Order(1)
+@Component
+public class ZipCentroidGeocoder implements Geocoder.Provider {
+  private final Map<String, Coordinates> centroids;
+
+  @Builder
+  ZipCentroidGeocoder(@Value("${geocoder.zip-centroids.file:}") String file) {
+    this.centroids = isBlank(file) ? Map.of() : load(Path.of(file));
+    if (centroids.isEmpty()) {
+      log.warn("No ZIP centroids loaded, offline geocoding is disabled");
+    }
+  }
+
+  @SneakyThrows
+  private static Map<String, Coordinates> load(Path file) {
+    if (!Files.isRegularFile(file)) {
+      log.warn("ZIP centroid file {} not found", file);
+      return Map.of();
+    }
+    Stopwatch timer = Stopwatch.createStarted();
+    Map<String, Coordinates> map = new HashMap<>();
+    try (Reader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+      Iterable<CSVRecord> rows = CSVFormat.DEFAULT.withFirstRecordAsHeader().parse(reader);
+      for (CSVRecord row : rows) {
+        String zip = trimToNull(row.get("zip"));
+        String latitude = trimToNull(row.get("latitude"));
+        String longitude = trimToNull(row.get("longitude"));
+        if (zip == null || latitude == null || longitude == null) {
+          continue;
+        }
+        map.put(
+            zip,
+            Coordinates.builder()
+                .latitude(new BigDecimal(latitude))
+                .longitude(new BigDecimal(longitude))
+                .build());
+      }
+    }
+    log.info(
+        "Loading ZIP centroids from {} took {} millis for {} entries",
+        file,
+        timer.stop().elapsed(TimeUnit.MILLISECONDS),
+        map.size());
+    return Map.copyOf(map);
+  }
+
+  @Override
+  public Optional<Coordinates> approximate(Geocoder.Address address) {
+    return address.zip5().map(centroids::get);
+  }
+
+  @Override
+  public Optional<Coordinates> geocode(Geocoder.Address address) {
+    return address.zipPlus4().map(centroids::get);
+  }
+}
@@ -4,10 +4,10 @@ import static com.google.common.base.Preconditions.checkState;
 import static java.util.stream.Collectors.toList;
 
 import com.google.common.base.Stopwatch;
-import com.google.common.collect.ImmutableList;
 import gov.va.api.lighthouse.facilities.DatamartFacility;
 import java.sql.ResultSet;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.TimeUnit;
@@ -88,7 +88,7 @@ final class BenefitsCollector {
   private List<CdwBenefits> requestCdwBenefits() {
     final Stopwatch totalWatch = Stopwatch.createStarted();
     List<CdwBenefits> cdwBenefits =
-        ImmutableList.copyOf(
+        Collections.unmodifiableList(
             jdbcTemplate.query(
                 "SELECT "
                     + "FACILITY_NAME,"
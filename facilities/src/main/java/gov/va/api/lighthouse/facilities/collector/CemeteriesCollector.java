@@ -3,29 +3,26 @@ package gov.va.api.lighthouse.facilities.collector;
 import static com.google.common.base.Preconditions.checkState;
 import static java.util.stream.Collectors.toList;
 import static org.apache.commons.lang3.StringUtils.equalsIgnoreCase;
+import static org.apache.commons.lang3.StringUtils.leftPad;
 import static org.apache.commons.lang3.StringUtils.trimToNull;
 
-import com.fasterxml.jackson.core.JsonParser;
-import com.fasterxml.jackson.databind.DeserializationContext;
-import com.fasterxml.jackson.databind.DeserializationFeature;
-import com.fasterxml.jackson.databind.deser.std.StdScalarDeserializer;
-import com.fasterxml.jackson.databind.module.SimpleModule;
-import com.fasterxml.jackson.dataformat.xml.XmlMapper;
 import com.google.common.base.Stopwatch;
-import com.google.common.collect.ImmutableList;
 import gov.va.api.lighthouse.facilities.DatamartFacility;
+import java.io.StringReader;
 import java.sql.ResultSet;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.TimeUnit;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamReader;
 import lombok.Builder;
 import lombok.NonNull;
 import lombok.SneakyThrows;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.http.HttpEntity;
-import org.springframework.http.HttpHeaders;
-import org.springframework.http.HttpMethod;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.web.client.RestTemplate;
 import org.springframework.web.util.UriComponentsBuilder;
@@ -33,6 +30,8 @@ import org.springframework.web.util.UriComponentsBuilder;
 @Builder
 @Slf4j
 final class CemeteriesCollector {
+  private static final XMLInputFactory XML_INPUT_FACTORY = xmlInputFactory();
+
   @NonNull final String baseUrl;
 
   @NonNull final RestTemplate insecureRestTemplate;
@@ -41,6 +40,44 @@ final class CemeteriesCollector {
 
   private final JdbcTemplate jdbcTemplate;
 
+  @Builder.Default @NonNull final UpstreamFeeds upstreamFeeds = UpstreamFeeds.uncached();
+
+  /**
+   * National cemeteries by zero-padded station id. The document is read as a stream and only the
+   * attributes joined with CDW are kept.
+   */
+  @SneakyThrows
+  static Map<String, NationalCemeteries.NationalCemetery> readXmlCemeteries(String body) {
+    Map<String, NationalCemeteries.NationalCemetery> cemeteries = new HashMap<>();
+    XMLStreamReader reader = XML_INPUT_FACTORY.createXMLStreamReader(new StringReader(body));
+    try {
+      while (reader.hasNext()) {
+        if (reader.next() != XMLStreamConstants.START_ELEMENT
+            || !"cem".equals(reader.getLocalName())) {
+          continue;
+        }
+        String station = trimToNull(reader.getAttributeValue(null, "station"));
+        if (station == null) {
+          log.warn("National cemetery missing station");
+          continue;
+        }
+        // Single and double digit ids must be prepended with '0's
+        String id = leftPad(station, 3, '0');
+        cemeteries.putIfAbsent(
+            id,
+            NationalCemeteries.NationalCemetery.builder()
+                .id(id)
+                .name(trimToNull(reader.getAttributeValue(null, "cem_name")))
+                .url(trimToNull(reader.getAttributeValue(null, "cem_url")))
+                .build());
+      }
+    } finally {
+      reader.close();
+    }
+    checkState(!cemeteries.isEmpty(), "No cems/national.xml entries!");
+    return Collections.unmodifiableMap(cemeteries);
+  }
+
   /** Convert the results into a CdwCemetery Object. */
   @SneakyThrows
   static CdwCemetery toCdwCemetery(ResultSet rs) {
@@ -68,9 +105,16 @@ final class CemeteriesCollector {
         .build();
   }
 
+  private static XMLInputFactory xmlInputFactory() {
+    XMLInputFactory factory = XMLInputFactory.newFactory();
+    factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+    factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+    return factory;
+  }
+
   /** Collects and transforms all national cemeteries into a list of facilities. */
   public Collection<DatamartFacility> collect() {
-    List<NationalCemeteries.NationalCemetery> cemeteries = xmlCemeteries();
+    Map<String, NationalCemeteries.NationalCemetery> cemeteries = xmlCemeteries();
     try {
       return queryCdwCemeteries().stream()
           .filter(c -> !equalsIgnoreCase(c.siteType(), "office"))
@@ -93,7 +137,7 @@ final class CemeteriesCollector {
   private List<CdwCemetery> queryCdwCemeteries() {
     final Stopwatch totalWatch = Stopwatch.createStarted();
     List<CdwCemetery> cdwCemeteries =
-        ImmutableList.copyOf(
+        Collections.unmodifiableList(
             jdbcTemplate.query(
                 "SELECT "
                     + "SITE_ID,"
@@ -127,65 +171,28 @@ final class CemeteriesCollector {
   }
 
   @SneakyThrows
-  private List<NationalCemeteries.NationalCemetery> xmlCemeteries() {
+  private Map<String, NationalCemeteries.NationalCemetery> xmlCemeteries() {
     Stopwatch totalWatch = Stopwatch.createStarted();
     String url =
         UriComponentsBuilder.fromHttpUrl(baseUrl + "cems/national.xml").build().toUriString();
-    String response =
-        insecureRestTemplate
-            .exchange(url, HttpMethod.GET, new HttpEntity<>(new HttpHeaders()), String.class)
-            .getBody();
-    List<NationalCemeteries.NationalCemetery> cemeteries =
-        new XmlMapper()
-            .registerModule(new StringTrimModule())
-            .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
-            .readValue(response, NationalCemeteries.class)
-            .cem();
-    // Single and double digit ids must be prepended with '0's
-    for (NationalCemeteries.NationalCemetery cem : cemeteries) {
-      while (cem.id.length() < 3) {
-        cem.id = "0" + cem.id;
-      }
-    }
+    Map<String, NationalCemeteries.NationalCemetery> cemeteries =
+        upstreamFeeds.fetch(insecureRestTemplate, url, CemeteriesCollector::readXmlCemeteries);
     log.info(
         "Loading national cemeteries xml took {} millis for {} entries",
         totalWatch.stop().elapsed(TimeUnit.MILLISECONDS),
         cemeteries.size());
-    checkState(!cemeteries.isEmpty(), "No cems/national.xml entries!");
     return cemeteries;
   }
 
   private String xmlFacilityName(
-      List<NationalCemeteries.NationalCemetery> cemeteries, String siteId) {
-    for (NationalCemeteries.NationalCemetery cem : cemeteries) {
-      if (cem.id.equals(siteId)) {
-        return cem.name;
-      }
-    }
-    return null;
+      Map<String, NationalCemeteries.NationalCemetery> cemeteries, String siteId) {
+    NationalCemeteries.NationalCemetery cem = cemeteries.get(siteId);
+    return cem == null ? null : cem.name;
   }
 
   private String xmlOrCsvWebsite(
-      List<NationalCemeteries.NationalCemetery> cemeteries, String siteId) {
-    for (NationalCemeteries.NationalCemetery cem : cemeteries) {
-      if (cem.id.equals(siteId)) {
-        return cem.url;
-      }
-    }
-    return websites.get("nca_" + siteId);
-  }
-
-  private static final class StringTrimModule extends SimpleModule {
-    StringTrimModule() {
-      addDeserializer(
-          String.class,
-          new StdScalarDeserializer<>(String.class) {
-            @Override
-            @SneakyThrows
-            public String deserialize(JsonParser p, DeserializationContext ctxt) {
-              return trimToNull(p.getValueAsString());
-            }
-          });
-    }
+      Map<String, NationalCemeteries.NationalCemetery> cemeteries, String siteId) {
+    NationalCemeteries.NationalCemetery cem = cemeteries.get(siteId);
+    return cem == null ? websites.get("nca_" + siteId) : cem.url;
   }
 }
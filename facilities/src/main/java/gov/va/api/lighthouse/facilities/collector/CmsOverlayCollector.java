@@ -40,7 +40,7 @@ public class CmsOverlayCollector {
   /** Method for determining whether Covid service is contained within detailed services. */
   public static boolean containsCovidService(List<DatamartDetailedService> detailedServices) {
     return detailedServices != null
-        && detailedServices.parallelStream()
+        && detailedServices.stream()
             .anyMatch(
                 ds ->
                     ds.serviceInfo().serviceId().equals(HealthService.Covid19Vaccine.serviceId()));
@@ -1,7 +1,6 @@
 package gov.va.api.lighthouse.facilities.collector;
 
 import static gov.va.api.health.autoconfig.logging.LogSanitizer.sanitize;
-import static gov.va.api.lighthouse.facilities.collector.CsvLoader.loadWebsites;
 
 import gov.va.api.lighthouse.facilities.DatamartDetailedService;
 import gov.va.api.lighthouse.facilities.DatamartFacility.HealthService;
@@ -17,14 +16,12 @@ import lombok.extern.slf4j.Slf4j;
 public final class CovidServiceUpdater {
   public static final String CMS_OVERLAY_SERVICE_NAME_COVID_19 = "COVID-19 vaccines";
 
-  private static final String COVID_CSV_WEBSITES_RESOURCE_NAME = "COVID-19-Facility-URLs.csv";
-
   /** Utility method for updating Covid related service URLs for facilities. */
   @SneakyThrows
   public static List<DatamartDetailedService> updateServiceUrlPaths(
       @NotNull String id, @NotNull List<DatamartDetailedService> detailedServices) {
-    final Map<String, String> websites = loadWebsites(COVID_CSV_WEBSITES_RESOURCE_NAME);
-    detailedServices.parallelStream()
+    final Map<String, String> websites = ReferenceData.current().covidWebsites();
+    detailedServices.stream()
         .filter(d -> d.serviceInfo().serviceId().equals(HealthService.Covid19Vaccine.serviceId()))
         .forEach(
             d -> {
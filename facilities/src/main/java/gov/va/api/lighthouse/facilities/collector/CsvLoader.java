@@ -5,6 +5,7 @@ import static org.apache.commons.lang3.StringUtils.trimToNull;
 
 import com.google.common.base.Stopwatch;
 import java.io.InputStreamReader;
+import java.io.Reader;
 import java.nio.charset.StandardCharsets;
 import java.util.Collections;
 import java.util.Map;
@@ -24,27 +25,33 @@ public class CsvLoader {
   /** Load websites given a resource name. */
   @SneakyThrows
   public static Map<String, String> loadWebsites(String resourceName) {
-    final Stopwatch totalWatch = Stopwatch.createStarted();
     try (InputStreamReader reader =
         new InputStreamReader(
             new ClassPathResource(resourceName).getInputStream(), StandardCharsets.UTF_8)) {
-      Iterable<CSVRecord> rows = CSVFormat.DEFAULT.withFirstRecordAsHeader().parse(reader);
-      Map<String, String> map = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
-      for (CSVRecord row : rows) {
-        String id = trimToNull(row.get("id"));
-        String url = trimToNull(row.get("url"));
-        checkState(id != null, "Website %s missing ID", url);
-        checkState(url != null, "Website %s missing url", id);
-        checkState(!map.containsKey(id), "Website %s duplicate", id);
-        map.put(id, url);
-      }
-      Map<String, String> websites = Collections.unmodifiableMap(map);
-      log.info(
-          "Loading websites took {} millis for {} entries",
-          totalWatch.stop().elapsed(TimeUnit.MILLISECONDS),
-          websites.size());
-      checkState(!websites.isEmpty(), "No website entries");
-      return websites;
+      return parseWebsites(reader);
+    }
+  }
+
+  /** Parse a websites CSV with id and url columns. */
+  @SneakyThrows
+  static Map<String, String> parseWebsites(Reader reader) {
+    final Stopwatch totalWatch = Stopwatch.createStarted();
+    Iterable<CSVRecord> rows = CSVFormat.DEFAULT.withFirstRecordAsHeader().parse(reader);
+    Map<String, String> map = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+    for (CSVRecord row : rows) {
+      String id = trimToNull(row.get("id"));
+      String url = trimToNull(row.get("url"));
+      checkState(id != null, "Website %s missing ID", url);
+      checkState(url != null, "Website %s missing url", id);
+      checkState(!map.containsKey(id), "Website %s duplicate", id);
+      map.put(id, url);
     }
+    Map<String, String> websites = Collections.unmodifiableMap(map);
+    log.info(
+        "Loading websites took {} millis for {} entries",
+        totalWatch.stop().elapsed(TimeUnit.MILLISECONDS),
+        websites.size());
+    checkState(!websites.isEmpty(), "No website entries");
+    return websites;
   }
 }
@@ -9,6 +9,10 @@ import org.springframework.jdbc.core.JdbcTemplate;
 
 @Configuration
 class DbConfig {
+  /**
+   * Collector queries read whole CDW tables, so rows are fetched in large batches rather than the
+   * driver default.
+   */
   @Bean
   JdbcTemplate jdbcTemplate(
       @Value("${spring.fc-datasource.driver-class-name}") String driverClassName,
@@ -17,7 +21,8 @@ class DbConfig {
       @Value("${spring.fc-datasource.username}") String username,
       @Value("${spring.fc-datasource.minIdle}") int minIdle,
       @Value("${spring.fc-datasource.maxPoolSize}") int maxPoolSize,
-      @Value("${spring.fc-datasource.idleTimeout}") int idleTimeout) {
+      @Value("${spring.fc-datasource.idleTimeout}") int idleTimeout,
+      @Value("${spring.fc-datasource.fetchSize:1000}") int fetchSize) {
     HikariConfig config = new HikariConfig();
     config.setDriverClassName(driverClassName);
     config.setPassword(password);
@@ -27,6 +32,8 @@ class DbConfig {
     config.setMaximumPoolSize(maxPoolSize);
     config.setIdleTimeout(idleTimeout);
     HikariDataSource ds = new HikariDataSource(config);
-    return new JdbcTemplate(ds);
+    JdbcTemplate jdbcTemplate = new JdbcTemplate(ds);
+    jdbcTemplate.setFetchSize(fetchSize);
+    return jdbcTemplate;
   }
 }
@@ -1,24 +1,22 @@
 package gov.va.api.lighthouse.facilities.collector;
 
+import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.base.Preconditions.checkState;
 import static gov.va.api.lighthouse.facilities.DatamartFacility.HealthService;
 import static gov.va.api.lighthouse.facilities.DatamartFacility.Service;
-import static gov.va.api.lighthouse.facilities.collector.CsvLoader.loadWebsites;
 import static java.util.stream.Collectors.toList;
 
 import com.google.common.base.Stopwatch;
-import com.google.common.collect.ImmutableList;
 import com.google.common.collect.Iterables;
 import com.google.common.collect.Streams;
 import gov.va.api.lighthouse.facilities.DatamartCmsOverlay;
 import gov.va.api.lighthouse.facilities.DatamartFacility;
-import java.io.BufferedReader;
-import java.io.InputStreamReader;
-import java.nio.charset.StandardCharsets;
+import gov.va.api.lighthouse.facilities.FacilityEntity;
 import java.sql.ResultSet;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.EnumSet;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
@@ -31,7 +29,6 @@ import lombok.SneakyThrows;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.core.io.ClassPathResource;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Component;
 
@@ -39,12 +36,6 @@ import org.springframework.stereotype.Component;
 @Slf4j
 @Component
 public class FacilitiesCollector {
-  private static final String WEBSITES_CSV_RESOURCE_NAME = "websites.csv";
-
-  private static final String CSC_STATIONS_RESOURCE_NAME = "csc_stations.txt";
-
-  private static final String ORTHO_STATIONS_RESOURCE_NAME = "ortho_stations.txt";
-
   protected final InsecureRestTemplateProvider insecureRestTemplateProvider;
 
   protected final JdbcTemplate jdbcTemplate;
@@ -57,11 +48,14 @@ public class FacilitiesCollector {
 
   private final CmsOverlayCollector cmsOverlayCollector;
 
+  private final UpstreamFeeds upstreamFeeds;
+
   /** Primary facilities collector constructor. */
   public FacilitiesCollector(
       @Autowired InsecureRestTemplateProvider insecureRestTemplateProvider,
       @Autowired JdbcTemplate jdbcTemplate,
       @Autowired CmsOverlayCollector cmsOverlayCollector,
+      @Autowired UpstreamFeeds upstreamFeeds,
       @Value("${access-to-care.url}") String atcBaseUrl,
       @Value("${access-to-pwt.url}") String atpBaseUrl,
       @Value("${cemeteries.url}") String cemeteriesBaseUrl) {
@@ -71,28 +65,7 @@ public class FacilitiesCollector {
     this.atpBaseUrl = withTrailingSlash(atpBaseUrl);
     this.cemeteriesBaseUrl = withTrailingSlash(cemeteriesBaseUrl);
     this.cmsOverlayCollector = cmsOverlayCollector;
-  }
-
-  /** Returns list of vha facilities contained in a file. */
-  @SneakyThrows
-  public static ArrayList<String> loadFacilitiesFromResource(String resourceName) {
-    final Stopwatch totalWatch = Stopwatch.createStarted();
-    ArrayList<String> facilities = new ArrayList<>();
-    try (BufferedReader reader =
-        new BufferedReader(
-            new InputStreamReader(
-                new ClassPathResource(resourceName).getInputStream(), StandardCharsets.UTF_8))) {
-      String line;
-      while ((line = reader.readLine()) != null) {
-        facilities.add("vha_" + line);
-      }
-    }
-    log.info(
-        "Loading caregiver support facilities took {} millis for {} entries",
-        totalWatch.stop().elapsed(TimeUnit.MILLISECONDS),
-        facilities.size());
-    checkState(!facilities.isEmpty(), "No caregiver support entries");
-    return facilities;
+    this.upstreamFeeds = upstreamFeeds;
   }
 
   @SneakyThrows
@@ -141,59 +114,92 @@ public class FacilitiesCollector {
     return url.endsWith("/") ? url : url + "/";
   }
 
-  /** Collect datamart facilities. */
-  @SneakyThrows
+  /** Collect datamart facilities from every source. */
   public List<DatamartFacility> collectFacilities() {
+    return collectFacilities(EnumSet.allOf(Source.class));
+  }
+
+  /**
+   * Collect datamart facilities from the given sources only. Reference data is loaded only if a
+   * selected source needs it.
+   */
+  @SneakyThrows
+  public List<DatamartFacility> collectFacilities(@NonNull Set<Source> sources) {
+    checkArgument(!sources.isEmpty(), "No sources selected");
+    boolean health = sources.contains(Source.HEALTH);
+    ReferenceData.Snapshot referenceData;
     Map<String, String> websites;
-    Collection<VastEntity> vastEntities;
-    ArrayList<String> cscFacilities;
-    ArrayList<String> orthoFacilities;
+    Collection<VastEntity> vastEntities = List.of();
     try {
-      websites = loadWebsites(WEBSITES_CSV_RESOURCE_NAME);
-      vastEntities = loadVast();
-      cscFacilities = loadFacilitiesFromResource(CSC_STATIONS_RESOURCE_NAME);
-      orthoFacilities = loadFacilitiesFromResource(ORTHO_STATIONS_RESOURCE_NAME);
+      referenceData = ReferenceData.current();
+      websites = referenceData.websites();
+      if (health || sources.contains(Source.VET_CENTERS)) {
+        vastEntities = loadVast();
+      }
     } catch (Exception e) {
       throw new CollectorExceptions.CollectorException(e);
     }
-    Collection<DatamartFacility> healths =
-        HealthsCollector.builder()
-            .atcBaseUrl(atcBaseUrl)
-            .atpBaseUrl(atpBaseUrl)
-            .cscFacilities(cscFacilities)
-            .orthoFacilities(orthoFacilities)
-            .jdbcTemplate(jdbcTemplate)
-            .insecureRestTemplate(insecureRestTemplateProvider.restTemplate())
-            .vastEntities(vastEntities)
-            .websites(websites)
-            .build()
-            .collect();
-    Collection<DatamartFacility> stateCems =
-        StateCemeteriesCollector.builder()
-            .baseUrl(cemeteriesBaseUrl)
-            .insecureRestTemplate(insecureRestTemplateProvider.restTemplate())
-            .websites(websites)
-            .build()
-            .collect();
-    Collection<DatamartFacility> vetCenters =
-        VetCentersCollector.builder()
-            .vastEntities(vastEntities)
-            .websites(websites)
-            .build()
-            .collect();
-    Collection<DatamartFacility> benefits =
-        BenefitsCollector.builder().websites(websites).jdbcTemplate(jdbcTemplate).build().collect();
-    Collection<DatamartFacility> cemeteries =
-        CemeteriesCollector.builder()
-            .baseUrl(cemeteriesBaseUrl)
-            .insecureRestTemplate(insecureRestTemplateProvider.restTemplate())
-            .websites(websites)
-            .jdbcTemplate(jdbcTemplate)
-            .build()
-            .collect();
+    Collection<DatamartFacility> healths = List.of();
+    if (health) {
+      healths =
+          HealthsCollector.builder()
+              .atcBaseUrl(atcBaseUrl)
+              .atpBaseUrl(atpBaseUrl)
+              .cscFacilities(referenceData.cscFacilities())
+              .orthoFacilities(referenceData.orthoFacilities())
+              .jdbcTemplate(jdbcTemplate)
+              .insecureRestTemplate(insecureRestTemplateProvider.restTemplate())
+              .upstreamFeeds(upstreamFeeds)
+              .vastEntities(vastEntities)
+              .websites(websites)
+              .build()
+              .collect();
+    }
+    Collection<DatamartFacility> stateCems = List.of();
+    if (sources.contains(Source.STATE_CEMETERIES)) {
+      stateCems =
+          StateCemeteriesCollector.builder()
+              .baseUrl(cemeteriesBaseUrl)
+              .insecureRestTemplate(insecureRestTemplateProvider.restTemplate())
+              .upstreamFeeds(upstreamFeeds)
+              .websites(websites)
+              .build()
+              .collect();
+    }
+    Collection<DatamartFacility> vetCenters = List.of();
+    if (sources.contains(Source.VET_CENTERS)) {
+      vetCenters =
+          VetCentersCollector.builder()
+              .vastEntities(vastEntities)
+              .websites(websites)
+              .build()
+              .collect();
+    }
+    Collection<DatamartFacility> benefits = List.of();
+    if (sources.contains(Source.BENEFITS)) {
+      benefits =
+          BenefitsCollector.builder()
+              .websites(websites)
+              .jdbcTemplate(jdbcTemplate)
+              .build()
+              .collect();
+    }
+    Collection<DatamartFacility> cemeteries = List.of();
+    if (sources.contains(Source.CEMETERIES)) {
+      cemeteries =
+          CemeteriesCollector.builder()
+              .baseUrl(cemeteriesBaseUrl)
+              .insecureRestTemplate(insecureRestTemplateProvider.restTemplate())
+              .upstreamFeeds(upstreamFeeds)
+              .websites(websites)
+              .jdbcTemplate(jdbcTemplate)
+              .build()
+              .collect();
+    }
     log.info(
-        "Collected V0: Health {},  Benefits {},  Vet centers {}, "
+        "Collected V0 from {}: Health {},  Benefits {},  Vet centers {}, "
             + "Non-national cemeteries {}, Cemeteries {}",
+        sources,
         healths.size(),
         benefits.size(),
         vetCenters.size(),
@@ -212,7 +218,7 @@ public class FacilitiesCollector {
   private List<VastEntity> loadVast() {
     Stopwatch watch = Stopwatch.createStarted();
     List<VastEntity> entities =
-        ImmutableList.copyOf(
+        Collections.unmodifiableList(
             jdbcTemplate.query(
                 "SELECT "
                     + "VCTR2,"
@@ -339,4 +345,44 @@ public class FacilitiesCollector {
               df.attributes().services().health(facilityHealthServiceList);
             });
   }
+
+  /**
+   * The upstream sources facilities are collected from. Each source produces facilities of a
+   * single type, and state and national cemeteries are told apart by their station number.
+   */
+  public enum Source {
+    BENEFITS(FacilityEntity.Type.vba),
+    CEMETERIES(FacilityEntity.Type.nca),
+    HEALTH(FacilityEntity.Type.vha),
+    STATE_CEMETERIES(FacilityEntity.Type.nca),
+    VET_CENTERS(FacilityEntity.Type.vc);
+
+    private final FacilityEntity.Type type;
+
+    Source(FacilityEntity.Type type) {
+      this.type = type;
+    }
+
+    /** The sources that produce facilities of the given types. */
+    public static Set<Source> forTypes(@NonNull Collection<FacilityEntity.Type> types) {
+      Set<Source> sources = EnumSet.noneOf(Source.class);
+      for (Source source : values()) {
+        if (types.contains(source.type)) {
+          sources.add(source);
+        }
+      }
+      return sources;
+    }
+
+    /** True if facilities with the given ID are collected from this source. */
+    public boolean produces(@NonNull FacilityEntity.Pk id) {
+      if (id.type() != type) {
+        return false;
+      }
+      if (type != FacilityEntity.Type.nca) {
+        return true;
+      }
+      return id.stationNumber().startsWith("s") == (this == STATE_CEMETERIES);
+    }
+  }
 }
@@ -53,6 +53,7 @@ import gov.va.api.lighthouse.facilities.DatamartFacility.WaitTimes;
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.List;
@@ -80,9 +81,9 @@ final class HealthTransformer {
 
   @NonNull private final Map<String, String> websites;
 
-  @NonNull private final ArrayList<String> cscFacilities;
+  @NonNull private final Collection<String> cscFacilities;
 
-  @NonNull private final ArrayList<String> orthoFacilities;
+  @NonNull private final Collection<String> orthoFacilities;
 
   private static Map<String, HealthService> initHealthServicesMap() {
     Map<String, HealthService> map = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
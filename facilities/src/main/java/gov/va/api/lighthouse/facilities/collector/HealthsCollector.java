@@ -15,13 +15,12 @@ import com.google.common.base.Stopwatch;
 import com.google.common.collect.ArrayListMultimap;
 import com.google.common.collect.ImmutableListMultimap;
 import com.google.common.collect.ListMultimap;
-import gov.va.api.health.autoconfig.configuration.JacksonConfig;
 import gov.va.api.lighthouse.facilities.DatamartFacility;
+import gov.va.api.lighthouse.facilities.JacksonCodecs;
 import gov.va.api.lighthouse.facilities.collector.AtcAllData.AtcFacility;
 import gov.va.api.lighthouse.facilities.collector.AtcAllData.AtcPwtData;
 import java.math.BigDecimal;
 import java.sql.ResultSet;
-import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
@@ -35,9 +34,6 @@ import lombok.NonNull;
 import lombok.SneakyThrows;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.ObjectUtils;
-import org.springframework.http.HttpEntity;
-import org.springframework.http.HttpHeaders;
-import org.springframework.http.HttpMethod;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.jdbc.core.RowCallbackHandler;
 import org.springframework.web.client.RestTemplate;
@@ -58,9 +54,11 @@ final class HealthsCollector {
 
   @NonNull final Map<String, String> websites;
 
-  @NonNull final ArrayList<String> cscFacilities;
+  @NonNull final Collection<String> cscFacilities;
 
-  @NonNull final ArrayList<String> orthoFacilities;
+  @NonNull final Collection<String> orthoFacilities;
+
+  @Builder.Default @NonNull final UpstreamFeeds upstreamFeeds = UpstreamFeeds.uncached();
 
   @SneakyThrows
   static void putMentalHealthContact(ResultSet resultSet, Map<String, String> map) {
@@ -123,6 +121,23 @@ final class HealthsCollector {
             .build());
   }
 
+  @SneakyThrows
+  static AtcAllData readAccessToCare(String body) {
+    AtcAllData allData =
+        JacksonCodecs.reader(JacksonCodecs.Flavor.PLAIN, AtcAllData.class).readValue(body);
+    checkState(!allData.data().isEmpty(), "No AccessToCare entries");
+    return allData;
+  }
+
+  @SneakyThrows
+  static List<AccessToPwtEntry> readAccessToPwt(String body) {
+    List<AccessToPwtEntry> entries =
+        JacksonCodecs.mapper(JacksonCodecs.Flavor.PLAIN)
+            .readValue(body, new TypeReference<List<AccessToPwtEntry>>() {});
+    checkState(!entries.isEmpty(), "No AccessToPwt entries");
+    return entries;
+  }
+
   Collection<DatamartFacility> collect() {
     try {
       ListMultimap<String, AccessToCareEntry> accessToCareEntries = loadAccessToCare();
@@ -157,12 +172,8 @@ final class HealthsCollector {
     final Stopwatch totalWatch = Stopwatch.createStarted();
     String url =
         UriComponentsBuilder.fromHttpUrl(atcBaseUrl + "api/v1.0/pwt/all").build().toUriString();
-    String response =
-        insecureRestTemplate
-            .exchange(url, HttpMethod.GET, new HttpEntity<>(new HttpHeaders()), String.class)
-            .getBody();
     AtcAllData allData =
-        JacksonConfig.createMapper().readValue(response, new TypeReference<AtcAllData>() {});
+        upstreamFeeds.fetch(insecureRestTemplate, url, HealthsCollector::readAccessToCare);
 
     ListMultimap<String, AccessToCareEntry> map = ArrayListMultimap.create();
     List<AtcFacility> atcFacilities = allData.data();
@@ -203,7 +214,6 @@ final class HealthsCollector {
         "Loading patient wait times took {} millis for {} entries",
         totalWatch.stop().elapsed(TimeUnit.MILLISECONDS),
         map.size());
-    checkState(!allData.data().isEmpty(), "No AccessToCare entries");
     return ImmutableListMultimap.copyOf(map);
   }
 
@@ -215,13 +225,8 @@ final class HealthsCollector {
             .queryParam("location", "*")
             .build()
             .toUriString();
-    String response =
-        insecureRestTemplate
-            .exchange(url, HttpMethod.GET, new HttpEntity<>(new HttpHeaders()), String.class)
-            .getBody();
     List<AccessToPwtEntry> entries =
-        JacksonConfig.createMapper()
-            .readValue(response, new TypeReference<List<AccessToPwtEntry>>() {});
+        upstreamFeeds.fetch(insecureRestTemplate, url, HealthsCollector::readAccessToPwt);
     ListMultimap<String, AccessToPwtEntry> map = ArrayListMultimap.create();
     for (AccessToPwtEntry entry : entries) {
       if (entry.facilityId() == null) {
@@ -234,7 +239,6 @@ final class HealthsCollector {
         "Loading satisfaction scores took {} millis for {} entries",
         watch.stop().elapsed(TimeUnit.MILLISECONDS),
         entries.size());
-    checkState(!entries.isEmpty(), "No AccessToPwt entries");
     return ImmutableListMultimap.copyOf(map);
   }
 
@@ -0,0 +1,182 @@
+package gov.va.api.lighthouse.facilities.collector;
+
+import static com.google.common.base.Preconditions.checkState;
+import static org.apache.commons.lang3.StringUtils.trimToNull;
+
+import com.google.common.base.Stopwatch;
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import lombok.NonNull;
+import lombok.SneakyThrows;
+import lombok.experimental.UtilityClass;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.ClassPathResource;
+
+/**
+ * Registry of the reference files shipped with the application: facility websites, COVID-19
+ * vaccine websites, and the caregiver support and orthotics station lists. The files are parsed
+ * once into immutable maps and sets, shared by collections and CMS overlay requests. {@link
+ * ReferenceDataReloader} can replace them with copies from an external directory without a
+ * redeploy. Each installed snapshot gets the next version number and a checksum of its files.
+ */
+@Slf4j
+@UtilityClass
+public class ReferenceData {
+  static final String COVID_WEBSITES_RESOURCE_NAME = "COVID-19-Facility-URLs.csv";
+
+  static final String CSC_STATIONS_RESOURCE_NAME = "csc_stations.txt";
+
+  static final String ORTHO_STATIONS_RESOURCE_NAME = "ortho_stations.txt";
+
+  static final String WEBSITES_RESOURCE_NAME = "websites.csv";
+
+  private static final List<String> RESOURCE_NAMES =
+      List.of(
+          COVID_WEBSITES_RESOURCE_NAME,
+          CSC_STATIONS_RESOURCE_NAME,
+          ORTHO_STATIONS_RESOURCE_NAME,
+          WEBSITES_RESOURCE_NAME);
+
+  private static final AtomicInteger VERSIONS = new AtomicInteger();
+
+  private static final AtomicReference<Snapshot> CURRENT = new AtomicReference<>();
+
+  /** The installed snapshot, loading the classpath copies on first use. */
+  public static Snapshot current() {
+    Snapshot current = CURRENT.get();
+    if (current == null) {
+      install(load(null));
+      current = CURRENT.get();
+    }
+    return current;
+  }
+
+  /** Install a snapshot if its files differ from the current ones. Returns true if installed. */
+  static boolean install(@NonNull Snapshot snapshot) {
+    Snapshot previous = CURRENT.get();
+    if (previous != null && previous.checksum().equals(snapshot.checksum())) {
+      return false;
+    }
+    Snapshot installed = snapshot.withVersion(VERSIONS.incrementAndGet());
+    if (!CURRENT.compareAndSet(previous, installed)) {
+      return false;
+    }
+    log.info(
+        "Installed reference data version {} from {} ({})",
+        installed.version(),
+        installed.source(),
+        installed.checksum());
+    return true;
+  }
+
+  /**
+   * Read and parse every reference file. Files found in the directory replace the classpath
+   * copies, others are read from the classpath. A null directory reads only the classpath.
+   */
+  @SneakyThrows
+  static Snapshot load(Path directory) {
+    Stopwatch watch = Stopwatch.createStarted();
+    Hasher checksum = Hashing.sha256().newHasher();
+    Map<String, byte[]> contents = new HashMap<>();
+    boolean external = false;
+    for (String name : RESOURCE_NAMES) {
+      Path file = directory == null ? null : directory.resolve(name);
+      byte[] content;
+      if (file != null && Files.isRegularFile(file)) {
+        content = Files.readAllBytes(file);
+        external = true;
+      } else {
+        try (InputStream in = new ClassPathResource(name).getInputStream()) {
+          content = in.readAllBytes();
+        }
+      }
+      checksum.putString(name, StandardCharsets.UTF_8).putInt(content.length).putBytes(content);
+      contents.put(name, content);
+    }
+    Snapshot snapshot =
+        new Snapshot(
+            0,
+            checksum.hash().toString(),
+            external ? directory.toString() : "classpath",
+            Instant.now(),
+            CsvLoader.parseWebsites(reader(contents.get(COVID_WEBSITES_RESOURCE_NAME))),
+            parseStations(reader(contents.get(CSC_STATIONS_RESOURCE_NAME))),
+            parseStations(reader(contents.get(ORTHO_STATIONS_RESOURCE_NAME))),
+            CsvLoader.parseWebsites(reader(contents.get(WEBSITES_RESOURCE_NAME))));
+    log.info(
+        "Loading reference data from {} took {} millis",
+        snapshot.source(),
+        watch.stop().elapsed(TimeUnit.MILLISECONDS));
+    return snapshot;
+  }
+
+  /** Facility ids of a station list, one station number per line. */
+  @SneakyThrows
+  static Set<String> parseStations(@NonNull Reader reader) {
+    Set<String> facilities = new HashSet<>();
+    BufferedReader lines = new BufferedReader(reader);
+    String line;
+    while ((line = lines.readLine()) != null) {
+      String station = trimToNull(line);
+      if (station != null) {
+        facilities.add("vha_" + station);
+      }
+    }
+    checkState(!facilities.isEmpty(), "No station entries");
+    return Set.copyOf(facilities);
+  }
+
+  private static Reader reader(byte[] content) {
+    return new InputStreamReader(new ByteArrayInputStream(content), StandardCharsets.UTF_8);
+  }
+
+  /** One version of the parsed reference files. */
+  @lombok.Value
+  public static class Snapshot {
+    /** Zero until installed. */
+    int version;
+
+    String checksum;
+
+    String source;
+
+    Instant loaded;
+
+    Map<String, String> covidWebsites;
+
+    Set<String> cscFacilities;
+
+    Set<String> orthoFacilities;
+
+    Map<String, String> websites;
+
+    Snapshot withVersion(int newVersion) {
+      return new Snapshot(
+          newVersion,
+          checksum,
+          source,
+          loaded,
+          covidWebsites,
+          cscFacilities,
+          orthoFacilities,
+          websites);
+    }
+  }
+}
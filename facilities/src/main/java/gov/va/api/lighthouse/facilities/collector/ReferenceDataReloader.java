@@ -0,0 +1,50 @@
+package gov.va.api.lighthouse.facilities.collector;
+
+import static org.apache.commons.lang3.StringUtils.isBlank;
+
+import java.nio.file.Path;
+import lombok.Builder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Polls the reference data directory, if one is configured, and installs its files in {@link
+ * ReferenceData} when they change. A directory that cannot be read or parsed leaves the current
+ * snapshot in place.
+ */
+@Slf4j
+@Component
+public class ReferenceDataReloader {
+  private final String directory;
+
+  @Builder
+  ReferenceDataReloader(@Value("${reference-data.directory:}") String directory) {
+    this.directory = directory;
+  }
+
+  @EventListener(ApplicationReadyEvent.class)
+  void onApplicationReady() {
+    refresh();
+  }
+
+  /** Reload the reference files from the directory. */
+  @Scheduled(cron = "${reference-data.refresh-cron:0 */5 * * * *}")
+  public void refresh() {
+    if (isBlank(directory)) {
+      return;
+    }
+    try {
+      ReferenceData.install(ReferenceData.load(Path.of(directory)));
+    } catch (Exception e) {
+      log.warn(
+          "Keeping reference data version {}, failed to load {}: {}",
+          ReferenceData.current().version(),
+          directory,
+          e.getMessage());
+    }
+  }
+}
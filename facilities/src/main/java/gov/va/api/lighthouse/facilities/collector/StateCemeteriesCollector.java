@@ -7,6 +7,7 @@ import static org.apache.commons.lang3.StringUtils.trimToNull;
 import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectReader;
 import com.fasterxml.jackson.databind.deser.std.StdScalarDeserializer;
 import com.fasterxml.jackson.databind.module.SimpleModule;
 import com.fasterxml.jackson.dataformat.xml.XmlMapper;
@@ -21,21 +22,34 @@ import lombok.Builder;
 import lombok.NonNull;
 import lombok.SneakyThrows;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.http.HttpEntity;
-import org.springframework.http.HttpHeaders;
-import org.springframework.http.HttpMethod;
 import org.springframework.web.client.RestTemplate;
 import org.springframework.web.util.UriComponentsBuilder;
 
 @Builder
 @Slf4j
 final class StateCemeteriesCollector {
+  private static final ObjectReader XML_READER =
+      new XmlMapper()
+          .registerModule(new StringTrimModule())
+          .readerFor(StateCemeteries.class)
+          .without(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+
   @NonNull final String baseUrl;
 
   @NonNull final RestTemplate insecureRestTemplate;
 
   @NonNull final Map<String, String> websites;
 
+  @Builder.Default @NonNull final UpstreamFeeds upstreamFeeds = UpstreamFeeds.uncached();
+
+  @SneakyThrows
+  static List<StateCemeteries.StateCemetery> readXmlCemeteries(String body) {
+    List<StateCemeteries.StateCemetery> cemeteries =
+        XML_READER.<StateCemeteries>readValue(body).cem();
+    checkState(!cemeteries.isEmpty(), "No cems.xml entries");
+    return cemeteries;
+  }
+
   Collection<DatamartFacility> collect() {
     try {
       return xmlCemeteries().stream()
@@ -58,21 +72,12 @@ final class StateCemeteriesCollector {
   private List<StateCemeteries.StateCemetery> xmlCemeteries() {
     Stopwatch totalWatch = Stopwatch.createStarted();
     String url = UriComponentsBuilder.fromHttpUrl(baseUrl + "cems/cems.xml").build().toUriString();
-    String response =
-        insecureRestTemplate
-            .exchange(url, HttpMethod.GET, new HttpEntity<>(new HttpHeaders()), String.class)
-            .getBody();
     List<StateCemeteries.StateCemetery> cemeteries =
-        new XmlMapper()
-            .registerModule(new StringTrimModule())
-            .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
-            .readValue(response, StateCemeteries.class)
-            .cem();
+        upstreamFeeds.fetch(insecureRestTemplate, url, StateCemeteriesCollector::readXmlCemeteries);
     log.info(
         "Loading non-national cemeteries took {} millis for {} entries",
         totalWatch.stop().elapsed(TimeUnit.MILLISECONDS),
         cemeteries.size());
-    checkState(!cemeteries.isEmpty(), "No cems.xml entries");
     return cemeteries;
   }
 
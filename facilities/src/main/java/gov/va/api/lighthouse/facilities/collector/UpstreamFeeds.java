@@ -0,0 +1,271 @@
+package gov.va.api.lighthouse.facilities.collector;
+
+import static org.apache.commons.lang3.StringUtils.isBlank;
+
+import com.google.common.hash.Hashing;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import lombok.Builder;
+import lombok.NonNull;
+import lombok.SneakyThrows;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestClientException;
+import org.springframework.web.client.RestTemplate;
+
+/**
+ * Conditional GET for the large upstream feeds. The last body of each feed is kept on disk with its
+ * ETag and Last-Modified validators, and the next request for the feed sends them back. On 304 the
+ * stored body is used, and the parsed result of the previous fetch is reused if it came from the
+ * same body. If the upstream cannot be reached, a stored body no older than the max-stale period
+ * is used instead.
+ *
+ * <p>Each URL must always be read with the same parser, and parsed results must not be modified by
+ * callers, since they are shared between fetches.
+ */
+@Slf4j
+@Component
+public class UpstreamFeeds {
+  private static final UpstreamFeeds UNCACHED = new UpstreamFeeds(null, Duration.ZERO);
+
+  private final Path directory;
+
+  private final Duration maxStale;
+
+  private final Map<String, Parsed> parsed = new ConcurrentHashMap<>();
+
+  @Builder
+  @Autowired
+  UpstreamFeeds(
+      @Value("${upstream-feeds.directory:}") String directory,
+      @Value("${upstream-feeds.max-stale-hours:24}") long maxStaleHours) {
+    this(
+        isBlank(directory)
+            ? Path.of(System.getProperty("java.io.tmpdir"), "facilities-upstream-feeds")
+            : Path.of(directory),
+        Duration.ofHours(Math.max(0, maxStaleHours)));
+  }
+
+  private UpstreamFeeds(Path directory, Duration maxStale) {
+    this.directory = directory;
+    this.maxStale = maxStale;
+  }
+
+  private static ResponseEntity<String> get(RestTemplate restTemplate, String url, Stored stored) {
+    HttpHeaders headers = new HttpHeaders();
+    if (stored != null) {
+      if (stored.etag() != null) {
+        headers.setIfNoneMatch(stored.etag());
+      }
+      if (stored.lastModified() != null) {
+        headers.set(HttpHeaders.IF_MODIFIED_SINCE, stored.lastModified());
+      }
+    }
+    return restTemplate.exchange(url, HttpMethod.GET, new HttpEntity<>(headers), String.class);
+  }
+
+  private static String sha256(String value) {
+    return Hashing.sha256().hashString(value, StandardCharsets.UTF_8).toString();
+  }
+
+  /** Fetches without keeping anything, for collectors built outside of Spring. */
+  public static UpstreamFeeds uncached() {
+    return UNCACHED;
+  }
+
+  /**
+   * Fetch and parse a feed. The parser should also validate the body, since a body is only stored
+   * once it has been parsed.
+   */
+  public <T> T fetch(
+      @NonNull RestTemplate restTemplate,
+      @NonNull String url,
+      @NonNull Function<String, T> parser) {
+    if (directory == null) {
+      return parser.apply(get(restTemplate, url, null).getBody());
+    }
+    Stored stored = read(url).orElse(null);
+    ResponseEntity<String> response;
+    try {
+      response = get(restTemplate, url, stored);
+    } catch (RestClientException e) {
+      if (stored == null || !Instant.now().isBefore(stored.fetched().plus(maxStale))) {
+        throw e;
+      }
+      log.warn(
+          "GET {} failed, using body stored at {}: {}", url, stored.fetched(), e.getMessage());
+      return parse(url, stored, parser);
+    }
+    if (response.getStatusCode() == HttpStatus.NOT_MODIFIED && stored != null) {
+      log.info("GET {} not modified since {}", url, stored.fetched());
+      Stored confirmed = stored.confirmed(Instant.now());
+      write(confirmed, null);
+      return parse(url, confirmed, parser);
+    }
+    String body = response.getBody();
+    T value = parser.apply(body);
+    Stored fresh =
+        new Stored(
+            url,
+            response.getHeaders().getETag(),
+            response.getHeaders().getFirst(HttpHeaders.LAST_MODIFIED),
+            Instant.now(),
+            sha256(body == null ? "" : body));
+    if (body != null) {
+      write(fresh, body);
+    }
+    parsed.put(url, new Parsed(fresh.sha256(), value));
+    return value;
+  }
+
+  private Path file(String url, String extension) {
+    return directory.resolve(sha256(url) + extension);
+  }
+
+  @SuppressWarnings("unchecked")
+  @SneakyThrows
+  private <T> T parse(String url, Stored stored, Function<String, T> parser) {
+    Parsed previous = parsed.get(url);
+    if (previous != null && previous.sha256().equals(stored.sha256())) {
+      return (T) previous.value();
+    }
+    T value = parser.apply(Files.readString(file(url, ".body"), StandardCharsets.UTF_8));
+    parsed.put(url, new Parsed(stored.sha256(), value));
+    return value;
+  }
+
+  /**
+   * GET a feed for a health check. Stored validators are sent, but no stored body is used if the
+   * upstream cannot be reached. A 304 response carries the stored body.
+   */
+  public ResponseEntity<String> probe(@NonNull RestTemplate restTemplate, @NonNull String url) {
+    Stored stored = directory == null ? null : read(url).orElse(null);
+    ResponseEntity<String> response = get(restTemplate, url, stored);
+    if (response.getStatusCode() != HttpStatus.NOT_MODIFIED || stored == null) {
+      return response;
+    }
+    return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+        .headers(response.getHeaders())
+        .body(readBody(url, stored).orElse(null));
+  }
+
+  private Optional<Stored> read(String url) {
+    Path metadata = file(url, ".properties");
+    if (!Files.exists(metadata)) {
+      return Optional.empty();
+    }
+    try (Reader reader = Files.newBufferedReader(metadata, StandardCharsets.UTF_8)) {
+      Properties properties = new Properties();
+      properties.load(reader);
+      Stored stored =
+          new Stored(
+              properties.getProperty("url"),
+              properties.getProperty("etag"),
+              properties.getProperty("last-modified"),
+              Instant.ofEpochMilli(Long.parseLong(properties.getProperty("fetched"))),
+              properties.getProperty("sha256"));
+      if (!url.equals(stored.url()) || readBody(url, stored).isEmpty()) {
+        return Optional.empty();
+      }
+      return Optional.of(stored);
+    } catch (Exception e) {
+      log.warn("Ignoring unreadable stored feed {}: {}", metadata, e.getMessage());
+      return Optional.empty();
+    }
+  }
+
+  /** The stored body, if it is still the one the metadata describes. */
+  @SneakyThrows
+  private Optional<String> readBody(String url, Stored stored) {
+    Path body = file(url, ".body");
+    if (!Files.exists(body)) {
+      return Optional.empty();
+    }
+    String content = Files.readString(body, StandardCharsets.UTF_8);
+    return sha256(content).equals(stored.sha256()) ? Optional.of(content) : Optional.empty();
+  }
+
+  /**
+   * Body first, then metadata, each through an atomic rename. A reader never sees metadata for a
+   * body that was not completely written.
+   */
+  private void write(Stored stored, String body) {
+    try {
+      Files.createDirectories(directory);
+      if (body != null) {
+        writeAtomically(file(stored.url(), ".body"), body);
+      }
+      Properties properties = new Properties();
+      properties.setProperty("url", stored.url());
+      if (stored.etag() != null) {
+        properties.setProperty("etag", stored.etag());
+      }
+      if (stored.lastModified() != null) {
+        properties.setProperty("last-modified", stored.lastModified());
+      }
+      properties.setProperty("fetched", Long.toString(stored.fetched().toEpochMilli()));
+      properties.setProperty("sha256", stored.sha256());
+      Path temp = Files.createTempFile(directory, "feed", ".tmp");
+      try (Writer writer = Files.newBufferedWriter(temp, StandardCharsets.UTF_8)) {
+        properties.store(writer, null);
+      }
+      Files.move(
+          temp,
+          file(stored.url(), ".properties"),
+          StandardCopyOption.ATOMIC_MOVE,
+          StandardCopyOption.REPLACE_EXISTING);
+    } catch (Exception e) {
+      log.warn("Failed to store feed {}: {}", stored.url(), e.getMessage());
+    }
+  }
+
+  @SneakyThrows
+  private void writeAtomically(Path target, String content) {
+    Path temp = Files.createTempFile(directory, "feed", ".tmp");
+    Files.writeString(temp, content, StandardCharsets.UTF_8);
+    Files.move(
+        temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+  }
+
+  @lombok.Value
+  private static class Parsed {
+    String sha256;
+
+    Object value;
+  }
+
+  @lombok.Value
+  private static class Stored {
+    String url;
+
+    String etag;
+
+    String lastModified;
+
+    Instant fetched;
+
+    String sha256;
+
+    Stored confirmed(Instant now) {
+      return new Stored(url, etag, lastModified, now, sha256);
+    }
+  }
+}
@@ -0,0 +1,185 @@
+package gov.va.api.lighthouse.facilities.deserializers;
+
+import static java.util.Locale.ROOT;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.BeanProperty;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.deser.ContextualDeserializer;
+import com.fasterxml.jackson.databind.deser.std.StdScalarDeserializer;
+import com.fasterxml.jackson.databind.deser.std.StringDeserializer;
+import com.google.common.collect.Interner;
+import com.google.common.collect.Interners;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.io.IOException;
+import java.util.Set;
+import java.util.concurrent.atomic.LongAdder;
+import lombok.NonNull;
+import lombok.experimental.UtilityClass;
+
+/**
+ * Canonical instances of the short strings that repeat across facility payloads, such as state
+ * codes, cities, hours, classifications and service names. Payloads read through the {@link
+ * #deserializer()} share one instance of each equal string in the {@link #SHARED_FIELDS}, however
+ * many facilities are held in memory. Other fields, such as names, addresses, phone numbers and
+ * free text, are mostly unique, so interning them would cost an entry per value and save nothing.
+ * Canonical instances are held weakly, so strings no longer referenced by any payload are
+ * collected.
+ *
+ * <p>Lookups, added instances and reused instances are counted, along with {@code
+ * canonical.strings.reused.bytes}, an estimate of the bytes of the reused strings' copies. That is
+ * a running total of allocations made short-lived, not the memory currently saved: copies of
+ * payloads no longer held would have been collected anyway, and the interner entries cost memory
+ * of their own.
+ */
+@UtilityClass
+public class CanonicalStrings {
+  /** Strings longer than this are not canonicalized. */
+  static final int MAX_LENGTH = 32;
+
+  /**
+   * Low cardinality fields whose values are canonicalized by the {@link #deserializer()}, matched
+   * ignoring case because detailed service hours capitalize the days.
+   */
+  static final Set<String> SHARED_FIELDS =
+      Set.of(
+          "city",
+          "classification",
+          "country_code",
+          "email_label",
+          "friday",
+          "label",
+          "monday",
+          "online_scheduling_available",
+          "referral_required",
+          "saturday",
+          "state",
+          "sunday",
+          "thursday",
+          "time_zone",
+          "tuesday",
+          "type",
+          "visn",
+          "walk_ins_accepted",
+          "wednesday");
+
+  private static final JsonDeserializer<String> CANONICAL = new CanonicalStringDeserializer();
+
+  private static final LongAdder ADDED = new LongAdder();
+
+  private static final Interner<String> INTERNER = Interners.newWeakInterner();
+
+  private static final LongAdder LOOKUPS = new LongAdder();
+
+  private static final LongAdder REUSED = new LongAdder();
+
+  private static final LongAdder REUSED_BYTES = new LongAdder();
+
+  static long added() {
+    return ADDED.sum();
+  }
+
+  /** Report lookups, added and reused instances and the estimated bytes of the reused copies. */
+  public static void bindTo(@NonNull MeterRegistry registry) {
+    FunctionCounter.builder("canonical.strings.lookups", LOOKUPS, LongAdder::doubleValue)
+        .description("Strings looked up in the canonical instances")
+        .register(registry);
+    FunctionCounter.builder("canonical.strings.added", ADDED, LongAdder::doubleValue)
+        .description("Strings added as new canonical instances")
+        .register(registry);
+    FunctionCounter.builder("canonical.strings.reused", REUSED, LongAdder::doubleValue)
+        .description("Strings replaced by an existing canonical instance")
+        .register(registry);
+    FunctionCounter.builder("canonical.strings.reused.bytes", REUSED_BYTES, LongAdder::doubleValue)
+        .description("Estimated bytes of the strings replaced by an existing canonical instance")
+        .baseUnit("bytes")
+        .register(registry);
+  }
+
+  /** The canonical instance of the string, or the string itself if it is too long to share. */
+  public static String canonical(String value) {
+    if (value == null || value.length() > MAX_LENGTH) {
+      return value;
+    }
+    LOOKUPS.increment();
+    String canonical = INTERNER.intern(value);
+    if (canonical == value) {
+      ADDED.increment();
+    } else {
+      REUSED.increment();
+      REUSED_BYTES.add(estimatedSize(value));
+    }
+    return canonical;
+  }
+
+  /**
+   * A string deserializer that returns canonical instances for the {@link #SHARED_FIELDS} and
+   * reads other strings as usual.
+   */
+  public static JsonDeserializer<String> deserializer() {
+    return new SharedFieldsDeserializer();
+  }
+
+  /**
+   * Estimated heap size of a string with its own backing array, assuming compressed references: a
+   * 24 byte String and an array with a 16 byte header, one byte per character for Latin-1 text
+   * and two otherwise, padded to 8 bytes.
+   */
+  static long estimatedSize(@NonNull String value) {
+    boolean latin1 = value.chars().allMatch(c -> c < 256);
+    long array = 16 + (long) value.length() * (latin1 ? 1 : 2);
+    return 24 + (array + 7) / 8 * 8;
+  }
+
+  static long reused() {
+    return REUSED.sum();
+  }
+
+  static long reusedBytes() {
+    return REUSED_BYTES.sum();
+  }
+
+  private static final class CanonicalStringDeserializer extends StdScalarDeserializer<String> {
+    CanonicalStringDeserializer() {
+      super(String.class);
+    }
+
+    @Override
+    public String deserialize(JsonParser jp, DeserializationContext ctxt) throws IOException {
+      return canonical(StringDeserializer.instance.deserialize(jp, ctxt));
+    }
+
+    @Override
+    public Object getEmptyValue(DeserializationContext ctxt) {
+      return "";
+    }
+
+    @Override
+    public boolean isCachable() {
+      return true;
+    }
+  }
+
+  private static final class SharedFieldsDeserializer extends StdScalarDeserializer<String>
+      implements ContextualDeserializer {
+    SharedFieldsDeserializer() {
+      super(String.class);
+    }
+
+    @Override
+    public JsonDeserializer<?> createContextual(
+        DeserializationContext ctxt, BeanProperty property) {
+      if (property != null && SHARED_FIELDS.contains(property.getName().toLowerCase(ROOT))) {
+        return CANONICAL;
+      }
+      return StringDeserializer.instance;
+    }
+
+    @Override
+    public String deserialize(JsonParser jp, DeserializationContext ctxt) throws IOException {
+      return StringDeserializer.instance.deserialize(jp, ctxt);
+    }
+  }
+}
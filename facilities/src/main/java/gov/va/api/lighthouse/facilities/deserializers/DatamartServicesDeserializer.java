@@ -1,29 +1,33 @@
 package gov.va.api.lighthouse.facilities.deserializers;
 
-import static gov.va.api.lighthouse.facilities.DatamartFacilitiesJacksonConfig.createMapper;
 import static java.util.Collections.emptyList;
+import static org.apache.commons.lang3.StringUtils.capitalize;
 
 import com.fasterxml.jackson.core.JsonParser;
-import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.DeserializationContext;
-import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.JsonMappingException;
 import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
 import gov.va.api.lighthouse.facilities.DatamartFacility.BenefitsService;
 import gov.va.api.lighthouse.facilities.DatamartFacility.HealthService;
 import gov.va.api.lighthouse.facilities.DatamartFacility.OtherService;
 import gov.va.api.lighthouse.facilities.DatamartFacility.Service;
 import gov.va.api.lighthouse.facilities.DatamartFacility.Services;
+import gov.va.api.lighthouse.facilities.api.TypedService;
+import java.io.IOException;
 import java.time.LocalDate;
-import java.util.Iterator;
+import java.util.ArrayList;
 import java.util.List;
-import java.util.stream.Collectors;
-import lombok.NonNull;
-import lombok.SneakyThrows;
+import java.util.Optional;
+import java.util.function.Function;
 
+/**
+ * Reads facility services in a single pass over the token stream. Services are either service
+ * names, as persisted before service ids were introduced, or service objects. Each element of a
+ * list is read according to its own shape, and a service object without a service id is read by
+ * its name.
+ */
 public class DatamartServicesDeserializer extends StdDeserializer<Services> {
-  private static final ObjectMapper MAPPER = createMapper();
-
   public DatamartServicesDeserializer() {
     this(null);
   }
@@ -32,103 +36,121 @@ public class DatamartServicesDeserializer extends StdDeserializer<Services> {
     super(t);
   }
 
-  @Override
-  @SneakyThrows
-  public Services deserialize(JsonParser jp, DeserializationContext deserializationContext) {
-    JsonNode node = jp.getCodec().readTree(jp);
-    JsonNode benefitsNode = node.get("benefits");
-    JsonNode healthNode = node.get("health");
-    JsonNode otherNode = node.get("other");
-    JsonNode lastUpdatedNode = node.get("last_updated");
-    return Services.builder()
-        .benefits(isBlank(benefitsNode) ? null : getBenefitsServices(benefitsNode))
-        .health(isBlank(healthNode) ? null : getHealthServices(healthNode))
-        .other(isBlank(otherNode) ? null : getOtherServices(otherNode))
-        .lastUpdated(
-            isBlank(lastUpdatedNode) ? null : MAPPER.convertValue(lastUpdatedNode, LocalDate.class))
-        .build();
+  /** Read a service expressed by name, such as "Cardiology". */
+  private static <T extends TypedService> Service<T> namedService(
+      DeserializationContext ctxt,
+      Class<T> type,
+      Function<String, Optional<T>> fromName,
+      String name)
+      throws IOException {
+    Optional<T> known = fromName.apply(name);
+    T serviceType =
+        known.isPresent()
+            ? known.get()
+            : type.cast(
+                ctxt.handleInstantiationProblem(
+                    type,
+                    name,
+                    new IllegalArgumentException(
+                        "No enum constant " + type.getCanonicalName() + "." + capitalize(name))));
+    return Service.<T>builder().serviceType(serviceType).name(serviceType.name()).build();
   }
 
-  /** Obtain list of facility benefits services from JSON node. */
-  private List<Service<BenefitsService>> getBenefitsServices(@NonNull JsonNode benefitsNode) {
-    List<Service<BenefitsService>> benefitsServices = emptyList();
-    if (isNonEmptyArray(benefitsNode)) {
-      if (isServiceListInObjectFormat(benefitsNode)) {
-        // Interpret list as list of benefits service object values.
-        TypeReference<List<Service<BenefitsService>>> serviceObjList = new TypeReference<>() {};
-        benefitsServices = MAPPER.convertValue(benefitsNode, serviceObjList);
-      } else {
-        // Interpret list as list of benefits services enum values. Convert to list of benefits
-        // service object values.
-        TypeReference<List<BenefitsService>> serviceEnumList = new TypeReference<>() {};
-        benefitsServices =
-            MAPPER.convertValue(benefitsNode, serviceEnumList).stream()
-                .map(
-                    bs ->
-                        Service.<BenefitsService>builder().serviceType(bs).name(bs.name()).build())
-                .collect(Collectors.toList());
+  /** Read a service expressed as an object with a service id, or at least a name. */
+  private static <T extends TypedService> Service<T> objectService(
+      JsonParser jp,
+      DeserializationContext ctxt,
+      Class<T> type,
+      Function<String, Optional<T>> fromName)
+      throws IOException {
+    String name = null;
+    String serviceId = null;
+    for (JsonToken token = jp.nextToken(); token == JsonToken.FIELD_NAME; token = jp.nextToken()) {
+      String field = jp.getCurrentName();
+      jp.nextToken();
+      if ("name".equals(field)) {
+        name = CanonicalStrings.canonical(jp.getValueAsString());
+      } else if ("serviceId".equals(field)) {
+        serviceId = CanonicalStrings.canonical(jp.getValueAsString());
       }
+      jp.skipChildren();
     }
-    return benefitsServices;
-  }
-
-  /** Obtain list of facility health services from JSON node. */
-  private List<Service<HealthService>> getHealthServices(@NonNull JsonNode healthNode) {
-    List<Service<HealthService>> healthServices = emptyList();
-    if (isNonEmptyArray(healthNode)) {
-      if (isServiceListInObjectFormat(healthNode)) {
-        // Interpret list as list of health service object values.
-        TypeReference<List<Service<HealthService>>> serviceObjList = new TypeReference<>() {};
-        healthServices = MAPPER.convertValue(healthNode, serviceObjList);
-      } else {
-        // Interpret list as list of health services enum values. Convert to list of health service
-        // object values.
-        TypeReference<List<HealthService>> serviceEnumList = new TypeReference<>() {};
-        healthServices =
-            MAPPER.convertValue(healthNode, serviceEnumList).stream()
-                .map(hs -> Service.<HealthService>builder().serviceType(hs).name(hs.name()).build())
-                .collect(Collectors.toList());
+    if (serviceId == null) {
+      if (name == null) {
+        return ctxt.reportInputMismatch(Service.class, "Service is missing serviceId and name");
       }
+      return namedService(ctxt, type, fromName, name);
     }
-    return healthServices;
+    return Service.<T>builder().name(name).serviceId(serviceId).build();
   }
 
-  /** Obtain list of facility other services from JSON node. */
-  private List<Service<OtherService>> getOtherServices(@NonNull JsonNode otherNode) {
-    List<Service<OtherService>> otherServices = emptyList();
-    if (isNonEmptyArray(otherNode)) {
-      if (isServiceListInObjectFormat(otherNode)) {
-        // Interpret list as list of other service object values.
-        TypeReference<List<Service<OtherService>>> serviceObjList = new TypeReference<>() {};
-        otherServices = MAPPER.convertValue(otherNode, serviceObjList);
-      } else {
-        // Interpret list as list of other services enum values. Convert to list of other service
-        // object values.
-        TypeReference<List<OtherService>> serviceEnumList = new TypeReference<>() {};
-        otherServices =
-            MAPPER.convertValue(otherNode, serviceEnumList).stream()
-                .map(os -> Service.<OtherService>builder().serviceType(os).name(os.name()).build())
-                .collect(Collectors.toList());
+  /**
+   * Read a list of services. A JSON null is read as null, and anything other than an array of
+   * services is read as an empty list.
+   */
+  private static <T extends TypedService> List<Service<T>> services(
+      JsonParser jp,
+      DeserializationContext ctxt,
+      Class<T> type,
+      Function<String, Optional<T>> fromName)
+      throws IOException {
+    if (jp.currentToken() == JsonToken.VALUE_NULL) {
+      return null;
+    }
+    if (jp.currentToken() != JsonToken.START_ARRAY) {
+      jp.skipChildren();
+      return emptyList();
+    }
+    List<Service<T>> services = new ArrayList<>();
+    for (JsonToken token = jp.nextToken(); token != JsonToken.END_ARRAY; token = jp.nextToken()) {
+      try {
+        if (token == JsonToken.START_OBJECT) {
+          services.add(objectService(jp, ctxt, type, fromName));
+        } else if (token == JsonToken.VALUE_STRING) {
+          services.add(namedService(ctxt, type, fromName, jp.getText()));
+        } else {
+          ctxt.reportInputMismatch(type, "Expected service name or object, found %s", token);
+        }
+      } catch (JsonMappingException e) {
+        throw JsonMappingException.wrapWithPath(e, services, services.size());
       }
     }
-    return otherServices;
+    return services.isEmpty() ? emptyList() : services;
   }
 
-  private boolean isBlank(JsonNode node) {
-    return node == null || node.isNull();
-  }
-
-  private boolean isNonEmptyArray(@NonNull JsonNode node) {
-    return !node.isEmpty() && node.isArray() && !node.toString().equals("[]");
-  }
-
-  private boolean isServiceListInObjectFormat(@NonNull JsonNode serviceNode) {
-    for (final Iterator<JsonNode> nodeIter = serviceNode.iterator(); nodeIter.hasNext(); ) {
-      JsonNode node = nodeIter.next();
-      if (node.hasNonNull("serviceId")) {
-        return true;
+  @Override
+  public Services deserialize(JsonParser jp, DeserializationContext ctxt) throws IOException {
+    JsonToken token = jp.currentToken();
+    if (token == JsonToken.START_OBJECT) {
+      token = jp.nextToken();
+    } else if (token != JsonToken.FIELD_NAME && token != JsonToken.END_OBJECT) {
+      return (Services) ctxt.handleUnexpectedToken(Services.class, jp);
+    }
+    Services.ServicesBuilder builder = Services.builder();
+    for (; token == JsonToken.FIELD_NAME; token = jp.nextToken()) {
+      String field = jp.getCurrentName();
+      jp.nextToken();
+      switch (field) {
+        case "benefits":
+          builder.benefits(
+              services(jp, ctxt, BenefitsService.class, BenefitsService::fromName));
+          break;
+        case "health":
+          builder.health(services(jp, ctxt, HealthService.class, HealthService::fromName));
+          break;
+        case "other":
+          builder.other(services(jp, ctxt, OtherService.class, OtherService::fromName));
+          break;
+        case "last_updated":
+          builder.lastUpdated(
+              jp.currentToken() == JsonToken.VALUE_NULL
+                  ? null
+                  : ctxt.readValue(jp, LocalDate.class));
+          break;
+        default:
+          jp.skipChildren();
       }
     }
-    return false;
+    return builder.build();
   }
 }
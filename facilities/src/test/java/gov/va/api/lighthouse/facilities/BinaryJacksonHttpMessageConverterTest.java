@@ -0,0 +1,93 @@
+package gov.va.api.lighthouse.facilities;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import gov.va.api.lighthouse.facilities.api.v0.FacilitiesIdsResponse;
+import gov.va.api.lighthouse.facilities.api.v1.FacilityReadResponse;
+import gov.va.api.lighthouse.facilities.api.v1.serializers.FacilityFieldset;
+import java.util.List;
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.MappingJacksonValue;
+import org.springframework.mock.http.MockHttpInputMessage;
+import org.springframework.mock.http.MockHttpOutputMessage;
+
+public class BinaryJacksonHttpMessageConverterTest {
+  private static BinaryJacksonHttpMessageConverter converter(
+      MediaType mediaType, ObjectMapper binary) {
+    return BinaryJacksonHttpMessageConverter.builder()
+        .mediaType(mediaType)
+        .factory(binary.getFactory())
+        .mapperV0(FacilitiesJacksonConfigV0.createMapper())
+        .mapperV1(FacilitiesJacksonConfigV1.createMapper())
+        .build();
+  }
+
+  @SneakyThrows
+  private static byte[] write(BinaryJacksonHttpMessageConverter converter, Object value) {
+    MockHttpOutputMessage output = new MockHttpOutputMessage();
+    converter.write(value, null, output);
+    return output.getBodyAsBytes();
+  }
+
+  @Test
+  @SneakyThrows
+  void cborMatchesJson() {
+    ObjectMapper cbor = new ObjectMapper(new CBORFactory());
+    var value = FacilitiesIdsResponse.builder().data(List.of("vha_402", "vba_306")).build();
+    var converter = converter(WebMvcConfiguration.APPLICATION_CBOR, cbor);
+    byte[] bytes = write(converter, value);
+    assertThat(cbor.readTree(bytes))
+        .isEqualTo(
+            new ObjectMapper()
+                .readTree(FacilitiesJacksonConfigV0.createMapper().writeValueAsString(value)));
+    assertThat(converter.read(FacilitiesIdsResponse.class, new MockHttpInputMessage(bytes)))
+        .isEqualTo(value);
+  }
+
+  @Test
+  @SneakyThrows
+  void fieldsetIsApplied() {
+    ObjectMapper cbor = new ObjectMapper(new CBORFactory());
+    MappingJacksonValue value =
+        new MappingJacksonValue(
+            FacilityReadResponse.builder()
+                .facility(
+                    FacilitySamples.defaultSamples("http://foo/bp/v1/").facilityV1("vha_691GB"))
+                .build());
+    value.setFilters(FacilityFieldset.parse("name"));
+    byte[] bytes = write(converter(WebMvcConfiguration.APPLICATION_CBOR, cbor), value);
+    assertThat(cbor.readTree(bytes).at("/data/attributes").fieldNames())
+        .toIterable()
+        .containsExactly("name");
+  }
+
+  @Test
+  void preserializedStringsAreNotSupported() {
+    MediaType smile = WebMvcConfiguration.APPLICATION_SMILE;
+    var converter = converter(smile, new ObjectMapper());
+    assertThat(converter.canWrite(String.class, smile)).isFalse();
+    assertThat(converter.canWrite(FacilityReadResponse.class, smile)).isTrue();
+    assertThat(converter.canWrite(FacilityReadResponse.class, MediaType.APPLICATION_JSON))
+        .isFalse();
+  }
+
+  @Test
+  @SneakyThrows
+  void smileUsesV1SerializersForV1Types() {
+    ObjectMapper smile = new ObjectMapper(new SmileFactory());
+    var value =
+        FacilityReadResponse.builder()
+            .facility(FacilitySamples.defaultSamples("http://foo/bp/v1/").facilityV1("vha_691GB"))
+            .build();
+    byte[] bytes = write(converter(WebMvcConfiguration.APPLICATION_SMILE, smile), value);
+    assertThat(smile.readTree(bytes))
+        .isEqualTo(
+            new ObjectMapper()
+                .readTree(FacilitiesJacksonConfigV1.createMapper().writeValueAsString(value)));
+  }
+}
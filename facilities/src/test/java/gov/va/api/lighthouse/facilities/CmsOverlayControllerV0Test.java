@@ -33,10 +33,18 @@ public class CmsOverlayControllerV0Test {
 
   @Mock CmsOverlayRepository mockCmsOverlayRepository;
 
+  @Mock FacilityChangeRepository mockFacilityChangeRepository;
+
+  @Mock OverlayEventRepository mockOverlayEventRepository;
+
   CmsOverlayControllerV0 controller() {
     return CmsOverlayControllerV0.builder()
         .facilityRepository(mockFacilityRepository)
         .cmsOverlayRepository(mockCmsOverlayRepository)
+        .facilityChanges(
+            FacilityChanges.builder().repository(mockFacilityChangeRepository).build())
+        .overlayEvents(OverlayEvents.builder().repository(mockOverlayEventRepository).build())
+        .resultCache(CoordinateResultCache.builder().build())
         .build();
   }
 
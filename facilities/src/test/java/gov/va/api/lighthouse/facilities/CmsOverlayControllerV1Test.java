@@ -53,6 +53,10 @@ public class CmsOverlayControllerV1Test {
 
   @Mock CmsOverlayRepository mockCmsOverlayRepository;
 
+  @Mock FacilityChangeRepository mockFacilityChangeRepository;
+
+  @Mock OverlayEventRepository mockOverlayEventRepository;
+
   private String baseUrl;
 
   private String basePath;
@@ -61,6 +65,10 @@ public class CmsOverlayControllerV1Test {
     return CmsOverlayControllerV1.builder()
         .facilityRepository(mockFacilityRepository)
         .cmsOverlayRepository(mockCmsOverlayRepository)
+        .facilityChanges(
+            FacilityChanges.builder().repository(mockFacilityChangeRepository).build())
+        .overlayEvents(OverlayEvents.builder().repository(mockOverlayEventRepository).build())
+        .resultCache(CoordinateResultCache.builder().build())
         .baseUrl(baseUrl)
         .basePath(basePath)
         .build();
@@ -0,0 +1,116 @@
+package gov.va.api.lighthouse.facilities;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+import gov.va.api.lighthouse.facilities.api.ServiceType;
+import gov.va.api.lighthouse.facilities.api.v0.Facility;
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+public class CoordinateResultCacheTest {
+  private static CoordinateResultCache cache() {
+    return CoordinateResultCache.builder()
+        .coordinatePrecision(3)
+        .maximumWeight(100)
+        .ttlMinutes(15)
+        .build();
+  }
+
+  @Test
+  void differentParametersAreDifferentEntries() {
+    CoordinateResultCache cache = cache();
+    AtomicInteger loads = new AtomicInteger();
+    cache.get(
+        cache
+            .key("nearby", new BigDecimal("28.1"), new BigDecimal("-80.6"))
+            .driveTime(30)
+            .build(),
+        () -> List.of(loads.incrementAndGet()));
+    cache.get(
+        cache
+            .key("nearby", new BigDecimal("28.1"), new BigDecimal("-80.6"))
+            .driveTime(60)
+            .build(),
+        () -> List.of(loads.incrementAndGet()));
+    cache.get(
+        cache
+            .key("nearby", new BigDecimal("28.1"), new BigDecimal("-80.6"))
+            .driveTime(60)
+            .services(Set.<ServiceType>of(Facility.HealthService.Cardiology))
+            .build(),
+        () -> List.of(loads.incrementAndGet()));
+    assertThat(loads.get()).isEqualTo(3);
+    assertThat(cache.size()).isEqualTo(3);
+  }
+
+  @Test
+  void invalidateAll() {
+    CoordinateResultCache cache = cache();
+    var key = cache.key("nearby", BigDecimal.ONE, BigDecimal.TEN).build();
+    assertThat(cache.get(key, () -> List.of("a"))).containsExactly("a");
+    cache.invalidateAll("test");
+    assertThat(cache.size()).isZero();
+    assertThat(cache.get(key, () -> List.of("b"))).containsExactly("b");
+  }
+
+  @Test
+  void invalidationDuringLoadIsNotCached() {
+    CoordinateResultCache cache = cache();
+    var key = cache.key("nearby", BigDecimal.ONE, BigDecimal.TEN).build();
+    assertThat(
+            cache.get(
+                key,
+                () -> {
+                  cache.invalidateAll("test");
+                  return List.of("stale");
+                }))
+        .containsExactly("stale");
+    assertThat(cache.size()).isZero();
+    assertThat(cache.get(key, () -> List.of("fresh"))).containsExactly("fresh");
+  }
+
+  @Test
+  void loaderExceptionsAreNotCached() {
+    CoordinateResultCache cache = cache();
+    var key = cache.key("nearby", BigDecimal.ONE, BigDecimal.TEN).build();
+    assertThatExceptionOfType(ExceptionsUtils.InvalidParameter.class)
+        .isThrownBy(
+            () ->
+                cache.get(
+                    key,
+                    () -> {
+                      throw new ExceptionsUtils.InvalidParameter("drive_time", "nope");
+                    }));
+    assertThat(cache.size()).isZero();
+  }
+
+  @Test
+  void nearbyCoordinatesShareEntry() {
+    CoordinateResultCache cache = cache();
+    AtomicInteger loads = new AtomicInteger();
+    List<Integer> first =
+        cache.get(
+            cache.key("nearby", new BigDecimal("28.11231"), new BigDecimal("-80.65432")).build(),
+            () -> List.of(loads.incrementAndGet()));
+    List<Integer> second =
+        cache.get(
+            cache.key("nearby", new BigDecimal("28.1119"), new BigDecimal("-80.6538")).build(),
+            () -> List.of(loads.incrementAndGet()));
+    assertThat(first).isEqualTo(second).containsExactly(1);
+    assertThat(loads.get()).isEqualTo(1);
+  }
+
+  @Test
+  void zeroWeightDisablesCaching() {
+    CoordinateResultCache cache = CoordinateResultCache.builder().build();
+    AtomicInteger loads = new AtomicInteger();
+    var key = cache.key("nearby", BigDecimal.ONE, BigDecimal.TEN).build();
+    cache.get(key, () -> List.of(loads.incrementAndGet()));
+    cache.get(key, () -> List.of(loads.incrementAndGet()));
+    assertThat(loads.get()).isEqualTo(2);
+  }
+}
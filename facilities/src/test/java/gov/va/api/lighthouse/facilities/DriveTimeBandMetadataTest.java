@@ -0,0 +1,111 @@
+package gov.va.api.lighthouse.facilities;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.math.BigDecimal;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+@DataJpaTest
+@ExtendWith(SpringExtension.class)
+public class DriveTimeBandMetadataTest {
+  @Autowired DriveTimeBandRepository repository;
+
+  @Autowired StagedDriveTimeBandRepository stagedRepository;
+
+  @Autowired DriveTimeBandVersionRepository versionRepository;
+
+  private static DriveTimeBandEntity band(String name, String monthYear) {
+    return InternalDriveTimeBandControllerTest.Entities.diamond(name, 100).monthYear(monthYear);
+  }
+
+  @Test
+  void bandVersion() {
+    repository.saveAll(List.of(band("a-0-10", "MAR2021"), band("b-0-10", "FEB2021")));
+    var metadata = metadata(CoordinateResultCache.builder().build());
+    assertThat(metadata.bandVersion(List.of(DriveTimeBandEntity.Pk.fromName("a-0-10"))))
+        .isEqualTo("MAR2021");
+    assertThat(metadata.bandVersion(List.of())).isEqualTo("FEB2021");
+    assertThat(metadata.bandVersion(List.of(DriveTimeBandEntity.Pk.fromName("z-0-10"))))
+        .isEqualTo("FEB2021");
+    assertThat(metadata.bandVersions()).containsExactly("FEB2021", "MAR2021");
+    assertThat(metadata.ids())
+        .containsExactlyInAnyOrder(
+            DriveTimeBandEntity.Pk.fromName("a-0-10"), DriveTimeBandEntity.Pk.fromName("b-0-10"));
+    assertThat(metadata.find(DriveTimeBandEntity.Pk.fromName("a-0-10")).get().maxLatitude())
+        .isEqualTo(102);
+  }
+
+  @Test
+  void bandVersionWithoutBandsIsUnknown() {
+    assertThat(metadata(CoordinateResultCache.builder().build()).bandVersion(List.of()))
+        .isEqualTo("Unknown");
+  }
+
+  @Test
+  void bandsFollowActiveVersion() {
+    repository.save(band("a-0-10", "MAR2021"));
+    stagedRepository.save(StagedDriveTimeBandEntity.copyOf(band("b-0-10", "APR2021")));
+    versionRepository.save(
+        DriveTimeBandVersionEntity.builder()
+            .name(DriveTimeBandVersionEntity.ACTIVE)
+            .monthYear("APR2021")
+            .build());
+    var metadata = metadata(CoordinateResultCache.builder().build());
+    assertThat(metadata.bandVersions()).containsExactly("APR2021");
+    assertThat(metadata.ids()).containsExactly(DriveTimeBandEntity.Pk.fromName("b-0-10"));
+  }
+
+  @Test
+  void checkVersionFollowsPointerMovedElsewhere() {
+    repository.save(band("a-0-10", "MAR2021"));
+    var metadata = metadata(CoordinateResultCache.builder().build());
+    metadata.checkVersion();
+    assertThat(metadata.bandVersions()).containsExactly("MAR2021");
+    stagedRepository.save(StagedDriveTimeBandEntity.copyOf(band("b-0-10", "APR2021")));
+    versionRepository.save(
+        DriveTimeBandVersionEntity.builder()
+            .name(DriveTimeBandVersionEntity.ACTIVE)
+            .monthYear("APR2021")
+            .build());
+    assertThat(metadata.bandVersions()).containsExactly("MAR2021");
+    metadata.checkVersion();
+    assertThat(metadata.bandVersions()).containsExactly("APR2021");
+    assertThat(metadata.find(DriveTimeBandEntity.Pk.fromName("b-0-10")).get().maxLatitude())
+        .isEqualTo(102);
+  }
+
+  private DriveTimeBandMetadata metadata(CoordinateResultCache resultCache) {
+    return DriveTimeBandMetadata.builder()
+        .repository(repository)
+        .stagedRepository(stagedRepository)
+        .versionRepository(versionRepository)
+        .resultCache(resultCache)
+        .build();
+  }
+
+  @Test
+  void refreshDiscardsCachedResultsOnlyWhenBandsChange() {
+    repository.save(band("a-0-10", "MAR2021"));
+    var resultCache =
+        CoordinateResultCache.builder()
+            .coordinatePrecision(2)
+            .maximumWeight(10)
+            .ttlMinutes(5)
+            .build();
+    var metadata = metadata(resultCache);
+    metadata.refresh();
+    var key = resultCache.key("nearby", BigDecimal.ONE, BigDecimal.ONE).build();
+    resultCache.get(key, () -> List.of("cached"));
+    metadata.refresh();
+    assertThat(resultCache.size()).isEqualTo(1);
+    repository.save(band("b-0-10", "APR2021"));
+    metadata.refresh();
+    assertThat(resultCache.size()).isZero();
+    assertThat(metadata.bandVersions()).containsExactly("APR2021", "MAR2021");
+  }
+}
@@ -0,0 +1,118 @@
+package gov.va.api.lighthouse.facilities;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+import gov.va.api.lighthouse.facilities.api.pssg.PathEncoder;
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+@DataJpaTest
+@ExtendWith(SpringExtension.class)
+public class DriveTimeBandVersionsTest {
+  @Autowired DriveTimeBandRepository liveRepository;
+
+  @Autowired StagedDriveTimeBandRepository stagedRepository;
+
+  @Autowired DriveTimeBandVersionRepository versionRepository;
+
+  private static StagedDriveTimeBandEntity staged(String name, String monthYear, int offset) {
+    return StagedDriveTimeBandEntity.builder()
+        .id(StagedDriveTimeBandEntity.Pk.of(DriveTimeBandEntity.Pk.fromName(name), monthYear))
+        .maxLongitude(offset + 1)
+        .maxLatitude(offset + 2)
+        .minLongitude(offset - 1)
+        .minLatitude(offset - 2)
+        .band(
+            PathEncoder.create()
+                .encodeToBase64(
+                    InternalDriveTimeBandControllerTest.Entities.diamondBand(name, offset)))
+        .build();
+  }
+
+  @Test
+  void activateMovesPointerAndLeavesBandsInPlace() {
+    liveRepository.saveAll(
+        List.of(
+            InternalDriveTimeBandControllerTest.Entities.diamond("a-0-10", 100),
+            InternalDriveTimeBandControllerTest.Entities.diamond("b-0-10", 200)));
+    stagedRepository.saveAll(
+        List.of(staged("a-0-10", "APR2021", 110), staged("c-0-10", "APR2021", 300)));
+    assertThat(nearby(101)).containsExactly("a-0-10");
+    var response = versions().activate("APR2021");
+    assertThat(response.activatedVersion()).isEqualTo("APR2021");
+    assertThat(response.previousVersions()).containsExactly("MAR2021");
+    assertThat(response.bandsCreated()).isEqualTo(1);
+    assertThat(response.bandsUpdated()).isEqualTo(1);
+    assertThat(response.bandsRemoved()).isEqualTo(1);
+    assertThat(versions().active()).contains("APR2021");
+    assertThat(liveRepository.findAllBandVersions()).containsExactly("MAR2021");
+    assertThat(stagedRepository.findAllStagedVersions())
+        .containsExactlyInAnyOrder("MAR2021", "APR2021");
+    assertThat(nearby(101)).isEmpty();
+    assertThat(nearby(111)).containsExactly("a-0-10");
+    assertThat(nearby(301)).containsExactly("c-0-10");
+    assertThat(versions().findById(DriveTimeBandEntity.Pk.fromName("a-0-10")).get().maxLatitude())
+        .isEqualTo(112);
+    // Roll back
+    response = versions().activate("MAR2021");
+    assertThat(response.previousVersions()).containsExactly("APR2021");
+    assertThat(versions().active()).contains("MAR2021");
+    assertThat(nearby(101)).containsExactly("a-0-10");
+    assertThat(nearby(201)).containsExactly("b-0-10");
+    assertThat(nearby(301)).isEmpty();
+  }
+
+  @Test
+  void activateUnknownVersionIsNotFound() {
+    assertThatExceptionOfType(ExceptionsUtils.NotFound.class)
+        .isThrownBy(() -> versions().activate("JAN1999"));
+  }
+
+  @Test
+  void activateWithInvalidBandLeavesLiveBandsAlone() {
+    liveRepository.save(InternalDriveTimeBandControllerTest.Entities.diamond("a-0-10", 100));
+    stagedRepository.save(staged("a-0-10", "APR2021", 110).band("garbage"));
+    assertThatExceptionOfType(ExceptionsUtils.InvalidParameter.class)
+        .isThrownBy(() -> versions().activate("APR2021"));
+    assertThat(versions().active()).isEmpty();
+    assertThat(nearby(101)).containsExactly("a-0-10");
+  }
+
+  @Test
+  void discard() {
+    liveRepository.save(InternalDriveTimeBandControllerTest.Entities.diamond("a-0-10", 100));
+    stagedRepository.saveAll(
+        List.of(staged("a-0-10", "MAR2021", 100), staged("a-0-10", "APR2021", 110)));
+    assertThatExceptionOfType(ExceptionsUtils.InvalidParameter.class)
+        .isThrownBy(() -> versions().discard("MAR2021"));
+    assertThat(versions().discard("APR2021")).isEqualTo(1);
+    assertThat(stagedRepository.findAllStagedVersions()).containsExactly("MAR2021");
+  }
+
+  private List<String> nearby(int coordinate) {
+    return versions()
+        .findAll(
+            DriveTimeBandRepository.MinMaxSpecification.builder()
+                .longitude(BigDecimal.valueOf(coordinate))
+                .latitude(BigDecimal.valueOf(coordinate))
+                .build())
+        .stream()
+        .map(e -> e.id().name())
+        .collect(Collectors.toList());
+  }
+
+  private DriveTimeBandVersions versions() {
+    return DriveTimeBandVersions.builder()
+        .liveRepository(liveRepository)
+        .stagedRepository(stagedRepository)
+        .versionRepository(versionRepository)
+        .build();
+  }
+}
@@ -27,6 +27,9 @@ public class FacilitiesByVisnTest {
   private FacilitiesControllerV0 controller(@NonNull String baseUrl, @NonNull String basePath) {
     return FacilitiesControllerV0.builder()
         .facilityRepository(repo)
+        .resultCache(CoordinateResultCache.builder().build())
+        .bulkSerializationExecutor(
+            RequestExecutor.builder().name("bulk").threads(2).queueCapacity(4).build())
         .baseUrl(baseUrl)
         .basePath(basePath)
         .build();
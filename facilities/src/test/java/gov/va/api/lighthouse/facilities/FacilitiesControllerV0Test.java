@@ -102,6 +102,9 @@ public class FacilitiesControllerV0Test {
   private FacilitiesControllerV0 controller(@NonNull String baseUrl, @NonNull String basePath) {
     return FacilitiesControllerV0.builder()
         .facilityRepository(fr)
+        .resultCache(CoordinateResultCache.builder().build())
+        .bulkSerializationExecutor(
+            RequestExecutor.builder().name("bulk").threads(2).queueCapacity(4).build())
         .baseUrl(baseUrl)
         .basePath(basePath)
         .build();
@@ -159,9 +162,9 @@ public class FacilitiesControllerV0Test {
         .isInstanceOf(InvocationTargetException.class)
         .hasCause(new ExceptionsUtils.InvalidParameter("services", "InvalidService"));
     // Nested exception ExceptionsUtils.InvalidParameter
-    Method entitiesByLatLongMethod =
+    Method idsByLatLongMethod =
         FacilitiesControllerV0.class.getDeclaredMethod(
-            "entitiesByLatLong",
+            "idsByLatLong",
             BigDecimal.class,
             BigDecimal.class,
             Optional.class,
@@ -169,10 +172,10 @@ public class FacilitiesControllerV0Test {
             String.class,
             List.class,
             Boolean.class);
-    entitiesByLatLongMethod.setAccessible(true);
+    idsByLatLongMethod.setAccessible(true);
     assertThatThrownBy(
             () ->
-                entitiesByLatLongMethod.invoke(
+                idsByLatLongMethod.invoke(
                     controller(baseUrl, basePath),
                     BigDecimal.valueOf(0.0),
                     BigDecimal.valueOf(0.0),
@@ -187,7 +190,7 @@ public class FacilitiesControllerV0Test {
 
   @Test
   void geoFacilitiesByBoundingBox() {
-    when(fr.findAll(
+    when(fr.findLocations(
             FacilityRepository.BoundingBoxSpecification.builder()
                 .minLongitude(BigDecimal.valueOf(-97.65).min(BigDecimal.valueOf(-97.67)))
                 .maxLongitude(BigDecimal.valueOf(-97.65).max(BigDecimal.valueOf(-97.67)))
@@ -203,6 +206,8 @@ public class FacilitiesControllerV0Test {
                 .mobile(Boolean.FALSE)
                 .build()))
         .thenReturn(List.of(FacilitySamples.defaultSamples(linkerUrl).facilityEntity("vha_740GA")));
+    when(fr.findByIdIn(List.of(FacilityEntity.Pk.of(FacilityEntity.Type.vha, "740GA"))))
+        .thenReturn(List.of(FacilitySamples.defaultSamples(linkerUrl).facilityEntity("vha_740GA")));
     assertThat(
             controller(baseUrl, basePath)
                 .geoFacilitiesByBoundingBox(
@@ -249,7 +254,7 @@ public class FacilitiesControllerV0Test {
 
   @Test
   void geoFacilitiesByLatLong() {
-    when(fr.findAll(
+    when(fr.findLocations(
             FacilityRepository.TypeServicesIdsSpecification.builder()
                 .ids(List.of(FacilityEntity.Pk.of(FacilityEntity.Type.vha, "740GA")))
                 .facilityType(FacilityEntity.Type.vha)
@@ -262,6 +267,8 @@ public class FacilitiesControllerV0Test {
                 .mobile(Boolean.FALSE)
                 .build()))
         .thenReturn(List.of(FacilitySamples.defaultSamples(linkerUrl).facilityEntity("vha_740GA")));
+    when(fr.findByIdIn(List.of(FacilityEntity.Pk.of(FacilityEntity.Type.vha, "740GA"))))
+        .thenReturn(List.of(FacilitySamples.defaultSamples(linkerUrl).facilityEntity("vha_740GA")));
     // Query for facilities without constraining to a specified radius
     assertThat(
             controller(baseUrl, basePath)
@@ -369,7 +376,10 @@ public class FacilitiesControllerV0Test {
 
   @Test
   void geoFacilitiesByVisn() {
-    when(fr.findByVisn("test_visn"))
+    when(fr.findLocations(
+            FacilityRepository.VisnSpecification.builder().visn("test_visn").build()))
+        .thenReturn(List.of(FacilitySamples.defaultSamples(linkerUrl).facilityEntity("vha_740GA")));
+    when(fr.findByIdIn(List.of(FacilityEntity.Pk.of(FacilityEntity.Type.vha, "740GA"))))
         .thenReturn(List.of(FacilitySamples.defaultSamples(linkerUrl).facilityEntity("vha_740GA")));
     assertThat(controller(baseUrl, basePath).geoFacilitiesByVisn("test_visn", 1, 1))
         .isEqualTo(
@@ -425,7 +435,7 @@ public class FacilitiesControllerV0Test {
 
   @Test
   void jsonFacilitiesByBoundingBox() {
-    when(fr.findAll(
+    when(fr.findLocations(
             FacilityRepository.BoundingBoxSpecification.builder()
                 .minLongitude(BigDecimal.valueOf(-97.65).min(BigDecimal.valueOf(-97.67)))
                 .maxLongitude(BigDecimal.valueOf(-97.65).max(BigDecimal.valueOf(-97.67)))
@@ -441,6 +451,8 @@ public class FacilitiesControllerV0Test {
                 .mobile(Boolean.FALSE)
                 .build()))
         .thenReturn(List.of(FacilitySamples.defaultSamples(linkerUrl).facilityEntity("vha_740GA")));
+    when(fr.findByIdIn(List.of(FacilityEntity.Pk.of(FacilityEntity.Type.vha, "740GA"))))
+        .thenReturn(List.of(FacilitySamples.defaultSamples(linkerUrl).facilityEntity("vha_740GA")));
     assertThat(
             controller(baseUrl, basePath)
                 .jsonFacilitiesByBoundingBox(
@@ -595,7 +607,7 @@ public class FacilitiesControllerV0Test {
 
   @Test
   void jsonFacilitiesByLatLong() {
-    when(fr.findAll(
+    when(fr.findLocations(
             FacilityRepository.TypeServicesIdsSpecification.builder()
                 .ids(List.of(FacilityEntity.Pk.of(FacilityEntity.Type.vha, "740GA")))
                 .facilityType(FacilityEntity.Type.vha)
@@ -608,6 +620,8 @@ public class FacilitiesControllerV0Test {
                 .mobile(Boolean.FALSE)
                 .build()))
         .thenReturn(List.of(FacilitySamples.defaultSamples(linkerUrl).facilityEntity("vha_740GA")));
+    when(fr.findByIdIn(List.of(FacilityEntity.Pk.of(FacilityEntity.Type.vha, "740GA"))))
+        .thenReturn(List.of(FacilitySamples.defaultSamples(linkerUrl).facilityEntity("vha_740GA")));
     // Query for facilities without constraining to a specified radius
     assertThat(
             controller(baseUrl, basePath)
@@ -808,7 +822,10 @@ public class FacilitiesControllerV0Test {
 
   @Test
   void jsonFacilitiesByVisn() {
-    when(fr.findByVisn("test_visn"))
+    when(fr.findLocations(
+            FacilityRepository.VisnSpecification.builder().visn("test_visn").build()))
+        .thenReturn(List.of(FacilitySamples.defaultSamples(linkerUrl).facilityEntity("vha_740GA")));
+    when(fr.findByIdIn(List.of(FacilityEntity.Pk.of(FacilityEntity.Type.vha, "740GA"))))
         .thenReturn(List.of(FacilitySamples.defaultSamples(linkerUrl).facilityEntity("vha_740GA")));
     assertThat(controller(baseUrl, basePath).jsonFacilitiesByVisn("test_visn", 1, 1))
         .isEqualTo(
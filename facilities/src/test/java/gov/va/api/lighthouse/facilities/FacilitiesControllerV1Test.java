@@ -9,12 +9,14 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.google.common.base.Joiner;
 import com.google.common.base.Splitter;
 import com.google.common.collect.ImmutableSet;
 import gov.va.api.lighthouse.facilities.api.v1.FacilitiesResponse;
 import gov.va.api.lighthouse.facilities.api.v1.Facility;
+import gov.va.api.lighthouse.facilities.api.v1.FacilityChangesResponse;
 import gov.va.api.lighthouse.facilities.api.v1.FacilityReadResponse;
 import gov.va.api.lighthouse.facilities.api.v1.PageLinks;
 import gov.va.api.lighthouse.facilities.api.v1.Pagination;
@@ -32,12 +34,17 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 public class FacilitiesControllerV1Test {
   private static final ObjectMapper MAPPER_V1 = createMapper();
 
   FacilityRepository fr = mock(FacilityRepository.class);
 
+  FacilityChanges changes = mock(FacilityChanges.class);
+
+  OverlayEvents events = mock(OverlayEvents.class);
+
   private String baseUrl;
 
   private String basePath;
@@ -56,7 +63,7 @@ public class FacilitiesControllerV1Test {
                 samples.facilityEntity("vha_691GB"),
                 samples.facilityEntity("vha_740GA"),
                 samples.facilityEntity("vha_757")));
-    assertThat(controller(baseUrl, basePath).all(1, 3))
+    assertThat(controller(baseUrl, basePath).all(1, 3, null))
         .isEqualTo(
             MAPPER_V1.writeValueAsString(
                 FacilitiesResponse.builder()
@@ -85,7 +92,7 @@ public class FacilitiesControllerV1Test {
                             .build())
                     .build()));
     // Test empty list if from index is larger than size of data.
-    assertThat(controller(baseUrl, basePath).all(3, 3))
+    assertThat(controller(baseUrl, basePath).all(3, 3, null))
         .isEqualTo(
             "{\"links\":{"
                 + "\"self\":\"http://foo/bp/v1/facilities?page=3&per_page=3\","
@@ -100,6 +107,20 @@ public class FacilitiesControllerV1Test {
                 + "}}}");
   }
 
+  @Test
+  @SneakyThrows
+  void allWithSparseFieldset() {
+    FacilitySamples samples = FacilitySamples.defaultSamples(linkerUrl);
+    when(fr.findAllProjectedBy()).thenReturn(List.of(samples.facilityEntity("vha_691GB")));
+    JsonNode sparse = MAPPER_V1.readTree(controller(baseUrl, basePath).all(1, 1, "name, lat"));
+    assertThat(sparse.at("/data/0/id").asText()).isEqualTo("vha_691GB");
+    assertThat(sparse.at("/data/0/attributes").fieldNames())
+        .toIterable()
+        .containsExactly("name", "lat");
+    assertThatThrownBy(() -> controller(baseUrl, basePath).all(1, 1, "name,hoursOfOperation"))
+        .isInstanceOf(ExceptionsUtils.InvalidParameter.class);
+  }
+
   @Test
   void allCsv() {
     FacilitySamples samples = FacilitySamples.defaultSamples(linkerUrl);
@@ -136,9 +157,51 @@ public class FacilitiesControllerV1Test {
                 + "730AM-600PM,730AM-600PM,730AM-600PM,730AM-600PM,800AM-400PM,800AM-400PM,NORMAL,");
   }
 
+  @Test
+  void changes() {
+    when(changes.latestToken()).thenReturn("7");
+    assertThat(controller(baseUrl, basePath).changes(null, 500))
+        .isEqualTo(
+            FacilityChangesResponse.builder()
+                .meta(
+                    FacilityChangesResponse.ChangesMetadata.builder()
+                        .nextToken("7")
+                        .more(false)
+                        .build())
+                .build());
+    FacilityEntity.Pk gone = FacilityEntity.Pk.of(FacilityEntity.Type.vha, "757");
+    FacilityEntity.Pk updated = FacilityEntity.Pk.of(FacilityEntity.Type.vha, "691GB");
+    FacilityEntity.Pk removed = FacilityEntity.Pk.of(FacilityEntity.Type.vha, "740GA");
+    when(changes.after(7, 2))
+        .thenReturn(
+            new FacilityChanges.Batch(List.of(gone, updated), List.of(removed), "9", true));
+    when(fr.findByIdIn(List.of(gone, updated)))
+        .thenReturn(List.of(FacilitySamples.defaultSamples(linkerUrl).facilityEntity("vha_691GB")));
+    assertThat(controller(baseUrl, basePath).changes("7", 2))
+        .isEqualTo(
+            FacilityChangesResponse.builder()
+                .data(List.of(FacilitySamples.defaultSamples(linkerUrl).facilityV1("vha_691GB")))
+                .deleted(List.of("vha_740GA", "vha_757"))
+                .meta(
+                    FacilityChangesResponse.ChangesMetadata.builder()
+                        .nextToken("9")
+                        .more(true)
+                        .build())
+                .build());
+    assertThatThrownBy(() -> controller(baseUrl, basePath).changes("x", 2))
+        .isInstanceOf(ExceptionsUtils.InvalidParameter.class);
+    assertThatThrownBy(() -> controller(baseUrl, basePath).changes("-1", 2))
+        .isInstanceOf(ExceptionsUtils.InvalidParameter.class);
+  }
+
   private FacilitiesControllerV1 controller(@NonNull String baseUrl, @NonNull String basePath) {
     return FacilitiesControllerV1.builder()
         .facilityRepository(fr)
+        .facilityChanges(changes)
+        .overlayEvents(events)
+        .resultCache(CoordinateResultCache.builder().build())
+        .bulkSerializationExecutor(
+            RequestExecutor.builder().name("bulk").threads(2).queueCapacity(4).build())
         .baseUrl(baseUrl)
         .basePath(basePath)
         .build();
@@ -157,7 +220,7 @@ public class FacilitiesControllerV1Test {
         .isInstanceOf(InvocationTargetException.class)
         .hasCause(new NullPointerException("entity is marked non-null but is null"));
     when(fr.findAllProjectedBy()).thenThrow(new NullPointerException("oh noes"));
-    assertThrows(NullPointerException.class, () -> controller(baseUrl, basePath).all(1, 2));
+    assertThrows(NullPointerException.class, () -> controller(baseUrl, basePath).all(1, 2, null));
     assertThrows(NullPointerException.class, () -> controller(baseUrl, basePath).allCsv());
     // Nested exception ExceptionsUtils.InvalidParameter
     Method entitiesByBoundingBoxMethod =
@@ -186,9 +249,9 @@ public class FacilitiesControllerV1Test {
         .isInstanceOf(InvocationTargetException.class)
         .hasCause(new ExceptionsUtils.InvalidParameter("services", "InvalidService"));
     // Nested exception ExceptionsUtils.InvalidParameter
-    Method entitiesByLatLongMethod =
+    Method idsByLatLongMethod =
         FacilitiesControllerV1.class.getDeclaredMethod(
-            "entitiesByLatLong",
+            "idsByLatLong",
             BigDecimal.class,
             BigDecimal.class,
             Optional.class,
@@ -196,10 +259,10 @@ public class FacilitiesControllerV1Test {
             String.class,
             List.class,
             Boolean.class);
-    entitiesByLatLongMethod.setAccessible(true);
+    idsByLatLongMethod.setAccessible(true);
     assertThatThrownBy(
             () ->
-                entitiesByLatLongMethod.invoke(
+                idsByLatLongMethod.invoke(
                     controller(baseUrl, basePath),
                     BigDecimal.valueOf(0.0),
                     BigDecimal.valueOf(0.0),
@@ -212,6 +275,19 @@ public class FacilitiesControllerV1Test {
         .hasCause(new ExceptionsUtils.InvalidParameter("type", "no_such_type"));
   }
 
+  @Test
+  void events() {
+    SseEmitter emitter = new SseEmitter();
+    when(events.subscribe(
+            "7",
+            List.of(FacilityEntity.Pk.of(FacilityEntity.Type.vha, "402")),
+            List.of("21", "22")))
+        .thenReturn(emitter);
+    assertThat(controller(baseUrl, basePath).events("7", "vha_402,x", " 21,,22")).isSameAs(emitter);
+    assertThatThrownBy(() -> controller(baseUrl, basePath).events(null, "x", null))
+        .isInstanceOf(ExceptionsUtils.InvalidParameter.class);
+  }
+
   @Test
   void facilityIdsByType() {
     when(fr.findAllIds())
@@ -228,7 +304,7 @@ public class FacilitiesControllerV1Test {
 
   @Test
   void jsonFacilitiesByBoundingBox() {
-    when(fr.findAll(
+    when(fr.findLocations(
             FacilityRepository.BoundingBoxSpecification.builder()
                 .minLongitude(BigDecimal.valueOf(-97.65).min(BigDecimal.valueOf(-97.67)))
                 .maxLongitude(BigDecimal.valueOf(-97.65).max(BigDecimal.valueOf(-97.67)))
@@ -247,6 +323,8 @@ public class FacilitiesControllerV1Test {
             List.of(
                 FacilitySamples.defaultSamples(linkerUrl).facilityEntity("vha_740GA"),
                 FacilitySamples.defaultSamples(linkerUrl).facilityEntity("vha_691GB")));
+    when(fr.findByIdIn(List.of(FacilityEntity.Pk.of(FacilityEntity.Type.vha, "740GA"))))
+        .thenReturn(List.of(FacilitySamples.defaultSamples(linkerUrl).facilityEntity(facilityId)));
     assertThat(
             controller(baseUrl, basePath)
                 .jsonFacilitiesByBoundingBox(
@@ -370,7 +448,7 @@ public class FacilitiesControllerV1Test {
 
   @Test
   void jsonFacilitiesByLatLong() {
-    when(fr.findAll(
+    when(fr.findLocations(
             FacilityRepository.TypeServicesIdsSpecification.builder()
                 .ids(List.of(FacilityEntity.Pk.of(FacilityEntity.Type.vha, "740GA")))
                 .facilityType(FacilityEntity.Type.vha)
@@ -383,6 +461,8 @@ public class FacilitiesControllerV1Test {
                 .mobile(Boolean.FALSE)
                 .build()))
         .thenReturn(List.of(FacilitySamples.defaultSamples(linkerUrl).facilityEntity(facilityId)));
+    when(fr.findByIdIn(List.of(FacilityEntity.Pk.of(FacilityEntity.Type.vha, "740GA"))))
+        .thenReturn(List.of(FacilitySamples.defaultSamples(linkerUrl).facilityEntity(facilityId)));
     // Query for facilities without constraining to a specified radius
     assertThat(
             controller(baseUrl, basePath)
@@ -581,7 +661,10 @@ public class FacilitiesControllerV1Test {
 
   @Test
   void jsonFacilitiesByVisn() {
-    when(fr.findByVisn("test_visn"))
+    when(fr.findLocations(
+            FacilityRepository.VisnSpecification.builder().visn("test_visn").build()))
+        .thenReturn(List.of(FacilitySamples.defaultSamples(linkerUrl).facilityEntity(facilityId)));
+    when(fr.findByIdIn(List.of(FacilityEntity.Pk.of(FacilityEntity.Type.vha, "740GA"))))
         .thenReturn(List.of(FacilitySamples.defaultSamples(linkerUrl).facilityEntity(facilityId)));
     assertThat(controller(baseUrl, basePath).jsonFacilitiesByVisn("test_visn", 1, 1))
         .isEqualTo(
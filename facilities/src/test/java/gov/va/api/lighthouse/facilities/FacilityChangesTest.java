@@ -0,0 +1,103 @@
+package gov.va.api.lighthouse.facilities;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+
+@DataJpaTest
+public class FacilityChangesTest {
+  private static final FacilityEntity.Pk A = FacilityEntity.Pk.fromIdString("vha_a");
+
+  private static final FacilityEntity.Pk B = FacilityEntity.Pk.fromIdString("vha_b");
+
+  private static final FacilityEntity.Pk C = FacilityEntity.Pk.fromIdString("vha_c");
+
+  @Autowired FacilityChangeRepository repository;
+
+  private FacilityChanges changes(long settleSeconds) {
+    return FacilityChanges.builder()
+        .repository(repository)
+        .settleSeconds(settleSeconds)
+        .retentionDays(30)
+        .build();
+  }
+
+  private long daysAgo(int days) {
+    return Instant.now().minus(Duration.ofDays(days)).toEpochMilli();
+  }
+
+  @Test
+  void expiredTokenIsRejectedAfterPrune() {
+    long first = journal(C, daysAgo(40));
+    long watermark = journal(C, daysAgo(35));
+    long recent = journal(C, System.currentTimeMillis());
+    changes(0).prune();
+    assertThat(repository.findFirstId()).isEqualTo(watermark);
+    assertThat(repository.findLastId()).isEqualTo(recent);
+    assertThat(changes(0).after(first, 10).changed()).containsExactly(C);
+    assertThatThrownBy(() -> changes(0).after(first - 1, 10))
+        .isInstanceOf(ExceptionsUtils.ChangeTokenExpired.class);
+  }
+
+  private long journal(FacilityEntity.Pk id, long changed) {
+    return repository
+        .save(FacilityChangeEntity.builder().facilityId(id).deleted(false).changed(changed).build())
+        .id();
+  }
+
+  @Test
+  void latestChangeWins() {
+    FacilityChanges changes = changes(0);
+    long since = Long.parseLong(changes.latestToken());
+    changes.changed(A);
+    changes.changed(B);
+    changes.deleted(A);
+    FacilityChanges.Batch batch = changes.after(since, 10);
+    assertThat(batch.changed()).containsExactly(B);
+    assertThat(batch.deleted()).containsExactly(A);
+    assertThat(batch.nextToken()).isEqualTo(changes.latestToken());
+    assertThat(batch.more()).isFalse();
+  }
+
+  @Test
+  void limitCountsEntries() {
+    FacilityChanges changes = changes(0);
+    long since = Long.parseLong(changes.latestToken());
+    changes.changed(A);
+    changes.changed(A);
+    changes.changed(B);
+    FacilityChanges.Batch first = changes.after(since, 2);
+    assertThat(first.changed()).containsExactly(A);
+    assertThat(first.more()).isTrue();
+    FacilityChanges.Batch second = changes.after(Long.parseLong(first.nextToken()), 2);
+    assertThat(second.changed()).containsExactly(B);
+    assertThat(second.more()).isFalse();
+    assertThat(second.nextToken()).isEqualTo(changes.latestToken());
+  }
+
+  @Test
+  void pruneKeepsJournalWithinRetention() {
+    long recent = journal(A, daysAgo(2));
+    changes(0).prune();
+    assertThat(repository.findAll())
+        .extracting(FacilityChangeEntity::id)
+        .isEqualTo(List.of(recent));
+  }
+
+  @Test
+  void unsettledChangesAreHeldBack() {
+    FacilityChanges changes = changes(60);
+    String since = changes.latestToken();
+    changes.changed(A);
+    FacilityChanges.Batch batch = changes.after(Long.parseLong(since), 10);
+    assertThat(batch.changed()).isEmpty();
+    assertThat(batch.nextToken()).isEqualTo(since);
+    assertThat(changes(0).after(Long.parseLong(since), 10).changed()).containsExactly(A);
+  }
+}
@@ -0,0 +1,53 @@
+package gov.va.api.lighthouse.facilities;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import gov.va.api.lighthouse.facilities.api.v1.FacilityReadResponse;
+import gov.va.api.lighthouse.facilities.api.v1.serializers.FacilityFieldset;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.StringHttpMessageConverter;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.http.converter.json.MappingJacksonValue;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+public class FacilityFieldsetAdviceTest {
+  private static Object beforeBodyWrite(Object body, String fields) {
+    MockHttpServletRequest request = new MockHttpServletRequest();
+    if (fields != null) {
+      request.setParameter(FacilityFieldset.PARAMETER, fields);
+    }
+    return new FacilityFieldsetAdvice()
+        .beforeBodyWrite(
+            body,
+            null,
+            MediaType.APPLICATION_JSON,
+            MappingJackson2HttpMessageConverter.class,
+            new ServletServerHttpRequest(request),
+            null);
+  }
+
+  @Test
+  void fieldsetIsGivenToTheWriter() {
+    FacilityReadResponse body = FacilityReadResponse.builder().build();
+    assertThat(beforeBodyWrite(body, null)).isSameAs(body);
+    assertThat(beforeBodyWrite("{}", "name")).isEqualTo("{}");
+    MappingJacksonValue value = (MappingJacksonValue) beforeBodyWrite(body, "name,address");
+    assertThat(value.getValue()).isSameAs(body);
+    assertThat(((FacilityFieldset) value.getFilters()).fields())
+        .containsExactlyInAnyOrder("name", "address");
+    assertThatThrownBy(() -> beforeBodyWrite(body, "name,nope"))
+        .isInstanceOf(ExceptionsUtils.InvalidParameter.class)
+        .hasMessage("'name,nope' is not a valid value for 'fields[facility]'");
+  }
+
+  @Test
+  void onlyJacksonConvertersAreSupported() {
+    FacilityFieldsetAdvice advice = new FacilityFieldsetAdvice();
+    assertThat(advice.supports(null, MappingJackson2HttpMessageConverter.class)).isTrue();
+    assertThat(advice.supports(null, BinaryJacksonHttpMessageConverter.class)).isTrue();
+    assertThat(advice.supports(null, StringHttpMessageConverter.class)).isFalse();
+  }
+}
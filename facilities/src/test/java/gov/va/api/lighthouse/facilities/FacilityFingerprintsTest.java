@@ -0,0 +1,65 @@
+package gov.va.api.lighthouse.facilities;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.time.Instant;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+
+@DataJpaTest
+public class FacilityFingerprintsTest {
+  private static final Instant NOW = Instant.parse("2022-03-01T12:00:00Z");
+
+  @Autowired FacilityRepository repository;
+
+  private static DatamartFacility facility(String id, String name) {
+    return DatamartFacility.builder()
+        .id(id)
+        .attributes(DatamartFacility.FacilityAttributes.builder().name(name).build())
+        .build();
+  }
+
+  private void save(String id, String fingerprint, Instant lastUpdated, Long missingTimestamp) {
+    repository.save(
+        FacilityEntity.builder()
+            .id(FacilityEntity.Pk.fromIdString(id))
+            .fingerprint(fingerprint)
+            .lastUpdated(lastUpdated)
+            .missingTimestamp(missingTimestamp)
+            .build());
+  }
+
+  @Test
+  void fingerprintFollowsContent() {
+    String fingerprint = FacilityFingerprints.fingerprint(facility("vha_1", "Togus"));
+    assertThat(fingerprint).hasSize(64);
+    assertThat(FacilityFingerprints.fingerprint(facility("vha_1", "Togus"))).isEqualTo(fingerprint);
+    assertThat(FacilityFingerprints.fingerprint(facility("vha_1", "Augusta")))
+        .isNotEqualTo(fingerprint);
+  }
+
+  @Test
+  void snapshotSkipsOnlyRecentPresentMatches() {
+    String fingerprint = FacilityFingerprints.fingerprint(facility("vha_1", "Togus"));
+    save("vha_1", fingerprint, NOW.minus(Duration.ofHours(1)), null);
+    save("vha_2", fingerprint, NOW.minus(Duration.ofHours(25)), null);
+    save("vha_3", fingerprint, NOW.minus(Duration.ofHours(1)), NOW.toEpochMilli());
+    save("vha_4", null, NOW.minus(Duration.ofHours(1)), null);
+    FacilityFingerprints.Snapshot snapshot =
+        FacilityFingerprints.builder()
+            .facilityRepository(repository)
+            .reconcileAfterHours(24)
+            .build()
+            .snapshot(NOW);
+    assertThat(snapshot.isUnchanged("vha_1", fingerprint)).isTrue();
+    assertThat(snapshot.isUnchanged("vha_1", "other")).isFalse();
+    assertThat(snapshot.isUnchanged("vha_2", fingerprint)).isFalse();
+    assertThat(snapshot.isUnchanged("vha_3", fingerprint)).isFalse();
+    assertThat(snapshot.isUnchanged("vha_4", fingerprint)).isFalse();
+    assertThat(snapshot.isUnchanged("vha_5", fingerprint)).isFalse();
+    assertThat(snapshot.isUnchanged("nope", fingerprint)).isFalse();
+    assertThat(FacilityFingerprints.Snapshot.none().isUnchanged("vha_1", fingerprint)).isFalse();
+  }
+}
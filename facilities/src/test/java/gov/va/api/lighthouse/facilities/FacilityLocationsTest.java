@@ -0,0 +1,147 @@
+package gov.va.api.lighthouse.facilities;
+
+import static gov.va.api.lighthouse.facilities.api.ServiceLinkBuilder.buildLinkerUrlV1;
+import static java.util.stream.Collectors.toList;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import gov.va.api.lighthouse.facilities.api.v1.FacilitiesResponse;
+import gov.va.api.lighthouse.facilities.api.v1.Facility;
+import java.math.BigDecimal;
+import java.util.List;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+
+@DataJpaTest
+public class FacilityLocationsTest {
+  @Autowired FacilityRepository repo;
+
+  @Autowired TestEntityManager testEntityManager;
+
+  private Statistics statistics;
+
+  private static List<String> ids(FacilitiesResponse response) {
+    return response.data().stream().map(Facility::id).collect(toList());
+  }
+
+  private FacilitiesControllerV1 controller() {
+    return FacilitiesControllerV1.builder()
+        .facilityRepository(repo)
+        .resultCache(CoordinateResultCache.builder().build())
+        .bulkSerializationExecutor(
+            RequestExecutor.builder().name("bulk").threads(2).queueCapacity(4).build())
+        .baseUrl("http://foo/")
+        .basePath("bp")
+        .build();
+  }
+
+  @Test
+  void findLocationsSelectsOnlyCoordinates() {
+    List<HasFacilityLocation> locations =
+        repo.findLocations(
+            FacilityRepository.TypeServicesIdsSpecification.builder()
+                .facilityType(FacilityEntity.Type.vha)
+                .build());
+    assertThat(locations.stream().map(l -> l.id().toIdString()))
+        .containsExactly("vha_691GB", "vha_740GA", "vha_757");
+    FacilityEntity entity = repo.findById(locations.get(2).id()).get();
+    assertThat(locations.get(2).latitude()).isEqualTo(entity.latitude());
+    assertThat(locations.get(2).longitude()).isEqualTo(entity.longitude());
+    assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    assertThat(statistics.getEntityLoadCount()).isEqualTo(1);
+    assertThat(statistics.getCollectionLoadCount()).isZero();
+  }
+
+  @Test
+  void searchByBoundingBoxLoadsOnlyThePage() {
+    assertThat(
+            ids(
+                controller()
+                    .jsonFacilitiesByBoundingBox(
+                        List.of(
+                            new BigDecimal("-80"),
+                            new BigDecimal("20"),
+                            new BigDecimal("-120"),
+                            new BigDecimal("40")),
+                        "HEALTH",
+                        List.of("urology"),
+                        false,
+                        1,
+                        10)))
+        .contains("vha_757");
+    assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    assertThat(statistics.getCollectionLoadCount()).isZero();
+  }
+
+  @Test
+  void searchByLatLongLoadsOnlyThePage() {
+    assertThat(
+            ids(
+                controller()
+                    .jsonFacilitiesByLatLong(
+                        new BigDecimal("28.112464"),
+                        new BigDecimal("-80.7015994"),
+                        null,
+                        null,
+                        "HEALTH",
+                        List.of("primarycare"),
+                        false,
+                        1,
+                        10)))
+        .containsExactly("vha_757", "vha_740GA", "vha_691GB");
+    assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    assertThat(statistics.getEntityLoadCount()).isEqualTo(3);
+    assertThat(statistics.getCollectionLoadCount()).isZero();
+    statistics.clear();
+    assertThat(
+            ids(
+                controller()
+                    .jsonFacilitiesByLatLong(
+                        new BigDecimal("28.112464"),
+                        new BigDecimal("-80.7015994"),
+                        null,
+                        null,
+                        "HEALTH",
+                        List.of("primarycare"),
+                        false,
+                        2,
+                        1)))
+        .containsExactly("vha_740GA");
+    assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    assertThat(statistics.getEntityLoadCount()).isEqualTo(1);
+  }
+
+  @Test
+  void searchByVisnLoadsOnlyThePage() {
+    assertThat(ids(controller().jsonFacilitiesByVisn("10", 1, 10))).containsExactly("vha_757");
+    assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    assertThat(statistics.getEntityLoadCount()).isEqualTo(1);
+    assertThat(statistics.getCollectionLoadCount()).isZero();
+    statistics.clear();
+    assertThat(ids(controller().jsonFacilitiesByVisn("10", 1, 0))).isEmpty();
+    assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    assertThat(statistics.getEntityLoadCount()).isZero();
+  }
+
+  @BeforeEach
+  void setup() {
+    FacilitySamples samples = FacilitySamples.defaultSamples(buildLinkerUrlV1("http://foo/", "bp"));
+    repo.save(samples.facilityEntity("vha_691GB"));
+    repo.save(samples.facilityEntity("vha_740GA"));
+    repo.save(samples.facilityEntity("vha_757"));
+    testEntityManager.flush();
+    testEntityManager.clear();
+    statistics =
+        testEntityManager
+            .getEntityManager()
+            .getEntityManagerFactory()
+            .unwrap(SessionFactory.class)
+            .getStatistics();
+    statistics.setStatisticsEnabled(true);
+    statistics.clear();
+  }
+}
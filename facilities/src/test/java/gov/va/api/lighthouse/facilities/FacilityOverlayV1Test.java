@@ -32,6 +32,28 @@ public class FacilityOverlayV1Test {
 
   private String linkerUrl;
 
+  /**
+   * Reading a facility without its detailed services must produce the same facility, and the same
+   * JSON, as transforming the whole payload and dropping them afterwards.
+   */
+  @SneakyThrows
+  static void assertDetailedServicesSkipped(
+      @NonNull DatamartFacility datamartFacility, @NonNull String linkerUrl) {
+    FacilityEntity entity =
+        FacilityEntity.builder()
+            .facility(DATAMART_MAPPER.writeValueAsString(datamartFacility))
+            .build();
+    Facility expected =
+        FacilityTransformerV1.toFacility(
+            FacilityOverlayHelper.filterOutInvalidDetailedServices(
+                DATAMART_MAPPER.readValue(entity.facility(), DatamartFacility.class)),
+            linkerUrl);
+    Facility actual = FacilityOverlayV1.builder().build().apply(entity, linkerUrl);
+    assertThat(actual).usingRecursiveComparison().isEqualTo(expected);
+    assertThat(MAPPER_V1.writeValueAsString(actual))
+        .isEqualTo(MAPPER_V1.writeValueAsString(expected));
+  }
+
   private void assertAttributes(
       List<Facility.Service<Facility.HealthService>> expectedHealthServices,
       @NonNull FacilityEntity entity,
@@ -139,6 +161,20 @@ public class FacilityOverlayV1Test {
         .build();
   }
 
+  @Test
+  @SneakyThrows
+  void detailedServicesAreSkippedWithoutChangingFacility() {
+    for (String resource : List.of("/vha_691GB.json", "/vha_740GA.json", "/vha_757.json")) {
+      DatamartFacility datamartFacility =
+          DATAMART_MAPPER.readValue(
+              getClass().getResourceAsStream(resource), DatamartFacility.class);
+      datamartFacility
+          .attributes()
+          .detailedServices(DatamartDetailedServicesTestUtils.datamartDetailedServices(true));
+      assertDetailedServicesSkipped(datamartFacility, linkerUrl);
+    }
+  }
+
   @SneakyThrows
   private FacilityEntity entity(Facility facility, CmsOverlay overlay) {
     Set<String> detailedServices = null;
@@ -0,0 +1,45 @@
+package gov.va.api.lighthouse.facilities;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.Test;
+
+public class FacilityPayloadCodecTest {
+  @Test
+  @SneakyThrows
+  void encodedPayloadIsSmallerAndRoundTrips() {
+    String json = new String(getClass().getResourceAsStream("/vha_691GB.json").readAllBytes());
+    String stored = FacilityPayloadCodec.encode(json);
+    assertThat(stored).startsWith(FacilityPayloadCodec.DEFLATE_V1);
+    assertThat(stored.length()).isLessThan(json.length() / 2);
+    assertThat(FacilityPayloadCodec.decode(stored)).isEqualTo(json);
+    assertThat(FacilityPayloadCodec.encode(stored)).isEqualTo(stored);
+  }
+
+  @Test
+  void legacyJsonIsReadAsIs() {
+    var codec = FacilityPayloadCodec.builder().writeCompressed(true).build();
+    assertThat(codec.convertToEntityAttribute("{\"id\":\"vha_402\"}"))
+        .isEqualTo("{\"id\":\"vha_402\"}");
+    assertThat(codec.convertToEntityAttribute(null)).isNull();
+    assertThat(codec.convertToDatabaseColumn(null)).isNull();
+  }
+
+  @Test
+  void legacyJsonIsWrittenUntilEnabled() {
+    String json = "{\"id\":\"vha_402\"}";
+    var reader = FacilityPayloadCodec.builder().build();
+    assertThat(reader.convertToDatabaseColumn(json)).isEqualTo(json);
+    var writer = FacilityPayloadCodec.builder().writeCompressed(true).build();
+    String stored = writer.convertToDatabaseColumn(json);
+    assertThat(stored).startsWith(FacilityPayloadCodec.DEFLATE_V1);
+    assertThat(reader.convertToEntityAttribute(stored)).isEqualTo(json);
+  }
+
+  @Test
+  void unicodeRoundTrips() {
+    String json = "{\"name\":\"Bayamón VA Clinic – Área\"}";
+    assertThat(FacilityPayloadCodec.decode(FacilityPayloadCodec.encode(json))).isEqualTo(json);
+  }
+}
@@ -0,0 +1,71 @@
+package gov.va.api.lighthouse.facilities;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.sql.Clob;
+import java.time.Instant;
+import javax.persistence.EntityManager;
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+
+@DataJpaTest(properties = "facility-payload.write-compressed=true")
+public class FacilityPayloadMigrationTest {
+  private static final String JSON = "{\"id\":\"vha_402\",\"attributes\":{\"name\":\"Togus\"}}";
+
+  @Autowired FacilityRepository repository;
+
+  @Autowired EntityManager entityManager;
+
+  @Test
+  void legacyRowsAreReadableAndRewritten() {
+    repository.save(
+        FacilityEntity.builder()
+            .id(FacilityEntity.Pk.of(FacilityEntity.Type.vha, "402"))
+            .facility(JSON)
+            .cmsServices("[]")
+            .lastUpdated(Instant.parse("2021-01-01T00:00:00Z"))
+            .build());
+    entityManager.flush();
+    assertThat(stored("facility")).startsWith(FacilityPayloadCodec.DEFLATE_V1);
+    entityManager
+        .createNativeQuery(
+            "update app.facility set facility = '" + JSON + "', cms_services = '[]'")
+        .executeUpdate();
+    entityManager.clear();
+    assertThat(repository.findById(FacilityEntity.Pk.of(FacilityEntity.Type.vha, "402")))
+        .get()
+        .extracting(FacilityEntity::facility)
+        .isEqualTo(JSON);
+    var disabled = FacilityPayloadMigration.builder().facilityRepository(repository).build();
+    assertThat(disabled.migrateBatch()).isZero();
+    var migration =
+        FacilityPayloadMigration.builder().facilityRepository(repository).enabled(true).build();
+    assertThat(migration.migrateBatch()).isEqualTo(1);
+    entityManager.clear();
+    assertThat(stored("facility")).startsWith(FacilityPayloadCodec.DEFLATE_V1);
+    assertThat(stored("cms_services")).startsWith(FacilityPayloadCodec.DEFLATE_V1);
+    assertThat(stored("cms_operating_status")).isNull();
+    FacilityEntity entity =
+        repository.findById(FacilityEntity.Pk.of(FacilityEntity.Type.vha, "402")).get();
+    assertThat(entity.facility()).isEqualTo(JSON);
+    assertThat(entity.cmsServices()).isEqualTo("[]");
+    assertThat(entity.version()).isZero();
+    assertThat(entity.lastUpdated()).isEqualTo(Instant.parse("2021-01-01T00:00:00Z"));
+    assertThat(migration.migrateBatch()).isZero();
+  }
+
+  @SneakyThrows
+  private String stored(String column) {
+    Object value =
+        entityManager
+            .createNativeQuery("select " + column + " from app.facility")
+            .getSingleResult();
+    if (value instanceof Clob) {
+      Clob clob = (Clob) value;
+      return clob.getSubString(1, (int) clob.length());
+    }
+    return (String) value;
+  }
+}
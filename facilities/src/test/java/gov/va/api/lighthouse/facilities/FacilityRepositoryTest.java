@@ -8,6 +8,7 @@ import java.util.List;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
 
 @DataJpaTest
 public class FacilityRepositoryTest {
@@ -34,6 +35,15 @@ public class FacilityRepositoryTest {
     assertThat(repository.findAllIds()).containsExactlyElementsOf(expected);
   }
 
+  @Test
+  void findIdsReadsOnePage() {
+    var now = Instant.now();
+    for (int i = 0; i < 5; i++) {
+      repository.save(facilityEntity("" + i, now));
+    }
+    assertThat(repository.findIds(PageRequest.of(0, 2))).hasSize(2);
+  }
+
   @Test
   void lastUpdated() {
     var aLongTimeAgo = Instant.parse("2020-01-20T02:20:00Z");
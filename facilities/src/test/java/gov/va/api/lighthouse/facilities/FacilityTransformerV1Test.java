@@ -193,6 +193,27 @@ public class FacilityTransformerV1Test extends BaseFacilityTransformerTest {
         .isEqualTo(datamartFacility);
   }
 
+  @Test
+  void detailedServicesAreSkippedWithoutChangingFacility() {
+    for (DatamartFacility datamartFacility :
+        List.of(
+            datamartFacility(),
+            datamartFacility(
+                emptyList(),
+                emptyList(),
+                emptyList(),
+                List.of(DatamartFacility.HealthService.Covid19Vaccine),
+                false),
+            datamartFacility(emptyList(), emptyList(), emptyList(), emptyList(), true),
+            DatamartFacility.builder()
+                .id(facilityId)
+                .type(DatamartFacility.Type.va_facilities)
+                .attributes(DatamartFacility.FacilityAttributes.builder().build())
+                .build())) {
+      FacilityOverlayV1Test.assertDetailedServicesSkipped(datamartFacility, linkerUrl);
+    }
+  }
+
   private Facility facility(@NonNull String linkerUrl, @NonNull String facilityId) {
     return facility(
         List.of(
@@ -0,0 +1,122 @@
+package gov.va.api.lighthouse.facilities;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import gov.va.api.lighthouse.facilities.NearbyUtils.Coordinates;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class GeocoderTest {
+  private static final Coordinates BING =
+      Coordinates.builder()
+          .latitude(new BigDecimal("28.1"))
+          .longitude(new BigDecimal("-80.6"))
+          .build();
+
+  private final Geocoder.Provider bing = mock(Geocoder.Provider.class);
+
+  @TempDir Path directory;
+
+  @SneakyThrows
+  private Geocoder geocoder() {
+    Path file = directory.resolve("zip-centroids.csv");
+    Files.writeString(
+        file,
+        String.join(
+            "\n",
+            "zip,latitude,longitude",
+            "32934,28.1336,-80.7104",
+            "32934-1234,28.1123,-80.6541"));
+    return Geocoder.builder()
+        .providers(List.of(ZipCentroidGeocoder.builder().file(file.toString()).build(), bing))
+        .maximumSize(10)
+        .ttlMinutes(5)
+        .build();
+  }
+
+  @Test
+  void addressesAreCachedByNormalizedForm() {
+    when(bing.geocode(any())).thenReturn(Optional.of(BING));
+    Geocoder geocoder = geocoder();
+    assertThat(geocoder.geocode("505 N. John Rodes Blvd", "Melbourne", "FL", "32934"))
+        .isEqualTo(BING);
+    assertThat(geocoder.geocode("505 n john  rodes blvd", "MELBOURNE ", "fl", " 32934"))
+        .isEqualTo(BING);
+    verify(bing, times(1)).geocode(any());
+  }
+
+  @Test
+  void failuresAreNotCached() {
+    when(bing.geocode(any()))
+        .thenThrow(new ExceptionsUtilsV0.BingException("slow"))
+        .thenReturn(Optional.of(BING));
+    Geocoder geocoder = geocoder();
+    assertThatExceptionOfType(ExceptionsUtilsV0.BingException.class)
+        .isThrownBy(() -> geocoder.geocode("1 Main St", "Nowhere", "KS", "66002"));
+    assertThat(geocoder.geocode("1 Main St", "Nowhere", "KS", "66002")).isEqualTo(BING);
+  }
+
+  @Test
+  void missingCentroidFileDisablesOfflineGeocoding() {
+    var address =
+        Geocoder.Address.builder().street("s").city("c").state("st").zip("32934-1234").build();
+    assertThat(ZipCentroidGeocoder.builder().file("").build().geocode(address)).isEmpty();
+    assertThat(
+            ZipCentroidGeocoder.builder()
+                .file(directory.resolve("missing.csv").toString())
+                .build()
+                .approximate(address))
+        .isEmpty();
+  }
+
+  @Test
+  void unavailableBingFallsBackToUncachedZipCentroid() {
+    when(bing.geocode(any()))
+        .thenThrow(new ExceptionsUtilsV0.BingException("slow"))
+        .thenReturn(Optional.of(BING));
+    Geocoder geocoder = geocoder();
+    assertThat(geocoder.geocode("505 N John Rodes Blvd", "Melbourne", "FL", "32934"))
+        .isEqualTo(
+            Coordinates.builder()
+                .latitude(new BigDecimal("28.1336"))
+                .longitude(new BigDecimal("-80.7104"))
+                .build());
+    assertThat(geocoder.geocode("505 N John Rodes Blvd", "Melbourne", "FL", "32934"))
+        .isEqualTo(BING);
+  }
+
+  @Test
+  void zipNormalization() {
+    var address =
+        Geocoder.Address.builder().street("s").city("c").state("st").zip("32934-1234").build();
+    assertThat(address.zip5()).contains("32934");
+    assertThat(address.zipPlus4()).contains("32934-1234");
+    assertThat(
+            Geocoder.Address.builder().street("s").city("c").state("st").zip("3293").build().zip5())
+        .isEmpty();
+  }
+
+  @Test
+  void zipPlus4IsAnsweredOffline() {
+    assertThat(geocoder().geocode("505 N John Rodes Blvd", "Melbourne", "FL", "329341234"))
+        .isEqualTo(
+            Coordinates.builder()
+                .latitude(new BigDecimal("28.1123"))
+                .longitude(new BigDecimal("-80.6541"))
+                .build());
+    verifyNoInteractions(bing);
+  }
+}
@@ -12,6 +12,7 @@ import static org.mockito.Mockito.when;
 import static org.springframework.web.context.request.RequestContextHolder.setRequestAttributes;
 
 import gov.va.api.lighthouse.facilities.collector.InsecureRestTemplateProvider;
+import gov.va.api.lighthouse.facilities.collector.UpstreamFeeds;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.sql.Timestamp;
@@ -76,6 +77,7 @@ public class HealthControllerTest {
     return new HealthController(
         repository,
         insecureRestTemplateProvider,
+        UpstreamFeeds.uncached(),
         jdbcTemplate,
         "http://atc",
         "http://atp",
@@ -296,6 +298,7 @@ public class HealthControllerTest {
         new HealthController(
             repository,
             insecureRestTemplateProvider,
+            UpstreamFeeds.uncached(),
             jdbcTemplate,
             "http://atc",
             "http://atp",
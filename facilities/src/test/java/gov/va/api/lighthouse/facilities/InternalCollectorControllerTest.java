@@ -6,6 +6,7 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
+import gov.va.api.lighthouse.facilities.collector.ReferenceData;
 import java.util.List;
 import java.util.Map;
 import lombok.SneakyThrows;
@@ -94,6 +95,16 @@ public class InternalCollectorControllerTest {
         () -> InternalCollectorController.builder().jdbc(mockTemplate).build().nca());
   }
 
+  @Test
+  void referenceData() {
+    ReferenceData.Snapshot current = ReferenceData.current();
+    assertThat(InternalCollectorController.builder().build().referenceData())
+        .containsEntry("version", Integer.toString(current.version()))
+        .containsEntry("checksum", current.checksum())
+        .containsEntry("source", current.source())
+        .containsKey("loaded");
+  }
+
   @Test
   @SneakyThrows
   void stopCodes() {
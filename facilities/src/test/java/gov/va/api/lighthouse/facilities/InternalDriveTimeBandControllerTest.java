@@ -3,9 +3,11 @@ package gov.va.api.lighthouse.facilities;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 import gov.va.api.lighthouse.facilities.api.pssg.BandResult;
+import gov.va.api.lighthouse.facilities.api.pssg.BandVersionActivationResponse;
 import gov.va.api.lighthouse.facilities.api.pssg.PathEncoder;
 import gov.va.api.lighthouse.facilities.api.pssg.PssgDriveTimeBand;
 import gov.va.api.lighthouse.facilities.api.pssg.PssgResponse;
@@ -18,22 +20,52 @@ import org.mockito.junit.jupiter.MockitoExtension;
 
 @ExtendWith(MockitoExtension.class)
 public class InternalDriveTimeBandControllerTest {
-  @Mock DriveTimeBandRepository repo;
+  @Mock StagedDriveTimeBandRepository stagedRepo;
+
+  @Mock DriveTimeBandVersions versions;
+
+  @Mock DriveTimeBandMetadata bandMetadata;
 
   InternalDriveTimeBandController controller() {
-    return InternalDriveTimeBandController.builder().repository(repo).build();
+    return InternalDriveTimeBandController.builder()
+        .stagedRepository(stagedRepo)
+        .versions(versions)
+        .bandMetadata(bandMetadata)
+        .resultCache(CoordinateResultCache.builder().build())
+        .build();
+  }
+
+  @Test
+  void activateVersion() {
+    var response =
+        BandVersionActivationResponse.builder()
+            .activatedVersion("APR2021")
+            .previousVersions(List.of("MAR2021"))
+            .bandsUpdated(3)
+            .build();
+    when(versions.activate("APR2021")).thenReturn(response);
+    assertThat(controller().activateVersion("APR2021")).isEqualTo(response);
+    verify(bandMetadata).refresh();
+  }
+
+  @Test
+  void discardVersion() {
+    when(versions.discard("APR2021")).thenReturn(3L);
+    assertThat(controller().discardVersion("APR2021").getStatusCodeValue()).isEqualTo(200);
+    when(versions.discard("MAY2021")).thenReturn(0L);
+    assertThat(controller().discardVersion("MAY2021").getStatusCodeValue()).isEqualTo(202);
   }
 
   @Test
   void findBandVersions() {
     var e = Entities.diamond("a-1-2", 100);
-    when(repo.findAllBandVersions()).thenReturn(List.of(e.monthYear()));
+    when(bandMetadata.bandVersions()).thenReturn(List.of(e.monthYear()));
     assertThat(controller().bandVersions()).containsExactly("MAR2021");
   }
 
   @Test
   void getAllBands() {
-    when(repo.findAllIds())
+    when(bandMetadata.ids())
         .thenReturn(
             List.of(
                 DriveTimeBandEntity.Pk.fromName("a-10-20"),
@@ -46,7 +78,7 @@ public class InternalDriveTimeBandControllerTest {
   @Test
   void getBandByNameReturnsKnownBand() {
     var e = Entities.diamond("a-1-2", 100);
-    when(repo.findById(e.id())).thenReturn(Optional.of(e));
+    when(versions.findById(e.id())).thenReturn(Optional.of(e));
     assertThat(controller().band("a-1-2"))
         .isEqualTo(
             BandResult.builder()
@@ -64,38 +96,57 @@ public class InternalDriveTimeBandControllerTest {
 
   @Test
   void getBandByNameThrowsExceptionForUnknownBand() {
-    when(repo.findById(DriveTimeBandEntity.Pk.fromName("a-1-2"))).thenReturn(Optional.empty());
+    when(versions.findById(DriveTimeBandEntity.Pk.fromName("a-1-2"))).thenReturn(Optional.empty());
     assertThatExceptionOfType(ExceptionsUtils.NotFound.class)
         .isThrownBy(() -> controller().band("a-1-2"));
   }
 
+  @Test
+  void stagedBandVersions() {
+    when(stagedRepo.findAllStagedVersions()).thenReturn(List.of("MAR2021", "APR2021"));
+    assertThat(controller().stagedBandVersions()).containsExactly("MAR2021", "APR2021");
+  }
+
   @Test
   void updateBandCreatesNewRecord() {
     // exists
-    var existingA12 = Entities.diamond("a-1-2", 900);
+    var existingA12 = StagedDriveTimeBandEntity.copyOf(Entities.diamond("a-1-2", 900));
     // exists
-    var existingA23 = Entities.diamond("a-2-3", 800);
+    var existingA23 = StagedDriveTimeBandEntity.copyOf(Entities.diamond("a-2-3", 800));
     // update
-    var a12 = Entities.diamond("a-1-2", 100);
+    var a12 = StagedDriveTimeBandEntity.copyOf(Entities.diamond("a-1-2", 100));
     // update
-    var a23 = Entities.diamond("a-2-3", 200);
+    var a23 = StagedDriveTimeBandEntity.copyOf(Entities.diamond("a-2-3", 200));
     // create
-    var a34 = Entities.diamond("a-3-4", 300);
-    when(repo.findById(a12.id())).thenReturn(Optional.of(existingA12));
-    when(repo.findById(a23.id())).thenReturn(Optional.of(existingA23));
-    when(repo.findById(a34.id())).thenReturn(Optional.empty());
-    controller()
-        .update(
-            PssgResponse.builder()
-                .features(
-                    List.of(
-                        Entities.diamondBand("a-1-2", 100),
-                        Entities.diamondBand("a-2-3", 200),
-                        Entities.diamondBand("a-3-4", 300)))
-                .build());
-    verify(repo).save(a12);
-    verify(repo).save(a23);
-    verify(repo).save(a34);
+    var a34 = StagedDriveTimeBandEntity.copyOf(Entities.diamond("a-3-4", 300));
+    when(stagedRepo.findById(a12.id())).thenReturn(Optional.of(existingA12));
+    when(stagedRepo.findById(a23.id())).thenReturn(Optional.of(existingA23));
+    when(stagedRepo.findById(a34.id())).thenReturn(Optional.empty());
+    var response =
+        controller()
+            .update(
+                PssgResponse.builder()
+                    .features(
+                        List.of(
+                            Entities.diamondBand("a-1-2", 100),
+                            Entities.diamondBand("a-2-3", 200),
+                            Entities.diamondBand("a-3-4", 300)))
+                    .build());
+    assertThat(response.bandsCreated()).containsExactly("a-3-4");
+    assertThat(response.bandsUpdated()).containsExactly("a-1-2", "a-2-3");
+    verify(stagedRepo).save(a12);
+    verify(stagedRepo).save(a23);
+    verify(stagedRepo).save(a34);
+    verifyNoInteractions(versions);
+  }
+
+  @Test
+  void updateBandRequiresMonthYear() {
+    var band = Entities.diamondBand("a-1-2", 100);
+    band.attributes().monthYear(null);
+    assertThatExceptionOfType(ExceptionsUtils.InvalidParameter.class)
+        .isThrownBy(
+            () -> controller().update(PssgResponse.builder().features(List.of(band)).build()));
   }
 
   static final class Entities {
@@ -15,10 +15,12 @@ import static java.util.Collections.emptyList;
 import static org.apache.commons.lang3.StringUtils.capitalize;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
 
 import com.google.common.collect.ImmutableList;
@@ -37,19 +39,24 @@ import gov.va.api.lighthouse.facilities.api.v0.Facility;
 import gov.va.api.lighthouse.facilities.api.v0.ReloadResponse;
 import gov.va.api.lighthouse.facilities.collector.CmsOverlayCollector;
 import gov.va.api.lighthouse.facilities.collector.FacilitiesCollector;
+import gov.va.api.lighthouse.facilities.collector.FacilitiesCollector.Source;
 import gov.va.api.lighthouse.facilities.collector.InsecureRestTemplateProvider;
+import gov.va.api.lighthouse.facilities.collector.UpstreamFeeds;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.math.BigDecimal;
 import java.time.Instant;
+import java.util.EnumSet;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.TimeUnit;
 import lombok.NonNull;
 import lombok.SneakyThrows;
 import org.assertj.core.api.recursive.comparison.RecursiveComparisonConfiguration;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -68,8 +75,14 @@ public class InternalFacilitiesControllerTest {
 
   @Autowired CmsOverlayRepository overlayRepository;
 
+  @Autowired FacilityChangeRepository facilityChangeRepository;
+
+  @Autowired ReloadLeaseRepository reloadLeaseRepository;
+
   FacilitiesCollector collector = mock(FacilitiesCollector.class);
 
+  ReloadLease reloadLease;
+
   CmsOverlayCollector mockCmsOverlayCollector = mock(CmsOverlayCollector.class);
 
   private static DatamartFacility _facility(
@@ -241,8 +254,16 @@ public class InternalFacilitiesControllerTest {
   private InternalFacilitiesController _controller() {
     return InternalFacilitiesController.builder()
         .collector(collector)
+        .facilityChanges(FacilityChanges.builder().repository(facilityChangeRepository).build())
+        .facilityFingerprints(
+            FacilityFingerprints.builder()
+                .facilityRepository(facilityRepository)
+                .reconcileAfterHours(24)
+                .build())
         .facilityRepository(facilityRepository)
         .cmsOverlayRepository(overlayRepository)
+        .reloadLease(_reloadLease())
+        .resultCache(CoordinateResultCache.builder().build())
         .build();
   }
 
@@ -251,6 +272,7 @@ public class InternalFacilitiesControllerTest {
         mock(InsecureRestTemplateProvider.class),
         mock(JdbcTemplate.class),
         mockCmsOverlayCollector,
+        UpstreamFeeds.uncached(),
         "atcBaseUrl",
         "atpBaseUrl",
         "cemeteriesBaseUrl");
@@ -317,6 +339,13 @@ public class InternalFacilitiesControllerTest {
         .build();
   }
 
+  private ReloadLease _reloadLease() {
+    if (reloadLease == null) {
+      reloadLease = ReloadLease.builder().repository(reloadLeaseRepository).node("test").build();
+    }
+    return reloadLease;
+  }
+
   @Test
   @SneakyThrows
   void collect_createUpdate() {
@@ -347,13 +376,13 @@ public class InternalFacilitiesControllerTest {
             9.1,
             List.of(gov.va.api.lighthouse.facilities.api.v0.Facility.HealthService.SpecialtyCare));
     facilityRepository.save(_facilityEntity(f2Old));
-    when(collector.collectFacilities()).thenReturn(datamartFacilities);
-    ReloadResponse response = _controller().reload().getBody();
+    when(collector.collectFacilities(EnumSet.allOf(Source.class))).thenReturn(datamartFacilities);
+    ReloadResponse response = _controller().reload(null, null, false).getBody();
     assertThat(response.facilitiesCreated()).isEqualTo(List.of("vha_f1"));
     assertThat(response.facilitiesUpdated()).isEqualTo(List.of("vha_f2"));
     RecursiveComparisonConfiguration comparisonConfig =
         RecursiveComparisonConfiguration.builder()
-            .withIgnoredFields("version", "lastUpdated")
+            .withIgnoredFields("version", "lastUpdated", "fingerprint")
             .build();
     assertThat(facilityRepository.findAll())
         .usingRecursiveFieldByFieldElementComparator(comparisonConfig)
@@ -433,6 +462,34 @@ public class InternalFacilitiesControllerTest {
         .isEqualTo(_overlay().healthCareSystem().healthConnectPhone());
   }
 
+  @Test
+  void collect_incrementalSkipsUnchanged() {
+    List<gov.va.api.lighthouse.facilities.api.v0.Facility.HealthService> health =
+        List.of(gov.va.api.lighthouse.facilities.api.v0.Facility.HealthService.PrimaryCare);
+    when(collector.collectFacilities(EnumSet.allOf(Source.class)))
+        .thenReturn(
+            List.of(
+                _facility("vha_f1", "FL", "South", 1.2, 3.4, health),
+                _facility("vha_f2", "FL", "South", 5.6, 6.7, health)));
+    ReloadResponse response = _controller().reload(null, null, true).getBody();
+    assertThat(response.facilitiesCreated()).containsExactlyInAnyOrder("vha_f1", "vha_f2");
+    assertThat(facilityRepository.findById(FacilityEntity.Pk.fromIdString("vha_f1")).get())
+        .extracting(FacilityEntity::fingerprint)
+        .isNotNull();
+    when(collector.collectFacilities(EnumSet.allOf(Source.class)))
+        .thenReturn(
+            List.of(
+                _facility("vha_f1", "FL", "South", 1.2, 3.4, health),
+                _facility("vha_f2", "NEAT", "32934", 5.6, 6.7, health)));
+    response = _controller().reload(null, null, true).getBody();
+    assertThat(response.facilitiesCreated()).isEmpty();
+    assertThat(response.facilitiesUpdated()).containsExactly("vha_f2");
+    assertThat(facilityRepository.findById(FacilityEntity.Pk.fromIdString("vha_f2")).get().state())
+        .isEqualTo("NEAT");
+    response = _controller().reload(null, null, false).getBody();
+    assertThat(response.facilitiesUpdated()).containsExactlyInAnyOrder("vha_f1", "vha_f2");
+  }
+
   @Test
   @SneakyThrows
   void collect_invalidLatLong() {
@@ -473,8 +530,8 @@ public class InternalFacilitiesControllerTest {
     f1.attributes().longitude(null);
     f1V1.attributes().latitude(null);
     f1V1.attributes().longitude(null);
-    when(collector.collectFacilities()).thenReturn(List.of(f1));
-    ReloadResponse response = _controller().reload().getBody();
+    when(collector.collectFacilities(EnumSet.allOf(Source.class))).thenReturn(List.of(f1));
+    ReloadResponse response = _controller().reload(null, null, false).getBody();
     assertThat(response.problems())
         .isEqualTo(List.of(ReloadResponse.Problem.of("vha_f1", "Missing coordinates")));
   }
@@ -527,8 +584,8 @@ public class InternalFacilitiesControllerTest {
     facilityRepository.save(_facilityEntity(f2Old));
     facilityRepository.save(_facilityEntity(f3Old));
     facilityRepository.save(_facilityEntity(f4Old));
-    when(collector.collectFacilities()).thenReturn(List.of(f1));
-    ReloadResponse response = _controller().reload().getBody();
+    when(collector.collectFacilities(EnumSet.allOf(Source.class))).thenReturn(List.of(f1));
+    ReloadResponse response = _controller().reload(null, null, false).getBody();
     assertThat(response.facilitiesUpdated()).isEqualTo(List.of("vha_f1"));
     assertThat(response.facilitiesMissing()).isEqualTo(List.of("vha_f2", "vha_f3", "vha_f4"));
     List<FacilityEntity> findAll = ImmutableList.copyOf(facilityRepository.findAll());
@@ -569,8 +626,8 @@ public class InternalFacilitiesControllerTest {
             9.1,
             List.of(gov.va.api.lighthouse.facilities.api.v0.Facility.HealthService.SpecialtyCare));
     facilityRepository.save(_facilityEntity(f1Old).missingTimestamp(Instant.now().toEpochMilli()));
-    when(collector.collectFacilities()).thenReturn(List.of(f1));
-    ReloadResponse response = _controller().reload().getBody();
+    when(collector.collectFacilities(EnumSet.allOf(Source.class))).thenReturn(List.of(f1));
+    ReloadResponse response = _controller().reload(null, null, false).getBody();
     assertThat(response.facilitiesUpdated()).isEqualTo(List.of("vha_f1"));
     FacilityEntity result = Iterables.getOnlyElement(facilityRepository.findAll());
     assertThat(result.missingTimestamp()).isNull();
@@ -585,6 +642,23 @@ public class InternalFacilitiesControllerTest {
                             .build())));
   }
 
+  @Test
+  void collect_missingScopedToSources() {
+    List<gov.va.api.lighthouse.facilities.api.v0.Facility.HealthService> health =
+        List.of(gov.va.api.lighthouse.facilities.api.v0.Facility.HealthService.SpecialtyCare);
+    DatamartFacility b1 = _facility("vba_b1", "FL", "South", 1.2, 3.4, health);
+    for (String id : List.of("vha_f1", "vba_b1", "vba_b2", "nca_s1", "nca_1")) {
+      facilityRepository.save(_facilityEntity(_facility(id, "NO", "666", 9.0, 9.1, health)));
+    }
+    when(collector.collectFacilities(EnumSet.of(Source.BENEFITS))).thenReturn(List.of(b1));
+    ReloadResponse response = _controller().reload(List.of("vba"), null, false).getBody();
+    assertThat(response.facilitiesUpdated()).isEqualTo(List.of("vba_b1"));
+    assertThat(response.facilitiesMissing()).isEqualTo(List.of("vba_b2"));
+    when(collector.collectFacilities(EnumSet.of(Source.STATE_CEMETERIES))).thenReturn(emptyList());
+    response = _controller().reload(List.of("nca"), List.of("state-cemeteries"), false).getBody();
+    assertThat(response.facilitiesMissing()).isEqualTo(List.of("nca_s1"));
+  }
+
   @Test
   @SneakyThrows
   void collect_missingTimestampPreserved() {
@@ -598,8 +672,8 @@ public class InternalFacilitiesControllerTest {
             List.of(gov.va.api.lighthouse.facilities.api.v0.Facility.HealthService.SpecialtyCare));
     long early = Instant.now().minusSeconds(60).toEpochMilli();
     facilityRepository.save(_facilityEntity(f1Old).missingTimestamp(early));
-    when(collector.collectFacilities()).thenReturn(emptyList());
-    ReloadResponse response = _controller().reload().getBody();
+    when(collector.collectFacilities(EnumSet.allOf(Source.class))).thenReturn(emptyList());
+    ReloadResponse response = _controller().reload(null, null, false).getBody();
     assertThat(response.facilitiesMissing()).isEqualTo(List.of("vha_f1"));
     FacilityEntity result = Iterables.getOnlyElement(facilityRepository.findAll());
     assertThat(result.missingTimestamp()).isEqualTo(early);
@@ -649,8 +723,8 @@ public class InternalFacilitiesControllerTest {
     f1V1.attributes().address().physical().zip(null);
     f1V1.attributes().latitude(BigDecimal.valueOf(91.4));
     f1V1.attributes().longitude(BigDecimal.valueOf(181.4));
-    when(collector.collectFacilities()).thenReturn(List.of(f1));
-    ReloadResponse response = _controller().reload().getBody();
+    when(collector.collectFacilities(EnumSet.allOf(Source.class))).thenReturn(List.of(f1));
+    ReloadResponse response = _controller().reload(null, null, false).getBody();
     assertThat(response.facilitiesCreated()).isEqualTo(List.of("vha_f1"));
     assertThat(response.problems())
         .isEqualTo(
@@ -683,8 +757,8 @@ public class InternalFacilitiesControllerTest {
     DatamartFacility f1V1 = _facilityV1("vha_f1", "FL", "32934", 91.4, 181.4, List.of());
     f1.attributes().facilityType(va_health_facility);
     f1V1.attributes().facilityType(FacilityType.va_health_facility);
-    when(collector.collectFacilities()).thenReturn(List.of(f1));
-    ReloadResponse responseHealth = _controller().reload().getBody();
+    when(collector.collectFacilities(EnumSet.allOf(Source.class))).thenReturn(List.of(f1));
+    ReloadResponse responseHealth = _controller().reload(null, null, false).getBody();
     assertThat(responseHealth.facilitiesCreated()).isEqualTo(List.of("vha_f1"));
     assertThat(responseHealth.problems())
         .contains(ReloadResponse.Problem.of("vha_f1", "Missing VISN"));
@@ -692,8 +766,8 @@ public class InternalFacilitiesControllerTest {
     DatamartFacility f2V1 = _facilityV1("vc_f1", "FL", "32934", 91.4, 181.4, List.of());
     f2.attributes().facilityType(vet_center);
     f2V1.attributes().facilityType(FacilityType.vet_center);
-    when(collector.collectFacilities()).thenReturn(List.of(f2));
-    ReloadResponse responseVetCenter = _controller().reload().getBody();
+    when(collector.collectFacilities(EnumSet.allOf(Source.class))).thenReturn(List.of(f2));
+    ReloadResponse responseVetCenter = _controller().reload(null, null, false).getBody();
     assertThat(responseVetCenter.facilitiesCreated()).isEqualTo(List.of("vc_f1"));
     assertThat(responseVetCenter.problems())
         .contains(ReloadResponse.Problem.of("vc_f1", "Missing VISN"));
@@ -755,6 +829,7 @@ public class InternalFacilitiesControllerTest {
             mock(InsecureRestTemplateProvider.class),
             mock(JdbcTemplate.class),
             mockCmsOverlayCollector,
+            UpstreamFeeds.uncached(),
             "atcBaseUrl",
             "atpBaseUrl",
             "cemeteriesBaseUrl");
@@ -850,6 +925,9 @@ public class InternalFacilitiesControllerTest {
     ResponseEntity<String> response = _controller().deleteFacilityById("vha_f1");
     assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
     assertThat(facilityRepository.findAll()).isEmpty();
+    assertThat(facilityChangeRepository.findAll())
+        .extracting(e -> e.facilityId().toIdString(), e -> e.deleted())
+        .containsExactly(tuple("vha_f1", true));
   }
 
   @Test
@@ -1083,6 +1161,13 @@ public class InternalFacilitiesControllerTest {
         .isEqualTo(List.of(cmsOverlayEntity));
   }
 
+  @AfterEach
+  void destroyReloadLease() {
+    if (reloadLease != null) {
+      reloadLease.destroy();
+    }
+  }
+
   @Test
   @SneakyThrows
   void duplicateFacility_invalidDuplicate() {
@@ -1361,7 +1446,10 @@ public class InternalFacilitiesControllerTest {
   @Test
   @SneakyThrows
   public void processException() {
-    final InternalFacilitiesController controller = InternalFacilitiesController.builder().build();
+    final InternalFacilitiesController controller =
+        InternalFacilitiesController.builder()
+            .resultCache(CoordinateResultCache.builder().build())
+            .build();
     Method processMethod =
         InternalFacilitiesController.class.getDeclaredMethod(
             "process", ReloadResponse.class, List.class);
@@ -1405,6 +1493,54 @@ public class InternalFacilitiesControllerTest {
                     "vha_123", "Failed to mark facility as missing: oh noes")));
   }
 
+  @Test
+  void reloadConflictsWithLeaseHeldElsewhere() {
+    ReloadLease elsewhere =
+        ReloadLease.builder().repository(reloadLeaseRepository).node("elsewhere").build();
+    ReloadLease.Held held = elsewhere.acquire();
+    assertThatThrownBy(() -> _controller().reload(null, null, false))
+        .isInstanceOf(ExceptionsUtils.ReloadInProgress.class)
+        .hasMessageStartingWith("Reload already running on elsewhere/");
+    assertThatThrownBy(() -> _controller().upload(emptyList()))
+        .isInstanceOf(ExceptionsUtils.ReloadInProgress.class);
+    verifyNoMoreInteractions(collector);
+    held.close();
+    elsewhere.destroy();
+  }
+
+  @Test
+  void reloadJob() {
+    when(collector.collectFacilities(EnumSet.allOf(Source.class))).thenReturn(emptyList());
+    ReloadJobs reloadJobs = ReloadJobs.builder().retained(2).build();
+    ReloadLease lease = mock(ReloadLease.class);
+    when(lease.acquire()).thenReturn(mock(ReloadLease.Held.class));
+    InternalFacilitiesController controller =
+        InternalFacilitiesController.builder()
+            .collector(collector)
+            .facilityRepository(mock(FacilityRepository.class))
+            .reloadJobs(reloadJobs)
+            .reloadLease(lease)
+            .resultCache(CoordinateResultCache.builder().build())
+            .build();
+    ResponseEntity<ReloadJob.Report> submitted = controller.reloadJobSubmit(null, null, false);
+    assertThat(submitted.getStatusCode()).isEqualTo(HttpStatus.ACCEPTED);
+    String id = submitted.getBody().id();
+    assertThat(reloadJobs.find(id).get().await(10, TimeUnit.SECONDS)).isTrue();
+    ReloadJob.Report report = controller.reloadJobStatus(id);
+    assertThat(report.status()).isEqualTo(ReloadJob.Status.COMPLETED);
+    assertThat(report.phase()).isEqualTo(ReloadJob.Phase.MARKING_MISSING);
+    assertThat(report.collected()).isZero();
+    assertThat(report.response().timing().complete()).isNotNull();
+    assertThat(controller.reloadJobs()).extracting(ReloadJob.Report::id).containsExactly(id);
+    assertThat(controller.reloadJobCancel(id).getBody().status())
+        .isEqualTo(ReloadJob.Status.COMPLETED);
+    assertThatThrownBy(() -> controller.reloadJobStatus("nope"))
+        .isInstanceOf(ExceptionsUtils.NotFound.class);
+    assertThatThrownBy(() -> controller.reloadJobCancel("nope"))
+        .isInstanceOf(ExceptionsUtils.NotFound.class);
+    reloadJobs.destroy();
+  }
+
   @Test
   void servicesOf() {
     assertThat(
@@ -1493,6 +1629,25 @@ public class InternalFacilitiesControllerTest {
                 .build());
   }
 
+  @Test
+  void sourcesOf() {
+    assertThat(InternalFacilitiesController.sourcesOf(null, emptyList()))
+        .isEqualTo(EnumSet.allOf(Source.class));
+    assertThat(InternalFacilitiesController.sourcesOf(List.of("vba", "NCA"), null))
+        .isEqualTo(EnumSet.of(Source.BENEFITS, Source.CEMETERIES, Source.STATE_CEMETERIES));
+    assertThat(
+            InternalFacilitiesController.sourcesOf(
+                List.of("vha"), List.of("health", "vet_centers")))
+        .isEqualTo(EnumSet.of(Source.HEALTH));
+    assertThatThrownBy(() -> InternalFacilitiesController.sourcesOf(List.of("nope"), null))
+        .isInstanceOf(ExceptionsUtils.InvalidParameter.class);
+    assertThatThrownBy(() -> InternalFacilitiesController.sourcesOf(null, List.of("nope")))
+        .isInstanceOf(ExceptionsUtils.InvalidParameter.class);
+    assertThatThrownBy(
+            () -> InternalFacilitiesController.sourcesOf(List.of("vc"), List.of("benefits")))
+        .isInstanceOf(ExceptionsUtils.InvalidParameter.class);
+  }
+
   @Test
   void stateOf() {
     // No address
@@ -1781,7 +1936,7 @@ public class InternalFacilitiesControllerTest {
     _controller().upload(collectedFacilities);
     RecursiveComparisonConfiguration comparisonConfig =
         RecursiveComparisonConfiguration.builder()
-            .withIgnoredFields("version", "lastUpdated")
+            .withIgnoredFields("version", "lastUpdated", "fingerprint")
             .build();
     assertThat(facilityRepository.findAll())
         .usingRecursiveFieldByFieldElementComparator(comparisonConfig)
@@ -0,0 +1,34 @@
+package gov.va.api.lighthouse.facilities;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+
+@DataJpaTest
+public class JacksonCodecWarmupTest {
+  @Autowired FacilityRepository repository;
+
+  @Test
+  void everyCodecIsWarmedAndTimed() {
+    repository.save(FacilitySamples.defaultSamples("http://foo/").facilityEntity("vha_691GB"));
+    var warmup = JacksonCodecWarmup.builder().facilityRepository(repository).sampleSize(5).build();
+    SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    warmup.bindTo(registry);
+    assertThat(warmup.warmUp())
+        .containsOnlyKeys(
+            "datamart." + DatamartFacility.class.getName(),
+            "v0." + gov.va.api.lighthouse.facilities.api.v0.FacilityReadResponse.class.getName(),
+            "v0." + gov.va.api.lighthouse.facilities.api.v0.GeoFacilityReadResponse.class.getName(),
+            "v1." + gov.va.api.lighthouse.facilities.api.v1.FacilityReadResponse.class.getName());
+    assertThat(registry.get("jackson.codec.warmup").timers()).hasSize(4);
+  }
+
+  @Test
+  void nothingStoredIsNothingWarmed() {
+    var warmup = JacksonCodecWarmup.builder().facilityRepository(repository).sampleSize(5).build();
+    assertThat(warmup.warmUp()).isEmpty();
+  }
+}
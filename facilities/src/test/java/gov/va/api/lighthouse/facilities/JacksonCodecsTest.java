@@ -0,0 +1,46 @@
+package gov.va.api.lighthouse.facilities;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import gov.va.api.lighthouse.facilities.api.v0.FacilitiesIdsResponse;
+import java.util.List;
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.Test;
+
+public class JacksonCodecsTest {
+  @Test
+  void mappersAreSharedWithSpring() {
+    assertThat(new FacilitiesJacksonConfigV0().objectMapper())
+        .isSameAs(JacksonCodecs.mapper(JacksonCodecs.Flavor.V0));
+    assertThat(new FacilitiesJacksonConfigV1().objectMapperV1())
+        .isSameAs(JacksonCodecs.mapper(JacksonCodecs.Flavor.V1));
+    assertThat(new DatamartFacilitiesJacksonConfig().datamartMapper())
+        .isSameAs(JacksonCodecs.mapper(JacksonCodecs.Flavor.DATAMART));
+    assertThat(FacilitiesJacksonConfigV0.createMapper())
+        .isNotSameAs(JacksonCodecs.mapper(JacksonCodecs.Flavor.V0));
+  }
+
+  @Test
+  void readersAndWritersAreBuiltOncePerFlavorAndType() {
+    assertThat(JacksonCodecs.reader(JacksonCodecs.Flavor.V0, FacilitiesIdsResponse.class))
+        .isSameAs(JacksonCodecs.reader(JacksonCodecs.Flavor.V0, FacilitiesIdsResponse.class))
+        .isNotSameAs(JacksonCodecs.reader(JacksonCodecs.Flavor.PLAIN, FacilitiesIdsResponse.class));
+    assertThat(JacksonCodecs.writer(JacksonCodecs.Flavor.V0, FacilitiesIdsResponse.class))
+        .isSameAs(JacksonCodecs.writer(JacksonCodecs.Flavor.V0, FacilitiesIdsResponse.class));
+  }
+
+  @Test
+  @SneakyThrows
+  void roundTrip() {
+    var value = FacilitiesIdsResponse.builder().data(List.of("vha_402", "vba_306")).build();
+    String json =
+        JacksonCodecs.writer(JacksonCodecs.Flavor.V0, FacilitiesIdsResponse.class)
+            .writeValueAsString(value);
+    assertThat(json).isEqualTo(FacilitiesJacksonConfigV0.createMapper().writeValueAsString(value));
+    assertThat(
+            (FacilitiesIdsResponse)
+                JacksonCodecs.reader(JacksonCodecs.Flavor.V0, FacilitiesIdsResponse.class)
+                    .readValue(json))
+        .isEqualTo(value);
+  }
+}
@@ -43,6 +43,10 @@ public class NearbyTest {
 
   @Autowired DriveTimeBandRepository driveTimeBandRepository;
 
+  @Autowired StagedDriveTimeBandRepository stagedDriveTimeBandRepository;
+
+  @Autowired DriveTimeBandVersionRepository driveTimeBandVersionRepository;
+
   @Mock RestTemplate restTemplate = mock(RestTemplate.class);
 
   private NearbyControllerV0 _controller() {
@@ -50,10 +54,34 @@ public class NearbyTest {
     when(restTemplateProvider.restTemplate()).thenReturn(restTemplate);
     return NearbyControllerV0.builder()
         .facilityRepository(facilityRepository)
-        .driveTimeBandRepository(driveTimeBandRepository)
-        .restTemplateProvider(restTemplateProvider)
-        .bingKey("bingKey")
-        .bingUrl("http://bing")
+        .bandVersions(
+            DriveTimeBandVersions.builder()
+                .liveRepository(driveTimeBandRepository)
+                .stagedRepository(stagedDriveTimeBandRepository)
+                .versionRepository(driveTimeBandVersionRepository)
+                .build())
+        .bandMetadata(
+            DriveTimeBandMetadata.builder()
+                .repository(driveTimeBandRepository)
+                .stagedRepository(stagedDriveTimeBandRepository)
+                .versionRepository(driveTimeBandVersionRepository)
+                .resultCache(CoordinateResultCache.builder().build())
+                .build())
+        .resultCache(CoordinateResultCache.builder().build())
+        .intersectionExecutor(
+            RequestExecutor.builder().name("intersections").threads(2).queueCapacity(4).build())
+        .geocoder(
+            Geocoder.builder()
+                .providers(
+                    List.of(
+                        BingGeocoder.builder()
+                            .restTemplateProvider(restTemplateProvider)
+                            .bingKey("bingKey")
+                            .bingUrl("http://bing")
+                            .build()))
+                .maximumSize(100)
+                .ttlMinutes(5)
+                .build())
         .build();
   }
 
@@ -42,6 +42,10 @@ public class NearbyV1Test {
 
   @Autowired DriveTimeBandRepository driveTimeBandRepository;
 
+  @Autowired StagedDriveTimeBandRepository stagedDriveTimeBandRepository;
+
+  @Autowired DriveTimeBandVersionRepository driveTimeBandVersionRepository;
+
   @Mock RestTemplate restTemplate = mock(RestTemplate.class);
 
   private String baseUrl;
@@ -55,7 +59,22 @@ public class NearbyV1Test {
     when(restTemplateProvider.restTemplate()).thenReturn(restTemplate);
     return NearbyControllerV1.builder()
         .facilityRepository(facilityRepository)
-        .driveTimeBandRepository(driveTimeBandRepository)
+        .bandVersions(
+            DriveTimeBandVersions.builder()
+                .liveRepository(driveTimeBandRepository)
+                .stagedRepository(stagedDriveTimeBandRepository)
+                .versionRepository(driveTimeBandVersionRepository)
+                .build())
+        .bandMetadata(
+            DriveTimeBandMetadata.builder()
+                .repository(driveTimeBandRepository)
+                .stagedRepository(stagedDriveTimeBandRepository)
+                .versionRepository(driveTimeBandVersionRepository)
+                .resultCache(CoordinateResultCache.builder().build())
+                .build())
+        .resultCache(CoordinateResultCache.builder().build())
+        .intersectionExecutor(
+            RequestExecutor.builder().name("intersections").threads(2).queueCapacity(4).build())
         .build();
   }
 
@@ -0,0 +1,189 @@
+package gov.va.api.lighthouse.facilities;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+
+import java.util.List;
+import java.util.Optional;
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+@DataJpaTest
+public class OverlayEventsTest {
+  @Autowired OverlayEventRepository repository;
+
+  private OverlayEvents events;
+
+  private static FacilityEntity facility(String id, String visn) {
+    return FacilityEntity.builder().id(FacilityEntity.Pk.fromIdString(id)).visn(visn).build();
+  }
+
+  private static DatamartCmsOverlay overlay(
+      DatamartFacility.OperatingStatusCode code, boolean active) {
+    DatamartFacility.HealthService covid = DatamartFacility.HealthService.Covid19Vaccine;
+    return DatamartCmsOverlay.builder()
+        .operatingStatus(
+            DatamartFacility.OperatingStatus.builder()
+                .code(code)
+                .additionalInfo(code.name())
+                .build())
+        .detailedServices(
+            List.of(
+                DatamartDetailedService.builder()
+                    .serviceInfo(
+                        DatamartDetailedService.ServiceInfo.builder()
+                            .serviceId(covid.serviceId())
+                            .serviceType(covid.serviceType())
+                            .build())
+                    .active(active)
+                    .appointmentLeadIn("Call us")
+                    .build()))
+        .build();
+  }
+
+  private static OverlayEvents.Previous saved(DatamartCmsOverlay overlay) {
+    return OverlayEvents.Previous.of(
+        Optional.of(
+            CmsOverlayEntity.builder()
+                .cmsOperatingStatus(
+                    CmsOverlayHelper.serializeOperatingStatus(overlay.operatingStatus()))
+                .cmsServices(CmsOverlayHelper.serializeDetailedServices(overlay.detailedServices()))
+                .build()));
+  }
+
+  @AfterEach
+  void destroy() {
+    if (events != null) {
+      events.destroy();
+    }
+  }
+
+  private OverlayEvents events(long settleMillis) {
+    events = OverlayEvents.builder().repository(repository).settleMillis(settleMillis).build();
+    return events;
+  }
+
+  @Test
+  @SneakyThrows
+  void liveEventsReachMatchingSubscribers() {
+    OverlayEvents events = events(0);
+    events.dispatch();
+    MockHttpServletResponse hers = stream(get("/v1/facilities/events").param("ids", "vha_402"));
+    MockHttpServletResponse others = stream(get("/v1/facilities/events").param("visn", "99"));
+    assertThat(events.subscribers()).isEqualTo(2);
+    events.overlaySaved(
+        facility("vha_402", "21"),
+        OverlayEvents.Previous.of(Optional.empty()),
+        overlay(DatamartFacility.OperatingStatusCode.CLOSED, true));
+    events.dispatch();
+    long deadline = System.currentTimeMillis() + 5000;
+    while (!hers.getContentAsString().contains("event:detailed-services")
+        && System.currentTimeMillis() < deadline) {
+      Thread.sleep(10);
+    }
+    assertThat(hers.getContentAsString())
+        .contains("event:operating-status")
+        .contains("\"CLOSED\"")
+        .contains("event:detailed-services");
+    assertThat(others.getContentAsString()).doesNotContain("event:");
+  }
+
+  @Test
+  void overlaySavedRecordsOnlyChanges() {
+    OverlayEvents events = events(0);
+    DatamartCmsOverlay limited = overlay(DatamartFacility.OperatingStatusCode.LIMITED, true);
+    events.overlaySaved(
+        facility("vha_402", "21"), OverlayEvents.Previous.of(Optional.empty()), limited);
+    assertThat(repository.findAll())
+        .extracting(OverlayEventEntity::event)
+        .containsExactly(OverlayEvents.OPERATING_STATUS, OverlayEvents.DETAILED_SERVICES);
+    repository.deleteAll();
+    events.overlaySaved(facility("vha_402", "21"), saved(limited), limited);
+    assertThat(repository.findAll()).isEmpty();
+    events.overlaySaved(
+        facility("vha_402", "21"),
+        saved(limited),
+        overlay(DatamartFacility.OperatingStatusCode.LIMITED, false));
+    assertThat(repository.findAll())
+        .extracting(OverlayEventEntity::event, OverlayEventEntity::visn)
+        .containsExactly(tuple("detailed-services", "21"));
+    assertThat(repository.findAll().iterator().next().payload())
+        .isEqualTo("{\"id\":\"vha_402\",\"removedServices\":[\"covid19Vaccine\"]}");
+  }
+
+  @Test
+  @SneakyThrows
+  void reconnectReplaysMissedEvents() {
+    OverlayEvents events = events(0);
+    events.overlaySaved(
+        facility("vha_402", "21"),
+        OverlayEvents.Previous.of(Optional.empty()),
+        overlay(DatamartFacility.OperatingStatusCode.CLOSED, true));
+    events.overlaySaved(
+        facility("vha_666", "22"),
+        OverlayEvents.Previous.of(Optional.empty()),
+        overlay(DatamartFacility.OperatingStatusCode.NOTICE, true));
+    long since = repository.findFirstId() - 1;
+    String replayed =
+        stream(
+                get("/v1/facilities/events")
+                    .header("Last-Event-ID", Long.toString(since))
+                    .param("visn", "22"))
+            .getContentAsString();
+    assertThat(replayed).contains("vha_666").doesNotContain("vha_402");
+    assertThat(replayed).contains("id:" + repository.findLastId());
+    String reset =
+        stream(get("/v1/facilities/events").header("Last-Event-ID", "nope")).getContentAsString();
+    assertThat(reset).contains("event:reset").doesNotContain("vha_");
+  }
+
+  @SneakyThrows
+  private MockHttpServletResponse stream(MockHttpServletRequestBuilder requestBuilder) {
+    MockMvc mvc =
+        MockMvcBuilders.standaloneSetup(
+                FacilitiesControllerV1.builder()
+                    .overlayEvents(events)
+                    .baseUrl("http://foo/")
+                    .basePath("bp")
+                    .build())
+            .build();
+    return mvc.perform(requestBuilder)
+        .andExpect(request().asyncStarted())
+        .andReturn()
+        .getResponse();
+  }
+
+  @Test
+  @SneakyThrows
+  void unsettledEventsAreHeldBack() {
+    OverlayEvents events = events(60000);
+    events.dispatch();
+    MockHttpServletResponse live = stream(get("/v1/facilities/events"));
+    events.overlaySaved(
+        facility("vha_402", "21"),
+        OverlayEvents.Previous.of(Optional.empty()),
+        overlay(DatamartFacility.OperatingStatusCode.CLOSED, true));
+    events.dispatch();
+    long since = repository.findFirstId() - 1;
+    String replayed =
+        stream(get("/v1/facilities/events").header("Last-Event-ID", Long.toString(since)))
+            .getContentAsString();
+    assertThat(replayed).doesNotContain("vha_402");
+    assertThat(live.getContentAsString()).doesNotContain("event:");
+    events.destroy();
+    events(0);
+    assertThat(
+            stream(get("/v1/facilities/events").header("Last-Event-ID", Long.toString(since)))
+                .getContentAsString())
+        .contains("vha_402");
+  }
+}
@@ -0,0 +1,136 @@
+package gov.va.api.lighthouse.facilities;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import gov.va.api.lighthouse.facilities.api.v0.ReloadResponse;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+public class ReloadJobsTest {
+  private final ReloadJobs jobs = ReloadJobs.builder().retained(2).build();
+
+  @SneakyThrows
+  private static void awaitQuietly(CountDownLatch latch) {
+    latch.await(10, TimeUnit.SECONDS);
+  }
+
+  @Test
+  void cancelForReasonIsReportedAsError() {
+    ReloadJob job =
+        jobs.submit(
+            j -> {
+              j.cancel("reload lease lost");
+              j.checkNotCancelled();
+            });
+    assertThat(job.await(10, TimeUnit.SECONDS)).isTrue();
+    assertThat(job.report().status()).isEqualTo(ReloadJob.Status.CANCELLED);
+    assertThat(job.report().error()).isEqualTo("reload lease lost");
+  }
+
+  @Test
+  @SneakyThrows
+  void cancelStopsRunningJob() {
+    CountDownLatch running = new CountDownLatch(1);
+    ReloadJob job =
+        jobs.submit(
+            j -> {
+              j.phase(ReloadJob.Phase.UPDATING);
+              running.countDown();
+              while (true) {
+                j.checkNotCancelled();
+                j.processed();
+                Thread.onSpinWait();
+              }
+            });
+    assertThat(running.await(10, TimeUnit.SECONDS)).isTrue();
+    assertThat(jobs.cancel(job.id())).containsSame(job);
+    assertThat(job.await(10, TimeUnit.SECONDS)).isTrue();
+    ReloadJob.Report report = job.report();
+    assertThat(report.status()).isEqualTo(ReloadJob.Status.CANCELLED);
+    assertThat(report.phase()).isEqualTo(ReloadJob.Phase.UPDATING);
+    assertThat(report.processed()).isPositive();
+    assertThat(report.cancelRequested()).isFalse();
+    assertThat(jobs.cancel("nope")).isEmpty();
+  }
+
+  @Test
+  void completedJobReportsProgress() {
+    ReloadJob job =
+        jobs.submit(
+            j -> {
+              j.phase(ReloadJob.Phase.COLLECTING);
+              j.response().totalFacilities(3);
+              j.phase(ReloadJob.Phase.UPDATING);
+              j.response().facilitiesCreated().add("vha_1");
+              j.response().facilitiesUpdated().add("vha_2");
+              j.response().problems().add(ReloadResponse.Problem.of("vha_3", "Missing VISN"));
+              j.processed();
+              j.processed();
+              j.processed();
+              j.phase(ReloadJob.Phase.MARKING_MISSING);
+              j.response().facilitiesMissing().add("vha_4");
+            });
+    assertThat(job.await(10, TimeUnit.SECONDS)).isTrue();
+    ReloadJob.Report report = job.report();
+    assertThat(report.id()).isEqualTo(job.id());
+    assertThat(report.status()).isEqualTo(ReloadJob.Status.COMPLETED);
+    assertThat(report.phase()).isEqualTo(ReloadJob.Phase.MARKING_MISSING);
+    assertThat(report.collected()).isEqualTo(3);
+    assertThat(report.processed()).isEqualTo(3);
+    assertThat(report.created()).isEqualTo(1);
+    assertThat(report.updated()).isEqualTo(1);
+    assertThat(report.missing()).isEqualTo(1);
+    assertThat(report.problems()).isEqualTo(1);
+    assertThat(report.rowsPerSecond()).isNotNegative();
+    assertThat(report.started()).isNotNull();
+    assertThat(report.finished()).isAfterOrEqualTo(report.started());
+    assertThat(report.response()).isSameAs(job.response());
+    assertThat(jobs.find(job.id())).containsSame(job);
+  }
+
+  @AfterEach
+  void destroy() {
+    jobs.destroy();
+  }
+
+  @Test
+  void failedJobReportsError() {
+    ReloadJob job =
+        jobs.submit(
+            j -> {
+              throw new IllegalStateException("oh noes");
+            });
+    assertThat(job.await(10, TimeUnit.SECONDS)).isTrue();
+    assertThat(job.report().status()).isEqualTo(ReloadJob.Status.FAILED);
+    assertThat(job.report().error()).isEqualTo("oh noes");
+  }
+
+  @Test
+  void finishedJobsBeyondRetentionAreForgotten() {
+    ReloadJob first = jobs.submit(j -> {});
+    assertThat(first.await(10, TimeUnit.SECONDS)).isTrue();
+    ReloadJob second = jobs.submit(j -> {});
+    assertThat(second.await(10, TimeUnit.SECONDS)).isTrue();
+    ReloadJob third = jobs.submit(j -> {});
+    assertThat(third.await(10, TimeUnit.SECONDS)).isTrue();
+    assertThat(jobs.all()).containsExactly(third, second);
+    assertThat(jobs.find(first.id())).isEmpty();
+  }
+
+  @Test
+  @SneakyThrows
+  void submitWhileActiveReturnsActiveJob() {
+    CountDownLatch release = new CountDownLatch(1);
+    ReloadJob running = jobs.submit(j -> awaitQuietly(release));
+    assertThat(running.report().response()).isNull();
+    assertThat(jobs.submit(j -> {})).isSameAs(running);
+    release.countDown();
+    assertThat(running.await(10, TimeUnit.SECONDS)).isTrue();
+    ReloadJob next = jobs.submit(j -> {});
+    assertThat(next).isNotSameAs(running);
+    assertThat(next.await(10, TimeUnit.SECONDS)).isTrue();
+  }
+}
@@ -0,0 +1,88 @@
+package gov.va.api.lighthouse.facilities;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+
+@DataJpaTest
+public class ReloadLeaseTest {
+  @Autowired ReloadLeaseRepository repository;
+
+  @Autowired TestEntityManager testEntityManager;
+
+  private final List<ReloadLease> leases = new ArrayList<>();
+
+  @Test
+  void acquireWhileHeldNamesTheHolder() {
+    ReloadLease.Held held = lease("node-a").acquire();
+    assertThat(held.owner()).startsWith("node-a/");
+    ReloadLeaseEntity entity = repository.findById(ReloadLease.NAME).get();
+    assertThat(entity.owner()).isEqualTo(held.owner());
+    assertThat(entity.expires()).isGreaterThan(entity.heartbeat());
+    testEntityManager.clear();
+    assertThatThrownBy(() -> lease("node-b").acquire())
+        .isInstanceOf(ExceptionsUtils.ReloadInProgress.class)
+        .hasMessageStartingWith("Reload already running on " + held.owner() + " until at least");
+    held.close();
+    testEntityManager.clear();
+    ReloadLease.Held next = lease("node-b").acquire();
+    assertThat(next.owner()).startsWith("node-b/");
+    assertThat(repository.count()).isEqualTo(1);
+  }
+
+  @AfterEach
+  void destroy() {
+    leases.forEach(ReloadLease::destroy);
+  }
+
+  @Test
+  void expiredLeaseIsTakenOver() {
+    ReloadLease.Held dead = lease("node-a").acquire();
+    long now = System.currentTimeMillis();
+    assertThat(repository.renew(ReloadLease.NAME, dead.owner(), now, now - 1)).isEqualTo(1);
+    ReloadLease.Held next = lease("node-b").acquire();
+    dead.close();
+    testEntityManager.clear();
+    assertThat(repository.findById(ReloadLease.NAME).get().owner()).isEqualTo(next.owner());
+    assertThatThrownBy(() -> lease("node-c").acquire())
+        .isInstanceOf(ExceptionsUtils.ReloadInProgress.class)
+        .hasMessageContaining(next.owner());
+  }
+
+  private ReloadLease lease(String node) {
+    ReloadLease lease =
+        ReloadLease.builder().repository(repository).node(node).ttlSeconds(300).build();
+    leases.add(lease);
+    return lease;
+  }
+
+  @Test
+  void lostLeaseRunsActions() {
+    ReloadLease.Held held = lease("node-a").acquire();
+    AtomicInteger lost = new AtomicInteger();
+    held.onLost(lost::incrementAndGet);
+    held.renew();
+    assertThat(held.isLost()).isFalse();
+    long now = System.currentTimeMillis();
+    assertThat(repository.renew(ReloadLease.NAME, held.owner(), now, now - 1)).isEqualTo(1);
+    ReloadLease.Held next = lease("node-b").acquire();
+    held.renew();
+    held.renew();
+    assertThat(held.isLost()).isTrue();
+    assertThat(lost).hasValue(1);
+    held.onLost(lost::incrementAndGet);
+    assertThat(lost).hasValue(2);
+    held.close();
+    testEntityManager.clear();
+    assertThat(repository.findById(ReloadLease.NAME).get().owner()).isEqualTo(next.owner());
+    assertThat(next.isLost()).isFalse();
+  }
+}
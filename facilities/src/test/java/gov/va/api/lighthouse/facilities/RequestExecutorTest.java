@@ -0,0 +1,66 @@
+package gov.va.api.lighthouse.facilities;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+
+public class RequestExecutorTest {
+  private static List<Integer> numbers(int count) {
+    return IntStream.range(0, count).boxed().collect(Collectors.toList());
+  }
+
+  @Test
+  void exceptionsAreRethrown() {
+    RequestExecutor executor =
+        RequestExecutor.builder().name("test").threads(2).queueCapacity(4).build();
+    assertThatExceptionOfType(IllegalStateException.class)
+        .isThrownBy(
+            () ->
+                executor.map(
+                    numbers(10),
+                    i -> {
+                      if (i == 7) {
+                        throw new IllegalStateException("boom");
+                      }
+                      return i;
+                    }));
+  }
+
+  @Test
+  void largeWorkIsRecordedAndKeepsOrder() {
+    RequestExecutor executor =
+        RequestExecutor.builder()
+            .name("test")
+            .threads(3)
+            .queueCapacity(1)
+            .sequentialThreshold(4)
+            .build();
+    SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    executor.bindTo(registry);
+    assertThat(executor.map(numbers(100), i -> i * 2))
+        .containsExactlyElementsOf(
+            numbers(100).stream().map(i -> i * 2).collect(Collectors.toList()));
+    assertThat(registry.get("request.executor.run").tag("executor", "test").timer().count())
+        .isGreaterThan(0);
+    assertThat(registry.get("request.executor.queue").gauge().value()).isZero();
+  }
+
+  @Test
+  void smallWorkRunsOnCallingThread() {
+    RequestExecutor executor =
+        RequestExecutor.builder()
+            .name("test")
+            .threads(2)
+            .queueCapacity(4)
+            .sequentialThreshold(10)
+            .build();
+    Thread caller = Thread.currentThread();
+    assertThat(executor.map(numbers(5), i -> Thread.currentThread() == caller))
+        .containsOnly(true);
+  }
+}
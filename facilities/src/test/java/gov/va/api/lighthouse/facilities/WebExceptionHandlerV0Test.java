@@ -5,6 +5,7 @@ import static org.mockito.Mockito.mock;
 
 import com.google.common.collect.ImmutableMap;
 import gov.va.api.lighthouse.facilities.api.v0.ApiError;
+import java.time.Instant;
 import java.util.List;
 import java.util.Set;
 import javax.validation.ConstraintViolation;
@@ -52,6 +53,29 @@ public class WebExceptionHandlerV0Test {
                         .build()));
   }
 
+  @Test
+  void changeTokenExpired() {
+    assertThat(
+            new WebExceptionHandlerV0()
+                .handleChangeTokenExpired(new ExceptionsUtils.ChangeTokenExpired("12")))
+        .isEqualTo(
+            ResponseEntity.status(HttpStatus.GONE)
+                .headers(jsonHeaders())
+                .body(
+                    ApiError.builder()
+                        .errors(
+                            List.of(
+                                ApiError.ErrorMessage.builder()
+                                    .title("Change token expired")
+                                    .detail(
+                                        "Changes since 12 are no longer available,"
+                                            + " start again from the bulk download")
+                                    .code("410")
+                                    .status("410")
+                                    .build()))
+                        .build()));
+  }
+
   @Test
   void invalidParameter() {
     assertThat(
@@ -164,6 +188,31 @@ public class WebExceptionHandlerV0Test {
                         .build()));
   }
 
+  @Test
+  void reloadInProgress() {
+    assertThat(
+            new WebExceptionHandlerV0()
+                .handleReloadInProgress(
+                    new ExceptionsUtils.ReloadInProgress(
+                        "pod-1/abc", Instant.parse("2022-01-01T00:05:00Z"))))
+        .isEqualTo(
+            ResponseEntity.status(HttpStatus.CONFLICT)
+                .headers(jsonHeaders())
+                .body(
+                    ApiError.builder()
+                        .errors(
+                            List.of(
+                                ApiError.ErrorMessage.builder()
+                                    .title("Reload in progress")
+                                    .detail(
+                                        "Reload already running on pod-1/abc"
+                                            + " until at least 2022-01-01T00:05:00Z")
+                                    .code("409")
+                                    .status("409")
+                                    .build()))
+                        .build()));
+  }
+
   @Test
   void snafu() {
     assertThat(new WebExceptionHandlerV0().handleSnafu(new IllegalStateException("oh noez")))
@@ -0,0 +1,34 @@
+package gov.va.api.lighthouse.facilities;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.accept.ContentNegotiationStrategy;
+import org.springframework.web.context.request.ServletWebRequest;
+
+public class WebMvcConfigurationTest {
+  private static List<MediaType> defaultContentType(String path) {
+    return WebMvcConfiguration.bulkDefaultContentType(
+        new ServletWebRequest(new MockHttpServletRequest("GET", path)));
+  }
+
+  @Test
+  void bulkEndpointsDefaultToJson() {
+    assertThat(defaultContentType("/v0/facilities/all"))
+        .containsExactly(MediaType.APPLICATION_JSON);
+    assertThat(defaultContentType("/v1/facilities")).containsExactly(MediaType.APPLICATION_JSON);
+  }
+
+  @Test
+  void otherEndpointsAcceptAnything() {
+    assertThat(defaultContentType("/v0/facilities"))
+        .isEqualTo(ContentNegotiationStrategy.MEDIA_TYPE_ALL_LIST);
+    assertThat(defaultContentType("/v1/facilities/events"))
+        .isEqualTo(ContentNegotiationStrategy.MEDIA_TYPE_ALL_LIST);
+    assertThat(defaultContentType("/v1/facilities/vha_691GB"))
+        .isEqualTo(ContentNegotiationStrategy.MEDIA_TYPE_ALL_LIST);
+  }
+}
@@ -175,6 +175,24 @@ public class CemeteriesCollectorTest {
     assertThrows(SQLException.class, () -> CemeteriesCollector.toCdwCemetery(mockRs));
   }
 
+  @Test
+  void readXmlCemeteries() {
+    var cemeteries =
+        CemeteriesCollector.readXmlCemeteries(
+            "<cems>"
+                + "<cem station=\"7\" cem_name=\" Togus National Cemetery \" cem_url=\"\"/>"
+                + "<cem cem_name=\"No Station\"/>"
+                + "<cem station=\"007\" cem_name=\"Duplicate\"/>"
+                + "<cem station=\"915\" cem_name=\"Los Angeles\" cem_url=\"http://la\"/>"
+                + "</cems>");
+    assertThat(cemeteries.keySet()).containsExactlyInAnyOrder("007", "915");
+    assertThat(cemeteries.get("007").name()).isEqualTo("Togus National Cemetery");
+    assertThat(cemeteries.get("007").url()).isNull();
+    assertThat(cemeteries.get("915").url()).isEqualTo("http://la");
+    assertThrows(
+        IllegalStateException.class, () -> CemeteriesCollector.readXmlCemeteries("<cems/>"));
+  }
+
   @Test
   @SneakyThrows
   void toCdwCemetery() throws SQLException {
@@ -16,7 +16,15 @@ public class DbConfigTest {
     DbConfig dbConfig = new DbConfig();
     JdbcTemplate jdbcTemplate =
         dbConfig.jdbcTemplate(
-            "org.h2.Driver", "password", "jdbc:h2:mem:db;DB_CLOSE_DELAY=-1", "username", 1, 2, 500);
+            "org.h2.Driver",
+            "password",
+            "jdbc:h2:mem:db;DB_CLOSE_DELAY=-1",
+            "username",
+            1,
+            2,
+            500,
+            1000);
     assertThat(jdbcTemplate.getDataSource()).isInstanceOf(HikariDataSource.class);
+    assertThat(jdbcTemplate.getFetchSize()).isEqualTo(1000);
   }
 }
@@ -7,6 +7,7 @@ import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.ArgumentMatchers.matches;
 import static org.mockito.ArgumentMatchers.startsWith;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
 
 import gov.va.api.health.autoconfig.configuration.JacksonConfig;
@@ -18,9 +19,11 @@ import gov.va.api.lighthouse.facilities.DatamartFacilitiesJacksonConfig;
 import gov.va.api.lighthouse.facilities.DatamartFacility;
 import gov.va.api.lighthouse.facilities.FacilityEntity;
 import gov.va.api.lighthouse.facilities.collector.AtcAllData.AtcFacility;
+import java.io.StringReader;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.ArrayList;
+import java.util.EnumSet;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
@@ -192,6 +195,30 @@ public class FacilitiesCollectorTest {
     jdbcTemplate.execute(String.format("INSERT INTO App.Vast (STA_NO) VALUES (%s)", stationNum));
   }
 
+  @Test
+  void collectSelectedSourcesOnly() {
+    _initDatabase();
+    _saveBenefits("123");
+    _saveVast("456");
+    InsecureRestTemplateProvider insecureRestTemplateProvider =
+        mock(InsecureRestTemplateProvider.class);
+    CmsOverlayRepository mockCmsOverlayRepository = mock(CmsOverlayRepository.class);
+    when(mockCmsOverlayRepository.findAll()).thenReturn(List.of());
+    assertThat(
+            new FacilitiesCollector(
+                    insecureRestTemplateProvider,
+                    jdbcTemplate,
+                    new CmsOverlayCollector(mockCmsOverlayRepository),
+                    UpstreamFeeds.uncached(),
+                    "http://atc",
+                    "http://atp",
+                    "http://statecems")
+                .collectFacilities(EnumSet.of(FacilitiesCollector.Source.BENEFITS)))
+        .extracting(DatamartFacility::id)
+        .containsExactly("vba_123");
+    verifyNoMoreInteractions(insecureRestTemplateProvider);
+  }
+
   @Test
   @SneakyThrows
   public void exceptions() {
@@ -209,6 +236,7 @@ public class FacilitiesCollectorTest {
                 mockInsecureRestTemplateProvider,
                 mockJdbcTemplate,
                 mockCmsOverlayCollector,
+                UpstreamFeeds.uncached(),
                 null,
                 mockAtpBaseUrl,
                 mockCemeteriesBaseUrl));
@@ -219,6 +247,7 @@ public class FacilitiesCollectorTest {
                 mockInsecureRestTemplateProvider,
                 mockJdbcTemplate,
                 mockCmsOverlayCollector,
+                UpstreamFeeds.uncached(),
                 mockAtcBaseUrl,
                 null,
                 mockCemeteriesBaseUrl));
@@ -229,6 +258,7 @@ public class FacilitiesCollectorTest {
                 mockInsecureRestTemplateProvider,
                 mockJdbcTemplate,
                 mockCmsOverlayCollector,
+                UpstreamFeeds.uncached(),
                 mockAtcBaseUrl,
                 mockAtpBaseUrl,
                 null));
@@ -240,6 +270,7 @@ public class FacilitiesCollectorTest {
             mockInsecureRestTemplateProvider,
             mockJdbcTemplate,
             mockCmsOverlayCollector,
+            UpstreamFeeds.uncached(),
             mockAtcBaseUrl,
             mockAtpBaseUrl,
             mockCemeteriesBaseUrl);
@@ -253,7 +284,7 @@ public class FacilitiesCollectorTest {
     assertThrows(NullPointerException.class, () -> FacilitiesCollector.withTrailingSlash(null));
 
     assertThrows(
-        IllegalArgumentException.class, () -> FacilitiesCollector.loadFacilitiesFromResource(null));
+        IllegalStateException.class, () -> ReferenceData.parseStations(new StringReader("")));
   }
 
   @Test
@@ -273,12 +304,31 @@ public class FacilitiesCollectorTest {
                     mockInsecureRestTemplateProvider,
                     mockTemplate,
                     new CmsOverlayCollector(mockCmsOverlayRepository),
+                    UpstreamFeeds.uncached(),
                     "http://atc",
                     "http://atp",
                     "http://statecems")
                 .collectFacilities());
   }
 
+  @Test
+  void sourceProduces() {
+    assertThat(FacilitiesCollector.Source.forTypes(List.of(FacilityEntity.Type.nca)))
+        .containsExactly(
+            FacilitiesCollector.Source.CEMETERIES, FacilitiesCollector.Source.STATE_CEMETERIES);
+    FacilityEntity.Pk national = FacilityEntity.Pk.fromIdString("nca_907");
+    FacilityEntity.Pk state = FacilityEntity.Pk.fromIdString("nca_s1001");
+    assertThat(FacilitiesCollector.Source.CEMETERIES.produces(national)).isTrue();
+    assertThat(FacilitiesCollector.Source.CEMETERIES.produces(state)).isFalse();
+    assertThat(FacilitiesCollector.Source.STATE_CEMETERIES.produces(state)).isTrue();
+    assertThat(FacilitiesCollector.Source.STATE_CEMETERIES.produces(national)).isFalse();
+    assertThat(FacilitiesCollector.Source.HEALTH.produces(national)).isFalse();
+    assertThat(
+            FacilitiesCollector.Source.VET_CENTERS.produces(
+                FacilityEntity.Pk.fromIdString("vc_0101V")))
+        .isTrue();
+  }
+
   @Test
   void verifyMissingTrailingSlashAppended() {
     String urlMissingTrailingSlash = "https://developer.va.gov";
@@ -406,6 +456,7 @@ public class FacilitiesCollectorTest {
                     insecureRestTemplateProvider,
                     jdbcTemplate,
                     new CmsOverlayCollector(mockCmsOverlayRepository),
+                    UpstreamFeeds.uncached(),
                     "http://atc",
                     "http://atp",
                     "http://statecems")
@@ -3,7 +3,6 @@ package gov.va.api.lighthouse.facilities.collector;
 import static gov.va.api.lighthouse.facilities.DatamartFacility.FacilityType.va_health_facility;
 import static gov.va.api.lighthouse.facilities.DatamartFacility.HealthService.*;
 import static gov.va.api.lighthouse.facilities.DatamartFacility.Type.va_facilities;
-import static gov.va.api.lighthouse.facilities.collector.FacilitiesCollector.loadFacilitiesFromResource;
 import static java.util.Collections.emptyMap;
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -23,10 +22,6 @@ import lombok.SneakyThrows;
 import org.junit.jupiter.api.Test;
 
 public class HealthTransformerTest {
-  private static final String CSC_STATIONS_RESOURCE_NAME = "csc_stations.txt";
-
-  private static final String ORTHO_STATIONS_RESOURCE_NAME = "ortho_stations.txt";
-
   @Test
   @SneakyThrows
   public void activeStatus() {
@@ -206,7 +201,7 @@ public class HealthTransformerTest {
                 .vast(VastEntity.builder().stationNumber("689").build())
                 .accessToCare(atc)
                 .accessToPwt(atp)
-                .cscFacilities(loadFacilitiesFromResource(CSC_STATIONS_RESOURCE_NAME))
+                .cscFacilities(ReferenceData.current().cscFacilities())
                 .orthoFacilities(new ArrayList<>())
                 .mentalHealthPhoneNumbers(emptyMap())
                 .stopCodesMap(sc)
@@ -272,7 +267,7 @@ public class HealthTransformerTest {
                 .accessToCare(atc)
                 .accessToPwt(atp)
                 .cscFacilities(new ArrayList<>())
-                .orthoFacilities(loadFacilitiesFromResource(ORTHO_STATIONS_RESOURCE_NAME))
+                .orthoFacilities(ReferenceData.current().orthoFacilities())
                 .mentalHealthPhoneNumbers(emptyMap())
                 .stopCodesMap(sc)
                 .websites(emptyMap())
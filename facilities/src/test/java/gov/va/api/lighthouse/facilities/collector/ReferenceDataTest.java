@@ -0,0 +1,77 @@
+package gov.va.api.lighthouse.facilities.collector;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.StringReader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class ReferenceDataTest {
+  @TempDir Path directory;
+
+  @Test
+  void directoryFilesReplaceClasspathCopies() throws Exception {
+    Files.writeString(directory.resolve(ReferenceData.ORTHO_STATIONS_RESOURCE_NAME), "999\n");
+    ReferenceData.Snapshot classpath = ReferenceData.load(null);
+    ReferenceData.Snapshot external = ReferenceData.load(directory);
+    assertThat(external.source()).isEqualTo(directory.toString());
+    assertThat(external.checksum()).isNotEqualTo(classpath.checksum());
+    assertThat(external.orthoFacilities()).containsExactly("vha_999");
+    assertThat(external.cscFacilities()).isEqualTo(classpath.cscFacilities());
+    assertThat(external.websites()).isEqualTo(classpath.websites());
+  }
+
+  @Test
+  void installSkipsUnchangedFiles() throws Exception {
+    int version = ReferenceData.current().version();
+    assertThat(ReferenceData.install(ReferenceData.load(null))).isFalse();
+    assertThat(ReferenceData.current().version()).isEqualTo(version);
+    Files.writeString(directory.resolve(ReferenceData.CSC_STATIONS_RESOURCE_NAME), "999\n");
+    assertThat(ReferenceData.install(ReferenceData.load(directory))).isTrue();
+    assertThat(ReferenceData.current().version()).isGreaterThan(version);
+    assertThat(ReferenceData.current().cscFacilities()).containsExactly("vha_999");
+    assertThat(ReferenceData.install(ReferenceData.load(directory))).isFalse();
+  }
+
+  @Test
+  void loadFromClasspath() {
+    ReferenceData.Snapshot snapshot = ReferenceData.load(null);
+    assertThat(snapshot.version()).isZero();
+    assertThat(snapshot.source()).isEqualTo("classpath");
+    assertThat(snapshot.checksum()).hasSize(64);
+    assertThat(snapshot.cscFacilities()).contains("vha_402");
+    assertThat(snapshot.orthoFacilities()).contains("vha_402HC");
+    assertThat(snapshot.covidWebsites()).isNotEmpty();
+    assertThat(snapshot.websites()).isNotEmpty();
+  }
+
+  @Test
+  void parseStations() {
+    assertThat(ReferenceData.parseStations(new StringReader("402\n\n 405 \n402\n")))
+        .containsExactlyInAnyOrder("vha_402", "vha_405");
+    assertThatThrownBy(() -> ReferenceData.parseStations(new StringReader("\n")))
+        .isInstanceOf(IllegalStateException.class);
+  }
+
+  @Test
+  void reloaderKeepsCurrentVersionWhenFilesAreInvalid() throws Exception {
+    ReferenceData.Snapshot current = ReferenceData.current();
+    ReferenceDataReloader.builder().directory("").build().refresh();
+    assertThat(ReferenceData.current()).isSameAs(current);
+    Files.writeString(directory.resolve(ReferenceData.ORTHO_STATIONS_RESOURCE_NAME), "\n");
+    ReferenceDataReloader.builder().directory(directory.toString()).build().refresh();
+    assertThat(ReferenceData.current()).isSameAs(current);
+    Files.writeString(directory.resolve(ReferenceData.ORTHO_STATIONS_RESOURCE_NAME), "999\n");
+    ReferenceDataReloader.builder().directory(directory.toString()).build().refresh();
+    assertThat(ReferenceData.current().orthoFacilities()).containsExactly("vha_999");
+  }
+
+  @AfterEach
+  void restoreClasspathCopies() {
+    ReferenceData.install(ReferenceData.load(null));
+  }
+}
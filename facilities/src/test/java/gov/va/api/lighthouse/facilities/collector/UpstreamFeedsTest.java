@@ -0,0 +1,138 @@
+package gov.va.api.lighthouse.facilities.collector;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestTemplate;
+
+public class UpstreamFeedsTest {
+  private static final String URL = "http://cems/cems.xml";
+
+  @TempDir Path directory;
+
+  RestTemplate restTemplate = mock(RestTemplate.class);
+
+  List<String> parsed = new ArrayList<>();
+
+  private static ResponseEntity<String> notModified() {
+    return ResponseEntity.status(HttpStatus.NOT_MODIFIED).build();
+  }
+
+  private static ResponseEntity<String> ok(String body, String etag) {
+    return ResponseEntity.ok().eTag(etag).body(body);
+  }
+
+  private ResponseEntity<String> exchange() {
+    return restTemplate.exchange(
+        eq(URL), eq(HttpMethod.GET), any(HttpEntity.class), eq(String.class));
+  }
+
+  private UpstreamFeeds feeds(long maxStaleHours) {
+    return UpstreamFeeds.builder()
+        .directory(directory.toString())
+        .maxStaleHours(maxStaleHours)
+        .build();
+  }
+
+  @Test
+  void notModifiedReparsesStoredBodyAfterRestart() {
+    when(exchange()).thenReturn(ok("a", "\"1\""), notModified());
+    feeds(24).fetch(restTemplate, URL, parser());
+    assertThat(feeds(24).fetch(restTemplate, URL, parser())).isEqualTo("parsed a");
+    assertThat(parsed).containsExactly("a", "a");
+  }
+
+  @Test
+  void notModifiedReusesParsedResult() {
+    when(exchange()).thenReturn(ok("a", "\"1\""), notModified());
+    UpstreamFeeds feeds = feeds(24);
+    String first = feeds.fetch(restTemplate, URL, parser());
+    assertThat(feeds.fetch(restTemplate, URL, parser())).isSameAs(first);
+    assertThat(parsed).containsExactly("a");
+    List<HttpHeaders> sent = sentHeaders(2);
+    assertThat(sent.get(0).getIfNoneMatch()).isEmpty();
+    assertThat(sent.get(1).getIfNoneMatch()).containsExactly("\"1\"");
+  }
+
+  private Function<String, String> parser() {
+    return body -> {
+      if (body.isEmpty()) {
+        throw new IllegalStateException("No entries");
+      }
+      parsed.add(body);
+      return "parsed " + body;
+    };
+  }
+
+  @Test
+  void probeCarriesStoredBodyOnNotModified() {
+    when(exchange())
+        .thenReturn(ok("a", "\"1\""), notModified())
+        .thenThrow(new ResourceAccessException("down"));
+    UpstreamFeeds feeds = feeds(24);
+    feeds.fetch(restTemplate, URL, parser());
+    ResponseEntity<String> probe = feeds.probe(restTemplate, URL);
+    assertThat(probe.getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+    assertThat(probe.getBody()).isEqualTo("a");
+    assertThatThrownBy(() -> feeds.probe(restTemplate, URL))
+        .isInstanceOf(ResourceAccessException.class);
+  }
+
+  @Test
+  void rejectedBodyIsNotStored() {
+    when(exchange()).thenReturn(ok("", "\"1\""), ok("b", "\"2\""));
+    UpstreamFeeds feeds = feeds(24);
+    assertThatThrownBy(() -> feeds.fetch(restTemplate, URL, parser()))
+        .isInstanceOf(IllegalStateException.class);
+    assertThat(feeds.fetch(restTemplate, URL, parser())).isEqualTo("parsed b");
+    assertThat(sentHeaders(2).get(1).getIfNoneMatch()).isEmpty();
+  }
+
+  @SuppressWarnings("unchecked")
+  private List<HttpHeaders> sentHeaders(int requests) {
+    ArgumentCaptor<HttpEntity<?>> captor = ArgumentCaptor.forClass(HttpEntity.class);
+    verify(restTemplate, times(requests))
+        .exchange(eq(URL), eq(HttpMethod.GET), captor.capture(), eq(String.class));
+    List<HttpHeaders> headers = new ArrayList<>();
+    captor.getAllValues().forEach(e -> headers.add(e.getHeaders()));
+    return headers;
+  }
+
+  @Test
+  void staleBodyIsUsedOnlyWithinMaxStale() {
+    when(exchange()).thenReturn(ok("a", "\"1\"")).thenThrow(new ResourceAccessException("down"));
+    feeds(24).fetch(restTemplate, URL, parser());
+    assertThat(feeds(24).fetch(restTemplate, URL, parser())).isEqualTo("parsed a");
+    assertThatThrownBy(() -> feeds(0).fetch(restTemplate, URL, parser()))
+        .isInstanceOf(ResourceAccessException.class);
+  }
+
+  @Test
+  void uncachedSendsNoValidators() {
+    when(exchange()).thenReturn(ok("a", "\"1\""), ok("a", "\"1\""), notModified());
+    UpstreamFeeds.uncached().fetch(restTemplate, URL, parser());
+    UpstreamFeeds.uncached().fetch(restTemplate, URL, parser());
+    assertThat(parsed).containsExactly("a", "a");
+    assertThat(UpstreamFeeds.uncached().probe(restTemplate, URL).getBody()).isNull();
+    assertThat(sentHeaders(3)).allMatch(HttpHeaders::isEmpty);
+  }
+}
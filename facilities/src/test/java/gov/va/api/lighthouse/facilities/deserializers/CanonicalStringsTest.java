@@ -0,0 +1,92 @@
+package gov.va.api.lighthouse.facilities.deserializers;
+
+import static gov.va.api.lighthouse.facilities.DatamartFacilitiesJacksonConfig.createMapper;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import gov.va.api.lighthouse.facilities.DatamartFacility;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.Test;
+
+public class CanonicalStringsTest {
+  @Test
+  void estimatedSize() {
+    assertThat(CanonicalStrings.estimatedSize("")).isEqualTo(40);
+    assertThat(CanonicalStrings.estimatedSize("ME")).isEqualTo(48);
+    assertThat(CanonicalStrings.estimatedSize("800AM-430PM")).isEqualTo(56);
+    assertThat(CanonicalStrings.estimatedSize("Bayamón")).isEqualTo(48);
+    assertThat(CanonicalStrings.estimatedSize("Área – 1")).isEqualTo(56);
+  }
+
+  @Test
+  void longStringsAreNotShared() {
+    String text = "x".repeat(CanonicalStrings.MAX_LENGTH + 1);
+    String copy = new String(text);
+    assertThat(CanonicalStrings.canonical(text)).isSameAs(text);
+    assertThat(CanonicalStrings.canonical(copy)).isSameAs(copy);
+    assertThat(CanonicalStrings.canonical(null)).isNull();
+  }
+
+  @Test
+  void metersReportCounters() {
+    SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    CanonicalStrings.bindTo(registry);
+    long added = CanonicalStrings.added();
+    long reusedBytes = CanonicalStrings.reusedBytes();
+    String first = CanonicalStrings.canonical(new String("Hallowell"));
+    assertThat(CanonicalStrings.added()).isEqualTo(added + 1);
+    assertThat(CanonicalStrings.reusedBytes()).isEqualTo(reusedBytes);
+    String second = CanonicalStrings.canonical(new String("Hallowell"));
+    assertThat(second).isSameAs(first);
+    assertThat(CanonicalStrings.reusedBytes())
+        .isEqualTo(reusedBytes + CanonicalStrings.estimatedSize(first));
+    assertThat(registry.get("canonical.strings.added").functionCounter().count())
+        .isEqualTo(CanonicalStrings.added());
+    assertThat(registry.get("canonical.strings.reused").functionCounter().count())
+        .isEqualTo(CanonicalStrings.reused());
+    assertThat(registry.get("canonical.strings.reused.bytes").functionCounter().count())
+        .isEqualTo(CanonicalStrings.reusedBytes());
+  }
+
+  @Test
+  @SneakyThrows
+  void otherFieldsAreNotShared() {
+    String json =
+        "{\"id\":\"vha_402\",\"type\":\"va_facilities\",\"attributes\":{"
+            + "\"name\":\"Togus VA Medical Center\","
+            + "\"address\":{\"physical\":{\"address_1\":\"1 VA Center\",\"zip\":\"04330\"}}"
+            + "}}";
+    DatamartFacility first = createMapper().readValue(json, DatamartFacility.class);
+    DatamartFacility second = createMapper().readValue(json, DatamartFacility.class);
+    assertThat(second.attributes().name())
+        .isEqualTo(first.attributes().name())
+        .isNotSameAs(first.attributes().name());
+    assertThat(second.attributes().address().physical().address1())
+        .isNotSameAs(first.attributes().address().physical().address1());
+    assertThat(second.attributes().address().physical().zip())
+        .isNotSameAs(first.attributes().address().physical().zip());
+  }
+
+  @Test
+  @SneakyThrows
+  void repeatedValuesShareOneInstance() {
+    String json =
+        "{\"id\":\"vha_402\",\"type\":\"va_facilities\",\"attributes\":{"
+            + "\"name\":\"Togus VA Medical Center\","
+            + "\"address\":{\"physical\":{\"city\":\"Augusta\",\"state\":\"ME\"}},"
+            + "\"hours\":{\"monday\":\"800AM-430PM\"},"
+            + "\"services\":{\"health\":[{\"name\":\"Cardiology\",\"serviceId\":\"cardiology\"}]}"
+            + "}}";
+    DatamartFacility first = createMapper().readValue(json, DatamartFacility.class);
+    DatamartFacility second = createMapper().readValue(json, DatamartFacility.class);
+    assertThat(second.attributes().address().physical().city())
+        .isEqualTo("Augusta")
+        .isSameAs(first.attributes().address().physical().city());
+    assertThat(second.attributes().address().physical().state())
+        .isSameAs(first.attributes().address().physical().state());
+    assertThat(second.attributes().hours().monday())
+        .isSameAs(first.attributes().hours().monday());
+    assertThat(second.attributes().services().health().get(0).name())
+        .isSameAs(first.attributes().services().health().get(0).name());
+  }
+}
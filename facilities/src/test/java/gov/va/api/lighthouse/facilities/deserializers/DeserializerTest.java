@@ -1130,7 +1130,7 @@ public class DeserializerTest {
         DatamartFacility.class,
         JsonMappingException.class,
         "Cannot construct instance of `gov.va.api.lighthouse.facilities.DatamartFacility$BenefitsService`, problem: No enum constant gov.va.api.lighthouse.facilities.DatamartFacility.BenefitsService.Foo\n"
-            + " at [Source: UNKNOWN; byte offset: #UNKNOWN] (through reference chain: java.util.ArrayList[0]) (through reference chain: gov.va.api.lighthouse.facilities.DatamartFacility[\"attributes\"]->gov.va.api.lighthouse.facilities.DatamartFacility$FacilityAttributes$FacilityAttributesBuilder[\"services\"])");
+            + " at [Source: (String)\"{\"id\":\"vha_402\",\"type\":\"va_facilities\",\"attributes\":{\"services\":{\"benefits\": [\"foo\"],\"health\": [\"bar\"],\"other\": [\"baz\"],\"last_updated\":\"2022-03-07\"}}}\"; line: 1, column: 79] (through reference chain: gov.va.api.lighthouse.facilities.DatamartFacility[\"attributes\"]->gov.va.api.lighthouse.facilities.DatamartFacility$FacilityAttributes$FacilityAttributesBuilder[\"services\"]->java.util.ArrayList[0])");
     // Invalid services expressed in V1 format
     DatamartFacility invalidFacility =
         DatamartFacility.builder()
@@ -2545,4 +2545,57 @@ public class DeserializerTest {
         "Cannot construct instance of `gov.va.api.lighthouse.facilities.api.TypeOfService`, problem: Unrecognized service type: bar\n"
             + " at [Source: (String)\"{\"detailed_services\":[{\"serviceInfo\":{\"serviceId\":\"onlineScheduling\",\"name\":\"OnlineScheduling\",\"serviceType\":\"other\"},\"appointment_phones\":[],\"service_locations\":[]},{\"serviceInfo\":{\"serviceId\":\"foo\",\"name\":\"NoSuchService\",\"serviceType\":\"bar\"},\"appointment_phones\":[],\"service_locations\":[]}]}\"; line: 1, column: 238] (through reference chain: gov.va.api.lighthouse.facilities.DatamartFacility$FacilityAttributes$FacilityAttributesBuilder[\"detailed_services\"]->java.util.ArrayList[1]->gov.va.api.lighthouse.facilities.DatamartDetailedService[\"serviceInfo\"]->gov.va.api.lighthouse.facilities.DatamartDetailedService$ServiceInfo$ServiceInfoBuilder[\"serviceType\"])");
   }
+
+  @Test
+  @SneakyThrows
+  void deserializeServicesByNameWhenServiceIdIsMissing() {
+    assertJson(
+        "{\"health\":[{\"name\":\"cardiology\"},\"Dental\",{\"serviceId\":\"urology\"}]}",
+        DatamartFacility.Services.class,
+        DatamartFacility.Services.builder()
+            .health(
+                List.of(
+                    DatamartFacility.Service.<DatamartFacility.HealthService>builder()
+                        .serviceType(DatamartFacility.HealthService.Cardiology)
+                        .build(),
+                    DatamartFacility.Service.<DatamartFacility.HealthService>builder()
+                        .serviceType(DatamartFacility.HealthService.Dental)
+                        .build(),
+                    DatamartFacility.Service.<DatamartFacility.HealthService>builder()
+                        .serviceId("urology")
+                        .build()))
+            .build());
+  }
+
+  @Test
+  @SneakyThrows
+  void deserializeServicesWithAliasesAndUnknownFields() {
+    assertJson(
+        "{\"extra\":{\"nested\":[1,2]},"
+            + "\"benefits\":[{\"link\":{\"href\":\"x\"},\"serviceId\":\"pensions\"}],"
+            + "\"health\":[\"MentalHealthCare\",\"dentalServices\"],"
+            + "\"other\":\"OnlineScheduling\","
+            + "\"last_updated\":null}",
+        DatamartFacility.Services.class,
+        DatamartFacility.Services.builder()
+            .benefits(
+                List.of(
+                    DatamartFacility.Service.<DatamartFacility.BenefitsService>builder()
+                        .serviceId("pensions")
+                        .build()))
+            .health(
+                List.of(
+                    DatamartFacility.Service.<DatamartFacility.HealthService>builder()
+                        .serviceType(DatamartFacility.HealthService.MentalHealth)
+                        .build(),
+                    DatamartFacility.Service.<DatamartFacility.HealthService>builder()
+                        .serviceType(DatamartFacility.HealthService.Dental)
+                        .build()))
+            .other(emptyList())
+            .build());
+    assertJson(
+        "{\"benefits\":[],\"health\":null}",
+        DatamartFacility.Services.class,
+        DatamartFacility.Services.builder().benefits(emptyList()).build());
+  }
 }